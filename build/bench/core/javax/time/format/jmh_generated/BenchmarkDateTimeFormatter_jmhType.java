@@ -0,0 +1,4 @@
+package javax.time.format.jmh_generated;
+public class BenchmarkDateTimeFormatter_jmhType extends BenchmarkDateTimeFormatter_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package javax.time.jmh_generated;
+public class BenchmarkLocalDate_jmhType extends BenchmarkLocalDate_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package javax.time.jmh_generated;
+public class BenchmarkZoneId_jmhType extends BenchmarkZoneId_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package javax.time.zone.jmh_generated;
+public class BenchmarkZoneRules_jmhType extends BenchmarkZoneRules_jmhType_B3 {
+}
+
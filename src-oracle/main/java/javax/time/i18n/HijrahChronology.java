@@ -7,6 +7,7 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Locale;
 
+import javax.time.CalendricalException;
 import javax.time.Duration;
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
@@ -190,6 +191,39 @@ public final class HijrahChronology extends Chronology implements Serializable {
         return "Hijrah";
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a Hijrah date to an epoch-day.
+     * <p>
+     * The proleptic-year matches the year-of-era in the Hijrah era and
+     * runs backwards from zero in the previous era.
+     * The conversion uses the month length tables, including any deviations.
+     *
+     * @param prolepticYear  the Hijrah proleptic-year
+     * @param monthOfYear  the Hijrah month-of-year, from 1 to 12
+     * @param dayOfMonth  the Hijrah day-of-month, from 1 to 30
+     * @return the epoch-day
+     */
+    @Override
+    public long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        return HijrahDate.toEpochDay(prolepticYear, monthOfYear, dayOfMonth);
+    }
+
+    /**
+     * Converts an epoch-day to a packed Hijrah date.
+     *
+     * @param epochDay  the epoch-day to convert
+     * @return the packed date
+     * @throws CalendricalException if the year is out of range
+     */
+    @Override
+    public long toPackedDate(long epochDay) {
+        long packed = HijrahDate.toPackedDate(epochDay);
+        int prolepticYear = unpackProlepticYear(packed);
+        yearOfEraRule().checkValidValue(prolepticYear >= 1 ? prolepticYear : 1 - prolepticYear);
+        return packed;
+    }
+
     //-----------------------------------------------------------------------
 //    /**
 //     * Gets the rule for the year field in the Hijrah chronology.
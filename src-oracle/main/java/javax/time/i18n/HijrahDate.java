@@ -11,7 +11,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.text.ParseException;
-import java.util.Hashtable;
+import java.util.Arrays;
 import java.util.StringTokenizer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -23,6 +23,7 @@ import javax.time.MathUtils;
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
 import javax.time.calendrical.CalendricalRule;
+import javax.time.calendrical.Chronology;
 import javax.time.calendrical.IllegalCalendarFieldValueException;
 import javax.time.calendrical.InvalidCalendarFieldException;
 
@@ -225,110 +226,49 @@ public final class HijrahDate
      */
     private static final String DEFAULT_CONFIG_PATH = "javax" + FILE_SEP + "time" + FILE_SEP + "i18n";
     /**
-     * Holding the adjusted month days in year. The key is a year (Integer) and
-     * the value is the all the month days in year (Integer[]).
+     * Number of 30-year cycles to hold the deviation data.
      */
-    private static final Hashtable<Integer, Integer[]> ADJUSTED_MONTH_DAYS = new Hashtable<Integer, Integer[]>();
-    /**
-     * Holding the adjusted month length in year. The key is a year (Integer)
-     * and the value is the all the month length in year (Integer[]).
-     */
-    private static final Hashtable<Integer, Integer[]> ADJUSTED_MONTH_LENGTHS = new Hashtable<Integer, Integer[]>();
-    /**
-     * Holding the adjusted days in the 30 year cycle. The key is a cycle number
-     * (Integer) and the value is the all the starting days of the year in the
-     * cycle (Integer[]).
-     */
-    private static final Hashtable<Integer, Integer[]> ADJUSTED_CYCLE_YEARS = new Hashtable<Integer, Integer[]>();
-    /**
-     * Holding the adjusted cycle in the 1 - 30000 year. The key is the cycle
-     * number (Integer) and the value is the starting days in the cycle in the
-     * term.
-     */
-    private static final Long[] ADJUSTED_CYCLES;
-    /**
-     * Holding the adjusted min values.
-     */
-    private static final Integer[] ADJUSTED_MIN_VALUES;
-    /**
-     * Holding the adjusted max least max values.
-     */
-    private static final Integer[] ADJUSTED_LEAST_MAX_VALUES;
+    private static final int MAX_ADJUSTED_CYCLE = 334; // to support year 9999
     /**
-     * Holding adjusted max values.
+     * Holding the row of the adjusted month tables for each year, indexed by year.
+     * Rows 0 and 1 hold the non-adjusted normal and leap years, and years outside
+     * the range 1 to 9999 are not held.
      */
-    private static final Integer[] ADJUSTED_MAX_VALUES;
+    private static final char[] ADJUSTED_YEAR_ROWS;
     /**
-     * Holding the non-adjusted month days in year for non leap year.
+     * Holding the adjusted month days in year, twelve to a row,
+     * indexed by {@code row * 12 + month}.
      */
-    private static final Integer[] DEFAULT_MONTH_DAYS;
+    private static final int[] ADJUSTED_MONTH_DAYS;
     /**
-     * Holding the non-adjusted month days in year for leap year.
+     * Holding the adjusted month length in year, twelve to a row,
+     * indexed by {@code row * 12 + month}.
      */
-    private static final Integer[] DEFAULT_LEAP_MONTH_DAYS;
+    private static final int[] ADJUSTED_MONTH_LENGTHS;
     /**
-     * Holding the non-adjusted month length for non leap year.
+     * Holding the adjusted starting days of the years in each 30 year cycle,
+     * indexed by {@code cycleNumber * 30 + yearInCycle}.
+     * The extra cycle at the end holds the non-adjusted starting days.
      */
-    private static final Integer[] DEFAULT_MONTH_LENGTHS;
+    private static final int[] ADJUSTED_CYCLE_YEARS;
     /**
-     * Holding the non-adjusted month length for leap year.
+     * Holding the adjusted starting days of each 30 year cycle in the
+     * 1 - 9999 year, indexed by cycle number.
      */
-    private static final Integer[] DEFAULT_LEAP_MONTH_LENGTHS;
+    private static final long[] ADJUSTED_CYCLES;
     /**
-     * Holding the non-adjusted 30 year cycle starting day.
+     * Holding the adjusted max least max values.
      */
-    private static final Integer[] DEFAULT_CYCLE_YEARS;
+    private static final int[] ADJUSTED_LEAST_MAX_VALUES;
     /**
-     * number of 30-year cycles to hold the deviation data.
+     * Holding adjusted max values.
      */
-    private static final int MAX_ADJUSTED_CYCLE = 334; // to support year 9999
-
-    static { // Initialize the static integer array;
-
-        DEFAULT_MONTH_DAYS = new Integer[NUM_DAYS.length];
-        for (int i = 0; i < NUM_DAYS.length; i++) {
-            DEFAULT_MONTH_DAYS[i] = new Integer(NUM_DAYS[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_DAYS = new Integer[LEAP_NUM_DAYS.length];
-        for (int i = 0; i < LEAP_NUM_DAYS.length; i++) {
-            DEFAULT_LEAP_MONTH_DAYS[i] = new Integer(LEAP_NUM_DAYS[i]);
-        }
+    private static final int[] ADJUSTED_MAX_VALUES;
 
-        DEFAULT_MONTH_LENGTHS = new Integer[MONTH_LENGTH.length];
-        for (int i = 0; i < MONTH_LENGTH.length; i++) {
-            DEFAULT_MONTH_LENGTHS[i] = new Integer(MONTH_LENGTH[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_LENGTHS = new Integer[LEAP_MONTH_LENGTH.length];
-        for (int i = 0; i < LEAP_MONTH_LENGTH.length; i++) {
-            DEFAULT_LEAP_MONTH_LENGTHS[i] = new Integer(LEAP_MONTH_LENGTH[i]);
-        }
-
-        DEFAULT_CYCLE_YEARS = new Integer[CYCLEYEAR_START_DATE.length];
-        for (int i = 0; i < CYCLEYEAR_START_DATE.length; i++) {
-            DEFAULT_CYCLE_YEARS[i] = new Integer(CYCLEYEAR_START_DATE[i]);
-        }
-
-        ADJUSTED_CYCLES = new Long[MAX_ADJUSTED_CYCLE];
-        for (int i = 0; i < ADJUSTED_CYCLES.length; i++) {
-            ADJUSTED_CYCLES[i] = new Long(10631 * i);
-        }
-        // Initialize min values, least max values and max values.
-        ADJUSTED_MIN_VALUES = new Integer[MIN_VALUES.length];
-        for (int i = 0; i < MIN_VALUES.length; i++) {
-            ADJUSTED_MIN_VALUES[i] = new Integer(MIN_VALUES[i]);
-        }
-        ADJUSTED_LEAST_MAX_VALUES = new Integer[LEAST_MAX_VALUES.length];
-        for (int i = 0; i < LEAST_MAX_VALUES.length; i++) {
-            ADJUSTED_LEAST_MAX_VALUES[i] = new Integer(LEAST_MAX_VALUES[i]);
-        }
-        ADJUSTED_MAX_VALUES = new Integer[MAX_VALUES.length];
-        for (int i = 0; i < MAX_VALUES.length; i++) {
-            ADJUSTED_MAX_VALUES[i] = new Integer(MAX_VALUES[i]);
-        }
+    static { // Initialize the adjusted tables, which are never changed once published
+        Deviations deviations = new Deviations();
         try {
-            readDeviationConfig();
+            readDeviationConfig(deviations);
         } catch (IOException e) {
             // do nothing. Ignore deviation config.
             // e.printStackTrace();
@@ -336,6 +276,13 @@ public final class HijrahDate
             // do nothing. Ignore deviation config.
             // e.printStackTrace();
         }
+        ADJUSTED_YEAR_ROWS = deviations.toYearRows();
+        ADJUSTED_MONTH_DAYS = deviations.toMonthTable(deviations.monthDays, NUM_DAYS, LEAP_NUM_DAYS);
+        ADJUSTED_MONTH_LENGTHS = deviations.toMonthTable(deviations.monthLengths, MONTH_LENGTH, LEAP_MONTH_LENGTH);
+        ADJUSTED_CYCLE_YEARS = deviations.cycleYears;
+        ADJUSTED_CYCLES = deviations.cycles;
+        ADJUSTED_LEAST_MAX_VALUES = deviations.leastMaxValues;
+        ADJUSTED_MAX_VALUES = deviations.maxValues;
     }
     /**
      * Number of Gregorian day of July 19, year 622 (Gregorian), which is epoch day
@@ -457,21 +404,31 @@ public final class HijrahDate
      * @param gregorianDay  the number of days from 0001/01/01 (Gregorian), caller calculated
      */
     private HijrahDate(long gregorianDay) {
-        int[] dateInfo = getHijrahDateInfo(gregorianDay);
-        
-        HijrahChronology.eraRule().checkValidValue(dateInfo[0]);
-        HijrahChronology.yearOfEraRule().checkValidValue(dateInfo[1]);
-        HijrahChronology.monthOfYearRule().checkValidValue(dateInfo[2]);
-        HijrahChronology.dayOfMonthRule().checkValidValue(dateInfo[3]);
-        HijrahChronology.dayOfYearRule().checkValidValue(dateInfo[4]);
-        HijrahChronology.dayOfWeekRule().checkValidValue(dateInfo[5]);
+        long packed = toPackedDate(gregorianDay);
+        int prolepticYear = Chronology.unpackProlepticYear(packed);
+        int month = Chronology.unpackMonthOfYear(packed);
+        int date = Chronology.unpackDayOfMonth(packed);
+        int era = (prolepticYear >= 1 ? HijrahEra.HIJRAH : HijrahEra.BEFORE_HIJRAH).getValue();
+        int year = (prolepticYear >= 1 ? prolepticYear : 1 - prolepticYear);
+        int dayOfYear = getMonthDays(month - 1, year) + date;  // 1-based
+        // Hijrah day zero is a Friday
+        long epochDay = gregorianDay - HIJRAH_JAN_1_1_GREGORIAN_DAY;
+        int dayOfWeek = (int) ((epochDay + 5) % 7);
+        dayOfWeek += (dayOfWeek <= 0) ? 7 : 0;
+
+        HijrahChronology.eraRule().checkValidValue(era);
+        HijrahChronology.yearOfEraRule().checkValidValue(year);
+        HijrahChronology.monthOfYearRule().checkValidValue(month);
+        HijrahChronology.dayOfMonthRule().checkValidValue(date);
+        HijrahChronology.dayOfYearRule().checkValidValue(dayOfYear);
+        HijrahChronology.dayOfWeekRule().checkValidValue(dayOfWeek);
         
-        this.era = HijrahEra.of(dateInfo[0]);
-        this.yearOfEra = dateInfo[1];
-        this.monthOfYear = dateInfo[2];
-        this.dayOfMonth = dateInfo[3];
-        this.dayOfYear = dateInfo[4];
-        this.dayOfWeek = DayOfWeek.of(dateInfo[5]);
+        this.era = HijrahEra.of(era);
+        this.yearOfEra = year;
+        this.monthOfYear = month;
+        this.dayOfMonth = date;
+        this.dayOfYear = dayOfYear;
+        this.dayOfWeek = DayOfWeek.of(dayOfWeek);
         this.gregorianEpochDay = gregorianDay;
         this.isLeapYear = isLeapYear(this.yearOfEra);
     }
@@ -931,23 +888,36 @@ public final class HijrahDate
 
     //-----------------------------------------------------------------------
     /**
-     * Returns the int array containing the following field from the julian day.
-     *
-     * int[0] = ERA
-     * int[1] = YEAR
-     * int[2] = MONTH
-     * int[3] = DATE
-     * int[4] = DAY_OF_YEAR
-     * int[5] = DAY_OF_WEEK
+     * Converts a Hijrah proleptic date to an epoch-day.
+     * <p>
+     * The proleptic-year matches the year-of-era in the Hijrah era and
+     * runs backwards from zero in the previous era.
      *
-     * @param julianDay  a julian day.
+     * @param prolepticYear  the proleptic-year, caller validated
+     * @param monthOfYear  the month-of-year, caller validated
+     * @param dayOfMonth  the day-of-month, caller validated
+     * @return the epoch-day
      */
-    private static int[] getHijrahDateInfo(long gregorianDays) {
-        int era, year, month, date, dayOfWeek, dayOfYear;
+    static long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        if (prolepticYear >= 1) {
+            return getGregorianEpochDay(HijrahEra.HIJRAH.getValue(), prolepticYear, monthOfYear, dayOfMonth);
+        }
+        return getGregorianEpochDay(HijrahEra.BEFORE_HIJRAH.getValue(), 1 - prolepticYear, monthOfYear, dayOfMonth);
+    }
 
+    /**
+     * Converts an epoch-day to a packed Hijrah proleptic date.
+     * <p>
+     * The fields are not validated.
+     *
+     * @param gregorianDay  the epoch-day to convert
+     * @return the date packed by {@link Chronology#packDate(int, int, int)}
+     */
+    static long toPackedDate(long gregorianDay) {
+        int prolepticYear, dayOfYear;
         int cycleNumber, yearInCycle, dayOfCycle;
 
-        long epochDay = gregorianDays - HIJRAH_JAN_1_1_GREGORIAN_DAY;
+        long epochDay = gregorianDay - HIJRAH_JAN_1_1_GREGORIAN_DAY;
 
         if (epochDay >= 0) {
             cycleNumber = getCycleNumber(epochDay); // 0 - 99.
@@ -955,11 +925,7 @@ public final class HijrahDate
             yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
             dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
             // 0 - 354/355
-            year = cycleNumber * 30 + yearInCycle + 1; // 1-based year.
-            month = getMonthOfYear(dayOfYear, year); // 0-based month-of-year
-            date = getDayOfMonth(dayOfYear, month, year); // 0-based date
-            ++date; // Convert from 0-based to 1-based
-            era = HijrahEra.HIJRAH.getValue();
+            prolepticYear = cycleNumber * 30 + yearInCycle + 1; // 1-based year.
         } else {
             cycleNumber = (int) epochDay / 10631; // 0 or negative number.
             dayOfCycle = (int) epochDay % 10631; // -10630 - 0.
@@ -969,29 +935,17 @@ public final class HijrahDate
             }
             yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
             dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
-            year = cycleNumber * 30 - yearInCycle; // negative number.
-            year = 1 - year;
-            dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
+            prolepticYear = cycleNumber * 30 - yearInCycle; // zero or negative number.
+            dayOfYear = (isLeapYear(1 - prolepticYear) ? (dayOfYear + 355)
                     : (dayOfYear + 354));
-            month = getMonthOfYear(dayOfYear, year);
-            date = getDayOfMonth(dayOfYear, month, year);
-            ++date; // Convert from 0-based to 1-based
-            era = HijrahEra.BEFORE_HIJRAH.getValue();
         }
-        // Hijrah day zero is a Friday
-        dayOfWeek = (int) ((epochDay + 5) % 7);
-        dayOfWeek += (dayOfWeek <= 0) ? 7 : 0;
-
-        int dateInfo[] = new int[6];
-        dateInfo[0] = era;
-        dateInfo[1] = year;
-        dateInfo[2] = month + 1; // change to 1-based.
-        dateInfo[3] = date;
-        dateInfo[4] = dayOfYear + 1; // change to 1-based.
-        dateInfo[5] = dayOfWeek;
-        return dateInfo;
+        int year = (prolepticYear >= 1 ? prolepticYear : 1 - prolepticYear);
+        int month = getMonthOfYear(dayOfYear, year) + 1; // change to 1-based.
+        int date = getDayOfMonth(dayOfYear, month - 1, year) + 1; // change to 1-based.
+        return Chronology.packDate(prolepticYear, month, date);
     }
 
+    //-----------------------------------------------------------------------
     /**
      * Return Gregorian epoch day from Hijrah year, month, and day.
      *
@@ -1024,48 +978,31 @@ public final class HijrahDate
         int cycleNumber = (year - 1) / 30; // 0-based.
         int yearInCycle = (year - 1) % 30; // 0-based.
 
-        int dayInCycle = getAdjustedCycle(cycleNumber)[Math.abs(yearInCycle)]
-                .intValue();
+        int dayInCycle = ADJUSTED_CYCLE_YEARS[getCycleOffset(cycleNumber) + Math.abs(yearInCycle)];
 
         if (yearInCycle < 0) {
             dayInCycle = -dayInCycle;
         }
 
-        Long cycleDays;
-
-        try {
-            cycleDays = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleDays = null;
-        }
-
-        if (cycleDays == null) {
-            cycleDays = new Long(cycleNumber * 10631);
-        }
-
-        return (cycleDays.longValue() + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1);
+        return (getCycleStartDay(cycleNumber) + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1);
     }
 
     /**
      * Returns the 30 year cycle number from the epoch day.
      *
-     * @param epochDay  an epoch day
+     * @param epochDay  an epoch day, zero or greater
      * @return a cycle number
      */
     private static int getCycleNumber(long epochDay) {
-        Long[] days = ADJUSTED_CYCLES;
-        int cycleNumber;
-        try {
-            for (int i = 0; i < days.length; i++) {
-                if (epochDay < days[i].longValue()) {
-                    return i - 1;
-                }
-            }
-            cycleNumber = (int) epochDay / 10631;
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleNumber = (int) epochDay / 10631;
+        int index = Arrays.binarySearch(ADJUSTED_CYCLES, epochDay);
+        if (index >= 0) {
+            return index;
+        }
+        index = -index - 1;  // the first cycle starting after the epoch day
+        if (index < ADJUSTED_CYCLES.length) {
+            return index - 1;
         }
-        return cycleNumber;
+        return (int) epochDay / 10631;
     }
 
     /**
@@ -1076,17 +1013,20 @@ public final class HijrahDate
      * @return a day of cycle
      */
     private static int getDayOfCycle(long epochDay, int cycleNumber) {
-        Long day;
+        return (int) (epochDay - getCycleStartDay(cycleNumber));
+    }
 
-        try {
-            day = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            day = null;
-        }
-        if (day == null) {
-            day = new Long(cycleNumber * 10631);
+    /**
+     * Returns the starting day of the 30 year cycle from the cycle number.
+     *
+     * @param cycleNumber  a cycle number
+     * @return the starting day of the cycle
+     */
+    private static long getCycleStartDay(int cycleNumber) {
+        if (cycleNumber >= 0 && cycleNumber < MAX_ADJUSTED_CYCLE) {
+            return ADJUSTED_CYCLES[cycleNumber];
         }
-        return (int) (epochDay - day.longValue());
+        return cycleNumber * 10631L;
     }
 
     /**
@@ -1097,22 +1037,22 @@ public final class HijrahDate
      * @return a year in cycle
      */
     private static int getYearInCycle(int cycleNumber, long dayOfCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
+        int offset = getCycleOffset(cycleNumber);
         if (dayOfCycle == 0) {
             return 0;
         }
 
         if (dayOfCycle > 0) {
-            for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle < cycles[i].intValue()) {
+            for (int i = 0; i < 30; i++) {
+                if (dayOfCycle < ADJUSTED_CYCLE_YEARS[offset + i]) {
                     return i - 1;
                 }
             }
             return 29;
         } else {
             dayOfCycle = -dayOfCycle;
-            for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle <= cycles[i].intValue()) {
+            for (int i = 0; i < 30; i++) {
+                if (dayOfCycle <= ADJUSTED_CYCLE_YEARS[offset + i]) {
                     return i - 1;
                 }
             }
@@ -1121,69 +1061,31 @@ public final class HijrahDate
     }
 
     /**
-     * Returns adjusted 30 year cycle startind day as Integer array from the
-     * cycle number specified.
+     * Returns the index of the first year of the 30 year cycle in the
+     * adjusted cycle years from the cycle number specified.
      *
      * @param cycleNumber  a cycle number
-     * @return an Integer array
+     * @return the index in {@code ADJUSTED_CYCLE_YEARS}
      */
-    private static Integer[] getAdjustedCycle(int cycleNumber) {
-        Integer[] cycles;
-        try {
-            cycles = ADJUSTED_CYCLE_YEARS.get(new Integer(cycleNumber));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycles = null;
-        }
-        if (cycles == null) {
-            cycles = DEFAULT_CYCLE_YEARS;
+    private static int getCycleOffset(int cycleNumber) {
+        if (cycleNumber >= 0 && cycleNumber < MAX_ADJUSTED_CYCLE) {
+            return cycleNumber * 30;
         }
-        return cycles;
+        return MAX_ADJUSTED_CYCLE * 30;
     }
 
     /**
-     * Returns adjusted month days as Integer array form the year specified.
+     * Returns the index of the first month of the year in the adjusted
+     * month tables from the year specified.
      *
      * @param year  a year
-     * @return an Integer array
+     * @return the index in {@code ADJUSTED_MONTH_DAYS} and {@code ADJUSTED_MONTH_LENGTHS}
      */
-    private static Integer[] getAdjustedMonthDays(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_DAYS.get(new Integer(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
-        }
-        if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_DAYS;
-            } else {
-                newMonths = DEFAULT_MONTH_DAYS;
-            }
+    private static int getMonthOffset(int year) {
+        if (year >= MIN_YEAR_OF_ERA && year <= MAX_YEAR_OF_ERA) {
+            return ADJUSTED_YEAR_ROWS[year] * 12;
         }
-        return newMonths;
-    }
-
-    /**
-     * Returns adjusted month length as Integer array form the year specified.
-     *
-     * @param year  a year
-     * @return an Integer array
-     */
-    private static Integer[] getAdjustedMonthLength(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_LENGTHS.get(new Integer(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
-        }
-        if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_LENGTHS;
-            } else {
-                newMonths = DEFAULT_MONTH_LENGTHS;
-            }
-        }
-        return newMonths;
+        return isLeapYear(year) ? 12 : 0;
     }
 
     /**
@@ -1195,12 +1097,12 @@ public final class HijrahDate
      * @return day-of-year
      */
     private static int getDayOfYear(int cycleNumber, int dayOfCycle, int yearInCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
+        int yearStart = ADJUSTED_CYCLE_YEARS[getCycleOffset(cycleNumber) + yearInCycle];
 
         if (dayOfCycle > 0) {
-            return dayOfCycle - cycles[yearInCycle].intValue();
+            return dayOfCycle - yearStart;
         } else {
-            return cycles[yearInCycle].intValue() + dayOfCycle;
+            return yearStart + dayOfCycle;
         }
     }
 
@@ -1213,25 +1115,18 @@ public final class HijrahDate
      */
     private static int getMonthOfYear(int dayOfYear, int year) {
 
-        Integer[] newMonths = getAdjustedMonthDays(year);
+        int offset = getMonthOffset(year);
 
-        if (dayOfYear >= 0) {
-            for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 11;
-        } else {
+        if (dayOfYear < 0) {
             dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
                     : (dayOfYear + 354));
-            for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
-                    return i - 1;
-                }
+        }
+        for (int i = 0; i < 12; i++) {
+            if (dayOfYear < ADJUSTED_MONTH_DAYS[offset + i]) {
+                return i - 1;
             }
-            return 11;
         }
+        return 11;
     }
 
     /**
@@ -1244,22 +1139,14 @@ public final class HijrahDate
      */
     private static int getDayOfMonth(int dayOfYear, int month, int year) {
 
-        Integer[] newMonths = getAdjustedMonthDays(year);
-
-        if (dayOfYear >= 0) {
-            if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
-            } else {
-                return dayOfYear;
-            }
-        } else {
+        if (dayOfYear < 0) {
             dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
                     : (dayOfYear + 354));
-            if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
-            } else {
-                return dayOfYear;
-            }
+        }
+        if (month > 0) {
+            return dayOfYear - ADJUSTED_MONTH_DAYS[getMonthOffset(year) + month];
+        } else {
+            return dayOfYear;
         }
     }
 
@@ -1281,8 +1168,7 @@ public final class HijrahDate
      * @return month days from the beginning of year
      */
     private static int getMonthDays(int month, int year) {
-        Integer[] newMonths = getAdjustedMonthDays(year);
-        return newMonths[month].intValue();
+        return ADJUSTED_MONTH_DAYS[getMonthOffset(year) + month];
     }
     
     /**
@@ -1293,8 +1179,7 @@ public final class HijrahDate
      * @return month length
      */
     static int getMonthLength(int month, int year) {
-      Integer[] newMonths = getAdjustedMonthLength(year);
-      return newMonths[month].intValue();
+      return ADJUSTED_MONTH_LENGTHS[getMonthOffset(year) + month];
     }
     
     /**
@@ -1305,22 +1190,17 @@ public final class HijrahDate
      */
     static int getYearLength(int year) {
 
-        int cycleNumber = (year - 1) / 30;
-        Integer[] cycleYears;
-        try {
-            cycleYears = ADJUSTED_CYCLE_YEARS.get(cycleNumber);
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleYears = null;
-        }
-        if (cycleYears != null) {
+        if (year >= MIN_YEAR_OF_ERA && year <= MAX_YEAR_OF_ERA) {
+            int cycleNumber = (year - 1) / 30;
             int yearInCycle = (year - 1) % 30;
+            int offset = cycleNumber * 30 + yearInCycle;
             if (yearInCycle == 29) {
-                return ADJUSTED_CYCLES[cycleNumber + 1].intValue()
-                        - ADJUSTED_CYCLES[cycleNumber].intValue()
-                        - cycleYears[yearInCycle].intValue();
+                return (int) (ADJUSTED_CYCLES[cycleNumber + 1]
+                        - ADJUSTED_CYCLES[cycleNumber])
+                        - ADJUSTED_CYCLE_YEARS[offset];
             }
-            return cycleYears[yearInCycle + 1].intValue()
-                    - cycleYears[yearInCycle].intValue();
+            return ADJUSTED_CYCLE_YEARS[offset + 1]
+                    - ADJUSTED_CYCLE_YEARS[offset];
         } else {
             return isLeapYear(year) ? 355 : 354;
         }
@@ -1364,6 +1244,109 @@ public final class HijrahDate
 
     // ----- Deviation handling -----//
 
+    /**
+     * The deviation data being read from the configuration file.
+     * <p>
+     * This is only used during class initialization, after which the
+     * tables are published as the immutable adjusted tables.
+     */
+    private static final class Deviations {
+        /** The adjusted month days in year, indexed by year, null if not adjusted. */
+        final int[][] monthDays = new int[MAX_YEAR_OF_ERA + 1][];
+        /** The adjusted month length in year, indexed by year, null if not adjusted. */
+        final int[][] monthLengths = new int[MAX_YEAR_OF_ERA + 1][];
+        /** The adjusted starting days of the years in each cycle, plus a non-adjusted cycle. */
+        final int[] cycleYears = new int[(MAX_ADJUSTED_CYCLE + 1) * 30];
+        /** The adjusted starting days of each cycle. */
+        final long[] cycles = new long[MAX_ADJUSTED_CYCLE];
+        /** The adjusted max least max values. */
+        final int[] leastMaxValues = LEAST_MAX_VALUES.clone();
+        /** The adjusted max values. */
+        final int[] maxValues = MAX_VALUES.clone();
+
+        /** Constructor. */
+        Deviations() {
+            for (int i = 0; i <= MAX_ADJUSTED_CYCLE; i++) {
+                System.arraycopy(CYCLEYEAR_START_DATE, 0, cycleYears, i * 30, 30);
+            }
+            for (int i = 0; i < MAX_ADJUSTED_CYCLE; i++) {
+                cycles[i] = 10631L * i;
+            }
+        }
+
+        /**
+         * Gets the month days of the year for adjustment.
+         *
+         * @param year  the year, from 1 to 9999
+         * @return the month days, not null
+         */
+        int[] getMonthDays(int year) {
+            if (monthDays[year] == null) {
+                monthDays[year] = (isLeapYear(year) ? LEAP_NUM_DAYS : NUM_DAYS).clone();
+            }
+            return monthDays[year];
+        }
+
+        /**
+         * Gets the month lengths of the year for adjustment.
+         *
+         * @param year  the year, from 1 to 9999
+         * @return the month lengths, not null
+         */
+        int[] getMonthLengths(int year) {
+            if (monthLengths[year] == null) {
+                monthLengths[year] = (isLeapYear(year) ? LEAP_MONTH_LENGTH : MONTH_LENGTH).clone();
+            }
+            return monthLengths[year];
+        }
+
+        /**
+         * Converts the adjusted years to the row of each year in the month tables.
+         * <p>
+         * A year always has both its month days and month lengths adjusted,
+         * thus the rows are the same for both tables.
+         *
+         * @return the rows, indexed by year, not null
+         */
+        char[] toYearRows() {
+            char[] rows = new char[MAX_YEAR_OF_ERA + 1];
+            char row = 2;
+            for (int year = MIN_YEAR_OF_ERA; year <= MAX_YEAR_OF_ERA; year++) {
+                if (monthDays[year] != null) {
+                    rows[year] = row++;
+                } else {
+                    rows[year] = (char) (isLeapYear(year) ? 1 : 0);
+                }
+            }
+            return rows;
+        }
+
+        /**
+         * Converts the adjusted years to a flat month table.
+         *
+         * @param adjusted  the adjusted months, indexed by year, not null
+         * @param normal  the months of a non-adjusted normal year, not null
+         * @param leap  the months of a non-adjusted leap year, not null
+         * @return the month table, twelve to a row, not null
+         */
+        int[] toMonthTable(int[][] adjusted, int[] normal, int[] leap) {
+            int rows = 2;
+            for (int year = MIN_YEAR_OF_ERA; year <= MAX_YEAR_OF_ERA; year++) {
+                rows += (adjusted[year] != null ? 1 : 0);
+            }
+            int[] table = new int[rows * 12];
+            System.arraycopy(normal, 0, table, 0, 12);
+            System.arraycopy(leap, 0, table, 12, 12);
+            int row = 2;
+            for (int year = MIN_YEAR_OF_ERA; year <= MAX_YEAR_OF_ERA; year++) {
+                if (adjusted[year] != null) {
+                    System.arraycopy(adjusted[year], 0, table, row++ * 12, 12);
+                }
+            }
+            return table;
+        }
+    }
+
     /**
      * Adds deviation definition. The year and month sepcifed should be the
      * caluculated Hijrah year and month. The month is 0 based. e.g. 8 for
@@ -1373,13 +1356,14 @@ public final class HijrahDate
      * current date. Please note that this behavior is different from the
      * addDeviaiton method.
      *
+     * @param deviations  the deviation data to add to
      * @param startYear  start year
      * @param startMonth  start month
      * @param endYear  end year
      * @param endMonth  end month
      * @param offset  offset
      */
-    private static void addDeviationAsHijrah(int startYear,
+    private static void addDeviationAsHijrah(Deviations deviations, int startYear,
             int startMonth, int endYear, int endMonth, int offset) {
 
         if (startYear < 1) {
@@ -1407,254 +1391,66 @@ public final class HijrahDate
         }
 
         // Adjusting start year.
-        boolean isStartYLeap = isLeapYear(startYear);
-
-        // Adjusting the number of month.
-        Integer[] orgStartMonthNums = ADJUSTED_MONTH_DAYS.get(new Integer(
-                startYear));
-        if (orgStartMonthNums == null) {
-            if (isStartYLeap) {
-                orgStartMonthNums = new Integer[LEAP_NUM_DAYS.length];
-                for (int l = 0; l < LEAP_NUM_DAYS.length; l++) {
-                    orgStartMonthNums[l] = new Integer(LEAP_NUM_DAYS[l]);
-                }
-            } else {
-                orgStartMonthNums = new Integer[NUM_DAYS.length];
-                for (int l = 0; l < NUM_DAYS.length; l++) {
-                    orgStartMonthNums[l] = new Integer(NUM_DAYS[l]);
-                }
-            }
+        int[] startMonthDays = deviations.getMonthDays(startYear);
+        for (int month = startMonth + 1; month < 12; month++) {
+            startMonthDays[month] -= offset;
         }
 
-        Integer[] newStartMonthNums = new Integer[orgStartMonthNums.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month > startMonth) {
-                newStartMonthNums[month] = new Integer(orgStartMonthNums[month]
-                        .intValue()
-                        - offset);
-            } else {
-                newStartMonthNums[month] = new Integer(orgStartMonthNums[month]
-                        .intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_DAYS.put(new Integer(startYear), newStartMonthNums);
-
         // Adjusting the days of month.
-
-        Integer[] orgStartMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                startYear));
-        if (orgStartMonthLengths == null) {
-            if (isStartYLeap) {
-                orgStartMonthLengths = new Integer[LEAP_MONTH_LENGTH.length];
-                for (int l = 0; l < LEAP_MONTH_LENGTH.length; l++) {
-                    orgStartMonthLengths[l] = new Integer(LEAP_MONTH_LENGTH[l]);
-                }
-            } else {
-                orgStartMonthLengths = new Integer[MONTH_LENGTH.length];
-                for (int l = 0; l < MONTH_LENGTH.length; l++) {
-                    orgStartMonthLengths[l] = new Integer(MONTH_LENGTH[l]);
-                }
-            }
-        }
-
-        Integer[] newStartMonthLengths = new Integer[orgStartMonthLengths.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month == startMonth) {
-                newStartMonthLengths[month] = new Integer(
-                        orgStartMonthLengths[month].intValue() - offset);
-            } else {
-                newStartMonthLengths[month] = new Integer(
-                        orgStartMonthLengths[month].intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_LENGTHS.put(new Integer(startYear), newStartMonthLengths);
+        int[] startMonthLengths = deviations.getMonthLengths(startYear);
+        startMonthLengths[startMonth] -= offset;
 
         if (startYear != endYear) {
-            // System.out.println("over year");
+            int[] cycleYears = deviations.cycleYears;
             // Adjusting starting 30 year cycle.
             int sCycleNumber = (startYear - 1) / 30;
             int sYearInCycle = (startYear - 1) % 30; // 0-based.
-            Integer[] startCycles = ADJUSTED_CYCLE_YEARS.get(new Integer(
-                    sCycleNumber));
-            if (startCycles == null) {
-                startCycles = new Integer[CYCLEYEAR_START_DATE.length];
-                for (int j = 0; j < startCycles.length; j++) {
-                    startCycles[j] = new Integer(CYCLEYEAR_START_DATE[j]);
-                }
-            }
-
-            for (int j = sYearInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
-                startCycles[j] = new Integer(startCycles[j].intValue() - offset);
+            for (int j = sYearInCycle + 1; j < 30; j++) {
+                cycleYears[sCycleNumber * 30 + j] -= offset;
             }
 
-            // System.out.println(sCycleNumber + ":" + sYearInCycle);
-            ADJUSTED_CYCLE_YEARS.put(new Integer(sCycleNumber), startCycles);
-
-            int sYearInMaxY = (startYear - 1) / 30;
-            int sEndInMaxY = (endYear - 1) / 30;
-
-            if (sYearInMaxY != sEndInMaxY) {
-                // System.out.println("over 30");
+            int eCycleNumber = (endYear - 1) / 30;
+            if (sCycleNumber != eCycleNumber) {
+                long[] cycles = deviations.cycles;
                 // Adjusting starting 30 * MAX_ADJUSTED_CYCLE year cycle.
-                // System.out.println(sYearInMaxY);
-
-                for (int j = sYearInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-                    ADJUSTED_CYCLES[j] = new Long(ADJUSTED_CYCLES[j].longValue()
-                            - offset);
+                for (int j = sCycleNumber + 1; j < cycles.length; j++) {
+                    cycles[j] -= offset;
                 }
 
                 // Adjusting ending 30 * MAX_ADJUSTED_CYCLE year cycles.
-                for (int j = sEndInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-                    ADJUSTED_CYCLES[j] = new Long(ADJUSTED_CYCLES[j].longValue()
-                            + offset);
+                for (int j = eCycleNumber + 1; j < cycles.length; j++) {
+                    cycles[j] += offset;
                 }
             }
 
             // Adjusting ending 30 year cycle.
-            int eCycleNumber = (endYear - 1) / 30;
             int sEndInCycle = (endYear - 1) % 30; // 0-based.
-            Integer[] endCycles = ADJUSTED_CYCLE_YEARS.get(new Integer(
-                    eCycleNumber));
-            if (endCycles == null) {
-                endCycles = new Integer[CYCLEYEAR_START_DATE.length];
-                for (int j = 0; j < endCycles.length; j++) {
-                    endCycles[j] = new Integer(CYCLEYEAR_START_DATE[j]);
-                }
-            }
-            for (int j = sEndInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
-                endCycles[j] = new Integer(endCycles[j].intValue() + offset);
+            for (int j = sEndInCycle + 1; j < 30; j++) {
+                cycleYears[eCycleNumber * 30 + j] += offset;
             }
-            ADJUSTED_CYCLE_YEARS.put(new Integer(eCycleNumber), endCycles);
         }
 
         // Adjusting ending year.
-        boolean isEndYLeap = isLeapYear(endYear);
-
-        Integer[] orgEndMonthDays = ADJUSTED_MONTH_DAYS.get(new Integer(endYear));
-
-        if (orgEndMonthDays == null) {
-            if (isEndYLeap) {
-                orgEndMonthDays = new Integer[LEAP_NUM_DAYS.length];
-                for (int l = 0; l < LEAP_NUM_DAYS.length; l++) {
-                    orgEndMonthDays[l] = new Integer(LEAP_NUM_DAYS[l]);
-                }
-            } else {
-                orgEndMonthDays = new Integer[NUM_DAYS.length];
-                for (int l = 0; l < NUM_DAYS.length; l++) {
-                    orgEndMonthDays[l] = new Integer(NUM_DAYS[l]);
-                }
-            }
-        }
-
-        Integer[] newEndMonthDays = new Integer[orgEndMonthDays.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month > endMonth) {
-                newEndMonthDays[month] = new Integer(orgEndMonthDays[month]
-                        .intValue()
-                        + offset);
-            } else {
-                newEndMonthDays[month] = new Integer(orgEndMonthDays[month]
-                        .intValue());
-            }
+        int[] endMonthDays = deviations.getMonthDays(endYear);
+        for (int month = endMonth + 1; month < 12; month++) {
+            endMonthDays[month] += offset;
         }
 
-        ADJUSTED_MONTH_DAYS.put(new Integer(endYear), newEndMonthDays);
-
         // Adjusting the days of month.
-        Integer[] orgEndMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                endYear));
-
-        if (orgEndMonthLengths == null) {
-            if (isEndYLeap) {
-                orgEndMonthLengths = new Integer[LEAP_MONTH_LENGTH.length];
-                for (int l = 0; l < LEAP_MONTH_LENGTH.length; l++) {
-                    orgEndMonthLengths[l] = new Integer(LEAP_MONTH_LENGTH[l]);
-                }
-            } else {
-                orgEndMonthLengths = new Integer[MONTH_LENGTH.length];
-                for (int l = 0; l < MONTH_LENGTH.length; l++) {
-                    orgEndMonthLengths[l] = new Integer(MONTH_LENGTH[l]);
-                }
-            }
-        }
-
-        Integer[] newEndMonthLengths = new Integer[orgEndMonthLengths.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month == endMonth) {
-                newEndMonthLengths[month] = new Integer(
-                        orgEndMonthLengths[month].intValue() + offset);
-            } else {
-                newEndMonthLengths[month] = new Integer(
-                        orgEndMonthLengths[month].intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_LENGTHS.put(new Integer(endYear), newEndMonthLengths);
-
-        Integer[] startMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                startYear));
-        Integer[] endMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                endYear));
-        Integer[] startMonthDays = ADJUSTED_MONTH_DAYS
-                .get(new Integer(startYear));
-        Integer[] endMonthDays = ADJUSTED_MONTH_DAYS.get(new Integer(endYear));
-
-        int startMonthLength = startMonthLengths[startMonth].intValue();
-        int endMonthLength = endMonthLengths[endMonth].intValue();
-        int startMonthDay = startMonthDays[11].intValue()
-                + startMonthLengths[11].intValue();
-        int endMonthDay = endMonthDays[11].intValue()
-                + endMonthLengths[11].intValue();
-
-        int maxMonthLength = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH]
-                .intValue();
-        int leastMaxMonthLength = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH]
-                .intValue();
-
-        if (maxMonthLength < startMonthLength) {
-            maxMonthLength = startMonthLength;
-        }
-        if (maxMonthLength < endMonthLength) {
-            maxMonthLength = endMonthLength;
-        }
-        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH] = new Integer(maxMonthLength);
-
-        if (leastMaxMonthLength > startMonthLength) {
-            leastMaxMonthLength = startMonthLength;
-        }
-        if (leastMaxMonthLength > endMonthLength) {
-            leastMaxMonthLength = endMonthLength;
-        }
-        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH] = new Integer(
-                leastMaxMonthLength);
-
-        int maxMonthDay = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR].intValue();
-        int leastMaxMonthDay = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR]
-                .intValue();
-
-        if (maxMonthDay < startMonthDay) {
-            maxMonthDay = startMonthDay;
-        }
-        if (maxMonthDay < endMonthDay) {
-            maxMonthDay = endMonthDay;
-        }
-
-        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR] = new Integer(maxMonthDay);
-
-        if (leastMaxMonthDay > startMonthDay) {
-            leastMaxMonthDay = startMonthDay;
-        }
-        if (leastMaxMonthDay > endMonthDay) {
-            leastMaxMonthDay = endMonthDay;
-        }
-        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR] = new Integer(
-                leastMaxMonthDay);
+        int[] endMonthLengths = deviations.getMonthLengths(endYear);
+        endMonthLengths[endMonth] += offset;
+
+        int startMonthLength = startMonthLengths[startMonth];
+        int endMonthLength = endMonthLengths[endMonth];
+        int startMonthDay = startMonthDays[11] + startMonthLengths[11];
+        int endMonthDay = endMonthDays[11] + endMonthLengths[11];
+
+        int[] maxValues = deviations.maxValues;
+        int[] leastMaxValues = deviations.leastMaxValues;
+        maxValues[POSITION_DAY_OF_MONTH] = Math.max(maxValues[POSITION_DAY_OF_MONTH], Math.max(startMonthLength, endMonthLength));
+        leastMaxValues[POSITION_DAY_OF_MONTH] = Math.min(leastMaxValues[POSITION_DAY_OF_MONTH], Math.min(startMonthLength, endMonthLength));
+        maxValues[POSITION_DAY_OF_YEAR] = Math.max(maxValues[POSITION_DAY_OF_YEAR], Math.max(startMonthDay, endMonthDay));
+        leastMaxValues[POSITION_DAY_OF_YEAR] = Math.min(leastMaxValues[POSITION_DAY_OF_YEAR], Math.min(startMonthDay, endMonthDay));
     }
 
     /**
@@ -1672,10 +1468,11 @@ public final class HijrahDate
      * 1429/2-1429/7:1;1429/6-1429/11:1
      * 1429/11-9999/11:1
      *
+     * @param deviations  the deviation data to add to
      * @throws IOException for zip/jar file handling exception.
      * @throws ParseException if the format of the configuration file is wrong.
      */
-    private static void readDeviationConfig() throws IOException,
+    private static void readDeviationConfig(Deviations deviations) throws IOException,
             ParseException {
         
         InputStream is = getConfigFileInputStream();
@@ -1692,7 +1489,7 @@ public final class HijrahDate
                 while ((line = br.readLine()) != null) {
                     num++;
                     line = line.trim();
-                    parseLine(line, num);
+                    parseLine(line, num, deviations);
                 }
             } finally {
                 try {
@@ -1708,9 +1505,10 @@ public final class HijrahDate
      *
      * @param line  a line to parse
      * @param num  line number
+     * @param deviations  the deviation data to add to
      * @throws ParseException if line has incorrect format.
      */
-    private static void parseLine(String line, int num) throws ParseException {
+    private static void parseLine(String line, int num, Deviations deviations) throws ParseException {
         StringTokenizer st = new StringTokenizer(line, ";");
         while (st.hasMoreTokens()) {
             String deviationElement = st.nextToken();
@@ -1789,7 +1587,7 @@ public final class HijrahDate
                     }
                     if (startYear != -1 && startMonth != -1 && endYear != -1
                             && endMonth != -1) {
-                        addDeviationAsHijrah(startYear, startMonth, endYear,
+                        addDeviationAsHijrah(deviations, startYear, startMonth, endYear,
                                 endMonth, offset);
                     } else {
                         throw new ParseException("Unknown error at line " + num
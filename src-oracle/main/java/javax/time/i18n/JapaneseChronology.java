@@ -7,6 +7,7 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Locale;
 
+import javax.time.CalendricalException;
 import javax.time.Duration;
 import javax.time.MonthOfYear;
 import javax.time.Year;
@@ -16,6 +17,7 @@ import javax.time.calendrical.Chronology;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 import javax.time.calendrical.DateTimeRuleRange;
+import javax.time.calendrical.ISOChronology;
 import javax.time.calendrical.ISOPeriodUnit;
 import javax.time.calendrical.PeriodUnit;
 import javax.time.format.TextStyle;
@@ -116,6 +118,35 @@ public final class JapaneseChronology extends Chronology implements Serializable
         return "Japanese";
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a Japanese date to an epoch-day.
+     * <p>
+     * The Japanese calendar system shares the months and days of the ISO
+     * calendar system, and the proleptic-year is the ISO proleptic-year.
+     *
+     * @param prolepticYear  the Japanese proleptic-year
+     * @param monthOfYear  the Japanese month-of-year, from 1 to 12
+     * @param dayOfMonth  the Japanese day-of-month, from 1 to 31
+     * @return the epoch-day
+     */
+    @Override
+    public long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        return ISOChronology.INSTANCE.toEpochDay(prolepticYear, monthOfYear, dayOfMonth);
+    }
+
+    /**
+     * Converts an epoch-day to a packed Japanese date.
+     *
+     * @param epochDay  the epoch-day to convert
+     * @return the packed date
+     * @throws CalendricalException if the year is out of range
+     */
+    @Override
+    public long toPackedDate(long epochDay) {
+        return ISOChronology.INSTANCE.toPackedDate(epochDay);
+    }
+
     //-----------------------------------------------------------------------
 //    /**
 //     * Gets the rule for the year field in the Japanese chronology.
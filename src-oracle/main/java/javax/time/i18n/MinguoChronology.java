@@ -7,6 +7,7 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Locale;
 
+import javax.time.CalendricalException;
 import javax.time.MonthOfYear;
 import javax.time.Year;
 import javax.time.calendrical.Calendrical;
@@ -15,6 +16,7 @@ import javax.time.calendrical.Chronology;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 import javax.time.calendrical.DateTimeRuleRange;
+import javax.time.calendrical.ISOChronology;
 import javax.time.calendrical.ISOPeriodUnit;
 import javax.time.calendrical.PeriodUnit;
 import javax.time.format.TextStyle;
@@ -112,6 +114,36 @@ public final class MinguoChronology extends Chronology implements Serializable {
         return "Minguo";
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a Minguo date to an epoch-day.
+     * <p>
+     * The Minguo calendar system shares the months and days of the ISO
+     * calendar system, with the year offset by 1911.
+     *
+     * @param prolepticYear  the Minguo proleptic-year
+     * @param monthOfYear  the Minguo month-of-year, from 1 to 12
+     * @param dayOfMonth  the Minguo day-of-month, from 1 to 31
+     * @return the epoch-day
+     */
+    @Override
+    public long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        return ISOChronology.INSTANCE.toEpochDay(prolepticYear + YEAR_OFFSET, monthOfYear, dayOfMonth);
+    }
+
+    /**
+     * Converts an epoch-day to a packed Minguo date.
+     *
+     * @param epochDay  the epoch-day to convert
+     * @return the packed date
+     * @throws CalendricalException if the year is out of range
+     */
+    @Override
+    public long toPackedDate(long epochDay) {
+        long packed = ISOChronology.INSTANCE.toPackedDate(epochDay);
+        return packDate(unpackProlepticYear(packed) - YEAR_OFFSET, unpackMonthOfYear(packed), unpackDayOfMonth(packed));
+    }
+
     //-----------------------------------------------------------------------
 //    /**
 //     * Gets the rule for the year field in the Minguo chronology.
@@ -14,6 +14,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
+import javax.time.LocalDate;
+import javax.time.calendrical.Chronology;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 import javax.time.calendrical.DateTimeRuleRange;
@@ -127,6 +129,35 @@ public class TestHijrahChronology {
         serialize(rule);
     }
 
+    @Test
+    public void testToEpochDay() throws Exception {
+        for (int year = 1; year <= 9999; year += 7) {
+            for (int month = 1; month <= 12; month++) {
+                HijrahDate date = HijrahDate.of(year, month, 1);
+                assertEquals(HijrahChronology.INSTANCE.toEpochDay(year, month, 1), date.toLocalDate().toEpochDay());
+            }
+        }
+    }
+
+    @Test
+    public void testToPackedDate() throws Exception {
+        LocalDate start = HijrahDate.of(1, 1, 1).toLocalDate();
+        for (long epochDay = start.toEpochDay(); epochDay < start.toEpochDay() + 100000; epochDay++) {
+            HijrahDate date = HijrahDate.of(LocalDate.ofEpochDay(epochDay));
+            long packed = HijrahChronology.INSTANCE.toPackedDate(epochDay);
+            assertEquals(packed, Chronology.packDate(date.getYearOfEra(), date.getMonthOfYear(), date.getDayOfMonth()));
+            assertEquals(HijrahChronology.INSTANCE.toEpochDay(date.getYearOfEra(), date.getMonthOfYear(), date.getDayOfMonth()), epochDay);
+        }
+    }
+
+    @Test
+    public void testToPackedDate_beforeHijrah() throws Exception {
+        HijrahDate date = HijrahDate.of(HijrahEra.BEFORE_HIJRAH, 1, 6, 10);
+        long packed = HijrahChronology.INSTANCE.toPackedDate(date.toLocalDate().toEpochDay());
+        assertEquals(packed, Chronology.packDate(0, 6, 10));
+        assertEquals(HijrahChronology.INSTANCE.toEpochDay(0, 6, 10), date.toLocalDate().toEpochDay());
+    }
+
     public void test_toString() throws Exception {
         assertEquals(HijrahChronology.INSTANCE.toString(), "Hijrah");
     }
@@ -500,6 +500,24 @@ public class TestHijrahDate {
                 LocalDate.of(testGregorianYear, testGregorianMonthOfYear, testGregorianDayOfMonth));
     }
 
+    @Test
+    public void testToLocalDateRoundTripAllDays() {
+        long first = HijrahDate.of(1, 1, 1).toLocalDate().toEpochDay();
+        long last = HijrahDate.of(9999, 12, HijrahDate.getMonthLength(11, 9999)).toLocalDate().toEpochDay();
+        HijrahDate previous = HijrahDate.of(LocalDate.ofEpochDay(first - 1));
+        for (long epochDay = first; epochDay <= last; epochDay++) {
+            HijrahDate date = HijrahDate.of(LocalDate.ofEpochDay(epochDay));
+            assertEquals(date.toLocalDate().toEpochDay(), epochDay);
+            assertEquals(HijrahDate.of(date.getEra(), date.getYearOfEra(), date.getMonthOfYear(), date.getDayOfMonth()), date);
+            if (date.getDayOfYear() == 1) {
+                assertEquals(previous.getDayOfYear(), HijrahDate.getYearLength(previous.getYearOfEra()));
+            } else {
+                assertEquals(date.getDayOfYear(), previous.getDayOfYear() + 1);
+            }
+            previous = date;
+        }
+    }
+
     //-----------------------------------------------------------------------
     // compareTo(), isAfter(), isBefore(), and equals()
     //-----------------------------------------------------------------------   
@@ -14,6 +14,9 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
+import javax.time.LocalDate;
+import javax.time.MonthOfYear;
+import javax.time.calendrical.Chronology;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 import javax.time.calendrical.DateTimeRuleRange;
@@ -127,6 +130,19 @@ public class TestJapaneseChronology {
         serialize(rule);
     }
 
+    @Test
+    public void testToEpochDay() throws Exception {
+        LocalDate date = JapaneseDate.of(JapaneseEra.HEISEI, 23, MonthOfYear.MARCH, 15).toLocalDate();
+        assertEquals(date, LocalDate.of(2011, 3, 15));
+        assertEquals(JapaneseChronology.INSTANCE.toEpochDay(2011, 3, 15), date.toEpochDay());
+    }
+
+    @Test
+    public void testToPackedDate() throws Exception {
+        long packed = JapaneseChronology.INSTANCE.toPackedDate(LocalDate.of(2011, 3, 15).toEpochDay());
+        assertEquals(packed, Chronology.packDate(2011, 3, 15));
+    }
+
     public void test_toString() throws Exception {
         assertEquals(JapaneseChronology.INSTANCE.toString(), "Japanese");
     }
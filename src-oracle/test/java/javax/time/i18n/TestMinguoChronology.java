@@ -14,6 +14,9 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
+import javax.time.LocalDate;
+import javax.time.MonthOfYear;
+import javax.time.calendrical.Chronology;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 import javax.time.calendrical.DateTimeRuleRange;
@@ -127,6 +130,23 @@ public class TestMinguoChronology {
         serialize(rule);
     }
 
+    @Test
+    public void testToEpochDay() throws Exception {
+        LocalDate date = MinguoDate.of(MinguoEra.MINGUO, 100, MonthOfYear.MARCH, 15).toLocalDate();
+        assertEquals(date, LocalDate.of(2011, 3, 15));
+        assertEquals(MinguoChronology.INSTANCE.toEpochDay(100, 3, 15), date.toEpochDay());
+        assertEquals(MinguoChronology.INSTANCE.toEpochDay(0, 12, 31), LocalDate.of(1911, 12, 31).toEpochDay());
+    }
+
+    @Test
+    public void testToPackedDate() throws Exception {
+        long packed = MinguoChronology.INSTANCE.toPackedDate(LocalDate.of(2011, 3, 15).toEpochDay());
+        assertEquals(packed, Chronology.packDate(100, 3, 15));
+        packed = MinguoChronology.INSTANCE.toPackedDate(LocalDate.of(1911, 12, 31).toEpochDay());
+        assertEquals(packed, Chronology.packDate(0, 12, 31));
+        assertEquals(MinguoDate.of(MinguoEra.BEFORE_MINGUO, 1, MonthOfYear.DECEMBER, 31).toLocalDate(), LocalDate.of(1911, 12, 31));
+    }
+
     public void test_toString() throws Exception {
         assertEquals(MinguoChronology.INSTANCE.toString(), "Minguo");
     }
@@ -14,6 +14,9 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
+import javax.time.LocalDate;
+import javax.time.MonthOfYear;
+import javax.time.calendrical.Chronology;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 import javax.time.calendrical.DateTimeRuleRange;
@@ -127,6 +130,23 @@ public class TestThaiBuddhistChronology {
         serialize(rule);
     }
 
+    @Test
+    public void testToEpochDay() throws Exception {
+        LocalDate date = ThaiBuddhistDate.of(ThaiBuddhistEra.BUDDHIST, 2554, MonthOfYear.MARCH, 15).toLocalDate();
+        assertEquals(date, LocalDate.of(2011, 3, 15));
+        assertEquals(ThaiBuddhistChronology.INSTANCE.toEpochDay(2554, 3, 15), date.toEpochDay());
+        assertEquals(ThaiBuddhistChronology.INSTANCE.toEpochDay(0, 12, 31), LocalDate.of(-543, 12, 31).toEpochDay());
+    }
+
+    @Test
+    public void testToPackedDate() throws Exception {
+        long packed = ThaiBuddhistChronology.INSTANCE.toPackedDate(LocalDate.of(2011, 3, 15).toEpochDay());
+        assertEquals(packed, Chronology.packDate(2554, 3, 15));
+        packed = ThaiBuddhistChronology.INSTANCE.toPackedDate(LocalDate.of(-543, 12, 31).toEpochDay());
+        assertEquals(packed, Chronology.packDate(0, 12, 31));
+        assertEquals(ThaiBuddhistDate.of(ThaiBuddhistEra.BEFORE_BUDDHIST, 1, MonthOfYear.DECEMBER, 31).toLocalDate(), LocalDate.of(-543, 12, 31));
+    }
+
     public void test_toString() throws Exception {
         assertEquals(ThaiBuddhistChronology.INSTANCE.toString(), "ThaiBuddhist");
     }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark the bulk codecs in DateTimeCodecs.
+ * <p>
+ * The data is a sorted column of date-times a few minutes apart, typical of
+ * time-series data. The {@code perElement} methods convert each value
+ * individually for comparison with the bulk methods.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkDateTimeCodecs {
+
+    /** The number of values. */
+    private static final int SIZE = 10000;
+
+    /** The dates. */
+    private LocalDate[] dates = new LocalDate[SIZE];
+    /** The date-times. */
+    private LocalDateTime[] dateTimes = new LocalDateTime[SIZE];
+    /** The epoch-days. */
+    private int[] epochDays = new int[SIZE];
+    /** The nano-of-days. */
+    private long[] nanoOfDays = new long[SIZE];
+    /** The decoded dates. */
+    private LocalDate[] datesOut = new LocalDate[SIZE];
+    /** The decoded date-times. */
+    private LocalDateTime[] dateTimesOut = new LocalDateTime[SIZE];
+
+    @Setup
+    public void setUp() {
+        LocalDateTime dateTime = LocalDateTime.of(2008, 6, 30, 11, 30);
+        for (int i = 0; i < SIZE; i++) {
+            dateTimes[i] = dateTime;
+            dates[i] = dateTime.toLocalDate();
+            dateTime = dateTime.plusMinutes(7);
+        }
+        DateTimeCodecs.toEpochDays(dateTimes, epochDays, nanoOfDays);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int[] toEpochDays() {
+        DateTimeCodecs.toEpochDays(dates, epochDays);
+        return epochDays;
+    }
+
+    @Benchmark
+    public int[] toEpochDays_perElement() {
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = (int) dates[i].toEpochDay();
+        }
+        return epochDays;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDate[] ofEpochDays() {
+        DateTimeCodecs.ofEpochDays(epochDays, datesOut);
+        return datesOut;
+    }
+
+    @Benchmark
+    public LocalDate[] ofEpochDays_perElement() {
+        for (int i = 0; i < SIZE; i++) {
+            datesOut[i] = LocalDate.ofEpochDay(epochDays[i]);
+        }
+        return datesOut;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDateTime[] ofEpochDays_dateTime() {
+        DateTimeCodecs.ofEpochDays(epochDays, nanoOfDays, dateTimesOut);
+        return dateTimesOut;
+    }
+
+    @Benchmark
+    public LocalDateTime[] ofEpochDays_dateTime_perElement() {
+        for (int i = 0; i < SIZE; i++) {
+            dateTimesOut[i] = LocalDateTime.of(LocalDate.ofEpochDay(epochDays[i]), LocalTime.ofNanoOfDay(nanoOfDays[i]));
+        }
+        return dateTimesOut;
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark Duration arithmetic.
+ * <p>
+ * The {@code bigInteger} methods repeat the previous calculation via
+ * {@link Duration#toNanos()} for comparison with the long based calculation.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkDuration {
+
+    /** Nanoseconds per millisecond. */
+    private static final BigInteger BI_NANOS_PER_MILLI = BigInteger.valueOf(1000000L);
+    /** Nanoseconds per second. */
+    private static final BigInteger BI_NANOS_PER_SECOND = BigInteger.valueOf(1000000000L);
+
+    /** The duration, typical of a rate limiter interval. */
+    private Duration duration = Duration.ofSeconds(12, 345678901);
+    /** The scalar operand. */
+    private long operand = 7;
+    /** The amount for the factory. */
+    private long amount = 1500;
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public long get_millis() {
+        return duration.get(TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    public long get_millis_bigInteger() {
+        return duration.toNanos().divide(BI_NANOS_PER_MILLI).longValue();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Duration multipliedBy() {
+        return duration.multipliedBy(operand);
+    }
+
+    @Benchmark
+    public Duration multipliedBy_bigInteger() {
+        BigInteger[] divRem = duration.toNanos().multiply(BigInteger.valueOf(operand)).divideAndRemainder(BI_NANOS_PER_SECOND);
+        return Duration.ofSeconds(divRem[0].longValue(), divRem[1].intValue());
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Duration dividedBy() {
+        return duration.dividedBy(operand);
+    }
+
+    @Benchmark
+    public Duration dividedBy_bigInteger() {
+        BigInteger[] divRem = duration.toNanos().divide(BigInteger.valueOf(operand)).divideAndRemainder(BI_NANOS_PER_SECOND);
+        return Duration.ofSeconds(divRem[0].longValue(), divRem[1].intValue());
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Duration of_seconds() {
+        return Duration.of(amount, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public Duration of_seconds_bigInteger() {
+        return Duration.ofNanos(BigInteger.valueOf(amount).multiply(BI_NANOS_PER_SECOND));
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.calendrical.ISOPeriodUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark InstantColumn queries.
+ * <p>
+ * The data is a sorted column of instants a few minutes apart, typical of
+ * time-series data. The {@code objects} methods perform the same query
+ * using an array of {@code Instant} for comparison.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkInstantColumn {
+
+    /** The number of values. */
+    private static final int SIZE = 100000;
+    /** The time-zone. */
+    private static final ZoneId ZONE = ZoneId.of("Europe/London");
+
+    /** The instants. */
+    private Instant[] instants = new Instant[SIZE];
+    /** The column. */
+    private InstantColumn column;
+    /** The start of the range. */
+    private Instant start;
+    /** The end of the range. */
+    private Instant end;
+
+    @Setup
+    public void setUp() {
+        Instant instant = OffsetDateTime.of(2008, 1, 1, 0, 0, ZoneOffset.UTC).toInstant();
+        for (int i = 0; i < SIZE; i++) {
+            instants[i] = instant;
+            instant = instant.plusSeconds(307);
+        }
+        column = InstantColumn.of(instants);
+        start = instants[SIZE / 4];
+        end = instants[SIZE / 2];
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public InstantColumn between() {
+        return column.between(start, end);
+    }
+
+    @Benchmark
+    public int between_objects() {
+        int count = 0;
+        for (Instant instant : instants) {
+            if (instant.isBefore(start) == false && instant.isBefore(end)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public InstantColumn truncatedTo_hours() {
+        return column.truncatedTo(ISOPeriodUnit.HOURS);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDateColumn toLocalDates() {
+        return column.toLocalDates(ZONE);
+    }
+
+    @Benchmark
+    public LocalDate[] toLocalDates_objects() {
+        LocalDate[] dates = new LocalDate[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = ZonedDateTime.ofInstant(instants[i], ZONE).toLocalDate();
+        }
+        return dates;
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark LocalDate and LocalDateTime creation and arithmetic.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkLocalDate {
+
+    /** The year, non-final to avoid constant folding. */
+    private int year = 2011;
+    /** The month. */
+    private int month = 6;
+    /** The day. */
+    private int day = 15;
+    /** The epoch-day. */
+    private long epochDay = 15140;
+    /** The date. */
+    private LocalDate date = LocalDate.of(2011, 6, 15);
+    /** The date-time. */
+    private LocalDateTime dateTime = LocalDateTime.of(2011, 6, 15, 12, 30, 40, 987654321);
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDate localDate_of() {
+        return LocalDate.of(year, month, day);
+    }
+
+    @Benchmark
+    public LocalDate localDate_ofEpochDay() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    @Benchmark
+    public long localDate_toEpochDay() {
+        return date.toEpochDay();
+    }
+
+    @Benchmark
+    public LocalDate localDate_plusDays() {
+        return date.plusDays(day);
+    }
+
+    @Benchmark
+    public LocalDate localDate_plusMonths() {
+        return date.plusMonths(month);
+    }
+
+    @Benchmark
+    public LocalDate localDate_plusYears() {
+        return date.plusYears(year & 0xFF);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDateTime localDateTime_of() {
+        return LocalDateTime.of(year, month, day, 12, 30, 40);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime_plusHours() {
+        return dateTime.plusHours(day);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime_plusSeconds() {
+        return dateTime.plusSeconds(epochDay);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime_plusNanos() {
+        return dateTime.plusNanos(epochDay);
+    }
+
+    @Benchmark
+    public int localDateTime_compareTo() {
+        return dateTime.compareTo(date.atMidnight());
+    }
+
+}
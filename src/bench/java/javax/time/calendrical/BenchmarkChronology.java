@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendrical;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.LocalDate;
+import javax.time.i18n.CopticChronology;
+import javax.time.i18n.HistoricChronology;
+import javax.time.i18n.JulianChronology;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark the primitive epoch-day conversions of each chronology.
+ * <p>
+ * The {@code localDate} methods convert each epoch-day using {@code LocalDate}
+ * for comparison with the primitive conversions.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkChronology {
+
+    /** The number of values. */
+    private static final int SIZE = 1000;
+
+    /** The name of the chronology. */
+    @Param({"ISO", "Julian", "Coptic", "Historic"})
+    private String chronologyName;
+    /** The chronology. */
+    private Chronology chronology;
+    /** The epoch-days, spread over several centuries. */
+    private long[] epochDays = new long[SIZE];
+    /** The proleptic-years. */
+    private int[] prolepticYears = new int[SIZE];
+    /** The months-of-year. */
+    private int[] monthsOfYear = new int[SIZE];
+    /** The days-of-month. */
+    private int[] daysOfMonth = new int[SIZE];
+    /** The converted epoch-days. */
+    private long[] epochDaysOut = new long[SIZE];
+    /** The ISO years, for the {@code LocalDate} comparison. */
+    private int[] isoYears = new int[SIZE];
+    /** The ISO months-of-year, for the {@code LocalDate} comparison. */
+    private int[] isoMonthsOfYear = new int[SIZE];
+    /** The ISO days-of-month, for the {@code LocalDate} comparison. */
+    private int[] isoDaysOfMonth = new int[SIZE];
+
+    @Setup
+    public void setUp() {
+        if (chronologyName.equals("ISO")) {
+            chronology = ISOChronology.INSTANCE;
+        } else if (chronologyName.equals("Julian")) {
+            chronology = JulianChronology.INSTANCE;
+        } else if (chronologyName.equals("Coptic")) {
+            chronology = CopticChronology.INSTANCE;
+        } else {
+            chronology = HistoricChronology.standardCutover();
+        }
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = -200000 + i * 397L;
+        }
+        chronology.toDates(epochDays, prolepticYears, monthsOfYear, daysOfMonth);
+        ISOChronology.INSTANCE.toDates(epochDays, isoYears, isoMonthsOfYear, isoDaysOfMonth);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public long toPackedDate() {
+        return chronology.toPackedDate(epochDays[0]);
+    }
+
+    @Benchmark
+    public long toEpochDay() {
+        return chronology.toEpochDay(prolepticYears[0], monthsOfYear[0], daysOfMonth[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int[] toDates_bulk() {
+        chronology.toDates(epochDays, prolepticYears, monthsOfYear, daysOfMonth);
+        return daysOfMonth;
+    }
+
+    @Benchmark
+    public long[] toEpochDays_bulk() {
+        chronology.toEpochDays(prolepticYears, monthsOfYear, daysOfMonth, epochDaysOut);
+        return epochDaysOut;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int[] toDates_localDate() {
+        for (int i = 0; i < SIZE; i++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDays[i]);
+            isoYears[i] = date.getYear();
+            isoMonthsOfYear[i] = date.getMonthOfYear().getValue();
+            isoDaysOfMonth[i] = date.getDayOfMonth();
+        }
+        return isoDaysOfMonth;
+    }
+
+    @Benchmark
+    public long[] toEpochDays_localDate() {
+        for (int i = 0; i < SIZE; i++) {
+            epochDaysOut[i] = LocalDate.of(isoYears[i], isoMonthsOfYear[i], isoDaysOfMonth[i]).toEpochDay();
+        }
+        return epochDaysOut;
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendrical;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark the leap second lookups in the system UTC rules.
+ * <p>
+ * The {@code perElement} method converts each second individually
+ * for comparison with the bulk conversion.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkUTCRules {
+
+    /** The number of values. */
+    private static final int SIZE = 1000;
+
+    /** The rules. */
+    private UTCRules rules = UTCRules.system();
+    /** A date in the 1990s. */
+    private long mjDay = 49000;
+    /** A TAI instant in the 1990s. */
+    private TAIInstant taiInstant = TAIInstant.ofTAISeconds(1200000000L, 0);
+    /** The sorted TAI seconds. */
+    private long[] taiSeconds = new long[SIZE];
+    /** The Modified Julian Days. */
+    private long[] mjDays = new long[SIZE];
+    /** The seconds-of-day. */
+    private int[] secondOfDays = new int[SIZE];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SIZE; i++) {
+            taiSeconds[i] = 1000000000L + i * 600000L;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int getTAIOffset() {
+        return rules.getTAIOffset(mjDay);
+    }
+
+    @Benchmark
+    public int getLeapSecondAdjustment() {
+        return rules.getLeapSecondAdjustment(mjDay);
+    }
+
+    @Benchmark
+    public UTCInstant convertToUTC() {
+        return rules.convertToUTC(taiInstant);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int[] convertToUTC_bulk() {
+        rules.convertToUTC(taiSeconds, mjDays, secondOfDays);
+        return secondOfDays;
+    }
+
+    @Benchmark
+    public int[] convertToUTC_perElement() {
+        for (int i = 0; i < SIZE; i++) {
+            UTCInstant utc = rules.convertToUTC(TAIInstant.ofTAISeconds(taiSeconds[i], 0));
+            mjDays[i] = utc.getModifiedJulianDay();
+            secondOfDays[i] = (int) (utc.getNanoOfDay() / 1000000000L);
+        }
+        return secondOfDays;
+    }
+
+}
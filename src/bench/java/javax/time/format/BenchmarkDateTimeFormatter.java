@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark DateTimeFormatter printing and parsing.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkDateTimeFormatter {
+
+    /** The ISO local date formatter. */
+    private DateTimeFormatter isoLocalDate = DateTimeFormatters.isoLocalDate();
+    /** The ISO local date-time formatter. */
+    private DateTimeFormatter isoLocalDateTime = DateTimeFormatters.isoLocalDateTime();
+    /** The ISO offset date-time formatter. */
+    private DateTimeFormatter isoOffsetDateTime = DateTimeFormatters.isoOffsetDateTime();
+    /** The ISO zoned date-time formatter. */
+    private DateTimeFormatter isoZonedDateTime = DateTimeFormatters.isoZonedDateTime();
+    /** A pattern based formatter. */
+    private DateTimeFormatter pattern = DateTimeFormatters.pattern("dd MMM yyyy HH:mm:ss");
+    /** The date. */
+    private LocalDate date = LocalDate.of(2011, 6, 15);
+    /** The date-time. */
+    private LocalDateTime dateTime = LocalDateTime.of(2011, 6, 15, 12, 30, 40, 987000000);
+    /** The offset date-time. */
+    private OffsetDateTime offsetDateTime = OffsetDateTime.of(dateTime, ZoneOffset.ofHours(2));
+    /** The zoned date-time. */
+    private ZonedDateTime zonedDateTime = ZonedDateTime.of(dateTime, ZoneId.of("Europe/Paris"));
+    /** The reused buffer. */
+    private StringBuilder buf = new StringBuilder(64);
+    /** The date text. */
+    private String dateText = "2011-06-15";
+    /** The date-time text. */
+    private String dateTimeText = "2011-06-15T12:30:40.987";
+    /** The offset date-time text. */
+    private String offsetDateTimeText = "2011-06-15T12:30:40.987+02:00";
+    /** The zoned date-time text. */
+    private String zonedDateTimeText = "2011-06-15T12:30:40.987+02:00[Europe/Paris]";
+    /** The pattern text. */
+    private String patternText = "15 Jun 2011 12:30:40";
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public String print_isoLocalDate() {
+        return isoLocalDate.print(date);
+    }
+
+    @Benchmark
+    public String print_isoLocalDateTime() {
+        return isoLocalDateTime.print(dateTime);
+    }
+
+    @Benchmark
+    public String print_isoOffsetDateTime() {
+        return isoOffsetDateTime.print(offsetDateTime);
+    }
+
+    @Benchmark
+    public String print_isoZonedDateTime() {
+        return isoZonedDateTime.print(zonedDateTime);
+    }
+
+    @Benchmark
+    public StringBuilder printTo_isoLocalDateTime() {
+        buf.setLength(0);
+        isoLocalDateTime.printTo(dateTime, buf);
+        return buf;
+    }
+
+    @Benchmark
+    public String print_pattern() {
+        return pattern.print(dateTime);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDate parse_isoLocalDate() {
+        return isoLocalDate.parse(dateText, LocalDate.rule());
+    }
+
+    @Benchmark
+    public LocalDateTime parse_isoLocalDateTime() {
+        return isoLocalDateTime.parse(dateTimeText, LocalDateTime.rule());
+    }
+
+    @Benchmark
+    public OffsetDateTime parse_isoOffsetDateTime() {
+        return isoOffsetDateTime.parse(offsetDateTimeText, OffsetDateTime.rule());
+    }
+
+    @Benchmark
+    public ZonedDateTime parse_isoZonedDateTime() {
+        return isoZonedDateTime.parse(zonedDateTimeText, ZonedDateTime.rule());
+    }
+
+    @Benchmark
+    public LocalDateTime parse_pattern() {
+        return pattern.parse(patternText, LocalDateTime.rule());
+    }
+
+}
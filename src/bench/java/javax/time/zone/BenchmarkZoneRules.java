@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.Instant;
+import javax.time.LocalDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark StandardZoneRules offset lookup.
+ * <p>
+ * The year parameter selects between the historic transitions and the last rules.
+ *
+ * @author Stephen Colebourne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkZoneRules {
+
+    /** The zone identifier. */
+    @Param({"Europe/London", "America/New_York"})
+    private String id;
+    /** The year to test. */
+    @Param({"1980", "2011", "2050"})
+    private int year;
+    /** The rules. */
+    private ZoneRules rules;
+    /** The local date-time. */
+    private LocalDateTime dateTime;
+    /** The instant. */
+    private Instant instant;
+    /** Sorted epoch seconds, hourly through the year. */
+    private long[] epochSeconds = new long[24 * 365];
+    /** The offset seconds output. */
+    private int[] offsetSeconds = new int[epochSeconds.length];
+
+    //-----------------------------------------------------------------------
+    @Setup
+    public void setUp() {
+        rules = ZoneId.of(id).getRules();
+        dateTime = LocalDateTime.of(year, 6, 1, 12, 0);
+        instant = dateTime.atOffset(ZoneOffset.UTC).toInstant();
+        long start = LocalDateTime.ofMidnight(year, 1, 1).atOffset(ZoneOffset.UTC).toEpochSecond();
+        for (int i = 0; i < epochSeconds.length; i++) {
+            epochSeconds[i] = start + i * 3600L;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public ZoneOffset getOffset() {
+        return rules.getOffset(instant);
+    }
+
+    @Benchmark
+    public ZoneOffsetInfo getOffsetInfo() {
+        return rules.getOffsetInfo(dateTime);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(24 * 365)
+    public int[] getOffsets_sorted() {
+        rules.getOffsets(epochSeconds, offsetSeconds);
+        return offsetSeconds;
+    }
+
+    @Benchmark
+    public ZoneOffsetTransition nextTransition() {
+        return rules.nextTransition(instant);
+    }
+
+}
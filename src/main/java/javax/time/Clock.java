@@ -34,6 +34,9 @@ package javax.time;
 import java.io.Serializable;
 import java.util.TimeZone;
 
+import javax.time.zone.ZoneOffsetTransition;
+import javax.time.zone.ZoneRules;
+
 /**
  * A clock providing access to the current date and time.
  * <p>
@@ -556,6 +559,74 @@ public abstract class Clock {
         return zonedDateTime().withSecondOfMinute(0).withNanoOfSecond(0);
     }
 
+    /**
+     * Gets the offset from UTC in the time-zone of this clock at the specified instant.
+     * <p>
+     * This is used by the {@code now(Clock)} factories, allowing the clocks created by
+     * this class to avoid querying the rules on every call.
+     *
+     * @param instant  the instant to find the offset for, not null
+     * @return the offset, not null
+     */
+    ZoneOffset getOffset(Instant instant) {
+        return getZone().getRules().getOffset(instant);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the current local date-time as nanoseconds from 1970-01-01T00:00 in the time-zone.
+     * <p>
+     * This returns the same local date-time as {@code dateTime()} as a single {@code long}.
+     * The epoch-day and nano-of-day are obtained from the result by floor division and
+     * floor modulo of {@link MathUtils#NANOS_PER_DAY}, which is how to obtain both values
+     * from the same instant.
+     * <p>
+     * The default implementation derives the value from {@code dateTime()}.
+     * The clocks created by this class calculate it without creating objects.
+     *
+     * @return the current local date-time as nanoseconds from 1970-01-01T00:00
+     * @throws ArithmeticException if the result exceeds the capacity of a {@code long},
+     *  approximately 292 years either side of 1970
+     * @throws CalendricalException if the date-time cannot be created
+     */
+    public long localEpochNano() {
+        LocalDateTime dateTime = dateTime();
+        long nanos = MathUtils.safeMultiply(dateTime.toLocalDate().toEpochDay(), MathUtils.NANOS_PER_DAY);
+        return MathUtils.safeAdd(nanos, dateTime.toLocalTime().toNanoOfDay());
+    }
+
+    /**
+     * Gets today's date as an epoch-day, where day 0 is 1970-01-01.
+     * <p>
+     * This returns the same date as {@code today()}.
+     * <p>
+     * The default implementation derives the value from {@code today()}.
+     * The clocks created by this class calculate it without creating objects.
+     *
+     * @return the current date as an epoch-day
+     * @throws ArithmeticException if the date-time exceeds the capacity of {@code localEpochNano()}
+     * @throws CalendricalException if the date cannot be created
+     */
+    public long epochDay() {
+        return today().toEpochDay();
+    }
+
+    /**
+     * Gets the current time as a nano-of-day, from 0 to {@code 24 * 60 * 60 * 1,000,000,000 - 1}.
+     * <p>
+     * This returns the same time as {@code time()}.
+     * <p>
+     * The default implementation derives the value from {@code time()}.
+     * The clocks created by this class calculate it without creating objects.
+     *
+     * @return the current time as a nano-of-day
+     * @throws ArithmeticException if the date-time exceeds the capacity of {@code localEpochNano()}
+     * @throws CalendricalException if the time cannot be created
+     */
+    public long nanoOfDay() {
+        return time().toNanoOfDay();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implementation of a clock based on a time-source.
@@ -567,6 +638,8 @@ public abstract class Clock {
         private final TimeSource timeSource;
         /** The time-zone being used. */
         private final ZoneId zone;
+        /** The offset most recently used, null until first used. */
+        private transient volatile OffsetWindow offsetWindow;
 
         /** Restricted constructor. */
         private TimeSourceClock(TimeSource timeSource, ZoneId zone) {
@@ -606,6 +679,61 @@ public abstract class Clock {
             return new TimeSourceClock(timeSource, zone);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public long localEpochNano() {
+            long epochNano = timeSource.epochNano();
+            long epochSecond = MathUtils.floorDiv(epochNano, MathUtils.NANOS_PER_SECOND);
+            return MathUtils.safeAdd(epochNano, offsetSeconds(epochSecond) * MathUtils.NANOS_PER_SECOND);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long epochDay() {
+            return MathUtils.floorDiv(localEpochNano(), MathUtils.NANOS_PER_DAY);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long nanoOfDay() {
+            return MathUtils.floorMod(localEpochNano(), MathUtils.NANOS_PER_DAY);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        ZoneOffset getOffset(Instant instant) {
+            return offsetWindow(instant.getEpochSecond(), instant).offset;
+        }
+
+        /**
+         * Gets the offset from UTC in the time-zone at the instant.
+         *
+         * @param epochSecond  the instant in epoch seconds
+         * @return the total offset in seconds
+         */
+        private int offsetSeconds(long epochSecond) {
+            return offsetWindow(epochSecond, null).offsetSeconds;
+        }
+
+        /**
+         * Gets the offset window containing the instant, reusing the cached
+         * window if it is still valid.
+         *
+         * @param epochSecond  the instant in epoch seconds
+         * @param instant  the instant, null to create from the epoch seconds
+         * @return the window, not null
+         */
+        private OffsetWindow offsetWindow(long epochSecond, Instant instant) {
+            ZoneRules rules = zone.getRules();
+            OffsetWindow window = offsetWindow;
+            if (window != null && window.rules == rules && epochSecond >= window.start && epochSecond < window.end) {
+                return window;
+            }
+            window = new OffsetWindow(rules, instant != null ? instant : Instant.ofEpochSecond(epochSecond));
+            offsetWindow = window;
+            return window;
+        }
+
         /** {@inheritDoc} */
         @Override
         public boolean equals(Object obj) {
@@ -634,4 +762,46 @@ public abstract class Clock {
             return "TimeSourceClock[" + timeSource + ", " + zone + ']';
         }
     }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The offset of a set of rules over the range of instants between two transitions.
+     * <p>
+     * OffsetWindow is immutable and thread-safe.
+     */
+    static final class OffsetWindow {
+        /** The rules the window was obtained from. */
+        final ZoneRules rules;
+        /** The offset within the window. */
+        final ZoneOffset offset;
+        /** The offset within the window in seconds. */
+        final int offsetSeconds;
+        /** The first epoch second of the window, inclusive. */
+        final long start;
+        /** The last epoch second of the window, exclusive. */
+        final long end;
+
+        /**
+         * Constructor.
+         *
+         * @param rules  the rules to query, not null
+         * @param instant  the instant within the window, not null
+         */
+        OffsetWindow(ZoneRules rules, Instant instant) {
+            this.rules = rules;
+            this.offset = rules.getOffset(instant);
+            this.offsetSeconds = offset.getTotalSeconds();
+            long epochSecond = instant.getEpochSecond();
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            this.end = (next != null ? next.getInstant().getEpochSecond() : Long.MAX_VALUE);
+            ZoneOffsetTransition previous = rules.previousTransition(instant);
+            if (previous == null) {
+                this.start = Long.MIN_VALUE;
+            } else if (previous.getOffsetAfter().equals(offset) && previous.getInstant().getEpochSecond() <= epochSecond) {
+                this.start = previous.getInstant().getEpochSecond();
+            } else {
+                this.start = epochSecond;
+            }
+        }
+    }
 }
@@ -0,0 +1,642 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import javax.time.calendrical.IllegalCalendarFieldValueException;
+
+/**
+ * Codecs converting date and time objects to and from primitive values.
+ * <p>
+ * This class provides compact primitive encodings of the main date and time classes,
+ * suitable for storing large numbers of values in arrays, buffers or columnar storage:
+ * <ul>
+ * <li>{@code LocalDate} - an {@code int} epoch-day, where day 0 is 1970-01-01
+ * <li>{@code LocalTime} - a {@code long} nano-of-day, see {@link LocalTime#toNanoOfDay()}
+ * <li>{@code LocalDateTime} - an {@code int} epoch-day plus a {@code long} nano-of-day,
+ *  or a single {@code long} of nanoseconds from 1970-01-01T00:00
+ * <li>{@code Instant} - a {@code long} epoch-second plus an {@code int} nano-of-second,
+ *  or a single {@code long} of nanoseconds from 1970-01-01T00:00Z
+ * <li>{@code OffsetDateTime} - a {@code long} epoch-second plus a {@code long} holding
+ *  the nano-of-second in the low 32 bits and the offset in seconds in the high 32 bits
+ * </ul>
+ * The single {@code long} nanosecond encodings cover approximately 292 years
+ * either side of 1970, and the {@code int} epoch-day approximately 5.8 million years.
+ * The encodings based on the epoch-second cover all supported values.
+ * An {@code ArithmeticException} is thrown if a value cannot be encoded.
+ * <p>
+ * The bulk array methods convert each element at the same index of the output.
+ * They avoid the full calculation for each element when consecutive values are
+ * in the same month, and reuse the previous object when consecutive values are equal,
+ * which is typical of sorted time-series data.
+ * <p>
+ * DateTimeCodecs is a utility class.
+ * All methods are thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+public final class DateTimeCodecs {
+
+    /**
+     * Nanos per second.
+     */
+    private static final int NANOS_PER_SECOND = 1000000000;
+
+    /**
+     * Private constructor since this is a utility class.
+     */
+    private DateTimeCodecs() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a date to an epoch-day, where day 0 is 1970-01-01.
+     *
+     * @param date  the date to convert, not null
+     * @return the epoch-day
+     * @throws ArithmeticException if the epoch-day exceeds the capacity of an {@code int}
+     */
+    public static int toEpochDay(LocalDate date) {
+        MathUtils.checkNotNull(date, "LocalDate must not be null");
+        return MathUtils.safeToInt(date.toEpochDay());
+    }
+
+    /**
+     * Converts an epoch-day, where day 0 is 1970-01-01, to a date.
+     *
+     * @param epochDay  the epoch-day to convert
+     * @return the date, not null
+     */
+    public static LocalDate ofEpochDay(int epochDay) {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Converts an array of dates to epoch-days.
+     *
+     * @param dates  the dates to convert, not null, no null elements
+     * @param epochDaysOut  the array to fill with the epoch-days, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws ArithmeticException if an epoch-day exceeds the capacity of an {@code int}
+     */
+    public static void toEpochDays(LocalDate[] dates, int[] epochDaysOut) {
+        MathUtils.checkNotNull(dates, "LocalDate array must not be null");
+        MathUtils.checkNotNull(epochDaysOut, "Epoch days array must not be null");
+        checkLength(dates.length, epochDaysOut.length);
+        DateEncoder encoder = new DateEncoder();
+        for (int i = 0; i < dates.length; i++) {
+            epochDaysOut[i] = MathUtils.safeToInt(encoder.encode(dates[i]));
+        }
+    }
+
+    /**
+     * Converts an array of epoch-days to dates.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param datesOut  the array to fill with the dates, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     */
+    public static void ofEpochDays(int[] epochDays, LocalDate[] datesOut) {
+        MathUtils.checkNotNull(epochDays, "Epoch days array must not be null");
+        MathUtils.checkNotNull(datesOut, "LocalDate array must not be null");
+        checkLength(epochDays.length, datesOut.length);
+        DateDecoder decoder = new DateDecoder();
+        for (int i = 0; i < epochDays.length; i++) {
+            datesOut[i] = decoder.decode(epochDays[i]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of times to nano-of-day values.
+     *
+     * @param times  the times to convert, not null, no null elements
+     * @param nanoOfDaysOut  the array to fill with the nano-of-day values, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     */
+    public static void toNanoOfDays(LocalTime[] times, long[] nanoOfDaysOut) {
+        MathUtils.checkNotNull(times, "LocalTime array must not be null");
+        MathUtils.checkNotNull(nanoOfDaysOut, "Nano of days array must not be null");
+        checkLength(times.length, nanoOfDaysOut.length);
+        for (int i = 0; i < times.length; i++) {
+            nanoOfDaysOut[i] = times[i].toNanoOfDay();
+        }
+    }
+
+    /**
+     * Converts an array of nano-of-day values to times.
+     *
+     * @param nanoOfDays  the nano-of-day values to convert, not null
+     * @param timesOut  the array to fill with the times, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws IllegalCalendarFieldValueException if a nano-of-day value is invalid
+     */
+    public static void ofNanoOfDays(long[] nanoOfDays, LocalTime[] timesOut) {
+        MathUtils.checkNotNull(nanoOfDays, "Nano of days array must not be null");
+        MathUtils.checkNotNull(timesOut, "LocalTime array must not be null");
+        checkLength(nanoOfDays.length, timesOut.length);
+        TimeDecoder decoder = new TimeDecoder();
+        for (int i = 0; i < nanoOfDays.length; i++) {
+            timesOut[i] = decoder.decode(nanoOfDays[i]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a date-time to nanoseconds from 1970-01-01T00:00.
+     *
+     * @param dateTime  the date-time to convert, not null
+     * @return the local nanoseconds from 1970-01-01T00:00
+     * @throws ArithmeticException if the result exceeds the capacity of a {@code long}
+     */
+    public static long toLocalEpochNano(LocalDateTime dateTime) {
+        MathUtils.checkNotNull(dateTime, "LocalDateTime must not be null");
+        return localEpochNano(dateTime.toLocalDate().toEpochDay(), dateTime.toLocalTime().toNanoOfDay());
+    }
+
+    /**
+     * Converts nanoseconds from 1970-01-01T00:00 to a date-time.
+     *
+     * @param localEpochNano  the local nanoseconds from 1970-01-01T00:00
+     * @return the date-time, not null
+     */
+    public static LocalDateTime ofLocalEpochNano(long localEpochNano) {
+        return LocalDateTime.of(
+                LocalDate.ofEpochDay(MathUtils.floorDiv(localEpochNano, MathUtils.NANOS_PER_DAY)),
+                LocalTime.ofNanoOfDay(MathUtils.floorMod(localEpochNano, MathUtils.NANOS_PER_DAY)));
+    }
+
+    /**
+     * Converts an epoch-day and nano-of-day to a date-time.
+     *
+     * @param epochDay  the epoch-day, where day 0 is 1970-01-01
+     * @param nanoOfDay  the nano-of-day, from 0 to {@code 24 * 60 * 60 * 1,000,000,000 - 1}
+     * @return the date-time, not null
+     * @throws IllegalCalendarFieldValueException if the nano-of-day value is invalid
+     */
+    public static LocalDateTime ofEpochDay(int epochDay, long nanoOfDay) {
+        return LocalDateTime.of(LocalDate.ofEpochDay(epochDay), LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    /**
+     * Converts an array of date-times to epoch-days and nano-of-day values.
+     *
+     * @param dateTimes  the date-times to convert, not null, no null elements
+     * @param epochDaysOut  the array to fill with the epoch-days, at least as long as the input, not null
+     * @param nanoOfDaysOut  the array to fill with the nano-of-day values, at least as long as the input, not null
+     * @throws IllegalArgumentException if an output array is too short
+     * @throws ArithmeticException if an epoch-day exceeds the capacity of an {@code int}
+     */
+    public static void toEpochDays(LocalDateTime[] dateTimes, int[] epochDaysOut, long[] nanoOfDaysOut) {
+        MathUtils.checkNotNull(dateTimes, "LocalDateTime array must not be null");
+        MathUtils.checkNotNull(epochDaysOut, "Epoch days array must not be null");
+        MathUtils.checkNotNull(nanoOfDaysOut, "Nano of days array must not be null");
+        checkLength(dateTimes.length, epochDaysOut.length);
+        checkLength(dateTimes.length, nanoOfDaysOut.length);
+        DateEncoder encoder = new DateEncoder();
+        for (int i = 0; i < dateTimes.length; i++) {
+            LocalDateTime dateTime = dateTimes[i];
+            epochDaysOut[i] = MathUtils.safeToInt(encoder.encode(dateTime.toLocalDate()));
+            nanoOfDaysOut[i] = dateTime.toLocalTime().toNanoOfDay();
+        }
+    }
+
+    /**
+     * Converts arrays of epoch-days and nano-of-day values to date-times.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param nanoOfDays  the nano-of-day values to convert, at least as long as the epoch-days, not null
+     * @param dateTimesOut  the array to fill with the date-times, at least as long as the epoch-days, not null
+     * @throws IllegalArgumentException if the nano-of-day or output array is too short
+     * @throws IllegalCalendarFieldValueException if a nano-of-day value is invalid
+     */
+    public static void ofEpochDays(int[] epochDays, long[] nanoOfDays, LocalDateTime[] dateTimesOut) {
+        MathUtils.checkNotNull(epochDays, "Epoch days array must not be null");
+        MathUtils.checkNotNull(nanoOfDays, "Nano of days array must not be null");
+        MathUtils.checkNotNull(dateTimesOut, "LocalDateTime array must not be null");
+        checkLength(epochDays.length, nanoOfDays.length);
+        checkLength(epochDays.length, dateTimesOut.length);
+        DateTimeDecoder decoder = new DateTimeDecoder();
+        for (int i = 0; i < epochDays.length; i++) {
+            dateTimesOut[i] = decoder.decode(epochDays[i], nanoOfDays[i]);
+        }
+    }
+
+    /**
+     * Converts an array of date-times to nanoseconds from 1970-01-01T00:00.
+     *
+     * @param dateTimes  the date-times to convert, not null, no null elements
+     * @param localEpochNanosOut  the array to fill with the local nanoseconds, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws ArithmeticException if a result exceeds the capacity of a {@code long}
+     */
+    public static void toLocalEpochNanos(LocalDateTime[] dateTimes, long[] localEpochNanosOut) {
+        MathUtils.checkNotNull(dateTimes, "LocalDateTime array must not be null");
+        MathUtils.checkNotNull(localEpochNanosOut, "Local epoch nanos array must not be null");
+        checkLength(dateTimes.length, localEpochNanosOut.length);
+        DateEncoder encoder = new DateEncoder();
+        for (int i = 0; i < dateTimes.length; i++) {
+            LocalDateTime dateTime = dateTimes[i];
+            localEpochNanosOut[i] = localEpochNano(encoder.encode(dateTime.toLocalDate()), dateTime.toLocalTime().toNanoOfDay());
+        }
+    }
+
+    /**
+     * Converts an array of nanoseconds from 1970-01-01T00:00 to date-times.
+     *
+     * @param localEpochNanos  the local nanoseconds to convert, not null
+     * @param dateTimesOut  the array to fill with the date-times, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     */
+    public static void ofLocalEpochNanos(long[] localEpochNanos, LocalDateTime[] dateTimesOut) {
+        MathUtils.checkNotNull(localEpochNanos, "Local epoch nanos array must not be null");
+        MathUtils.checkNotNull(dateTimesOut, "LocalDateTime array must not be null");
+        checkLength(localEpochNanos.length, dateTimesOut.length);
+        DateTimeDecoder decoder = new DateTimeDecoder();
+        for (int i = 0; i < localEpochNanos.length; i++) {
+            long nanos = localEpochNanos[i];
+            dateTimesOut[i] = decoder.decode(
+                    MathUtils.floorDiv(nanos, MathUtils.NANOS_PER_DAY), MathUtils.floorMod(nanos, MathUtils.NANOS_PER_DAY));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an instant to nanoseconds from 1970-01-01T00:00Z.
+     *
+     * @param instant  the instant to convert, not null
+     * @return the epoch nanoseconds
+     * @throws ArithmeticException if the result exceeds the capacity of a {@code long}
+     */
+    public static long toEpochNano(Instant instant) {
+        MathUtils.checkNotNull(instant, "Instant must not be null");
+        long secs = instant.getEpochSecond();
+        if (secs < 0) {
+            // avoid overflowing the multiplication near the minimum value
+            return MathUtils.safeAdd(MathUtils.safeMultiply(secs + 1, NANOS_PER_SECOND), instant.getNanoOfSecond() - NANOS_PER_SECOND);
+        }
+        return MathUtils.safeAdd(MathUtils.safeMultiply(secs, NANOS_PER_SECOND), instant.getNanoOfSecond());
+    }
+
+    /**
+     * Converts an array of instants to nanoseconds from 1970-01-01T00:00Z.
+     *
+     * @param instants  the instants to convert, not null, no null elements
+     * @param epochNanosOut  the array to fill with the epoch nanoseconds, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws ArithmeticException if a result exceeds the capacity of a {@code long}
+     */
+    public static void toEpochNanos(Instant[] instants, long[] epochNanosOut) {
+        MathUtils.checkNotNull(instants, "Instant array must not be null");
+        MathUtils.checkNotNull(epochNanosOut, "Epoch nanos array must not be null");
+        checkLength(instants.length, epochNanosOut.length);
+        for (int i = 0; i < instants.length; i++) {
+            epochNanosOut[i] = toEpochNano(instants[i]);
+        }
+    }
+
+    /**
+     * Converts an array of nanoseconds from 1970-01-01T00:00Z to instants.
+     *
+     * @param epochNanos  the epoch nanoseconds to convert, not null
+     * @param instantsOut  the array to fill with the instants, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     */
+    public static void ofEpochNanos(long[] epochNanos, Instant[] instantsOut) {
+        MathUtils.checkNotNull(epochNanos, "Epoch nanos array must not be null");
+        MathUtils.checkNotNull(instantsOut, "Instant array must not be null");
+        checkLength(epochNanos.length, instantsOut.length);
+        Instant previous = null;
+        for (int i = 0; i < epochNanos.length; i++) {
+            long nanos = epochNanos[i];
+            if (previous == null || nanos != epochNanos[i - 1]) {
+                previous = Instant.ofEpochNano(nanos);
+            }
+            instantsOut[i] = previous;
+        }
+    }
+
+    /**
+     * Converts an array of instants to epoch-seconds and nano-of-second values.
+     *
+     * @param instants  the instants to convert, not null, no null elements
+     * @param epochSecondsOut  the array to fill with the epoch-seconds, at least as long as the input, not null
+     * @param nanosOut  the array to fill with the nano-of-second values, at least as long as the input, not null
+     * @throws IllegalArgumentException if an output array is too short
+     */
+    public static void toEpochSeconds(Instant[] instants, long[] epochSecondsOut, int[] nanosOut) {
+        MathUtils.checkNotNull(instants, "Instant array must not be null");
+        MathUtils.checkNotNull(epochSecondsOut, "Epoch seconds array must not be null");
+        MathUtils.checkNotNull(nanosOut, "Nanos array must not be null");
+        checkLength(instants.length, epochSecondsOut.length);
+        checkLength(instants.length, nanosOut.length);
+        for (int i = 0; i < instants.length; i++) {
+            Instant instant = instants[i];
+            epochSecondsOut[i] = instant.getEpochSecond();
+            nanosOut[i] = instant.getNanoOfSecond();
+        }
+    }
+
+    /**
+     * Converts arrays of epoch-seconds and nano-of-second values to instants.
+     *
+     * @param epochSeconds  the epoch-seconds to convert, not null
+     * @param nanos  the nano-of-second values, from 0 to 999,999,999, at least as long as the epoch-seconds, not null
+     * @param instantsOut  the array to fill with the instants, at least as long as the epoch-seconds, not null
+     * @throws IllegalArgumentException if the nanos or output array is too short
+     * @throws ArithmeticException if a nano-of-second value causes an instant to exceed the capacity of {@code Instant}
+     */
+    public static void ofEpochSeconds(long[] epochSeconds, int[] nanos, Instant[] instantsOut) {
+        MathUtils.checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        MathUtils.checkNotNull(nanos, "Nanos array must not be null");
+        MathUtils.checkNotNull(instantsOut, "Instant array must not be null");
+        checkLength(epochSeconds.length, nanos.length);
+        checkLength(epochSeconds.length, instantsOut.length);
+        Instant previous = null;
+        for (int i = 0; i < epochSeconds.length; i++) {
+            if (previous == null || epochSeconds[i] != epochSeconds[i - 1] || nanos[i] != nanos[i - 1]) {
+                previous = Instant.ofEpochSecond(epochSeconds[i], nanos[i]);
+            }
+            instantsOut[i] = previous;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a date-time to the packed nano-of-second and offset value.
+     * <p>
+     * The value holds the nano-of-second in the low 32 bits and the total
+     * offset in seconds in the high 32 bits.
+     * The epoch-second is obtained using {@link OffsetDateTime#toEpochSecond()}.
+     *
+     * @param dateTime  the date-time to convert, not null
+     * @return the packed nano-of-second and offset
+     */
+    public static long toNanoAndOffset(OffsetDateTime dateTime) {
+        MathUtils.checkNotNull(dateTime, "OffsetDateTime must not be null");
+        return packNanoAndOffset(dateTime.getNanoOfSecond(), dateTime.getOffset().getTotalSeconds());
+    }
+
+    /**
+     * Converts an epoch-second and packed nano-of-second and offset value to a date-time.
+     *
+     * @param epochSecond  the epoch-second, from 1970-01-01T00:00Z
+     * @param nanoAndOffset  the packed nano-of-second and offset, see {@link #toNanoAndOffset(OffsetDateTime)}
+     * @return the date-time, not null
+     * @throws IllegalCalendarFieldValueException if the packed value is invalid
+     * @throws CalendricalException if the result exceeds the supported date range
+     */
+    public static OffsetDateTime ofEpochSecond(long epochSecond, long nanoAndOffset) {
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) (nanoAndOffset >> 32));
+        return unpack(epochSecond, nanoAndOffset, offset);
+    }
+
+    /**
+     * Converts an array of date-times to epoch-seconds and packed nano-of-second and offset values.
+     *
+     * @param dateTimes  the date-times to convert, not null, no null elements
+     * @param epochSecondsOut  the array to fill with the epoch-seconds, at least as long as the input, not null
+     * @param nanoAndOffsetsOut  the array to fill with the packed nano-of-second and offset values,
+     *  at least as long as the input, not null
+     * @throws IllegalArgumentException if an output array is too short
+     */
+    public static void toEpochSeconds(OffsetDateTime[] dateTimes, long[] epochSecondsOut, long[] nanoAndOffsetsOut) {
+        MathUtils.checkNotNull(dateTimes, "OffsetDateTime array must not be null");
+        MathUtils.checkNotNull(epochSecondsOut, "Epoch seconds array must not be null");
+        MathUtils.checkNotNull(nanoAndOffsetsOut, "Nano and offsets array must not be null");
+        checkLength(dateTimes.length, epochSecondsOut.length);
+        checkLength(dateTimes.length, nanoAndOffsetsOut.length);
+        for (int i = 0; i < dateTimes.length; i++) {
+            OffsetDateTime dateTime = dateTimes[i];
+            epochSecondsOut[i] = dateTime.toEpochSecond();
+            nanoAndOffsetsOut[i] = packNanoAndOffset(dateTime.getNanoOfSecond(), dateTime.getOffset().getTotalSeconds());
+        }
+    }
+
+    /**
+     * Converts arrays of epoch-seconds and packed nano-of-second and offset values to date-times.
+     *
+     * @param epochSeconds  the epoch-seconds to convert, not null
+     * @param nanoAndOffsets  the packed nano-of-second and offset values, at least as long as the epoch-seconds, not null
+     * @param dateTimesOut  the array to fill with the date-times, at least as long as the epoch-seconds, not null
+     * @throws IllegalArgumentException if the packed or output array is too short
+     * @throws IllegalCalendarFieldValueException if a packed value is invalid
+     * @throws CalendricalException if a result exceeds the supported date range
+     */
+    public static void ofEpochSeconds(long[] epochSeconds, long[] nanoAndOffsets, OffsetDateTime[] dateTimesOut) {
+        MathUtils.checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        MathUtils.checkNotNull(nanoAndOffsets, "Nano and offsets array must not be null");
+        MathUtils.checkNotNull(dateTimesOut, "OffsetDateTime array must not be null");
+        checkLength(epochSeconds.length, nanoAndOffsets.length);
+        checkLength(epochSeconds.length, dateTimesOut.length);
+        ZoneOffset offset = null;
+        for (int i = 0; i < epochSeconds.length; i++) {
+            int offsetSecs = (int) (nanoAndOffsets[i] >> 32);
+            if (offset == null || offset.getTotalSeconds() != offsetSecs) {
+                offset = ZoneOffset.ofTotalSeconds(offsetSecs);
+            }
+            dateTimesOut[i] = unpack(epochSeconds[i], nanoAndOffsets[i], offset);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the local nanoseconds from the epoch-day and nano-of-day.
+     *
+     * @param epochDay  the epoch-day
+     * @param nanoOfDay  the nano-of-day
+     * @return the local nanoseconds from 1970-01-01T00:00
+     * @throws ArithmeticException if the result exceeds the capacity of a {@code long}
+     */
+    private static long localEpochNano(long epochDay, long nanoOfDay) {
+        if (epochDay < 0) {
+            // avoid overflowing the multiplication near the minimum value
+            return MathUtils.safeAdd(MathUtils.safeMultiply(epochDay + 1, MathUtils.NANOS_PER_DAY), nanoOfDay - MathUtils.NANOS_PER_DAY);
+        }
+        return MathUtils.safeAdd(MathUtils.safeMultiply(epochDay, MathUtils.NANOS_PER_DAY), nanoOfDay);
+    }
+
+    /**
+     * Packs the nano-of-second and offset.
+     *
+     * @param nanoOfSecond  the nano-of-second, from 0 to 999,999,999
+     * @param offsetSeconds  the total offset in seconds
+     * @return the packed value
+     */
+    private static long packNanoAndOffset(int nanoOfSecond, int offsetSeconds) {
+        return (((long) offsetSeconds) << 32) | nanoOfSecond;
+    }
+
+    /**
+     * Unpacks the date-time.
+     *
+     * @param epochSecond  the epoch-second
+     * @param nanoAndOffset  the packed nano-of-second and offset
+     * @param offset  the offset from the packed value, not null
+     * @return the date-time, not null
+     */
+    private static OffsetDateTime unpack(long epochSecond, long nanoAndOffset, ZoneOffset offset) {
+        int nanoOfSecond = (int) nanoAndOffset;
+        long localSeconds = MathUtils.safeAdd(epochSecond, offset.getTotalSeconds());
+        return OffsetDateTime.of(LocalDateTime.create(localSeconds, nanoOfSecond), offset);
+    }
+
+    /**
+     * Checks the length of an array against the length of the input.
+     *
+     * @param inputLength  the input length
+     * @param length  the length of the array
+     * @throws IllegalArgumentException if the array is too short
+     */
+    private static void checkLength(int inputLength, int length) {
+        if (length < inputLength) {
+            throw new IllegalArgumentException("Array must be at least as long as the input");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Encodes dates, reusing the start of the month of the previous date.
+     */
+    private static final class DateEncoder {
+        /** The previous year. */
+        private int year;
+        /** The previous month, null if none. */
+        private MonthOfYear month;
+        /** The epoch-day of the first day of the previous month. */
+        private long monthStart;
+
+        /**
+         * Encodes the date.
+         *
+         * @param date  the date to encode, not null
+         * @return the epoch-day
+         */
+        long encode(LocalDate date) {
+            if (date.getMonthOfYear() != month || date.getYear() != year) {
+                year = date.getYear();
+                month = date.getMonthOfYear();
+                monthStart = date.toEpochDay() - date.getDayOfMonth() + 1;
+            }
+            return monthStart + date.getDayOfMonth() - 1;
+        }
+    }
+
+    /**
+     * Decodes dates, reusing the month of the previous epoch-day.
+     */
+    private static final class DateDecoder {
+        /** The previous date, null if none. */
+        private LocalDate previous;
+        /** The epoch-day of the previous date. */
+        private long previousEpochDay;
+        /** The epoch-day of the first day of the previous month. */
+        private long monthStart;
+        /** The epoch-day of the first day of the next month. */
+        private long monthEnd;
+
+        /**
+         * Decodes the epoch-day.
+         *
+         * @param epochDay  the epoch-day to decode
+         * @return the date, not null
+         */
+        LocalDate decode(long epochDay) {
+            if (previous != null && epochDay == previousEpochDay) {
+                return previous;
+            }
+            LocalDate date;
+            if (previous != null && epochDay >= monthStart && epochDay < monthEnd) {
+                date = LocalDate.of(previous.getYear(), previous.getMonthOfYear(), (int) (epochDay - monthStart + 1));
+            } else {
+                date = LocalDate.ofEpochDay(epochDay);
+                monthStart = epochDay - date.getDayOfMonth() + 1;
+                monthEnd = monthStart + date.getMonthOfYear().lengthInDays(date.isLeapYear());
+            }
+            previous = date;
+            previousEpochDay = epochDay;
+            return date;
+        }
+    }
+
+    /**
+     * Decodes times, reusing the previous time if equal.
+     */
+    private static final class TimeDecoder {
+        /** The previous time, null if none. */
+        private LocalTime previous;
+        /** The nano-of-day of the previous time. */
+        private long previousNanoOfDay;
+
+        /**
+         * Decodes the nano-of-day.
+         *
+         * @param nanoOfDay  the nano-of-day to decode
+         * @return the time, not null
+         */
+        LocalTime decode(long nanoOfDay) {
+            if (previous == null || nanoOfDay != previousNanoOfDay) {
+                previous = LocalTime.ofNanoOfDay(nanoOfDay);
+                previousNanoOfDay = nanoOfDay;
+            }
+            return previous;
+        }
+    }
+
+    /**
+     * Decodes date-times, reusing the previous date and time.
+     */
+    private static final class DateTimeDecoder {
+        /** The date decoder. */
+        private final DateDecoder dates = new DateDecoder();
+        /** The time decoder. */
+        private final TimeDecoder times = new TimeDecoder();
+        /** The previous date-time, null if none. */
+        private LocalDateTime previous;
+
+        /**
+         * Decodes the epoch-day and nano-of-day.
+         *
+         * @param epochDay  the epoch-day to decode
+         * @param nanoOfDay  the nano-of-day to decode
+         * @return the date-time, not null
+         */
+        LocalDateTime decode(long epochDay, long nanoOfDay) {
+            LocalDate date = dates.decode(epochDay);
+            LocalTime time = times.decode(nanoOfDay);
+            if (previous == null || previous.toLocalDate() != date || previous.toLocalTime() != time) {
+                previous = LocalDateTime.of(date, time);
+            }
+            return previous;
+        }
+    }
+
+}
@@ -82,6 +82,10 @@ public final class Duration implements Comparable<Duration>, Serializable {
      * Constant for nanos per second.
      */
     private static final int NANOS_PER_SECOND = 1000000000;
+    /**
+     * The largest number of seconds whose length in nanoseconds fits in a {@code long}.
+     */
+    private static final long MAX_SECONDS_IN_LONG_NANOS = Long.MAX_VALUE / NANOS_PER_SECOND - 1;
     /**
      * Constant for nanos per microsecond.
      */
@@ -94,18 +98,6 @@ public final class Duration implements Comparable<Duration>, Serializable {
      * Constant for nanos per second.
      */
     private static final BigInteger BI_NANOS_PER_SECOND = Instant.BILLION;
-    /**
-     * Constant for nanos per minute.
-     */
-    private static final BigInteger BI_NANOS_PER_MINUTE = BigInteger.valueOf(60L * 1000000000L);
-    /**
-     * Constant for nanos per hour.
-     */
-    private static final BigInteger BI_NANOS_PER_HOUR = BigInteger.valueOf(60L * 60L * 1000000000L);
-    /**
-     * Constant for nanos per day.
-     */
-    private static final BigInteger BI_NANOS_PER_DAY = BigInteger.valueOf(24L * 60L * 60L * 1000000000L);
     /**
      * Constant for maximum long.
      */
@@ -305,24 +297,21 @@ public final class Duration implements Comparable<Duration>, Serializable {
      */
     public static Duration of(long amount, TimeUnit unit) {
         MathUtils.checkNotNull(unit, "TimeUnit must not be null");
-        long nanos = unit.toNanos(amount);
-        if (unit == TimeUnit.NANOSECONDS || (nanos != Long.MAX_VALUE && nanos != Long.MIN_VALUE)) {
-            return ofNanos(nanos);
-        }
-        BigInteger calc = BigInteger.valueOf(amount);
         switch (unit) {
+            case NANOSECONDS:
+                return ofNanos(amount);
             case MICROSECONDS:
-                return ofNanos(calc.multiply(BI_NANOS_PER_MICRO));
+                return ofSeconds(amount / 1000000, (amount % 1000000) * 1000);
             case MILLISECONDS:
-                return ofNanos(calc.multiply(BI_NANOS_PER_MILLI));
+                return ofMillis(amount);
             case SECONDS:
-                return ofNanos(calc.multiply(BI_NANOS_PER_SECOND));
+                return ofSeconds(amount);
             case MINUTES:
-                return ofNanos(calc.multiply(BI_NANOS_PER_MINUTE));
+                return ofMinutes(amount);
             case HOURS:
-                return ofNanos(calc.multiply(BI_NANOS_PER_HOUR));
+                return ofHours(amount);
             case DAYS:
-                return ofNanos(calc.multiply(BI_NANOS_PER_DAY));
+                return ofDays(amount);
             default:
                 throw new IllegalStateException("Unreachable");
         }
@@ -594,6 +583,24 @@ public final class Duration implements Comparable<Duration>, Serializable {
      */
     public long get(TimeUnit unit) {
         MathUtils.checkNotNull(unit, "TimeUnit must not be null");
+        // the divisions truncate towards zero, matching BigInteger
+        long secs = (seconds < 0 && this.nanos > 0 ? seconds + 1 : seconds);
+        switch (unit) {
+            case SECONDS:
+                return secs;
+            case MINUTES:
+                return secs / 60;
+            case HOURS:
+                return secs / 3600;
+            case DAYS:
+                return secs / 86400;
+            default:
+                if (seconds >= -MAX_SECONDS_IN_LONG_NANOS && seconds <= MAX_SECONDS_IN_LONG_NANOS) {
+                    return (seconds * NANOS_PER_SECOND + this.nanos) / unit.toNanos(1);
+                }
+                break;
+        }
+        // the length in nanoseconds exceeds a long, thus saturate using BigInteger
         BigInteger nanos = toNanos();
         switch (unit) {
             case NANOSECONDS:
@@ -604,18 +611,6 @@ public final class Duration implements Comparable<Duration>, Serializable {
             case MILLISECONDS:
                 nanos = nanos.divide(BI_NANOS_PER_MILLI);
                 break;
-            case SECONDS:
-                nanos = nanos.divide(BI_NANOS_PER_SECOND);
-                break;
-            case MINUTES:
-                nanos = nanos.divide(BI_NANOS_PER_MINUTE);
-                break;
-            case HOURS:
-                nanos = nanos.divide(BI_NANOS_PER_HOUR);
-                break;
-            case DAYS:
-                nanos = nanos.divide(BI_NANOS_PER_DAY);
-                break;
             default:
                 throw new IllegalStateException("Unreachable");
         }
@@ -879,6 +874,14 @@ public final class Duration implements Comparable<Duration>, Serializable {
         if (multiplicand == 1) {
             return this;
         }
+        if (multiplicand >= Integer.MIN_VALUE && multiplicand <= Integer.MAX_VALUE) {
+            try {
+                long secs = MathUtils.safeMultiply(seconds, (int) multiplicand);
+                return ofSeconds(secs, nanos * multiplicand);
+            } catch (ArithmeticException ex) {
+                // the seconds overflowed, but the exact result may still fit
+            }
+        }
         BigInteger nanos = toNanos();
         nanos = nanos.multiply(BigInteger.valueOf(multiplicand));
         BigInteger[] divRem = nanos.divideAndRemainder(BI_NANOS_PER_SECOND);
@@ -906,9 +909,15 @@ public final class Duration implements Comparable<Duration>, Serializable {
         if (divisor == 1) {
             return this;
         }
+        if (seconds >= -MAX_SECONDS_IN_LONG_NANOS && seconds <= MAX_SECONDS_IN_LONG_NANOS) {
+            return ofNanos((seconds * NANOS_PER_SECOND + nanos) / divisor);
+        }
         BigInteger nanos = toNanos();
         nanos = nanos.divide(BigInteger.valueOf(divisor));
         BigInteger[] divRem = nanos.divideAndRemainder(BI_NANOS_PER_SECOND);
+        if (divRem[0].bitLength() > 63) {
+            throw new ArithmeticException("Division result exceeds capacity of Duration: " + this + " / " + divisor);
+        }
         return ofSeconds(divRem[0].longValue(), divRem[1].intValue());
      }
 
@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javax.time.calendrical.ISOPeriodUnit;
+import javax.time.calendrical.PeriodUnit;
+import javax.time.zone.ZoneRules;
+
+/**
+ * An immutable column of instants stored as primitive epoch nanoseconds.
+ * <p>
+ * This class holds a large number of instants, such as the timestamps of a
+ * time-series, without creating an {@code Instant} for each one.
+ * Each instant is stored as a {@code long} of nanoseconds from 1970-01-01T00:00Z,
+ * as defined by {@link DateTimeCodecs#toEpochNano(Instant)}.
+ * This covers approximately 292 years either side of 1970.
+ * <p>
+ * The column can be searched, filtered, bucketed and converted to local values
+ * without creating any objects for each instant.
+ * A column where each instant is equal to or after the previous one is sorted,
+ * and is searched using a binary search.
+ * <p>
+ * InstantColumn is immutable and thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+public final class InstantColumn {
+
+    /**
+     * An empty column.
+     */
+    private static final InstantColumn EMPTY = new InstantColumn(new long[0]);
+    /**
+     * The earliest instant that can be stored.
+     */
+    private static final Instant MIN_INSTANT = Instant.ofEpochNano(Long.MIN_VALUE);
+    /**
+     * The latest instant that can be stored.
+     */
+    private static final Instant MAX_INSTANT = Instant.ofEpochNano(Long.MAX_VALUE);
+
+    /**
+     * The epoch nanoseconds.
+     */
+    private final long[] epochNanos;
+    /**
+     * Whether the epoch nanoseconds are sorted.
+     */
+    private final boolean sorted;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code InstantColumn} from an array of instants.
+     *
+     * @param instants  the instants, not null, no null elements
+     * @return the column, not null
+     * @throws ArithmeticException if an instant exceeds the capacity of a {@code long} of nanoseconds
+     */
+    public static InstantColumn of(Instant... instants) {
+        MathUtils.checkNotNull(instants, "Instant array must not be null");
+        long[] epochNanos = new long[instants.length];
+        DateTimeCodecs.toEpochNanos(instants, epochNanos);
+        return new InstantColumn(epochNanos);
+    }
+
+    /**
+     * Obtains an instance of {@code InstantColumn} from an array of epoch nanoseconds.
+     * <p>
+     * The array is copied.
+     *
+     * @param epochNanos  the nanoseconds from 1970-01-01T00:00Z, not null
+     * @return the column, not null
+     */
+    public static InstantColumn ofEpochNanos(long[] epochNanos) {
+        MathUtils.checkNotNull(epochNanos, "Epoch nanos array must not be null");
+        return new InstantColumn(epochNanos.clone());
+    }
+
+    /**
+     * Obtains an instance of {@code InstantColumn} by reading epoch nanoseconds from a buffer.
+     * <p>
+     * The remaining bytes in the buffer are read as {@code long} epoch nanoseconds,
+     * using the byte order of the buffer, typically written by {@link #writeTo(ByteBuffer)}.
+     * The position of the buffer is advanced past the values read.
+     *
+     * @param buffer  the buffer to read, such as a direct or mapped buffer, not null
+     * @return the column, not null
+     */
+    public static InstantColumn ofEpochNanos(ByteBuffer buffer) {
+        MathUtils.checkNotNull(buffer, "ByteBuffer must not be null");
+        long[] epochNanos = new long[buffer.remaining() / 8];
+        buffer.asLongBuffer().get(epochNanos);
+        buffer.position(buffer.position() + epochNanos.length * 8);
+        return new InstantColumn(epochNanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param epochNanos  the epoch nanoseconds, not cloned, not null
+     */
+    private InstantColumn(long[] epochNanos) {
+        this.epochNanos = epochNanos;
+        boolean sorted = true;
+        for (int i = 1; i < epochNanos.length; i++) {
+            if (epochNanos[i] < epochNanos[i - 1]) {
+                sorted = false;
+                break;
+            }
+        }
+        this.sorted = sorted;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of instants in the column.
+     *
+     * @return the size of the column, zero or greater
+     */
+    public int size() {
+        return epochNanos.length;
+    }
+
+    /**
+     * Checks if each instant in the column is equal to or after the previous instant.
+     *
+     * @return true if the column is sorted
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Gets the instant at the specified index.
+     *
+     * @param index  the index, from 0 to {@code size() - 1}
+     * @return the instant, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Instant get(int index) {
+        return Instant.ofEpochNano(epochNanos[index]);
+    }
+
+    /**
+     * Gets the epoch nanoseconds at the specified index.
+     *
+     * @param index  the index, from 0 to {@code size() - 1}
+     * @return the nanoseconds from 1970-01-01T00:00Z
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getEpochNano(int index) {
+        return epochNanos[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Searches the column for the specified instant.
+     * <p>
+     * The result follows {@link Arrays#binarySearch(long[], long)}, returning the
+     * index of the instant if present, or {@code (-(insertion point) - 1)} if not.
+     *
+     * @param instant  the instant to search for, not null
+     * @return the index of the instant, or a negative value if not present
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public int binarySearch(Instant instant) {
+        MathUtils.checkNotNull(instant, "Instant must not be null");
+        checkSorted();
+        if (instant.isBefore(MIN_INSTANT)) {
+            return -1;
+        }
+        if (instant.isAfter(MAX_INSTANT)) {
+            return -epochNanos.length - 1;
+        }
+        return Arrays.binarySearch(epochNanos, DateTimeCodecs.toEpochNano(instant));
+    }
+
+    /**
+     * Returns a column of the instants from the start instant inclusive to the end instant exclusive.
+     * <p>
+     * A sorted column is filtered using a binary search, otherwise each instant
+     * is checked and the order of the matching instants is retained.
+     * If the end is not after the start, the result is empty.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param endExclusive  the end instant, exclusive, not null
+     * @return the column of matching instants, not null
+     */
+    public InstantColumn between(Instant startInclusive, Instant endExclusive) {
+        MathUtils.checkNotNull(startInclusive, "Start instant must not be null");
+        MathUtils.checkNotNull(endExclusive, "End instant must not be null");
+        if (endExclusive.compareTo(startInclusive) <= 0 ||
+                startInclusive.isAfter(MAX_INSTANT) || endExclusive.compareTo(MIN_INSTANT) <= 0) {
+            return EMPTY;
+        }
+        long low = (startInclusive.isBefore(MIN_INSTANT) ? Long.MIN_VALUE : DateTimeCodecs.toEpochNano(startInclusive));
+        long high = (endExclusive.isAfter(MAX_INSTANT) ? Long.MAX_VALUE : DateTimeCodecs.toEpochNano(endExclusive) - 1);
+        if (sorted) {
+            int from = lowerBound(low);
+            int to = (high == Long.MAX_VALUE ? epochNanos.length : lowerBound(high + 1));
+            return new InstantColumn(Arrays.copyOfRange(epochNanos, from, to));
+        }
+        long[] matches = new long[epochNanos.length];
+        int count = 0;
+        for (int i = 0; i < epochNanos.length; i++) {
+            long epochNano = epochNanos[i];
+            if (epochNano >= low && epochNano <= high) {
+                matches[count++] = epochNano;
+            }
+        }
+        return new InstantColumn(Arrays.copyOf(matches, count));
+    }
+
+    /**
+     * Gets the index of the first value equal to or greater than the specified value.
+     *
+     * @param value  the value to find
+     * @return the index, from 0 to {@code size()}
+     */
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = epochNanos.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochNanos[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Checks that the column is sorted.
+     *
+     * @throws IllegalStateException if the column is not sorted
+     */
+    private void checkSorted() {
+        if (sorted == false) {
+            throw new IllegalStateException("Column must be sorted");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a column with each instant truncated to the start of the specified unit in UTC.
+     * <p>
+     * This buckets the instants by the unit, such as by hour or day.
+     * The supported units are those with a fixed length in nanoseconds, such as
+     * seconds, minutes and hours, which are truncated relative to 1970-01-01T00:00Z.
+     * The day, week and month based units supported by {@link LocalDateColumn#truncatedTo(PeriodUnit)}
+     * are truncated using the UTC date.
+     * <p>
+     * To bucket by the date in a time-zone, use {@link #toLocalDates(ZoneId)}.
+     *
+     * @param unit  the unit to truncate to, not null
+     * @return the truncated column, not null
+     * @throws CalendricalException if the unit is not supported
+     * @throws ArithmeticException if a truncated instant exceeds the capacity of a {@code long} of nanoseconds
+     */
+    public InstantColumn truncatedTo(PeriodUnit unit) {
+        MathUtils.checkNotNull(unit, "PeriodUnit must not be null");
+        long[] truncated = new long[epochNanos.length];
+        if (unit.getBaseUnit().equals(ISOPeriodUnit.NANOS)) {
+            long amount = unit.getBaseEquivalentAmount();
+            for (int i = 0; i < epochNanos.length; i++) {
+                long epochNano = epochNanos[i];
+                truncated[i] = MathUtils.safeSubtract(epochNano, MathUtils.floorMod(epochNano, amount));
+            }
+        } else {
+            LocalDateColumn.Truncator truncator = new LocalDateColumn.Truncator(unit);
+            for (int i = 0; i < epochNanos.length; i++) {
+                long epochDay = truncator.truncate(MathUtils.floorDiv(epochNanos[i], MathUtils.NANOS_PER_DAY));
+                truncated[i] = MathUtils.safeMultiply(epochDay, MathUtils.NANOS_PER_DAY);
+            }
+        }
+        return new InstantColumn(truncated);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts each instant to the local date in the specified time-zone.
+     * <p>
+     * The offset is looked up once for each period between transitions of
+     * the time-zone rules, rather than once for each instant.
+     *
+     * @param zone  the time-zone to use, not null
+     * @return the column of local dates, not null
+     */
+    public LocalDateColumn toLocalDates(ZoneId zone) {
+        long[] localEpochNanos = toLocalEpochNanos(zone);
+        int[] epochDays = new int[localEpochNanos.length];
+        for (int i = 0; i < localEpochNanos.length; i++) {
+            epochDays[i] = (int) MathUtils.floorDiv(localEpochNanos[i], MathUtils.NANOS_PER_DAY);
+        }
+        return LocalDateColumn.ofEpochDays(epochDays);
+    }
+
+    /**
+     * Converts each instant to the local date-time in the specified time-zone.
+     * <p>
+     * The result is encoded as nanoseconds from 1970-01-01T00:00 local time,
+     * as defined by {@link DateTimeCodecs#toLocalEpochNano(LocalDateTime)}.
+     * The offset is looked up once for each period between transitions of
+     * the time-zone rules, rather than once for each instant.
+     *
+     * @param zone  the time-zone to use, not null
+     * @return the local epoch nanoseconds, not null
+     * @throws ArithmeticException if a local date-time exceeds the capacity of a {@code long} of nanoseconds
+     */
+    public long[] toLocalEpochNanos(ZoneId zone) {
+        MathUtils.checkNotNull(zone, "ZoneId must not be null");
+        ZoneRules rules = zone.getRules();
+        long[] localEpochNanos = new long[epochNanos.length];
+        Clock.OffsetWindow window = null;
+        for (int i = 0; i < epochNanos.length; i++) {
+            long epochNano = epochNanos[i];
+            long epochSecond = MathUtils.floorDiv(epochNano, 1000000000L);
+            if (window == null || epochSecond < window.start || epochSecond >= window.end) {
+                window = new Clock.OffsetWindow(rules, Instant.ofEpochSecond(epochSecond));
+            }
+            localEpochNanos[i] = MathUtils.safeAdd(epochNano, window.offsetSeconds * 1000000000L);
+        }
+        return localEpochNanos;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts the column to an array of instants.
+     *
+     * @return the instants, not null
+     */
+    public Instant[] toArray() {
+        Instant[] instants = new Instant[epochNanos.length];
+        DateTimeCodecs.ofEpochNanos(epochNanos, instants);
+        return instants;
+    }
+
+    /**
+     * Converts the column to an array of epoch nanoseconds.
+     *
+     * @return a copy of the epoch nanoseconds, not null
+     */
+    public long[] toEpochNanos() {
+        return epochNanos.clone();
+    }
+
+    /**
+     * Writes the epoch nanoseconds to a buffer.
+     * <p>
+     * The epoch nanoseconds are written as {@code long} values using the byte order of the buffer.
+     * The position of the buffer is advanced past the values written.
+     *
+     * @param buffer  the buffer to write to, such as a direct or mapped buffer, not null
+     * @throws java.nio.BufferOverflowException if the buffer has insufficient space
+     */
+    public void writeTo(ByteBuffer buffer) {
+        MathUtils.checkNotNull(buffer, "ByteBuffer must not be null");
+        buffer.asLongBuffer().put(epochNanos);
+        buffer.position(buffer.position() + epochNanos.length * 8);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this column is equal to another column.
+     * <p>
+     * The comparison is based on the instants and their order.
+     *
+     * @param other  the other column to compare to, null returns false
+     * @return true if the other column is equal to this one
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof InstantColumn) {
+            return Arrays.equals(epochNanos, ((InstantColumn) other).epochNanos);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this column.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(epochNanos);
+    }
+
+    /**
+     * Outputs this column as a {@code String}, such as {@code InstantColumn[size=1000]}.
+     *
+     * @return a string representation of this column, not null
+     */
+    @Override
+    public String toString() {
+        return "InstantColumn[size=" + epochNanos.length + "]";
+    }
+
+}
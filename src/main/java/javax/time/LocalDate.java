@@ -41,6 +41,7 @@ import java.io.Serializable;
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
 import javax.time.calendrical.CalendricalRule;
+import javax.time.calendrical.Chronology;
 import javax.time.calendrical.DateAdjuster;
 import javax.time.calendrical.DateResolver;
 import javax.time.calendrical.DateResolvers;
@@ -98,19 +99,9 @@ public final class LocalDate
      */
     private static final long serialVersionUID = 1L;
     /**
-     * The number of days in a 400 year cycle.
+     * The number of days from the Modified Julian Day epoch of 1858-11-17 to 1970-01-01.
      */
-    private static final int DAYS_PER_CYCLE = 146097;
-    /**
-     * The number of days from year zero to year 1970.
-     * There are five 400 year cycles from year zero to 2000.
-     * There are 7 leap years from 1970 to 2000.
-     */
-    static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
-    /**
-     * The number of days from year zero to the Modified Julian Day epoch of 1858-11-17.
-     */
-    private static final long DAYS_0000_TO_MJD_EPOCH = 678941;
+    private static final long DAYS_MJD_EPOCH_TO_1970 = 40587;
 
     /**
      * The year.
@@ -165,10 +156,10 @@ public final class LocalDate
         MathUtils.checkNotNull(clock, "Clock must not be null");
         // inline OffsetDate factory to avoid creating object and InstantProvider checks
         final Instant now = clock.instant();  // called once
-        ZoneOffset offset = clock.getZone().getRules().getOffset(now);
+        ZoneOffset offset = clock.getOffset(now);
         long epochSec = now.getEpochSecond() + offset.getTotalSeconds();  // overflow caught later
-        long yearZeroDay = MathUtils.floorDiv(epochSec, MathUtils.SECONDS_PER_DAY) + DAYS_0000_TO_1970;
-        return LocalDate.ofYearZeroDay(yearZeroDay);
+        long epochDay = MathUtils.floorDiv(epochSec, MathUtils.SECONDS_PER_DAY);
+        return LocalDate.ofEpochDay(epochDay);
     }
 
     //-----------------------------------------------------------------------
@@ -250,7 +241,11 @@ public final class LocalDate
      * @throws IllegalCalendarFieldValueException if the epoch days exceeds the supported date range
      */
     public static LocalDate ofEpochDay(long epochDay) {
-        return ofYearZeroDay(epochDay + DAYS_0000_TO_1970);
+        long packed = ISOChronology.INSTANCE.toPackedDate(epochDay);
+        return new LocalDate(
+                Chronology.unpackProlepticYear(packed),
+                MonthOfYear.of(Chronology.unpackMonthOfYear(packed)),
+                Chronology.unpackDayOfMonth(packed));
     }
 
     /**
@@ -264,48 +259,7 @@ public final class LocalDate
      * @throws IllegalCalendarFieldValueException if the modified julian days value is outside the supported range
      */
     public static LocalDate ofModifiedJulianDay(long mjDay) {
-        return ofYearZeroDay(mjDay + DAYS_0000_TO_MJD_EPOCH);
-    }
-
-    /**
-     * Converts a year zero day count to a date.
-     * <p>
-     * The year zero day count is a simple incrementing count of days
-     * where day 0 is 0000-01-01. Negative numbers represent earlier days.
-     *
-     * @param zeroDay  the Year zero Day to convert, based on the epoch 0000-01-01
-     * @return the local date, not null
-     * @throws IllegalCalendarFieldValueException if the epoch days exceeds the supported date range
-     */
-    static LocalDate ofYearZeroDay(long zeroDay) {
-        // find the march-based year
-        zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
-        long adjust = 0;
-        if (zeroDay < 0) {
-            // adjust negative years to positive for calculation
-            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
-            adjust = adjustCycles * 400;
-            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
-        }
-        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
-        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
-        if (doyEst < 0) {
-            // fix estimate
-            yearEst--;
-            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
-        }
-        yearEst += adjust;  // reset any negative year
-        int marchDoy0 = (int) doyEst;
-        
-        // convert march-based values back to january-based
-        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
-        int month = (marchMonth0 + 2) % 12 + 1;
-        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
-        yearEst += marchMonth0 / 10;
-        
-        // check year now we are certain it is correct
-        int year = YEAR.checkValidIntValue(yearEst);
-        return new LocalDate(year, MonthOfYear.of(month), dom);
+        return ofEpochDay(mjDay - DAYS_MJD_EPOCH_TO_1970);
     }
 
     //-----------------------------------------------------------------------
@@ -1287,7 +1241,7 @@ public final class LocalDate
      * @return the Epoch Day equivalent to this date
      */
     public long toEpochDay() {
-        return toYearZeroDay() - DAYS_0000_TO_1970;
+        return ISOChronology.INSTANCE.toEpochDay(year, month.getValue(), day);
     }
 
     /**
@@ -1299,36 +1253,7 @@ public final class LocalDate
      * @return the Modified Julian Day equivalent to this date
      */
     public long toModifiedJulianDay() {
-        return toYearZeroDay() - DAYS_0000_TO_MJD_EPOCH;
-    }
-
-    /**
-     * Converts this {@code LocalDate} to year zero days.
-     * <p>
-     * The year zero day count is a simple incrementing count of days
-     * where day 0 is 0000-01-01.
-     *
-     * @return the year zero days count equal to this date
-     */
-    long toYearZeroDay() {
-        long y = year;
-        long m = month.getValue();
-        long total = 0;
-        total += 365 * y;
-        if (y >= 0) {
-            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
-        } else {
-            total -= y / -4 - y / -100 + y / -400;
-        }
-        total += ((367 * m - 362) / 12);
-        total += day - 1;
-        if (m > 2) {
-            total--;
-            if (isLeapYear() == false) {
-                total--;
-            }
-        }
-        return total;
+        return toEpochDay() + DAYS_MJD_EPOCH_TO_1970;
     }
 
     //-----------------------------------------------------------------------
@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javax.time.calendrical.ISOPeriodUnit;
+import javax.time.calendrical.PeriodUnit;
+
+/**
+ * An immutable column of dates stored as primitive epoch-days.
+ * <p>
+ * This class holds a large number of dates without creating a {@code LocalDate}
+ * for each one. Each date is stored as an {@code int} epoch-day, where day 0 is 1970-01-01,
+ * as defined by {@link DateTimeCodecs#toEpochDay(LocalDate)}.
+ * This covers approximately 5.8 million years either side of 1970.
+ * <p>
+ * The column can be searched and filtered without creating any objects.
+ * A column where each date is equal to or after the previous one is sorted,
+ * and is searched using a binary search.
+ * <p>
+ * LocalDateColumn is immutable and thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+public final class LocalDateColumn {
+
+    /**
+     * An empty column.
+     */
+    private static final LocalDateColumn EMPTY = new LocalDateColumn(new int[0]);
+
+    /**
+     * The epoch-days.
+     */
+    private final int[] epochDays;
+    /**
+     * Whether the epoch-days are sorted.
+     */
+    private final boolean sorted;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code LocalDateColumn} from an array of dates.
+     *
+     * @param dates  the dates, not null, no null elements
+     * @return the column, not null
+     * @throws ArithmeticException if an epoch-day exceeds the capacity of an {@code int}
+     */
+    public static LocalDateColumn of(LocalDate... dates) {
+        MathUtils.checkNotNull(dates, "LocalDate array must not be null");
+        int[] epochDays = new int[dates.length];
+        DateTimeCodecs.toEpochDays(dates, epochDays);
+        return new LocalDateColumn(epochDays);
+    }
+
+    /**
+     * Obtains an instance of {@code LocalDateColumn} from an array of epoch-days.
+     * <p>
+     * The array is copied.
+     *
+     * @param epochDays  the epoch-days, where day 0 is 1970-01-01, not null
+     * @return the column, not null
+     */
+    public static LocalDateColumn ofEpochDays(int[] epochDays) {
+        MathUtils.checkNotNull(epochDays, "Epoch days array must not be null");
+        return new LocalDateColumn(epochDays.clone());
+    }
+
+    /**
+     * Obtains an instance of {@code LocalDateColumn} by reading epoch-days from a buffer.
+     * <p>
+     * The remaining bytes in the buffer are read as {@code int} epoch-days,
+     * using the byte order of the buffer, typically written by {@link #writeTo(ByteBuffer)}.
+     * The position of the buffer is advanced past the values read.
+     *
+     * @param buffer  the buffer to read, such as a direct or mapped buffer, not null
+     * @return the column, not null
+     */
+    public static LocalDateColumn ofEpochDays(ByteBuffer buffer) {
+        MathUtils.checkNotNull(buffer, "ByteBuffer must not be null");
+        int[] epochDays = new int[buffer.remaining() / 4];
+        buffer.asIntBuffer().get(epochDays);
+        buffer.position(buffer.position() + epochDays.length * 4);
+        return new LocalDateColumn(epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param epochDays  the epoch-days, not cloned, not null
+     */
+    private LocalDateColumn(int[] epochDays) {
+        this.epochDays = epochDays;
+        boolean sorted = true;
+        for (int i = 1; i < epochDays.length; i++) {
+            if (epochDays[i] < epochDays[i - 1]) {
+                sorted = false;
+                break;
+            }
+        }
+        this.sorted = sorted;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of dates in the column.
+     *
+     * @return the size of the column, zero or greater
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * Checks if each date in the column is equal to or after the previous date.
+     *
+     * @return true if the column is sorted
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Gets the date at the specified index.
+     *
+     * @param index  the index, from 0 to {@code size() - 1}
+     * @return the date, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public LocalDate get(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    /**
+     * Gets the epoch-day at the specified index.
+     *
+     * @param index  the index, from 0 to {@code size() - 1}
+     * @return the epoch-day, where day 0 is 1970-01-01
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getEpochDay(int index) {
+        return epochDays[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Searches the column for the specified date.
+     * <p>
+     * The result follows {@link Arrays#binarySearch(int[], int)}, returning the
+     * index of the date if present, or {@code (-(insertion point) - 1)} if not.
+     *
+     * @param date  the date to search for, not null
+     * @return the index of the date, or a negative value if not present
+     * @throws IllegalStateException if the column is not sorted
+     */
+    public int binarySearch(LocalDate date) {
+        MathUtils.checkNotNull(date, "LocalDate must not be null");
+        checkSorted();
+        long epochDay = date.toEpochDay();
+        if (epochDay < Integer.MIN_VALUE) {
+            return -1;
+        }
+        if (epochDay > Integer.MAX_VALUE) {
+            return -epochDays.length - 1;
+        }
+        return Arrays.binarySearch(epochDays, (int) epochDay);
+    }
+
+    /**
+     * Returns a column of the dates from the start date inclusive to the end date exclusive.
+     * <p>
+     * A sorted column is filtered using a binary search, otherwise each date
+     * is checked and the order of the matching dates is retained.
+     * If the end is not after the start, the result is empty.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param endExclusive  the end date, exclusive, not null
+     * @return the column of matching dates, not null
+     */
+    public LocalDateColumn between(LocalDate startInclusive, LocalDate endExclusive) {
+        MathUtils.checkNotNull(startInclusive, "Start date must not be null");
+        MathUtils.checkNotNull(endExclusive, "End date must not be null");
+        long start = Math.max(startInclusive.toEpochDay(), Integer.MIN_VALUE);
+        long end = Math.min(endExclusive.toEpochDay(), Integer.MAX_VALUE + 1L);
+        if (end <= start) {
+            return EMPTY;
+        }
+        if (sorted) {
+            int from = lowerBound(start);
+            int to = lowerBound(end);
+            return new LocalDateColumn(Arrays.copyOfRange(epochDays, from, to));
+        }
+        int[] matches = new int[epochDays.length];
+        int count = 0;
+        for (int i = 0; i < epochDays.length; i++) {
+            int epochDay = epochDays[i];
+            if (epochDay >= start && epochDay < end) {
+                matches[count++] = epochDay;
+            }
+        }
+        return new LocalDateColumn(Arrays.copyOf(matches, count));
+    }
+
+    /**
+     * Gets the index of the first value equal to or greater than the specified value.
+     *
+     * @param value  the value to find
+     * @return the index, from 0 to {@code size()}
+     */
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Checks that the column is sorted.
+     *
+     * @throws IllegalStateException if the column is not sorted
+     */
+    private void checkSorted() {
+        if (sorted == false) {
+            throw new IllegalStateException("Column must be sorted");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a column with each date truncated to the start of the specified unit.
+     * <p>
+     * This buckets the dates by the unit, such as by month or year.
+     * Truncating to weeks returns the Monday of each week.
+     * The supported units are days and weeks, and months and the units derived
+     * from months, such as quarters, years, decades and centuries.
+     *
+     * @param unit  the unit to truncate to, not null
+     * @return the truncated column, not null
+     * @throws CalendricalException if the unit is not supported
+     * @throws ArithmeticException if a truncated epoch-day exceeds the capacity of an {@code int}
+     */
+    public LocalDateColumn truncatedTo(PeriodUnit unit) {
+        MathUtils.checkNotNull(unit, "PeriodUnit must not be null");
+        Truncator truncator = new Truncator(unit);
+        int[] truncated = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            truncated[i] = MathUtils.safeToInt(truncator.truncate(epochDays[i]));
+        }
+        return new LocalDateColumn(truncated);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts the column to an array of dates.
+     *
+     * @return the dates, not null
+     */
+    public LocalDate[] toArray() {
+        LocalDate[] dates = new LocalDate[epochDays.length];
+        DateTimeCodecs.ofEpochDays(epochDays, dates);
+        return dates;
+    }
+
+    /**
+     * Converts the column to an array of epoch-days.
+     *
+     * @return a copy of the epoch-days, not null
+     */
+    public int[] toEpochDays() {
+        return epochDays.clone();
+    }
+
+    /**
+     * Writes the epoch-days to a buffer.
+     * <p>
+     * The epoch-days are written as {@code int} values using the byte order of the buffer.
+     * The position of the buffer is advanced past the values written.
+     *
+     * @param buffer  the buffer to write to, such as a direct or mapped buffer, not null
+     * @throws java.nio.BufferOverflowException if the buffer has insufficient space
+     */
+    public void writeTo(ByteBuffer buffer) {
+        MathUtils.checkNotNull(buffer, "ByteBuffer must not be null");
+        buffer.asIntBuffer().put(epochDays);
+        buffer.position(buffer.position() + epochDays.length * 4);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this column is equal to another column.
+     * <p>
+     * The comparison is based on the dates and their order.
+     *
+     * @param other  the other column to compare to, null returns false
+     * @return true if the other column is equal to this one
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof LocalDateColumn) {
+            return Arrays.equals(epochDays, ((LocalDateColumn) other).epochDays);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this column.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(epochDays);
+    }
+
+    /**
+     * Outputs this column as a {@code String}, such as {@code LocalDateColumn[size=365]}.
+     *
+     * @return a string representation of this column, not null
+     */
+    @Override
+    public String toString() {
+        return "LocalDateColumn[size=" + epochDays.length + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Truncates epoch-days to the start of a unit.
+     * <p>
+     * The month and year of the previous epoch-day is reused when the next
+     * epoch-day is in the same month, which is typical of sorted data.
+     */
+    static final class Truncator {
+        /** The number of days in the unit, zero if month based. */
+        private final int days;
+        /** The number of months in the unit, zero if day based. */
+        private final long months;
+        /** The first epoch-day of the previous month, inclusive. */
+        private long monthStart = 1;
+        /** The last epoch-day of the previous month, exclusive. */
+        private long monthEnd = 0;
+        /** The truncated epoch-day of the previous month. */
+        private long monthResult;
+
+        /**
+         * Constructor.
+         *
+         * @param unit  the unit to truncate to, not null
+         * @throws CalendricalException if the unit is not supported
+         */
+        Truncator(PeriodUnit unit) {
+            long amount = unit.getBaseEquivalentAmount();
+            if (unit.getBaseUnit().equals(ISOPeriodUnit.DAYS) && (amount == 1 || amount == 7)) {
+                days = (int) amount;
+                months = 0;
+            } else if (unit.getBaseUnit().equals(ISOPeriodUnit.MONTHS)) {
+                days = 0;
+                months = amount;
+            } else {
+                throw new CalendricalException("Unable to truncate to unit: " + unit);
+            }
+        }
+
+        /**
+         * Truncates the epoch-day.
+         *
+         * @param epochDay  the epoch-day to truncate
+         * @return the truncated epoch-day
+         */
+        long truncate(long epochDay) {
+            if (days == 1) {
+                return epochDay;
+            }
+            if (days == 7) {
+                // 1970-01-01 is a Thursday, three days after the start of the week
+                return epochDay - MathUtils.floorMod(epochDay + 3, 7);
+            }
+            if (epochDay < monthStart || epochDay >= monthEnd) {
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+                monthStart = epochDay - date.getDayOfMonth() + 1;
+                monthEnd = monthStart + date.getMonthOfYear().lengthInDays(date.isLeapYear());
+                long prolepticMonth = date.getYear() * 12L + date.getMonthOfYear().ordinal();
+                long truncated = prolepticMonth - MathUtils.floorMod(prolepticMonth, months);
+                int year = MathUtils.safeToInt(MathUtils.floorDiv(truncated, 12));
+                int month = MathUtils.floorMod(truncated, 12) + 1;
+                monthResult = LocalDate.of(year, month, 1).toEpochDay();
+            }
+            return monthResult;
+        }
+    }
+
+}
@@ -145,7 +145,7 @@ public final class LocalDateTime
         MathUtils.checkNotNull(clock, "Clock must not be null");
         // inline OffsetDateTime factory to avoid creating object and InstantProvider checks
         final Instant now = clock.instant();  // called once
-        ZoneOffset offset = clock.getZone().getRules().getOffset(now);
+        ZoneOffset offset = clock.getOffset(now);
         long localSeconds = now.getEpochSecond() + offset.getTotalSeconds();  // overflow caught later
         return create(localSeconds, now.getNanoOfSecond());
     }
@@ -162,9 +162,9 @@ public final class LocalDateTime
      * @throws CalendricalException if the instant exceeds the supported date range
      */
     static LocalDateTime create(long localSeconds, int nanoOfSecond) {
-        long yearZeroDays = MathUtils.floorDiv(localSeconds, SECONDS_PER_DAY) + LocalDate.DAYS_0000_TO_1970;
+        long epochDays = MathUtils.floorDiv(localSeconds, SECONDS_PER_DAY);
         int secsOfDay = MathUtils.floorMod(localSeconds, SECONDS_PER_DAY);
-        LocalDate date = LocalDate.ofYearZeroDay(yearZeroDays);
+        LocalDate date = LocalDate.ofEpochDay(epochDays);
         LocalTime time = LocalTime.ofSecondOfDay(secsOfDay, nanoOfSecond);
         return LocalDateTime.of(date, time);
     }
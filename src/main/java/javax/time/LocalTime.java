@@ -172,7 +172,7 @@ public final class LocalTime
         MathUtils.checkNotNull(clock, "Clock must not be null");
         // inline OffsetTime factory to avoid creating object and InstantProvider checks
         final Instant now = clock.instant();  // called once
-        ZoneOffset offset = clock.getZone().getRules().getOffset(now);
+        ZoneOffset offset = clock.getOffset(now);
         long secsOfDay = now.getEpochSecond() % SECONDS_PER_DAY;
         secsOfDay = (secsOfDay + offset.getTotalSeconds()) % SECONDS_PER_DAY;
         if (secsOfDay < 0) {
@@ -124,7 +124,7 @@ public final class OffsetDate
     public static OffsetDate now(Clock clock) {
         MathUtils.checkNotNull(clock, "Clock must not be null");
         final Instant now = clock.instant();  // called once
-        return ofInstant(now, clock.getZone().getRules().getOffset(now));
+        return ofInstant(now, clock.getOffset(now));
     }
 
     //-----------------------------------------------------------------------
@@ -206,8 +206,8 @@ public final class OffsetDate
         Instant instant = Instant.of(instantProvider);
         MathUtils.checkNotNull(offset, "ZoneOffset must not be null");
         long epochSec = instant.getEpochSecond() + offset.getTotalSeconds();  // overflow caught later
-        long yearZeroDay = MathUtils.floorDiv(epochSec, MathUtils.SECONDS_PER_DAY) + LocalDate.DAYS_0000_TO_1970;
-        LocalDate date = LocalDate.ofYearZeroDay(yearZeroDay);
+        long epochDay = MathUtils.floorDiv(epochSec, MathUtils.SECONDS_PER_DAY);
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
         return new OffsetDate(date, offset);
     }
 
@@ -124,7 +124,7 @@ public final class OffsetDateTime
     public static OffsetDateTime now(Clock clock) {
         MathUtils.checkNotNull(clock, "Clock must not be null");
         final Instant now = clock.instant();  // called once
-        return ofInstant(now, clock.getZone().getRules().getOffset(now));
+        return ofInstant(now, clock.getOffset(now));
     }
 
     //-----------------------------------------------------------------------
@@ -32,9 +32,13 @@
 package javax.time;
 
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.Timer;
+import java.util.TimerTask;
 
 import javax.time.calendrical.TAIInstant;
 import javax.time.calendrical.UTCInstant;
+import javax.time.calendrical.UTCRules;
 
 /**
  * A source providing access to the current instant.
@@ -118,6 +122,90 @@ public abstract class TimeSource {
         return SystemTimeSource.INSTANCE;
     }
 
+    /**
+     * Gets a time-source that obtains the current instant using the system
+     * nanosecond timer calibrated against the system millisecond clock.
+     * <p>
+     * The time-source extrapolates from a base instant using {@link System#nanoTime()},
+     * thus it has better than millisecond resolution.
+     * Once a second it checks the base against {@link System#currentTimeMillis()},
+     * adjusting it by the minimum amount needed to agree with the millisecond clock.
+     * The result is that the instant follows the system clock, including any changes
+     * made to it, with up to a second of delay.
+     * <p>
+     * The returned implementation is {@code Serializable}
+     *
+     * @return a {@code TimeSource} that uses the system nanosecond timer, not null
+     */
+    public static TimeSource nanoSystem() {
+        return NanoSystemTimeSource.INSTANCE;
+    }
+
+    /**
+     * Gets a time-source that caches the current instant of another time-source,
+     * refreshing it from a background thread at a fixed interval.
+     * <p>
+     * Obtaining the instant from the returned time-source is a single volatile read,
+     * with no calls to the system clock and no allocation.
+     * This is intended for high frequency callers, such as logging and metrics,
+     * that can accept an instant up to one interval out of date.
+     * <p>
+     * The refresh runs on a single daemon thread shared by all tickers.
+     * Each refresh task is cancelled at its next tick once the returned time-source
+     * is no longer referenced and has been garbage collected.
+     * <p>
+     * The returned implementation is not {@code Serializable}
+     *
+     * @param timeSource  the time-source to query, not null
+     * @param interval  the interval between refreshes, at least one millisecond, not null
+     * @return a {@code TimeSource} that returns a periodically refreshed instant, not null
+     * @throws IllegalArgumentException if the interval is less than one millisecond
+     */
+    public static TimeSource ticker(TimeSource timeSource, Duration interval) {
+        MathUtils.checkNotNull(timeSource, "TimeSource must not be null");
+        MathUtils.checkNotNull(interval, "Duration must not be null");
+        if (interval.isLessThan(Duration.ofMillis(1))) {
+            throw new IllegalArgumentException("Interval must be at least one millisecond: " + interval);
+        }
+        return new TickerTimeSource(timeSource, interval);
+    }
+
+    /**
+     * Gets a time-source that smears each leap second linearly across a window,
+     * so that the returned instants never jump or stall.
+     * <p>
+     * The {@code Instant} time-scale has exactly 86400 seconds per day, and therefore
+     * has to absorb each leap second somehow. This time-source reads the continuous
+     * {@link #taiInstant() TAI instant} of the specified time-source and spreads each
+     * leap second of the {@link UTCRules#system() system rules} evenly across the window
+     * that ends at midnight at the end of the leap second day.
+     * Within the window each second of the returned instant is slightly longer, or shorter,
+     * than a real second. Outside the windows the returned instant matches UTC.
+     * <p>
+     * A window of 1000 seconds is the UTC-SLS algorithm, matching {@link TAIInstant#toInstant()}.
+     * A window of 24 hours spreads the leap second across the whole day.
+     * <p>
+     * The windows are precomputed from the leap second dates, and refreshed hourly
+     * to pick up newly registered leap seconds, so each call needs only arithmetic.
+     * The accuracy of the result depends on the TAI instant of the specified time-source.
+     * <p>
+     * The returned implementation is not {@code Serializable}
+     *
+     * @param timeSource  the time-source to query for the TAI instant, not null
+     * @param window  the duration of real time to spread each leap second over,
+     *  a whole number of seconds from one second to one day, not null
+     * @return a {@code TimeSource} that returns instants with leap seconds smeared, not null
+     * @throws IllegalArgumentException if the window is invalid
+     */
+    public static TimeSource leapSmeared(TimeSource timeSource, Duration window) {
+        MathUtils.checkNotNull(timeSource, "TimeSource must not be null");
+        MathUtils.checkNotNull(window, "Duration must not be null");
+        if (window.getNanoOfSecond() != 0 || window.getSeconds() < 1 || window.getSeconds() > MathUtils.SECONDS_PER_DAY) {
+            throw new IllegalArgumentException("Window must be a whole number of seconds from one second to one day: " + window);
+        }
+        return new LeapSmearedTimeSource(timeSource, window, UTCRules.system());
+    }
+
     /**
      * Gets a time-source that always returns the same {@code Instant}.
      * <p>
@@ -250,8 +338,32 @@ public abstract class TimeSource {
         return instant().toEpochMilli();
     }
 
+    /**
+     * Gets the current nanosecond instant.
+     * <p>
+     * This returns the same value as {@link #instant()} expressed as a single
+     * {@code long} number of nanoseconds, which avoids allocating an {@code Instant}
+     * in implementations that support it.
+     * A {@code long} can hold nanoseconds from the Java epoch for a range of
+     * approximately 292 years either side of 1970.
+     * <p>
+     * The default implementation of this method converts the value from {@code instant()}.
+     * <p>
+     * Normally, this method will not throw an exception.
+     * However, one possible implementation would be to obtain the time from a
+     * central time server across the network. Obviously, in this case the lookup
+     * could fail, and so the method is permitted to throw an exception.
+     *
+     * @return the current nanosecond instant from this time-source, measured from
+     *  the Java epoch of 1970-01-01T00:00 UTC
+     * @throws ArithmeticException if the instant exceeds the capacity of a {@code long}
+     * @throws CalendricalException if the instant cannot be obtained, not thrown by most implementations
+     */
+    public long epochNano() {
+        return DateTimeCodecs.toEpochNano(instant());
+    }
+
     // TODO: implement InstantProvider?
-    // TODO: add caching of instants ("get to second precision")
 
     //-----------------------------------------------------------------------
     /**
@@ -283,11 +395,317 @@ public abstract class TimeSource {
         }
         /** {@inheritDoc} */
         @Override
+        public long epochNano() {
+            return System.currentTimeMillis() * 1000000L;
+        }
+        /** {@inheritDoc} */
+        @Override
         public String toString() {
             return "SystemTimeSource";
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a time-source that extrapolates from a calibrated base
+     * using {@link System#nanoTime()}.
+     */
+    static final class NanoSystemTimeSource extends TimeSource implements Serializable {
+        /** Singleton instance. */
+        static final NanoSystemTimeSource INSTANCE = new NanoSystemTimeSource();
+        /** Serialization version. */
+        private static final long serialVersionUID = 1L;
+        /** The number of nanoseconds between checks against the millisecond clock. */
+        private static final long RESYNC_NANOS = 1000000000L;
+        /** The current calibration, replaced on each check. */
+        private transient volatile Calibration calibration;
+
+        /** Restricted constructor, package-scoped for testing. */
+        NanoSystemTimeSource() {
+            calibration = new Calibration(System.nanoTime(), System.currentTimeMillis() * 1000000L);
+        }
+        /** Resolve singletons. */
+        private Object readResolve() {
+            return INSTANCE;
+        }
+        /** {@inheritDoc} */
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochNano(epochNano());
+        }
+        /** {@inheritDoc} */
+        @Override
+        public long millis() {
+            return MathUtils.floorDiv(epochNano(), 1000000L);
+        }
+        /** {@inheritDoc} */
+        @Override
+        public long epochNano() {
+            long nanoTime = System.nanoTime();
+            Calibration cal = calibration;
+            long elapsed = nanoTime - cal.nanoTime;
+            long epochNano = cal.epochNano + elapsed;
+            if (elapsed < RESYNC_NANOS) {
+                return epochNano;  // includes small negative values from a concurrent resync
+            }
+            return resync(nanoTime, epochNano);
+        }
+        /**
+         * Checks the extrapolated value against the millisecond clock, publishing
+         * a new calibration.
+         *
+         * @param nanoTime  the nano time being calibrated
+         * @param epochNano  the extrapolated epoch nanoseconds
+         * @return the calibrated epoch nanoseconds
+         */
+        long resync(long nanoTime, long epochNano) {
+            long wallNano = System.currentTimeMillis() * 1000000L;
+            if (epochNano < wallNano) {
+                epochNano = wallNano;
+            } else if (epochNano >= wallNano + 1000000L) {
+                epochNano = wallNano + 999999L;
+            }
+            calibration = new Calibration(nanoTime, epochNano);
+            return epochNano;
+        }
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return "NanoSystemTimeSource";
+        }
+
+        /**
+         * Immutable pairing of a nano time with the epoch nanoseconds it represents.
+         */
+        private static final class Calibration {
+            /** The value of {@code System.nanoTime()}. */
+            private final long nanoTime;
+            /** The epoch nanoseconds at the nano time. */
+            private final long epochNano;
+
+            private Calibration(long nanoTime, long epochNano) {
+                this.nanoTime = nanoTime;
+                this.epochNano = epochNano;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a time-source that returns an instant cached from another
+     * time-source and refreshed by a background thread.
+     * <p>
+     * The cached instant is the only mutable state, published via a volatile field.
+     */
+    static final class TickerTimeSource extends TimeSource {
+        /** The daemon timer shared by all tickers. */
+        private static final Timer TIMER = new Timer("TimeSource ticker", true);
+        /** The time-source to query. */
+        private final TimeSource timeSource;
+        /** The interval between refreshes. */
+        private final Duration interval;
+        /** The cached instant. */
+        private volatile Instant instant;
+
+        /** Restricted constructor. */
+        private TickerTimeSource(TimeSource timeSource, Duration interval) {
+            this.timeSource = timeSource;
+            this.interval = interval;
+            this.instant = timeSource.instant();
+            long period = interval.toMillisLong();
+            TIMER.scheduleAtFixedRate(new Tick(this), period, period);
+        }
+        /**
+         * Refreshes the cached instant.
+         */
+        void tick() {
+            instant = timeSource.instant();
+        }
+        /** {@inheritDoc} */
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return "TickerTimeSource[" + timeSource + ',' + interval + ']';
+        }
+    }
+
+    /**
+     * Task refreshing a ticker, which only weakly references the ticker so that
+     * the task is cancelled once the ticker is garbage collected.
+     */
+    private static final class Tick extends TimerTask {
+        /** The ticker to refresh. */
+        private final WeakReference<TickerTimeSource> ticker;
+
+        /** Constructor. */
+        private Tick(TickerTimeSource ticker) {
+            this.ticker = new WeakReference<TickerTimeSource>(ticker);
+        }
+        /** {@inheritDoc} */
+        @Override
+        public void run() {
+            TickerTimeSource source = ticker.get();
+            if (source == null) {
+                cancel();
+            } else {
+                try {
+                    source.tick();
+                } catch (Throwable ex) {
+                    // keep the previous instant, and try again next time
+                    // an error must not kill the timer shared by all tickers
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a time-source that smears leap seconds across a window.
+     * <p>
+     * The window around the next leap second is cached as an immutable
+     * {@code Smear}, published via a volatile field.
+     */
+    static final class LeapSmearedTimeSource extends TimeSource {
+        /** The time-source to query. */
+        private final TimeSource timeSource;
+        /** The window. */
+        private final Duration window;
+        /** The rules to use. */
+        private final UTCRules rules;
+        /** The smear covering the most recent instant. */
+        private volatile Smear smear;
+
+        /** Restricted constructor. */
+        LeapSmearedTimeSource(TimeSource timeSource, Duration window, UTCRules rules) {
+            this.timeSource = timeSource;
+            this.window = window;
+            this.rules = rules;
+            this.smear = new Smear(rules, window.getSeconds(), Long.MIN_VALUE);
+        }
+        /** {@inheritDoc} */
+        @Override
+        public Instant instant() {
+            TAIInstant tai = timeSource.taiInstant();
+            long taiSecs = tai.getTAISeconds();
+            Smear smear = this.smear;
+            if (taiSecs < smear.start || taiSecs >= smear.expiry) {
+                smear = new Smear(rules, window.getSeconds(), taiSecs);
+                this.smear = smear;
+            }
+            return smear.toInstant(taiSecs, tai.getNanoOfSecond());
+        }
+        /** {@inheritDoc} */
+        @Override
+        public TAIInstant taiInstant() {
+            return timeSource.taiInstant();
+        }
+        /** {@inheritDoc} */
+        @Override
+        public UTCInstant utcInstant() {
+            return UTCInstant.of(timeSource.taiInstant(), rules);
+        }
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return "LeapSmearedTimeSource[" + timeSource + ',' + window + ']';
+        }
+    }
+
+    /**
+     * The smear of the next leap second, valid for a range of TAI seconds.
+     */
+    static final class Smear {
+        /** The Modified Julian Day of the TAI epoch of 1958-01-01. */
+        private static final long MJD_TAI_EPOCH = 36204L;
+        /** The Modified Julian Day of the Java epoch of 1970-01-01. */
+        private static final long MJD_JAVA_EPOCH = 40587L;
+        /** The number of seconds after which the leap seconds are checked again. */
+        private static final long REFRESH_SECONDS = 3600L;
+        /** The first TAI second that the smear is valid for, inclusive. */
+        final long start;
+        /** The last TAI second that the smear is valid for, exclusive. */
+        final long expiry;
+        /** The TAI second at which the window starts, Long.MAX_VALUE if no leap second is known. */
+        final long windowStart;
+        /** The epoch second of the returned instant at the start of the window. */
+        final long windowStartEpochSecond;
+        /** The TAI offset before the window, in seconds. */
+        final int taiOffset;
+        /** The leap second adjustment, either -1 or 1. */
+        final int adjustment;
+        /** The window in seconds. */
+        final long windowSeconds;
+
+        /**
+         * Constructor.
+         *
+         * @param rules  the rules to use, not null
+         * @param windowSeconds  the window in seconds
+         * @param taiSecs  the TAI second that the smear must be valid for
+         */
+        Smear(UTCRules rules, long windowSeconds, long taiSecs) {
+            this.windowSeconds = windowSeconds;
+            long[] dates = rules.getLeapSecondDates();
+            long previousEnd = Long.MIN_VALUE;
+            for (long date : dates) {
+                int leapAdjustment = rules.getLeapSecondAdjustment(date);
+                if (leapAdjustment == 0) {
+                    continue;
+                }
+                long leapEnd = (date + 1 - MJD_TAI_EPOCH) * MathUtils.SECONDS_PER_DAY + rules.getTAIOffset(date + 1);
+                if (leapEnd <= taiSecs) {
+                    previousEnd = leapEnd;
+                    continue;
+                }
+                start = previousEnd;
+                expiry = Math.min(leapEnd, refresh(taiSecs));
+                windowStart = leapEnd - windowSeconds;
+                windowStartEpochSecond = (date + 1 - MJD_JAVA_EPOCH) * MathUtils.SECONDS_PER_DAY - windowSeconds + leapAdjustment;
+                taiOffset = rules.getTAIOffset(date);
+                adjustment = leapAdjustment;
+                return;
+            }
+            start = previousEnd;
+            expiry = refresh(taiSecs);
+            windowStart = Long.MAX_VALUE;
+            windowStartEpochSecond = Long.MAX_VALUE;
+            taiOffset = (dates.length > 0 ? rules.getTAIOffset(dates[dates.length - 1] + 1) : 10);
+            adjustment = 0;
+        }
+
+        /**
+         * Gets the TAI second at which to check the leap seconds again.
+         *
+         * @param taiSecs  the TAI second
+         * @return the TAI second to refresh at
+         */
+        private static long refresh(long taiSecs) {
+            return (taiSecs > Long.MAX_VALUE - REFRESH_SECONDS ? Long.MAX_VALUE : taiSecs + REFRESH_SECONDS);
+        }
+
+        /**
+         * Converts the TAI instant to a smeared instant.
+         *
+         * @param taiSecs  the TAI seconds, valid for this smear
+         * @param nanoOfSecond  the nano-of-second
+         * @return the instant, not null
+         */
+        Instant toInstant(long taiSecs, int nanoOfSecond) {
+            if (taiSecs < windowStart) {
+                long epochSecs = taiSecs - (MJD_JAVA_EPOCH - MJD_TAI_EPOCH) * MathUtils.SECONDS_PER_DAY - taiOffset;
+                return Instant.ofEpochSecond(epochSecs, nanoOfSecond);
+            }
+            // same integer arithmetic as the UTC-SLS algorithm in UTCRules
+            long elapsedNanos = (taiSecs - windowStart) * 1000000000L + nanoOfSecond;
+            long smearedNanos = elapsedNanos - (elapsedNanos * adjustment) / windowSeconds;
+            return Instant.ofEpochSecond(windowStartEpochSecond, smearedNanos);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implementation of a time-source that always returns the same instant.
@@ -350,6 +768,11 @@ public abstract class TimeSource {
         }
         /** {@inheritDoc} */
         @Override
+        public long epochNano() {
+            return MathUtils.safeAdd(System.currentTimeMillis() * 1000000L, offset.toNanosLong());
+        }
+        /** {@inheritDoc} */
+        @Override
         public boolean equals(Object obj) {
             if (obj instanceof OffsetSystemTimeSource) {
                 return offset.equals(((OffsetSystemTimeSource) obj).offset);
@@ -36,13 +36,16 @@ import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.io.StreamCorruptedException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
@@ -121,9 +124,19 @@ import javax.time.zone.ZoneRulesGroup;
 public abstract class ZoneId implements Calendrical, Serializable {
 
     /**
-     * The group:region#version ID pattern.
+     * The maximum number of IDs held in the cache.
      */
-    private static final Pattern PATTERN = Pattern.compile("(([A-Za-z0-9._-]+)[:])?([A-Za-z0-9%@~/+._-]+)([#]([A-Za-z0-9._-]+))?");
+    private static final int ID_CACHE_MAX_SIZE = 1024;
+    /**
+     * Cache of time-zones by the ID used to obtain them.
+     * Only IDs that have been checked as available are cached, as availability cannot be revoked.
+     * Once full, the oldest entries are evicted to admit new IDs.
+     */
+    private static final ConcurrentMap<String, ZoneId> ID_CACHE = new ConcurrentHashMap<String, ZoneId>(256, 0.75f, 4);
+    /**
+     * The IDs in the cache, in the order they were added, used for eviction.
+     */
+    private static final Queue<String> ID_CACHE_ORDER = new ConcurrentLinkedQueue<String>();
     /**
      * Serialization version.
      */
@@ -312,6 +325,9 @@ public abstract class ZoneId implements Calendrical, Serializable {
      * Once parsed, this factory will ensure that the group, region and version combination is valid
      * and rules can be obtained.
      * <p>
+     * Instances obtained by this factory are cached by identifier, thus repeated calls with
+     * the same identifier will generally return the same instance.
+     * <p>
      * The alternate format is for fixed time-zones, where the offset never changes over time.
      * A fixed time-zone is returned if the first three characters are 'UTC' or 'GMT' and
      * the remainder of the ID is a valid format for {@link ZoneOffset#of(String)}.
@@ -360,7 +376,37 @@ public abstract class ZoneId implements Calendrical, Serializable {
      */
     private static ZoneId ofID(String zoneID, boolean checkAvailable) {
         MathUtils.checkNotNull(zoneID, "Time zone ID must not be null");
-        
+        ZoneId cached = ID_CACHE.get(zoneID);
+        if (cached != null) {
+            return cached;
+        }
+        ZoneId zone = parseID(zoneID, checkAvailable);
+        if (checkAvailable) {
+            ZoneId existing = ID_CACHE.putIfAbsent(zoneID, zone);
+            if (existing != null) {
+                return existing;
+            }
+            ID_CACHE_ORDER.add(zoneID);
+            while (ID_CACHE.size() > ID_CACHE_MAX_SIZE) {
+                String eldest = ID_CACHE_ORDER.poll();
+                if (eldest == null) {
+                    break;
+                }
+                ID_CACHE.remove(eldest);
+            }
+        }
+        return zone;
+    }
+
+    /**
+     * Parses an instance of {@code ZoneId} from an identifier.
+     *
+     * @param zoneID  the time-zone identifier, not null
+     * @param checkAvailable  whether to check if the zone ID is available
+     * @return the zone ID, not null
+     * @throws CalendricalException if the zone ID cannot be found
+     */
+    private static ZoneId parseID(String zoneID, boolean checkAvailable) {
         // special fixed cases
         if (zoneID.equals("UTC") || zoneID.equals("GMT")) {
             return UTC;
@@ -373,16 +419,19 @@ public abstract class ZoneId implements Calendrical, Serializable {
             }
         }
         
-        // normal non-fixed IDs
-        Matcher matcher = PATTERN.matcher(zoneID);
-        if (matcher.matches() == false) {
+        // normal non-fixed IDs, of the form [group:]region[#version]
+        int colonPos = zoneID.indexOf(':');
+        int hashPos = zoneID.indexOf('#');
+        int regionStart = colonPos + 1;
+        int regionEnd = (hashPos >= 0 ? hashPos : zoneID.length());
+        if ((colonPos >= 0 && isValidIDChars(zoneID, 0, colonPos, false) == false) ||
+                isValidIDChars(zoneID, regionStart, regionEnd, true) == false ||
+                (hashPos >= 0 && isValidIDChars(zoneID, hashPos + 1, zoneID.length(), false) == false)) {
             throw new CalendricalException("Invalid time-zone ID: " + zoneID);
         }
-        String groupID = matcher.group(2);
-        String regionID = matcher.group(3);
-        String versionID = matcher.group(5);
-        groupID = (groupID != null ? groupID : "TZDB");
-        versionID = (versionID != null ? versionID : "");
+        String groupID = (colonPos >= 0 ? zoneID.substring(0, colonPos) : "TZDB");
+        String regionID = (colonPos >= 0 || hashPos >= 0 ? zoneID.substring(regionStart, regionEnd) : zoneID);
+        String versionID = (hashPos >= 0 ? zoneID.substring(hashPos + 1) : "");
         if (checkAvailable) {
             ZoneRulesGroup group = ZoneRulesGroup.getGroup(groupID);
             if (versionID.length() == 0) {
@@ -398,6 +447,36 @@ public abstract class ZoneId implements Calendrical, Serializable {
         return new ID(groupID, regionID, versionID);
     }
 
+    /**
+     * Checks if a section of an identifier is non-empty and only contains valid characters.
+     * <p>
+     * Group and version IDs may contain {@code [A-Za-z0-9._-]}.
+     * Region IDs may additionally contain {@code [%@~/+]}.
+     *
+     * @param zoneID  the time-zone identifier, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @param region  true to check a region ID, false for a group or version ID
+     * @return true if the section is valid
+     */
+    private static boolean isValidIDChars(String zoneID, int start, int end, boolean region) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char ch = zoneID.charAt(i);
+            if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') ||
+                    ch == '.' || ch == '_' || ch == '-') {
+                continue;
+            }
+            if (region && (ch == '%' || ch == '@' || ch == '~' || ch == '/' || ch == '+')) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Obtains an instance of {@code ZoneId} representing a fixed time-zone.
      * <p>
@@ -820,6 +899,10 @@ public abstract class ZoneId implements Calendrical, Serializable {
         private final String regionID;
         /** The time-zone version ID, not null. */
         private final String versionID;
+        /** The rules for a specific version, lazily resolved, null if floating or not yet resolved. */
+        private transient volatile ZoneRules rules;
+        /** The rules for the latest version, lazily resolved, null if not yet resolved. */
+        private transient volatile LatestRules latestRules;
 
         /**
          * Constructor.
@@ -934,11 +1017,26 @@ public abstract class ZoneId implements Calendrical, Serializable {
 
         @Override
         public ZoneRules getRules() {
-            ZoneRulesGroup group = getGroup();
+            ZoneRules resolved = rules;
+            if (resolved != null) {
+                return resolved;
+            }
             if (isFloatingVersion()) {
-                return group.getRules(regionID, group.getLatestVersionID(regionID));
+                LatestRules latest = latestRules;
+                if (latest != null && latest.generation == latest.group.getGeneration()) {
+                    return latest.rules;
+                }
+                ZoneRulesGroup group = getGroup();
+                int generation = group.getGeneration();  // read before the query
+                resolved = group.getRules(regionID, group.getLatestVersionID(regionID));
+                latestRules = new LatestRules(group, generation, resolved);
+                return resolved;
             }
-            return group.getRules(regionID, versionID);
+            ZoneRulesGroup group = getGroup();
+            // the rules for a specific version can never change once registered
+            resolved = group.getRules(regionID, versionID);
+            rules = resolved;
+            return resolved;
         }
 
         @Override
@@ -963,6 +1061,32 @@ public abstract class ZoneId implements Calendrical, Serializable {
             }
             return group.getRulesValidFor(regionID, versionID, dateTime);
         }
+
+        //-----------------------------------------------------------------------
+        /**
+         * The rules for the latest version, valid while the group generation is unchanged.
+         */
+        private static final class LatestRules {
+            /** The group the rules were obtained from. */
+            private final ZoneRulesGroup group;
+            /** The group generation when the rules were obtained. */
+            private final int generation;
+            /** The rules of the latest version. */
+            private final ZoneRules rules;
+
+            /**
+             * Constructor.
+             *
+             * @param group  the group, not null
+             * @param generation  the group generation read before the query
+             * @param rules  the rules, not null
+             */
+            private LatestRules(ZoneRulesGroup group, int generation, ZoneRules rules) {
+                this.group = group;
+                this.generation = generation;
+                this.rules = rules;
+            }
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -1146,6 +1270,38 @@ public abstract class ZoneId implements Calendrical, Serializable {
             return Collections.emptyList();
         }
 
+        @Override
+        public void getOffsets(long[] epochSeconds, int[] offsetSecondsOut) {
+            MathUtils.checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+            MathUtils.checkNotNull(offsetSecondsOut, "Offset seconds array must not be null");
+            if (offsetSecondsOut.length < epochSeconds.length) {
+                throw new IllegalArgumentException("Offset seconds array must be at least as long as the input");
+            }
+            Arrays.fill(offsetSecondsOut, 0, epochSeconds.length, offsetInfo.getOffset().getTotalSeconds());
+        }
+
+        @Override
+        public void getOffsets(long[] epochSeconds, int[] offsetSecondsOut, long[] epochDaysOut, long[] nanoOfDaysOut) {
+            MathUtils.checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+            MathUtils.checkNotNull(epochDaysOut, "Epoch days array must not be null");
+            MathUtils.checkNotNull(nanoOfDaysOut, "Nano of days array must not be null");
+            if (epochDaysOut.length < epochSeconds.length || nanoOfDaysOut.length < epochSeconds.length) {
+                throw new IllegalArgumentException("Epoch days and nano of days arrays must be at least as long as the input");
+            }
+            getOffsets(epochSeconds, offsetSecondsOut);
+            int offsetSecs = offsetInfo.getOffset().getTotalSeconds();
+            for (int i = 0; i < epochSeconds.length; i++) {
+                long localSecs = MathUtils.safeAdd(epochSeconds[i], offsetSecs);
+                epochDaysOut[i] = MathUtils.floorDiv(localSecs, MathUtils.SECONDS_PER_DAY);
+                nanoOfDaysOut[i] = MathUtils.floorMod(localSecs, MathUtils.SECONDS_PER_DAY) * MathUtils.NANOS_PER_SECOND;
+            }
+        }
+
+        @Override
+        public void preloadTransitions(int startYear, int endYear) {
+            // no cached data
+        }
+
         //-----------------------------------------------------------------------
         @Override
         public boolean equals(Object obj) {
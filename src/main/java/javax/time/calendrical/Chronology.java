@@ -33,6 +33,9 @@ package javax.time.calendrical;
 
 import java.io.Serializable;
 
+import javax.time.CalendricalException;
+import javax.time.MathUtils;
+
 /**
  * A calendar system, consisting of rules controlling the passage of human-scale time.
  * <p>
@@ -51,6 +54,11 @@ import java.io.Serializable;
  * All instantiable subclasses must be final, immutable and thread-safe.
  * Wherever possible subclasses should be singletons with no public constructor.
  * It is recommended that subclasses implement {@code Serializable}
+ * <p>
+ * Subclasses with a fixed arithmetic should also implement the primitive
+ * epoch-day conversion of {@link #toEpochDay(int, int, int)} and {@link #toPackedDate(long)},
+ * which allows columns of dates to be converted between calendar systems without
+ * creating date objects.
  *
  * @author Stephen Colebourne
  */
@@ -102,6 +110,157 @@ public abstract class Chronology implements Calendrical {
      */
     public abstract String getName();
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a date in this calendar system to an epoch-day.
+     * <p>
+     * The epoch-day is the simple count of days used by {@link javax.time.LocalDate#toEpochDay()}
+     * where day 0 is 1970-01-01 (ISO), and is thus shared by all calendar systems.
+     * This is a primitive conversion intended for bulk use, thus the fields are not
+     * validated and must be valid for the calendar system.
+     * <p>
+     * The default implementation throws an exception.
+     * Subclasses with a fixed arithmetic should override it.
+     *
+     * @param prolepticYear  the calendar system proleptic-year
+     * @param monthOfYear  the calendar system month-of-year
+     * @param dayOfMonth  the calendar system day-of-month
+     * @return the epoch-day
+     * @throws CalendricalException if the conversion is not supported
+     */
+    public long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        throw new CalendricalException("Chronology does not support epoch-day conversion: " + getName());
+    }
+
+    /**
+     * Converts an epoch-day to a packed date in this calendar system.
+     * <p>
+     * The epoch-day is the simple count of days used by {@link javax.time.LocalDate#toEpochDay()}
+     * where day 0 is 1970-01-01 (ISO).
+     * The result is packed as described in {@link #packDate(int, int, int)}.
+     * <p>
+     * The default implementation throws an exception.
+     * Subclasses with a fixed arithmetic should override it.
+     *
+     * @param epochDay  the epoch-day to convert
+     * @return the packed date
+     * @throws CalendricalException if the conversion is not supported or the year is out of range
+     */
+    public long toPackedDate(long epochDay) {
+        throw new CalendricalException("Chronology does not support epoch-day conversion: " + getName());
+    }
+
+    /**
+     * Converts arrays of dates in this calendar system to epoch-days.
+     * <p>
+     * Each element is converted as per {@link #toEpochDay(int, int, int)}.
+     *
+     * @param prolepticYears  the proleptic-years to convert, not null
+     * @param monthsOfYear  the months-of-year, at least as long as the years, not null
+     * @param daysOfMonth  the days-of-month, at least as long as the years, not null
+     * @param epochDaysOut  the array to fill with the epoch-days, at least as long as the years, not null
+     * @throws IllegalArgumentException if an array is too short
+     * @throws CalendricalException if the conversion is not supported
+     */
+    public void toEpochDays(int[] prolepticYears, int[] monthsOfYear, int[] daysOfMonth, long[] epochDaysOut) {
+        MathUtils.checkNotNull(prolepticYears, "Proleptic years array must not be null");
+        MathUtils.checkNotNull(monthsOfYear, "Months of year array must not be null");
+        MathUtils.checkNotNull(daysOfMonth, "Days of month array must not be null");
+        MathUtils.checkNotNull(epochDaysOut, "Epoch days array must not be null");
+        checkArrays(prolepticYears.length, monthsOfYear.length, daysOfMonth.length, epochDaysOut.length);
+        for (int i = 0; i < prolepticYears.length; i++) {
+            epochDaysOut[i] = toEpochDay(prolepticYears[i], monthsOfYear[i], daysOfMonth[i]);
+        }
+    }
+
+    /**
+     * Converts an array of epoch-days to dates in this calendar system.
+     * <p>
+     * Each element is converted as per {@link #toPackedDate(long)}.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param prolepticYearsOut  the array to fill with the proleptic-years, at least as long as the input, not null
+     * @param monthsOfYearOut  the array to fill with the months-of-year, at least as long as the input, not null
+     * @param daysOfMonthOut  the array to fill with the days-of-month, at least as long as the input, not null
+     * @throws IllegalArgumentException if an output array is too short
+     * @throws CalendricalException if the conversion is not supported or a year is out of range
+     */
+    public void toDates(long[] epochDays, int[] prolepticYearsOut, int[] monthsOfYearOut, int[] daysOfMonthOut) {
+        MathUtils.checkNotNull(epochDays, "Epoch days array must not be null");
+        MathUtils.checkNotNull(prolepticYearsOut, "Proleptic years array must not be null");
+        MathUtils.checkNotNull(monthsOfYearOut, "Months of year array must not be null");
+        MathUtils.checkNotNull(daysOfMonthOut, "Days of month array must not be null");
+        checkArrays(epochDays.length, prolepticYearsOut.length, monthsOfYearOut.length, daysOfMonthOut.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            long packed = toPackedDate(epochDays[i]);
+            prolepticYearsOut[i] = unpackProlepticYear(packed);
+            monthsOfYearOut[i] = unpackMonthOfYear(packed);
+            daysOfMonthOut[i] = unpackDayOfMonth(packed);
+        }
+    }
+
+    /**
+     * Checks the lengths of the arrays passed to a bulk conversion.
+     *
+     * @param inputLength  the length of the input
+     * @param length1  the length of the second array
+     * @param length2  the length of the third array
+     * @param length3  the length of the fourth array
+     * @throws IllegalArgumentException if an array is too short
+     */
+    private static void checkArrays(int inputLength, int length1, int length2, int length3) {
+        if (length1 < inputLength || length2 < inputLength || length3 < inputLength) {
+            throw new IllegalArgumentException("Array must be at least as long as the input");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs a date into a single {@code long}.
+     * <p>
+     * The proleptic-year is held in the upper bits, followed by four bits for the
+     * month-of-year and five bits for the day-of-month.
+     * As such, packed dates from the same calendar system sort in date order.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param monthOfYear  the month-of-year, from 0 to 15
+     * @param dayOfMonth  the day-of-month, from 0 to 31
+     * @return the packed date
+     */
+    public static long packDate(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        return ((long) prolepticYear << 9) | (monthOfYear << 5) | dayOfMonth;
+    }
+
+    /**
+     * Extracts the proleptic-year from a packed date.
+     *
+     * @param packedDate  the date packed by {@link #packDate(int, int, int)}
+     * @return the proleptic-year
+     */
+    public static int unpackProlepticYear(long packedDate) {
+        return (int) (packedDate >> 9);
+    }
+
+    /**
+     * Extracts the month-of-year from a packed date.
+     *
+     * @param packedDate  the date packed by {@link #packDate(int, int, int)}
+     * @return the month-of-year
+     */
+    public static int unpackMonthOfYear(long packedDate) {
+        return (int) (packedDate >> 5) & 15;
+    }
+
+    /**
+     * Extracts the day-of-month from a packed date.
+     *
+     * @param packedDate  the date packed by {@link #packDate(int, int, int)}
+     * @return the day-of-month
+     */
+    public static int unpackDayOfMonth(long packedDate) {
+        return (int) packedDate & 31;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a textual description of the chronology.
@@ -33,6 +33,8 @@ package javax.time.calendrical;
 
 import java.io.Serializable;
 
+import javax.time.Year;
+
 /**
  * The ISO-8601 calendar system, which follows the rules of the current
  * <i>de facto</i> world calendar.
@@ -56,6 +58,16 @@ public final class ISOChronology extends Chronology implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 1L;
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+    /**
+     * The number of days from year zero to year 1970.
+     * There are five 400 year cycles from year zero to 2000.
+     * There are 7 leap years from 1970 to 2000.
+     */
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
 
     //-----------------------------------------------------------------------
     /**
@@ -84,4 +96,79 @@ public final class ISOChronology extends Chronology implements Serializable {
         return "ISO";
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an ISO date to an epoch-day.
+     * <p>
+     * This is the ISO epoch-day arithmetic used by {@link javax.time.LocalDate#toEpochDay()}.
+     *
+     * @param prolepticYear  the ISO proleptic-year
+     * @param monthOfYear  the ISO month-of-year, from 1 to 12
+     * @param dayOfMonth  the ISO day-of-month, from 1 to 31
+     * @return the epoch-day
+     */
+    @Override
+    public long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        long y = prolepticYear;
+        long m = monthOfYear;
+        long total = 0;
+        total += 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += ((367 * m - 362) / 12);
+        total += dayOfMonth - 1;
+        if (m > 2) {
+            total--;
+            if (Year.isLeap(y) == false) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Converts an epoch-day to a packed ISO date.
+     * <p>
+     * This is the ISO epoch-day arithmetic used by {@link javax.time.LocalDate#ofEpochDay(long)}.
+     *
+     * @param epochDay  the epoch-day to convert
+     * @return the packed date
+     * @throws IllegalCalendarFieldValueException if the epoch-day exceeds the supported date range
+     */
+    @Override
+    public long toPackedDate(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        // find the march-based year
+        zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
+        long adjust = 0;
+        if (zeroDay < 0) {
+            // adjust negative years to positive for calculation
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            // fix estimate
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;  // reset any negative year
+        int marchDoy0 = (int) doyEst;
+
+        // convert march-based values back to january-based
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+
+        // check year now we are certain it is correct
+        int year = ISODateTimeRule.YEAR.checkValidIntValue(yearEst);
+        return packDate(year, month, dom);
+    }
+
 }
@@ -31,17 +31,25 @@
  */
 package javax.time.calendrical;
 
+import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.io.StreamCorruptedException;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Enumeration;
+import java.util.Timer;
+import java.util.TimerTask;
 import java.util.concurrent.atomic.AtomicReference;
 
+import javax.time.Duration;
 import javax.time.MathUtils;
 
 /**
@@ -61,6 +69,10 @@ final class SystemUTCRules extends UTCRules implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 1L;
+    /**
+     * Constant for the offset from MJD day 0 to the NTP epoch of 1900-01-01: 15020.
+     */
+    private static final int OFFSET_MJD_NTP = 15020;
 
     /**
      * The table of leap second dates.
@@ -71,12 +83,15 @@ final class SystemUTCRules extends UTCRules implements Serializable {
     private static final class Data implements Serializable {
         /** Serialization version. */
         private static final long serialVersionUID = 1L;
+        /** The maximum number of days covered by the index. */
+        private static final long MAX_INDEX_DAYS = 1000000L;
         /** Constructor. */
         private Data(long[] dates, int[] offsets, long[] taiSeconds) {
             super();
             this.dates = dates;
             this.offsets = offsets;
             this.taiSeconds = taiSeconds;
+            this.index = buildIndex(dates);
         }
         /** The table of leap second date when the leap second occurs. */
         final long[] dates;
@@ -84,13 +99,106 @@ final class SystemUTCRules extends UTCRules implements Serializable {
         final int[] offsets;
         /** The table of TAI second when the new offset starts. */
         final long[] taiSeconds;
-        
+        /**
+         * The position in the table of the first leap second date on or after each day,
+         * indexed from the first leap second date, null if the table spans too many days.
+         */
+        final transient char[] index;
+
+        /**
+         * Builds the index of positions in the table for each day.
+         *
+         * @param dates  the leap second dates, not null
+         * @return the index, null if the dates span too many days
+         */
+        private static char[] buildIndex(long[] dates) {
+            long span = dates[dates.length - 1] - dates[0];
+            if (span >= MAX_INDEX_DAYS || dates.length > Character.MAX_VALUE) {
+                return null;
+            }
+            char[] index = new char[(int) span + 1];
+            int pos = 0;
+            for (int i = 0; i < index.length; i++) {
+                if (dates[0] + i > dates[pos]) {
+                    pos++;
+                }
+                index[i] = (char) pos;
+            }
+            return index;
+        }
+
         /**
          * @return The modified Julian Date of the newest leap second 
          */
         public long getNewestDate() {
             return dates[dates.length - 1];
         }
+
+        /**
+         * Gets the position in the table of the first leap second date on or after the day.
+         *
+         * @param mjDay  the date as a Modified Julian Day
+         * @return the position, from 0 to the length of the table
+         */
+        int datePosition(long mjDay) {
+            if (mjDay > dates[dates.length - 1]) {
+                return dates.length;  // fast path for dates after the newest leap second
+            }
+            if (mjDay <= dates[0]) {
+                return 0;
+            }
+            if (index != null) {
+                return index[(int) (mjDay - dates[0])];
+            }
+            int pos = Arrays.binarySearch(dates, mjDay);
+            return (pos < 0 ? ~pos : pos);
+        }
+
+        /**
+         * Gets the position in the table of the last TAI second on or before the specified second.
+         *
+         * @param taiSecs  the TAI seconds
+         * @return the position, from -1 to the length of the table minus one
+         */
+        int taiPosition(long taiSecs) {
+            int last = taiSeconds.length - 1;
+            if (taiSecs >= taiSeconds[last]) {
+                return last;  // fast path for instants after the newest leap second
+            }
+            if (taiSecs < taiSeconds[0]) {
+                return -1;
+            }
+            // the day is within one leap second of the day of the TAI second, so adjust at most once
+            int pos = datePosition(MathUtils.floorDiv(taiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI) - 1;
+            while (pos < last && taiSeconds[pos + 1] <= taiSecs) {
+                pos++;
+            }
+            while (pos >= 0 && taiSeconds[pos] > taiSecs) {
+                pos--;
+            }
+            return pos;
+        }
+
+        /**
+         * Gets the leap second adjustment for the day at the position.
+         *
+         * @param mjDay  the date as a Modified Julian Day
+         * @param pos  the position obtained from {@link #datePosition(long)}
+         * @return the adjustment, -1, 0 or 1
+         */
+        int leapSecondAdjustment(long mjDay, int pos) {
+            return (pos > 0 && pos < dates.length && dates[pos] == mjDay ? offsets[pos] - offsets[pos - 1] : 0);
+        }
+
+        /**
+         * Gets the TAI offset for the day at the position.
+         *
+         * @param pos  the position obtained from {@link #datePosition(long)}
+         * @return the TAI offset in seconds
+         */
+        int taiOffset(int pos) {
+            return (pos > 0 ? offsets[pos - 1] : 10);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -146,6 +254,52 @@ final class SystemUTCRules extends UTCRules implements Serializable {
         }
     }
 
+    /**
+     * Loads the leap seconds from a file in the IERS {@code leap-seconds.list} format,
+     * replacing the current leap seconds if the file is at least as up to date.
+     *
+     * @param file  the file to load, not null
+     * @return true if the leap seconds were replaced
+     * @throws IOException if the file cannot be read or is invalid
+     */
+    boolean loadLeapSecondsList(File file) throws IOException {
+        Data newData;
+        InputStream in = new FileInputStream(file);
+        try {
+            newData = loadLeapSecondsList(in);
+        } finally {
+            in.close();
+        }
+        Data data;
+        do {
+            data = dataRef.get();
+            if (newData.getNewestDate() < data.getNewestDate()) {
+                return false;
+            }
+        } while (dataRef.compareAndSet(data, newData) == false);
+        return true;
+    }
+
+    /**
+     * Watches a file in the IERS {@code leap-seconds.list} format, loading the
+     * leap seconds each time the file changes.
+     *
+     * @param file  the file to watch, not null
+     * @param checkInterval  the interval between checks for changes, not null
+     * @return the watch, closed to stop watching, not null
+     * @throws IOException if the file cannot be read or is invalid
+     */
+    Closeable watchLeapSecondsList(File file, Duration checkInterval) throws IOException {
+        long lastModified = file.lastModified();
+        long length = file.length();
+        loadLeapSecondsList(file);
+        Timer timer = new Timer("UTCRules leap second file watch", true);
+        FileWatch watch = new FileWatch(this, file, lastModified, length, timer);
+        long period = checkInterval.toMillisLong();
+        timer.schedule(watch, period, period);
+        return watch;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public String getName() {
@@ -155,16 +309,13 @@ final class SystemUTCRules extends UTCRules implements Serializable {
     @Override
     public int getLeapSecondAdjustment(long mjDay) {
         Data data = dataRef.get();
-        int pos = Arrays.binarySearch(data.dates, mjDay);
-        return pos > 0 ? data.offsets[pos] - data.offsets[pos - 1] : 0;
+        return data.leapSecondAdjustment(mjDay, data.datePosition(mjDay));
     }
 
     @Override
     public int getTAIOffset(long mjDay) {
         Data data = dataRef.get();
-        int pos = Arrays.binarySearch(data.dates, mjDay);
-        pos = (pos < 0 ? ~pos : pos);
-        return pos > 0 ? data.offsets[pos - 1] : 10;
+        return data.taiOffset(data.datePosition(mjDay));
     }
 
     @Override
@@ -178,9 +329,7 @@ final class SystemUTCRules extends UTCRules implements Serializable {
     protected UTCInstant convertToUTC(TAIInstant taiInstant) {
         Data data = dataRef.get();
         long[] mjds = data.dates;
-        long[] tais = data.taiSeconds;
-        int pos = Arrays.binarySearch(tais, taiInstant.getTAISeconds());
-        pos = (pos >= 0 ? pos : ~pos - 1);
+        int pos = data.taiPosition(taiInstant.getTAISeconds());
         int taiOffset = (pos >= 0 ? data.offsets[pos] : 10);
         long adjustedTaiSecs = taiInstant.getTAISeconds() - taiOffset;
         long mjd = MathUtils.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
@@ -193,6 +342,64 @@ final class SystemUTCRules extends UTCRules implements Serializable {
         return UTCInstant.ofModifiedJulianDay(mjd, nod, this);
     }
 
+    @Override
+    public void convertToUTC(long[] taiSeconds, long[] mjDaysOut, int[] secondOfDaysOut) {
+        MathUtils.checkNotNull(taiSeconds, "TAI seconds array must not be null");
+        MathUtils.checkNotNull(mjDaysOut, "Modified julian days array must not be null");
+        MathUtils.checkNotNull(secondOfDaysOut, "Second of day array must not be null");
+        checkArrays(taiSeconds.length, mjDaysOut.length, secondOfDaysOut.length);
+        Data data = dataRef.get();
+        long[] mjds = data.dates;
+        long[] tais = data.taiSeconds;
+        int pos = -1;
+        long regionStart = Long.MAX_VALUE;  // forces a lookup for the first element
+        long regionEnd = Long.MIN_VALUE;
+        for (int i = 0; i < taiSeconds.length; i++) {
+            long taiSecs = taiSeconds[i];
+            if (taiSecs < regionStart || taiSecs >= regionEnd) {
+                pos = data.taiPosition(taiSecs);
+                regionStart = (pos >= 0 ? tais[pos] : Long.MIN_VALUE);
+                regionEnd = (pos + 1 < tais.length ? tais[pos + 1] : Long.MAX_VALUE);
+            }
+            long adjustedTaiSecs = taiSecs - (pos >= 0 ? data.offsets[pos] : 10);
+            long mjd = MathUtils.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
+            int sod = MathUtils.floorMod(adjustedTaiSecs, (int) SECS_PER_DAY);
+            if (pos + 1 < mjds.length && mjd == mjds[pos + 1] + 1) {  // in leap second
+                mjd--;
+                sod += SECS_PER_DAY;
+            }
+            mjDaysOut[i] = mjd;
+            secondOfDaysOut[i] = sod;
+        }
+    }
+
+    @Override
+    public void convertToTAI(long[] mjDays, int[] secondOfDays, long[] taiSecondsOut) {
+        MathUtils.checkNotNull(mjDays, "Modified julian days array must not be null");
+        MathUtils.checkNotNull(secondOfDays, "Second of day array must not be null");
+        MathUtils.checkNotNull(taiSecondsOut, "TAI seconds array must not be null");
+        checkArrays(mjDays.length, secondOfDays.length, taiSecondsOut.length);
+        Data data = dataRef.get();
+        int pos = 0;
+        long mjd = 0;
+        int taiOffset = 0;
+        int maxSecs = -1;  // forces a lookup for the first element
+        for (int i = 0; i < mjDays.length; i++) {
+            if (mjDays[i] != mjd || maxSecs < 0) {
+                mjd = mjDays[i];
+                pos = data.datePosition(mjd);
+                taiOffset = data.taiOffset(pos);
+                maxSecs = (int) SECS_PER_DAY + data.leapSecondAdjustment(mjd, pos);
+            }
+            int sod = secondOfDays[i];
+            if (sod < 0 || sod >= maxSecs) {
+                throw new IllegalArgumentException("Second-of-day must be between 0 and " + maxSecs + " on date " + mjd);
+            }
+            long taiUtcDaySeconds = MathUtils.safeMultiply(mjd - OFFSET_MJD_TAI, SECS_PER_DAY);
+            taiSecondsOut[i] = MathUtils.safeAdd(taiUtcDaySeconds, sod + taiOffset);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Loads the rules from files in the class loader, often jar files.
@@ -266,6 +473,65 @@ final class SystemUTCRules extends UTCRules implements Serializable {
         }
     }
 
+    /**
+     * Loads the leap second rules from a stream in the IERS {@code leap-seconds.list} format.
+     * <p>
+     * Each line that is not a comment holds the NTP second, from 1900-01-01, at which a new
+     * TAI offset starts, followed by the offset. The first line is the start of the table.
+     *
+     * @param in  the stream to load, not null
+     * @return the leap second data, not null
+     * @throws IOException if an error occurs
+     */
+    private static Data loadLeapSecondsList(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, "US-ASCII"));
+        long[] dates = new long[64];
+        int[] offsets = new int[64];
+        int count = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            line = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (line.length() == 0) {
+                continue;
+            }
+            String[] fields = line.split("\\s+");
+            long ntpSecs;
+            int offset;
+            try {
+                ntpSecs = Long.parseLong(fields[0]);
+                offset = (fields.length > 1 ? Integer.parseInt(fields[1]) : Integer.MIN_VALUE);
+            } catch (NumberFormatException ex) {
+                throw new StreamCorruptedException("Invalid leap second file, line " + lineNumber + ": " + line);
+            }
+            long startMjd = MathUtils.floorDiv(ntpSecs, SECS_PER_DAY) + OFFSET_MJD_NTP;
+            long changeMjd = (count == 0 ? startMjd : startMjd - 1);  // leap second is at the end of the previous day
+            if (fields.length != 2 || MathUtils.floorMod(ntpSecs, SECS_PER_DAY) != 0 ||
+                    (count > 0 && (changeMjd <= dates[count - 1] || Math.abs(offset - offsets[count - 1]) != 1))) {
+                throw new StreamCorruptedException("Invalid leap second file, line " + lineNumber + ": " + line);
+            }
+            if (count == dates.length) {
+                dates = Arrays.copyOf(dates, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            dates[count] = changeMjd;
+            offsets[count] = offset;
+            count++;
+        }
+        if (count == 0) {
+            throw new StreamCorruptedException("Leap second file contains no leap seconds");
+        }
+        dates = Arrays.copyOf(dates, count);
+        offsets = Arrays.copyOf(offsets, count);
+        long[] taiSeconds = new long[count];
+        for (int i = 0; i < count; i++) {
+            taiSeconds[i] = tai(dates[i], offsets[i]);
+        }
+        return new Data(dates, offsets, taiSeconds);
+    }
+
     /**
      * Gets the TAI seconds for the start of the day following the day passed in.
      * 
@@ -277,4 +543,57 @@ final class SystemUTCRules extends UTCRules implements Serializable {
         return (changeMjd + 1 - OFFSET_MJD_TAI) * SECS_PER_DAY + offset;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Task checking a leap second file for changes.
+     * <p>
+     * The file is reloaded when its modification time or length changes.
+     * If the file cannot be loaded, the current rules are retained and
+     * the file is checked again next time.
+     */
+    static final class FileWatch extends TimerTask implements Closeable {
+        /** The rules to update. */
+        private final SystemUTCRules rules;
+        /** The file to watch. */
+        private final File file;
+        /** The timer running this task. */
+        private final Timer timer;
+        /** The modification time of the file when last loaded. */
+        private long lastModified;
+        /** The length of the file when last loaded. */
+        private long length;
+
+        /** Constructor. */
+        private FileWatch(SystemUTCRules rules, File file, long lastModified, long length, Timer timer) {
+            this.rules = rules;
+            this.file = file;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.timer = timer;
+        }
+        /** {@inheritDoc} */
+        @Override
+        public void run() {
+            long modified = file.lastModified();
+            long len = file.length();
+            if (modified != lastModified || len != length) {
+                try {
+                    rules.loadLeapSecondsList(file);
+                    lastModified = modified;
+                    length = len;
+                } catch (IOException ex) {
+                    // keep the current rules, and try again next time
+                } catch (RuntimeException ex) {
+                    // keep the current rules, and try again next time
+                }
+            }
+        }
+        /**
+         * Stops watching the file.
+         */
+        public void close() {
+            timer.cancel();
+        }
+    }
+
 }
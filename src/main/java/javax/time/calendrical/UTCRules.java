@@ -31,8 +31,12 @@
  */
 package javax.time.calendrical;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
 import java.util.ConcurrentModificationException;
 
+import javax.time.Duration;
 import javax.time.Instant;
 import javax.time.MathUtils;
 
@@ -108,6 +112,56 @@ public abstract class UTCRules {
         SystemUTCRules.INSTANCE.registerLeapSecond(mjDay, leapAdjustment);
     }
 
+    /**
+     * Loads the system default leap second rules from a file in the IERS
+     * {@code leap-seconds.list} format.
+     * <p>
+     * This method reads the whole table of leap seconds from the file, such as the
+     * {@code leap-seconds.list} file published by the IERS and distributed with
+     * many operating systems. Each line that is not a comment holds the NTP second,
+     * counted from 1900-01-01, at which a new TAI offset starts, followed by the offset.
+     * <p>
+     * The system rules are replaced by the file, atomically, if the newest leap second
+     * in the file is equal to or later than the newest leap second in the rules.
+     * Otherwise, the file is older than the rules and is ignored.
+     * <p>
+     * Calling this method is thread-safe.
+     * Its effects are immediately visible in all threads.
+     *
+     * @param file  the file to load, not null
+     * @return true if the system rules were replaced
+     * @throws IOException if the file cannot be read or is invalid
+     */
+    public static boolean loadSystemLeapSeconds(File file) throws IOException {
+        MathUtils.checkNotNull(file, "File must not be null");
+        return SystemUTCRules.INSTANCE.loadLeapSecondsList(file);
+    }
+
+    /**
+     * Watches a file in the IERS {@code leap-seconds.list} format, loading it into the
+     * system default leap second rules each time it changes.
+     * <p>
+     * The file is loaded immediately, as per {@link #loadSystemLeapSeconds(File)}.
+     * A daemon thread then checks the modification time and length of the file at the
+     * specified interval, and loads the file again when either changes.
+     * This allows a long-running process to pick up newly announced leap seconds.
+     * If the file cannot be loaded when it changes, the current rules are retained.
+     *
+     * @param file  the file to watch, not null
+     * @param checkInterval  the interval between checks for changes, at least one millisecond, not null
+     * @return the watch, which stops watching the file when closed, not null
+     * @throws IllegalArgumentException if the interval is less than one millisecond
+     * @throws IOException if the file cannot be read or is invalid
+     */
+    public static Closeable watchSystemLeapSeconds(File file, Duration checkInterval) throws IOException {
+        MathUtils.checkNotNull(file, "File must not be null");
+        MathUtils.checkNotNull(checkInterval, "Duration must not be null");
+        if (checkInterval.isLessThan(Duration.ofMillis(1))) {
+            throw new IllegalArgumentException("Interval must be at least one millisecond: " + checkInterval);
+        }
+        return SystemUTCRules.INSTANCE.watchLeapSecondsList(file, checkInterval);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates an instance of the rules.
@@ -195,6 +249,79 @@ public abstract class UTCRules {
      */
     protected abstract UTCInstant convertToUTC(TAIInstant taiInstant);
 
+    /**
+     * Converts an array of TAI seconds to UTC dates and seconds-of-day.
+     * <p>
+     * This method converts each whole second from the TAI to the UTC time-scale
+     * using the leap-second rules of the implementation.
+     * The nanosecond fraction of a second is the same in both time-scales, and is not passed.
+     * The second-of-day is from 0 to 86,399, or 86,400 during a positive leap second.
+     * <p>
+     * The standard implementation converts each second individually using
+     * {@link #convertToUTC(TAIInstant)}. Implementations may override this to
+     * convert the array in a single pass through the leap-second table.
+     *
+     * @param taiSeconds  the TAI seconds from 1958-01-01T00:00:00(TAI) to convert, not null
+     * @param mjDaysOut  the array to fill with the Modified Julian Days, at least as long as the input, not null
+     * @param secondOfDaysOut  the array to fill with the seconds-of-day, at least as long as the input, not null
+     * @throws IllegalArgumentException if an output array is too short
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public void convertToUTC(long[] taiSeconds, long[] mjDaysOut, int[] secondOfDaysOut) {
+        MathUtils.checkNotNull(taiSeconds, "TAI seconds array must not be null");
+        MathUtils.checkNotNull(mjDaysOut, "Modified julian days array must not be null");
+        MathUtils.checkNotNull(secondOfDaysOut, "Second of day array must not be null");
+        checkArrays(taiSeconds.length, mjDaysOut.length, secondOfDaysOut.length);
+        for (int i = 0; i < taiSeconds.length; i++) {
+            UTCInstant utcInstant = convertToUTC(TAIInstant.ofTAISeconds(taiSeconds[i], 0));
+            mjDaysOut[i] = utcInstant.getModifiedJulianDay();
+            secondOfDaysOut[i] = (int) (utcInstant.getNanoOfDay() / NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Converts arrays of UTC dates and seconds-of-day to TAI seconds.
+     * <p>
+     * This method converts each whole second from the UTC to the TAI time-scale
+     * using the leap-second rules of the implementation.
+     * The nanosecond fraction of a second is the same in both time-scales, and is not passed.
+     * <p>
+     * The standard implementation converts each second individually using
+     * {@link #convertToTAI(UTCInstant)}. Implementations may override this to
+     * convert the arrays in a single pass through the leap-second table.
+     *
+     * @param mjDays  the Modified Julian Days to convert, not null
+     * @param secondOfDays  the seconds-of-day, including any leap second, at least as long as the days, not null
+     * @param taiSecondsOut  the array to fill with the TAI seconds, at least as long as the days, not null
+     * @throws IllegalArgumentException if the seconds-of-day or output array is too short
+     * @throws IllegalArgumentException if a second-of-day is invalid for the date
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public void convertToTAI(long[] mjDays, int[] secondOfDays, long[] taiSecondsOut) {
+        MathUtils.checkNotNull(mjDays, "Modified julian days array must not be null");
+        MathUtils.checkNotNull(secondOfDays, "Second of day array must not be null");
+        MathUtils.checkNotNull(taiSecondsOut, "TAI seconds array must not be null");
+        checkArrays(mjDays.length, secondOfDays.length, taiSecondsOut.length);
+        for (int i = 0; i < mjDays.length; i++) {
+            UTCInstant utcInstant = UTCInstant.ofModifiedJulianDay(mjDays[i], secondOfDays[i] * NANOS_PER_SECOND, this);
+            taiSecondsOut[i] = convertToTAI(utcInstant).getTAISeconds();
+        }
+    }
+
+    /**
+     * Checks the lengths of the arrays passed to a bulk conversion.
+     *
+     * @param inputLength  the length of the input
+     * @param length1  the length of the second array
+     * @param length2  the length of the third array
+     * @throws IllegalArgumentException if an array is too short
+     */
+    static void checkArrays(int inputLength, int length1, int length2) {
+        if (length1 < inputLength || length2 < inputLength) {
+            throw new IllegalArgumentException("Array must be at least as long as the input");
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Converts a {@code UTCInstant} to an {@code Instant}.
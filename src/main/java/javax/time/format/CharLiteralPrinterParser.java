@@ -43,7 +43,7 @@ final class CharLiteralPrinterParser implements DateTimePrinter, DateTimeParser
     /**
      * The literal to print or parse.
      */
-    private final char literal;
+    final char literal;
 
     /**
      * Constructor.
@@ -0,0 +1,620 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
+import javax.time.OffsetTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+import javax.time.calendrical.Calendrical;
+import javax.time.calendrical.DateTimeRule;
+import javax.time.calendrical.ISODateTimeRule;
+
+/**
+ * A print plan compiled from a composite printer for the common date-time classes.
+ * <p>
+ * The generic print path obtains every field through {@link DateTimePrintContext},
+ * boxing each value into a {@code DateTimeField} and building the result in a
+ * {@code StringBuilder}. For the date-time classes with well-known structure the
+ * availability of each field is known in advance, thus the printers can be reduced
+ * to a flat list of steps that read the primitive fields directly and write into
+ * a reusable per-thread character buffer.
+ * <p>
+ * A plan is compiled for each supported class where every printer can be reduced.
+ * Optional sections are flattened if their fields are available and removed if not.
+ * Unusual values, such as those exceeding the maximum width of a field, are not
+ * handled by the plan and must be printed using the generic path, which ensures
+ * that the same exceptions are thrown.
+ * <p>
+ * CompiledPrinter is immutable and thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+final class CompiledPrinter {
+
+    /**
+     * Content flag for a date.
+     */
+    private static final int DATE = 1;
+    /**
+     * Content flag for a time.
+     */
+    private static final int TIME = 2;
+    /**
+     * Content flag for an offset.
+     */
+    private static final int OFFSET = 4;
+    /**
+     * Content flag for a time-zone.
+     */
+    private static final int ZONE = 8;
+    /**
+     * The supported combinations of content.
+     */
+    private static final int[] CONTENTS = new int[] {
+        DATE, TIME, DATE | TIME, DATE | OFFSET, TIME | OFFSET, DATE | TIME | OFFSET, DATE | TIME | OFFSET | ZONE,
+    };
+    /**
+     * The per-thread buffer used to print into.
+     */
+    private static final ThreadLocal<Buffer> BUFFER = new ThreadLocal<Buffer>() {
+        @Override
+        protected Buffer initialValue() {
+            return new Buffer();
+        }
+    };
+
+    /**
+     * The plans, indexed by content, null where no plan could be compiled.
+     */
+    private final Step[][] plans;
+    /**
+     * The maximum length printed by each plan excluding the time-zone IDs.
+     */
+    private final int[] fixedLengths;
+    /**
+     * The number of time-zone IDs printed by each plan.
+     */
+    private final int[] zoneCounts;
+
+    /**
+     * Compiles the print plans for the specified printer.
+     *
+     * @param printerParser  the printer to compile, not null
+     * @return the compiled printer, null if no plan could be compiled
+     */
+    static CompiledPrinter compile(CompositePrinterParser printerParser) {
+        if (printerParser.isPrintSupported() == false) {
+            return null;
+        }
+        Step[][] plans = new Step[ZONE * 2][];
+        int[] fixedLengths = new int[ZONE * 2];
+        int[] zoneCounts = new int[ZONE * 2];
+        boolean compiled = false;
+        for (int content : CONTENTS) {
+            List<Step> steps = new ArrayList<Step>();
+            if (compile(printerParser, content, 0, steps)) {
+                plans[content] = steps.toArray(new Step[steps.size()]);
+                for (Step step : steps) {
+                    if (step instanceof ZoneIdStep) {
+                        zoneCounts[content]++;
+                    } else {
+                        fixedLengths[content] += step.maxLength();
+                    }
+                }
+                compiled = true;
+            }
+        }
+        return compiled ? new CompiledPrinter(plans, fixedLengths, zoneCounts) : null;
+    }
+
+    /**
+     * Compiles the steps of a composite for the specified content.
+     * <p>
+     * This mirrors the generic print, where a field that is unavailable within
+     * an optional section causes the innermost enclosing composite to be omitted,
+     * and a field that is unavailable outside an optional section is an error.
+     *
+     * @param printerParser  the composite to compile, not null
+     * @param content  the content flags of the class being compiled for
+     * @param optionalDepth  the depth of optional sections enclosing the composite
+     * @param steps  the steps to add to, not null
+     * @return true if compiled, false if no plan can be compiled
+     */
+    private static boolean compile(CompositePrinterParser printerParser, int content, int optionalDepth, List<Step> steps) {
+        int mark = steps.size();
+        if (printerParser.optional) {
+            optionalDepth++;
+        }
+        for (DateTimePrinter printer : printerParser.printers) {
+            if (printer instanceof CompositePrinterParser) {
+                if (compile((CompositePrinterParser) printer, content, optionalDepth, steps) == false) {
+                    return false;
+                }
+                continue;
+            }
+            if (printer instanceof CaseSensitivePrinterParser || printer instanceof StrictLenientPrinterParser) {
+                continue;
+            }
+            Step step = toStep(printer);
+            if (step == null) {
+                return false;
+            }
+            if ((step.requires & content) == step.requires) {
+                steps.add(step);
+            } else if (optionalDepth == 0) {
+                return false;
+            } else {
+                steps.subList(mark, steps.size()).clear();
+                return true;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts a printer to a step.
+     *
+     * @param printer  the printer to convert, not null
+     * @return the step, null if the printer cannot be compiled
+     */
+    private static Step toStep(DateTimePrinter printer) {
+        if (printer instanceof CharLiteralPrinterParser) {
+            return new LiteralStep(String.valueOf(((CharLiteralPrinterParser) printer).literal));
+        }
+        if (printer instanceof StringLiteralPrinterParser) {
+            return new LiteralStep(((StringLiteralPrinterParser) printer).literal);
+        }
+        if (printer.getClass() == NumberPrinterParser.class) {
+            NumberPrinterParser pp = (NumberPrinterParser) printer;
+            int field = NumberStep.field(pp.rule);
+            return (field < 0 ? null : new NumberStep(field, pp.minWidth, pp.maxWidth, pp.signStyle));
+        }
+        if (printer instanceof FractionPrinterParser) {
+            FractionPrinterParser pp = (FractionPrinterParser) printer;
+            return (pp.rule == ISODateTimeRule.NANO_OF_SECOND ? new FractionStep(pp.minWidth, pp.maxWidth) : null);
+        }
+        if (printer instanceof ZoneOffsetPrinterParser) {
+            ZoneOffsetPrinterParser pp = (ZoneOffsetPrinterParser) printer;
+            return new OffsetStep(pp.noOffsetText, pp.type);
+        }
+        if (printer instanceof ZoneIdPrinterParser) {
+            return (((ZoneIdPrinterParser) printer).textStyle == null ? new ZoneIdStep() : null);
+        }
+        return null;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param plans  the plans indexed by content, not null
+     * @param fixedLengths  the maximum fixed lengths indexed by content, not null
+     * @param zoneCounts  the number of time-zone IDs indexed by content, not null
+     */
+    private CompiledPrinter(Step[][] plans, int[] fixedLengths, int[] zoneCounts) {
+        this.plans = plans;
+        this.fixedLengths = fixedLengths;
+        this.zoneCounts = zoneCounts;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints the calendrical to a string using the compiled plan.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @return the printed string, null if the generic print must be used
+     */
+    String print(Calendrical calendrical) {
+        Buffer buf = printToBuffer(calendrical);
+        if (buf == null) {
+            return null;
+        }
+        return new String(buf.chars, 0, buf.length);
+    }
+
+    /**
+     * Prints the calendrical to the builder using the compiled plan.
+     * <p>
+     * Nothing is appended if the generic print must be used.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @param appendable  the builder to append to, not null
+     * @return true if printed, false if the generic print must be used
+     */
+    boolean printTo(Calendrical calendrical, StringBuilder appendable) {
+        Buffer buf = printToBuffer(calendrical);
+        if (buf == null) {
+            return false;
+        }
+        appendable.append(buf.chars, 0, buf.length);
+        return true;
+    }
+
+    /**
+     * Prints the calendrical to the per-thread buffer.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @return the buffer, null if the generic print must be used
+     */
+    private Buffer printToBuffer(Calendrical calendrical) {
+        LocalDate date = null;
+        LocalTime time = null;
+        ZoneOffset offset = null;
+        ZoneId zone = null;
+        int content;
+        Class<?> cls = calendrical.getClass();
+        if (cls == LocalDateTime.class) {
+            LocalDateTime dt = (LocalDateTime) calendrical;
+            date = dt.toLocalDate();
+            time = dt.toLocalTime();
+            content = DATE | TIME;
+        } else if (cls == LocalDate.class) {
+            date = (LocalDate) calendrical;
+            content = DATE;
+        } else if (cls == OffsetDateTime.class) {
+            OffsetDateTime dt = (OffsetDateTime) calendrical;
+            date = dt.toLocalDate();
+            time = dt.toLocalTime();
+            offset = dt.getOffset();
+            content = DATE | TIME | OFFSET;
+        } else if (cls == ZonedDateTime.class) {
+            ZonedDateTime dt = (ZonedDateTime) calendrical;
+            date = dt.toLocalDate();
+            time = dt.toLocalTime();
+            offset = dt.getOffset();
+            zone = dt.getZone();
+            content = DATE | TIME | OFFSET | ZONE;
+        } else if (cls == LocalTime.class) {
+            time = (LocalTime) calendrical;
+            content = TIME;
+        } else if (cls == OffsetDate.class) {
+            OffsetDate od = (OffsetDate) calendrical;
+            date = od.toLocalDate();
+            offset = od.getOffset();
+            content = DATE | OFFSET;
+        } else if (cls == OffsetTime.class) {
+            OffsetTime ot = (OffsetTime) calendrical;
+            time = ot.toLocalTime();
+            offset = ot.getOffset();
+            content = TIME | OFFSET;
+        } else {
+            return null;
+        }
+        Step[] steps = plans[content];
+        if (steps == null) {
+            return null;
+        }
+        int maxLength = fixedLengths[content];
+        if (zone != null) {
+            maxLength += zoneCounts[content] * zone.getID().length();
+        }
+        Buffer buf = BUFFER.get();
+        if (buf.chars.length < maxLength) {
+            buf.chars = new char[maxLength];
+        }
+        char[] chars = buf.chars;
+        int pos = 0;
+        for (Step step : steps) {
+            pos = step.print(date, time, offset, zone, chars, pos);
+            if (pos < 0) {
+                return null;
+            }
+        }
+        buf.length = pos;
+        return buf;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The per-thread buffer, which grows as necessary.
+     */
+    private static final class Buffer {
+        /**
+         * The characters printed.
+         */
+        char[] chars = new char[64];
+        /**
+         * The number of characters printed.
+         */
+        int length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A single step of a compiled plan.
+     */
+    abstract static class Step {
+        /**
+         * The content flags required by the step.
+         */
+        final int requires;
+
+        /**
+         * Constructor.
+         *
+         * @param requires  the content flags required by the step
+         */
+        Step(int requires) {
+            this.requires = requires;
+        }
+
+        /**
+         * Gets the maximum number of characters printed by the step.
+         *
+         * @return the maximum length
+         */
+        abstract int maxLength();
+
+        /**
+         * Prints the step into the buffer, which is known to be large enough.
+         *
+         * @param date  the date, not null if required
+         * @param time  the time, not null if required
+         * @param offset  the offset, not null if required
+         * @param zone  the time-zone, not null if required
+         * @param buf  the buffer to print into, not null
+         * @param pos  the position to print at
+         * @return the position after printing, negative if the generic print must be used
+         */
+        abstract int print(LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone, char[] buf, int pos);
+    }
+
+    /**
+     * Prints a literal.
+     */
+    static final class LiteralStep extends Step {
+        private final char[] literal;
+
+        LiteralStep(String literal) {
+            super(0);
+            this.literal = literal.toCharArray();
+        }
+
+        @Override
+        int maxLength() {
+            return literal.length;
+        }
+
+        @Override
+        int print(LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone, char[] buf, int pos) {
+            System.arraycopy(literal, 0, buf, pos, literal.length);
+            return pos + literal.length;
+        }
+    }
+
+    /**
+     * Prints a number, matching {@code NumberPrinterParser}.
+     */
+    static final class NumberStep extends Step {
+        private static final DateTimeRule[] RULES = new DateTimeRule[] {
+            ISODateTimeRule.YEAR, ISODateTimeRule.MONTH_OF_YEAR, ISODateTimeRule.DAY_OF_MONTH,
+            ISODateTimeRule.HOUR_OF_DAY, ISODateTimeRule.MINUTE_OF_HOUR, ISODateTimeRule.SECOND_OF_MINUTE,
+        };
+        private final int field;
+        private final int minWidth;
+        private final int maxWidth;
+        private final SignStyle signStyle;
+
+        static int field(DateTimeRule rule) {
+            for (int i = 0; i < RULES.length; i++) {
+                if (RULES[i] == rule) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        NumberStep(int field, int minWidth, int maxWidth, SignStyle signStyle) {
+            super(field < 3 ? DATE : TIME);
+            this.field = field;
+            this.minWidth = minWidth;
+            this.maxWidth = maxWidth;
+            this.signStyle = signStyle;
+        }
+
+        @Override
+        int maxLength() {
+            return Math.max(minWidth, 10) + 1;  // all fields are ints
+        }
+
+        @Override
+        int print(LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone, char[] buf, int pos) {
+            int value;
+            switch (field) {
+                case 0: value = date.getYear(); break;
+                case 1: value = date.getMonthOfYear().getValue(); break;
+                case 2: value = date.getDayOfMonth(); break;
+                case 3: value = time.getHourOfDay(); break;
+                case 4: value = time.getMinuteOfHour(); break;
+                default: value = time.getSecondOfMinute(); break;
+            }
+            long abs = Math.abs((long) value);
+            int digits = 1;
+            for (long test = abs; test >= 10; test /= 10) {
+                digits++;
+            }
+            if (digits > maxWidth) {
+                return -1;
+            }
+            if (value >= 0) {
+                switch (signStyle) {
+                    case EXCEEDS_PAD:
+                        if (minWidth >= NumberPrinterParser.EXCEED_POINTS.length) {
+                            return -1;
+                        }
+                        if (value >= NumberPrinterParser.EXCEED_POINTS[minWidth]) {
+                            buf[pos++] = '+';
+                        }
+                        break;
+                    case ALWAYS:
+                        buf[pos++] = '+';
+                        break;
+                }
+            } else {
+                if (signStyle == SignStyle.NOT_NEGATIVE) {
+                    return -1;
+                }
+                buf[pos++] = '-';
+            }
+            for (int i = digits; i < minWidth; i++) {
+                buf[pos++] = '0';
+            }
+            pos += digits;
+            for (int i = pos - 1; i >= pos - digits; i--) {
+                buf[i] = (char) ('0' + abs % 10);
+                abs /= 10;
+            }
+            return pos;
+        }
+    }
+
+    /**
+     * Prints the nano-of-second fraction, matching {@code FractionPrinterParser}.
+     */
+    static final class FractionStep extends Step {
+        private final int minWidth;
+        private final int maxWidth;
+
+        FractionStep(int minWidth, int maxWidth) {
+            super(TIME);
+            this.minWidth = minWidth;
+            this.maxWidth = maxWidth;
+        }
+
+        @Override
+        int maxLength() {
+            return 10;
+        }
+
+        @Override
+        int print(LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone, char[] buf, int pos) {
+            int nano = time.getNanoOfSecond();
+            int scale = 0;
+            if (nano != 0) {
+                scale = 9;
+                for (int test = nano; test % 10 == 0; test /= 10) {
+                    scale--;
+                }
+            } else if (minWidth == 0) {
+                return pos;
+            }
+            int outputScale = Math.min(Math.max(scale, minWidth), maxWidth);
+            buf[pos++] = '.';
+            int divisor = 100000000;
+            for (int i = 0; i < outputScale; i++) {
+                buf[pos++] = (char) ('0' + (nano / divisor) % 10);
+                divisor /= 10;
+            }
+            return pos;
+        }
+    }
+
+    /**
+     * Prints the offset, matching {@code ZoneOffsetPrinterParser}.
+     */
+    static final class OffsetStep extends Step {
+        private final char[] noOffsetText;
+        private final int type;
+
+        OffsetStep(String noOffsetText, int type) {
+            super(OFFSET);
+            this.noOffsetText = noOffsetText.toCharArray();
+            this.type = type;
+        }
+
+        @Override
+        int maxLength() {
+            return Math.max(noOffsetText.length, 9);
+        }
+
+        @Override
+        int print(LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone, char[] buf, int pos) {
+            int totalSecs = offset.getTotalSeconds();
+            if (totalSecs == 0) {
+                System.arraycopy(noOffsetText, 0, buf, pos, noOffsetText.length);
+                return pos + noOffsetText.length;
+            }
+            int absHours = Math.abs(offset.getHoursField());
+            int absMinutes = Math.abs(offset.getMinutesField());
+            int absSeconds = Math.abs(offset.getSecondsField());
+            boolean colon = (type % 2) == 0;
+            buf[pos++] = (totalSecs < 0 ? '-' : '+');
+            buf[pos++] = (char) (absHours / 10 + '0');
+            buf[pos++] = (char) (absHours % 10 + '0');
+            if (type >= 1) {
+                if (colon) {
+                    buf[pos++] = ':';
+                }
+                buf[pos++] = (char) (absMinutes / 10 + '0');
+                buf[pos++] = (char) (absMinutes % 10 + '0');
+                if (type >= 5 || (type >= 3 && absSeconds > 0)) {
+                    if (colon) {
+                        buf[pos++] = ':';
+                    }
+                    buf[pos++] = (char) (absSeconds / 10 + '0');
+                    buf[pos++] = (char) (absSeconds % 10 + '0');
+                }
+            }
+            return pos;
+        }
+    }
+
+    /**
+     * Prints the time-zone ID, matching {@code ZoneIdPrinterParser}.
+     */
+    static final class ZoneIdStep extends Step {
+        ZoneIdStep() {
+            super(ZONE);
+        }
+
+        @Override
+        int maxLength() {
+            return 0;  // added when printing
+        }
+
+        @Override
+        int print(LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone, char[] buf, int pos) {
+            String id = zone.getID();
+            id.getChars(0, id.length(), buf, pos);
+            return pos + id.length();
+        }
+    }
+
+}
@@ -46,7 +46,7 @@ final class CompositePrinterParser implements DateTimePrinter, DateTimeParser {
     /**
      * The list of printers that will be used, treated as immutable.
      */
-    private final DateTimePrinter[] printers;
+    final DateTimePrinter[] printers;
     /**
      * The list of parsers that will be used, treated as immutable.
      */
@@ -54,7 +54,7 @@ final class CompositePrinterParser implements DateTimePrinter, DateTimeParser {
     /**
      * Whether the print and parse are optional.
      */
-    private final boolean optional;
+    final boolean optional;
 
     /**
      * Constructor.
@@ -81,18 +81,36 @@ public final class DateTimeFormatter {
      * The printer and/or parser to use, not null.
      */
     private final CompositePrinterParser printerParser;
+    /**
+     * The compiled print plan for the common date-time classes, null if none.
+     */
+    private final CompiledPrinter compiledPrinter;
 
     /**
-     * Constructor.
+     * Constructor compiling the print plan.
      *
      * @param locale  the locale to use, not null
      * @param symbols  the symbols to use, not null
      * @param printerParser  the printer/parser to use, not null
      */
     DateTimeFormatter(Locale locale, DateTimeFormatSymbols symbols, CompositePrinterParser printerParser) {
+        this(locale, symbols, printerParser, CompiledPrinter.compile(printerParser));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param locale  the locale to use, not null
+     * @param symbols  the symbols to use, not null
+     * @param printerParser  the printer/parser to use, not null
+     * @param compiledPrinter  the compiled print plan, null if none
+     */
+    private DateTimeFormatter(Locale locale, DateTimeFormatSymbols symbols,
+            CompositePrinterParser printerParser, CompiledPrinter compiledPrinter) {
         this.locale = locale;
         this.symbols = symbols;
         this.printerParser = printerParser;
+        this.compiledPrinter = compiledPrinter;
     }
 
     //-----------------------------------------------------------------------
@@ -118,7 +136,7 @@ public final class DateTimeFormatter {
         if (locale.equals(this.locale)) {
             return this;
         }
-        return new DateTimeFormatter(locale, symbols, printerParser);
+        return new DateTimeFormatter(locale, symbols, printerParser, compiledPrinter);
     }
 
     //-----------------------------------------------------------------------
@@ -144,7 +162,7 @@ public final class DateTimeFormatter {
         if (symbols.equals(this.symbols)) {
             return this;
         }
-        return new DateTimeFormatter(locale, symbols, printerParser);
+        return new DateTimeFormatter(locale, symbols, printerParser, compiledPrinter);
     }
 
     //-----------------------------------------------------------------------
@@ -173,6 +191,13 @@ public final class DateTimeFormatter {
      * @throws CalendricalException if an error occurs during printing
      */
     public String print(Calendrical calendrical) {
+        MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
+        if (isCompiledPrint()) {
+            String str = compiledPrinter.print(calendrical);
+            if (str != null) {
+                return str;
+            }
+        }
         StringBuilder buf = new StringBuilder(32);
         printTo(calendrical, buf);
         return buf.toString();
@@ -201,6 +226,19 @@ public final class DateTimeFormatter {
         MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
         MathUtils.checkNotNull(appendable, "Appendable must not be null");
         try {
+            if (isCompiledPrint()) {
+                if (appendable instanceof StringBuilder) {
+                    if (compiledPrinter.printTo(calendrical, (StringBuilder) appendable)) {
+                        return;
+                    }
+                } else {
+                    String str = compiledPrinter.print(calendrical);
+                    if (str != null) {
+                        appendable.append(str);
+                        return;
+                    }
+                }
+            }
             DateTimePrintContext context = new DateTimePrintContext(calendrical, locale, symbols);
             if (appendable instanceof StringBuilder) {
                 printerParser.print(context, (StringBuilder) appendable);
@@ -215,6 +253,18 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Checks whether the compiled print plan can be used.
+     * <p>
+     * The plan prints using the standard symbols, falling back to the
+     * generic print for any other symbols or unsupported calendricals.
+     *
+     * @return true if the compiled plan can be used
+     */
+    private boolean isCompiledPrint() {
+        return compiledPrinter != null && symbols.equals(DateTimeFormatSymbols.STANDARD);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks whether this formatter can parse.
@@ -243,6 +293,9 @@ public final class DateTimeFormatter {
      * or a problem occurs during parsing or merging, then an exception is thrown.
      * <p>
      * Internally, this uses the mid and low level parsing methods.
+     * Simple sets of parsed fields, such as those of the ISO formatters, are
+     * converted directly to {@code LocalDate}, {@code LocalDateTime},
+     * {@code OffsetDateTime} and {@code ZonedDateTime} without using the engine.
      *
      * @param text  the text to parse, not null
      * @return the parsed calendrical, not null
@@ -253,15 +306,22 @@ public final class DateTimeFormatter {
         MathUtils.checkNotNull(text, "Text must not be null");
         MathUtils.checkNotNull(rule, "CalendricalRule must not be null");
         String str = text.toString();  // parsing whole String, so this makes sense
+        DateTimeParseContext context = DateTimeParseContext.acquire(locale, symbols);
         try {
-            CalendricalEngine engine = parseToEngine(str);
-            return engine.deriveChecked(rule);
+            parseComplete(str, context);
+            T direct = context.resolveDirect(rule);
+            if (direct != null) {
+                return direct;
+            }
+            return context.toCalendricalEngine().deriveChecked(rule);
         } catch (UnsupportedOperationException ex) {
             throw ex;
         } catch (CalendricalParseException ex) {
             throw ex;
         } catch (RuntimeException ex) {
             throw createError(str, ex);
+        } finally {
+            context.release();
         }
     }
 
@@ -351,22 +411,38 @@ public final class DateTimeFormatter {
     public CalendricalEngine parseToEngine(CharSequence text) {
         MathUtils.checkNotNull(text, "Text must not be null");
         String str = text.toString();  // parsing whole String, so this makes sense
-        ParsePosition pos = new ParsePosition(0);
-        DateTimeParseContext result = parseToContext(str, pos);
-        if (pos.getErrorIndex() >= 0 || pos.getIndex() < str.length()) {
-            String abbr = str.toString();
+        DateTimeParseContext context = DateTimeParseContext.acquire(locale, symbols);
+        try {
+            parseComplete(str, context);
+            return context.toCalendricalEngine();
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * Parses the whole of the text into the context.
+     *
+     * @param str  the text to parse, not null
+     * @param context  the context to parse into, not null
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    private void parseComplete(String str, DateTimeParseContext context) {
+        int pos = printerParser.parse(context, str, 0);
+        if (pos < 0 || pos < str.length()) {
+            String abbr = str;
             if (abbr.length() > 64) {
                 abbr = abbr.substring(0, 64) + "...";
             }
-            if (pos.getErrorIndex() >= 0) {
+            if (pos < 0) {
                 throw new CalendricalParseException("Text '" + abbr + "' could not be parsed at index " +
-                        pos.getErrorIndex(), str, pos.getErrorIndex());
+                        ~pos, str, ~pos);
             } else {
                 throw new CalendricalParseException("Text '" + abbr + "' could not be parsed, unparsed text found at index " +
-                        pos.getIndex(), str, pos.getIndex());
+                        pos, str, pos);
             }
         }
-        return result.toCalendricalEngine();
     }
 
     /**
@@ -31,15 +31,64 @@
  */
 package javax.time.format;
 
+import static javax.time.calendrical.ISODateTimeRule.ALIGNED_WEEK_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.ALIGNED_WEEK_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.AMPM_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.CLOCK_HOUR_OF_AMPM;
+import static javax.time.calendrical.ISODateTimeRule.CLOCK_HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_WEEK;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.EPOCH_DAY;
+import static javax.time.calendrical.ISODateTimeRule.EPOCH_SECOND;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_AMPM;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MILLI_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MILLI_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.MILLI_OF_MINUTE;
+import static javax.time.calendrical.ISODateTimeRule.MILLI_OF_SECOND;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_QUARTER;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_MILLI;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_MINUTE;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_SECOND;
+import static javax.time.calendrical.ISODateTimeRule.QUARTER_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_MINUTE;
+import static javax.time.calendrical.ISODateTimeRule.WEEK_BASED_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.WEEK_OF_WEEK_BASED_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
+import static javax.time.calendrical.ISODateTimeRule.ZERO_EPOCH_MONTH;
+
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
 import javax.time.MathUtils;
+import javax.time.MonthOfYear;
+import javax.time.OffsetDateTime;
+import javax.time.Year;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
+import javax.time.calendrical.CalendricalRule;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
+import javax.time.zone.ZoneRules;
 
 /**
  * Context object used during date and time parsing.
@@ -51,15 +100,74 @@ import javax.time.calendrical.DateTimeRule;
  * Once parsing is complete, the {@link #toCalendricalEngine()} is typically used
  * to obtain a merger that will merge the separate parsed fields into meaningful values.
  * <p>
+ * The values of ISO fields are stored in primitive slots indexed by the rule ordinal,
+ * with a bitmask of the slots that are present. Other parsed data is stored in a list.
+ * This allows optional sections to be saved and restored cheaply.
+ * <p>
  * This class is a mutable context intended for use from a single thread.
- * Usage of the class is thread-safe within standard parsing as the framework creates
- * a new instance of the class for each parse and parsing is single-threaded
+ * Usage of the class is thread-safe within standard parsing as the framework uses
+ * a separate instance for each thread and parsing is single-threaded.
  *
  * @author Michael Nascimento Santos
  * @author Stephen Colebourne
  */
 public final class DateTimeParseContext {
 
+    /**
+     * The ISO rules stored in slots, in the order of the rule ordinal.
+     */
+    private static final DateTimeRule[] SLOT_RULES = new DateTimeRule[] {
+        NANO_OF_MILLI, NANO_OF_SECOND, NANO_OF_MINUTE, NANO_OF_HOUR, NANO_OF_DAY,
+        MILLI_OF_SECOND, MILLI_OF_MINUTE, MILLI_OF_HOUR, MILLI_OF_DAY,
+        SECOND_OF_MINUTE, SECOND_OF_HOUR, SECOND_OF_DAY, EPOCH_SECOND,
+        MINUTE_OF_HOUR, MINUTE_OF_DAY,
+        CLOCK_HOUR_OF_AMPM, HOUR_OF_AMPM, CLOCK_HOUR_OF_DAY, HOUR_OF_DAY, AMPM_OF_DAY,
+        DAY_OF_WEEK, DAY_OF_MONTH, DAY_OF_YEAR, EPOCH_DAY,
+        ALIGNED_WEEK_OF_MONTH, WEEK_OF_WEEK_BASED_YEAR, ALIGNED_WEEK_OF_YEAR,
+        MONTH_OF_QUARTER, MONTH_OF_YEAR, ZERO_EPOCH_MONTH,
+        QUARTER_OF_YEAR,
+        WEEK_BASED_YEAR,
+        YEAR,
+    };
+    /**
+     * The slot index of each ISO rule.
+     */
+    private static final Map<DateTimeRule, Integer> SLOTS = new IdentityHashMap<DateTimeRule, Integer>();
+    static {
+        for (int i = 0; i < SLOT_RULES.length; i++) {
+            SLOTS.put(SLOT_RULES[i], i);
+        }
+    }
+    /**
+     * The slots that can be resolved directly, in order from year to nano-of-second.
+     */
+    private static final int[] DIRECT_SLOTS = new int[] {
+        SLOTS.get(YEAR), SLOTS.get(MONTH_OF_YEAR), SLOTS.get(DAY_OF_MONTH),
+        SLOTS.get(HOUR_OF_DAY), SLOTS.get(MINUTE_OF_HOUR), SLOTS.get(SECOND_OF_MINUTE), SLOTS.get(NANO_OF_SECOND),
+    };
+    /**
+     * The bitmask of the slots that can be resolved directly.
+     */
+    private static final long DIRECT_MASK;
+    static {
+        long mask = 0;
+        for (int slot : DIRECT_SLOTS) {
+            mask |= 1L << slot;
+        }
+        DIRECT_MASK = mask;
+    }
+    /**
+     * The maximum valid values of the time rules that can be resolved directly.
+     */
+    private static final long[] DIRECT_MAX_VALUES = new long[] {
+        0, 0, 0, 23, 59, 59, 999999999,
+    };
+
+    /**
+     * The context reused by each thread for internal parsing.
+     */
+    private static final ThreadLocal<DateTimeParseContext> THREAD_CONTEXT = new ThreadLocal<DateTimeParseContext>();
+
     /**
      * The locale, not null.
      */
@@ -77,9 +185,39 @@ public final class DateTimeParseContext {
      */
     private boolean strict = true;
     /**
-     * The list of parsed data.
+     * The values of the parsed ISO fields, indexed by slot.
+     */
+    private final long[] values = new long[SLOT_RULES.length];
+    /**
+     * The bitmask of slots that have been parsed.
+     */
+    private long present;
+    /**
+     * The parsed calendricals that are not stored in a slot, such as the
+     * offset, time-zone, non-ISO fields and repeated fields.
+     */
+    private final ArrayList<Calendrical> others = new ArrayList<Calendrical>();
+    /**
+     * The order of parsing, a slot index or the complement of an index into others.
+     */
+    private int[] sequence = new int[16];
+    /**
+     * The number of entries in the sequence.
+     */
+    private int sequenceLength;
+    /**
+     * The saved state of each active optional section, four ints per section,
+     * being the bitmask as two ints, the sequence length and the size of others.
+     */
+    private int[] optionalState = new int[16];
+    /**
+     * The number of active optional sections.
+     */
+    private int optionalDepth;
+    /**
+     * Whether the context is in use, only applicable to the per-thread context.
      */
-    private final ArrayList<Parsed> calendricals = new ArrayList<Parsed>();
+    private boolean inUse;
 
     /**
      * Creates a new instance of the context.
@@ -93,7 +231,55 @@ public final class DateTimeParseContext {
         super();
         setLocale(locale);
         setSymbols(symbols);
-        calendricals.add(new Parsed());
+    }
+
+    /**
+     * Obtains an empty context for internal use by the current thread.
+     * <p>
+     * The context is reused by later calls on the same thread once released.
+     * The context must not be exposed to application code.
+     *
+     * @param locale  the locale to use, not null
+     * @param symbols  the symbols to use during parsing, not null
+     * @return the context, not null
+     */
+    static DateTimeParseContext acquire(Locale locale, DateTimeFormatSymbols symbols) {
+        DateTimeParseContext context = THREAD_CONTEXT.get();
+        if (context == null) {
+            context = new DateTimeParseContext(locale, symbols);
+            THREAD_CONTEXT.set(context);
+        } else if (context.inUse) {
+            return new DateTimeParseContext(locale, symbols);  // re-entrant use
+        } else {
+            context.setLocale(locale);
+            context.setSymbols(symbols);
+            context.caseSensitive = true;
+            context.strict = true;
+            context.clear();
+        }
+        context.inUse = true;
+        return context;
+    }
+
+    /**
+     * Releases a context obtained from {@link #acquire}, allowing it to be reused.
+     */
+    void release() {
+        inUse = false;
+        if (others.size() > 16) {
+            others.clear();
+            others.trimToSize();  // avoid retaining large amounts of memory
+        }
+    }
+
+    /**
+     * Clears the parsed data.
+     */
+    private void clear() {
+        present = 0;
+        others.clear();
+        sequenceLength = 0;
+        optionalDepth = 0;
     }
 
     //-----------------------------------------------------------------------
@@ -227,7 +413,15 @@ public final class DateTimeParseContext {
      * Starts the parsing of an optional segment of the input.
      */
     void startOptional() {
-        calendricals.add(currentCalendrical().clone());
+        int index = optionalDepth * 4;
+        if (index == optionalState.length) {
+            optionalState = Arrays.copyOf(optionalState, index * 2);
+        }
+        optionalState[index] = (int) present;
+        optionalState[index + 1] = (int) (present >>> 32);
+        optionalState[index + 2] = sequenceLength;
+        optionalState[index + 3] = others.size();
+        optionalDepth++;
     }
 
     /**
@@ -236,23 +430,19 @@ public final class DateTimeParseContext {
      * @param successful  whether the optional segment was successfully parsed
      */
     void endOptional(boolean successful) {
-        if (successful) {
-            calendricals.remove(calendricals.size() - 2);
-        } else {
-            calendricals.remove(calendricals.size() - 1);
+        optionalDepth--;
+        if (successful == false) {
+            // slots are only written when not present, so restoring the mask restores the slots
+            int index = optionalDepth * 4;
+            present = (optionalState[index] & 0xFFFFFFFFL) | (((long) optionalState[index + 1]) << 32);
+            sequenceLength = optionalState[index + 2];
+            int othersSize = optionalState[index + 3];
+            if (others.size() > othersSize) {
+                others.subList(othersSize, others.size()).clear();
+            }
         }
     }
 
-    //-----------------------------------------------------------------------
-    /**
-     * Gets the currently active calendrical.
-     *
-     * @return the current calendrical, not null
-     */
-    private Parsed currentCalendrical() {
-        return calendricals.get(calendricals.size() - 1);
-    }
-
     //-----------------------------------------------------------------------
     /**
      * Gets the first field matching the specified rule.
@@ -266,7 +456,11 @@ public final class DateTimeParseContext {
      * @return the value mapped to the specified rule, null if rule not in the map
      */
     public DateTimeField getParsed(DateTimeRule rule) {
-        for (Calendrical cal : currentCalendrical().calendricals) {
+        Integer slot = SLOTS.get(rule);
+        if (slot != null) {
+            return ((present & (1L << slot)) != 0 ? DateTimeField.of(rule, values[slot]) : null);
+        }
+        for (Calendrical cal : others) {
             if (cal instanceof DateTimeField) {
                 DateTimeField field = (DateTimeField) cal;
                 if (field.getRule().equals(rule)) {
@@ -290,7 +484,8 @@ public final class DateTimeParseContext {
      */
     @SuppressWarnings("unchecked")
     public <T> T getParsed(Class<T> clazz) {
-        for (Calendrical cal : currentCalendrical().calendricals) {
+        for (int i = 0; i < sequenceLength; i++) {
+            Calendrical cal = getSequence(i);
             if (clazz.isInstance(cal)) {
                 return (T) cal;
             }
@@ -309,7 +504,7 @@ public final class DateTimeParseContext {
      * @return the list of previously parsed calendricals, not null, no nulls
      */
     public List<Calendrical> getParsed() {
-        return currentCalendrical().calendricals;
+        return new ParsedList();
     }
 
     /**
@@ -321,7 +516,16 @@ public final class DateTimeParseContext {
      */
     public <T> void setParsed(Calendrical calendrical) {
         MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
-        currentCalendrical().calendricals.add(calendrical);
+        if (calendrical instanceof DateTimeField) {
+            DateTimeField field = (DateTimeField) calendrical;
+            Integer slot = SLOTS.get(field.getRule());
+            if (slot != null && (present & (1L << slot)) == 0) {
+                setSlot(slot, field.getValue());
+                return;
+            }
+        }
+        addSequence(~others.size());
+        others.add(calendrical);
     }
 
     /**
@@ -333,8 +537,134 @@ public final class DateTimeParseContext {
      * @param value  the value to set in the rule-value map
      */
     public void setParsedField(DateTimeRule rule, long value) {
-        DateTimeField field = DateTimeField.of(rule, value);
-        currentCalendrical().calendricals.add(field);
+        Integer slot = SLOTS.get(rule);
+        if (slot != null && (present & (1L << slot)) == 0) {
+            setSlot(slot, value);
+        } else {
+            setParsed(DateTimeField.of(rule, value));
+        }
+    }
+
+    /**
+     * Stores a value in an empty slot.
+     *
+     * @param slot  the slot index
+     * @param value  the value to store
+     */
+    private void setSlot(int slot, long value) {
+        values[slot] = value;
+        present |= 1L << slot;
+        addSequence(slot);
+    }
+
+    /**
+     * Adds an entry to the sequence.
+     *
+     * @param entry  the slot index or the complement of the index into others
+     */
+    private void addSequence(int entry) {
+        if (sequenceLength == sequence.length) {
+            sequence = Arrays.copyOf(sequence, sequenceLength * 2);
+        }
+        sequence[sequenceLength++] = entry;
+    }
+
+    /**
+     * Gets the calendrical at the specified index of the sequence.
+     *
+     * @param index  the index of the sequence
+     * @return the calendrical, not null
+     */
+    private Calendrical getSequence(int index) {
+        int entry = sequence[index];
+        return (entry >= 0 ? DateTimeField.of(SLOT_RULES[entry], values[entry]) : others.get(~entry));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Resolves the parsed data directly to one of the common date-time classes.
+     * <p>
+     * Parsing with the ISO formatters results in a simple set of fields, from year
+     * down to nano-of-second plus the offset and time-zone. When these fields are
+     * all present exactly once and valid, the result can be created directly without
+     * the overhead of the {@code CalendricalEngine}. Any other combination returns
+     * null, and the engine must be used to interpret the data.
+     * <p>
+     * The result is always the same as the result of the engine.
+     *
+     * @param rule  the rule to resolve, not null
+     * @return the resolved date-time, null if the engine must be used
+     */
+    @SuppressWarnings("unchecked")
+    <T> T resolveDirect(CalendricalRule<T> rule) {
+        boolean dateTime = (rule == LocalDateTime.rule() || rule == OffsetDateTime.rule() || rule == ZonedDateTime.rule());
+        if (dateTime == false && rule != LocalDate.rule()) {
+            return null;
+        }
+        if ((present & ~DIRECT_MASK) != 0) {
+            return null;
+        }
+        ZoneOffset offset = null;
+        ZoneId zone = null;
+        for (Calendrical cal : others) {
+            if (cal instanceof ZoneOffset && offset == null) {
+                offset = (ZoneOffset) cal;
+            } else if (cal instanceof ZoneId && zone == null) {
+                zone = (ZoneId) cal;
+            } else {
+                return null;
+            }
+        }
+        long[] values = new long[DIRECT_SLOTS.length];
+        int found = 0;
+        for (int i = 0; i < DIRECT_SLOTS.length; i++) {
+            if ((present & (1L << DIRECT_SLOTS[i])) != 0) {
+                values[i] = this.values[DIRECT_SLOTS[i]];
+                found |= 1 << i;
+            }
+        }
+        int timeFound = found >> 3;  // hour, minute, second, nano
+        if ((found & 7) != 7 || (timeFound != 0 && timeFound != 3 && timeFound != 7 && timeFound != 15)) {
+            return null;
+        }
+        long year = values[0];
+        long month = values[1];
+        long dom = values[2];
+        if (year < Year.MIN_YEAR || year > Year.MAX_YEAR || month < 1 || month > 12 ||
+                dom < 1 || dom > MonthOfYear.of((int) month).getLastDayOfMonth(Year.isLeap(year))) {
+            return null;
+        }
+        for (int i = 3; i < DIRECT_SLOTS.length; i++) {
+            if (values[i] < 0 || values[i] > DIRECT_MAX_VALUES[i]) {
+                return null;
+            }
+        }
+        LocalDate date = LocalDate.of((int) year, (int) month, (int) dom);
+        if (rule == LocalDate.rule()) {
+            return (T) date;
+        }
+        if (timeFound == 0) {
+            return null;
+        }
+        LocalDateTime ldt = LocalDateTime.of(date, LocalTime.of((int) values[3], (int) values[4], (int) values[5], (int) values[6]));
+        if (rule == LocalDateTime.rule()) {
+            return (T) ldt;
+        }
+        if (offset == null) {
+            return null;  // zone without offset requires a resolver
+        }
+        OffsetDateTime odt = OffsetDateTime.of(ldt, offset);
+        if (rule == OffsetDateTime.rule()) {
+            return (T) odt;
+        }
+        if (zone == null) {
+            return (T) ZonedDateTime.of(odt, ZoneId.of(offset));
+        }
+        ZoneRules rules = zone.getRules();  // latest rules version, matching the engine
+        if (rules.isValidDateTime(odt) == false) {
+            odt = odt.withOffsetSameInstant(rules.getOffset(odt.toInstant()));
+        }
+        return (T) ZonedDateTime.of(odt, zone);
     }
 
     //-----------------------------------------------------------------------
@@ -351,8 +681,11 @@ public final class DateTimeParseContext {
      * @return a new independent engine with the parsed calendricals, not null
      */
     public CalendricalEngine toCalendricalEngine() {
-        List<Calendrical> cals = getParsed();
-        return CalendricalEngine.merge(cals.toArray(new Calendrical[cals.size()]));
+        Calendrical[] cals = new Calendrical[sequenceLength];
+        for (int i = 0; i < sequenceLength; i++) {
+            cals[i] = getSequence(i);
+        }
+        return CalendricalEngine.merge(cals);
     }
 
     //-----------------------------------------------------------------------
@@ -363,25 +696,68 @@ public final class DateTimeParseContext {
      */
     @Override
     public String toString() {
-        return currentCalendrical().toString();
+        return getParsed().toString();
     }
 
     //-----------------------------------------------------------------------
     /**
-     * Temporary store of parsed data.
+     * Live view of the parsed calendricals in the order they were parsed.
+     * <p>
+     * Appending is efficient, other modifications rebuild the parsed data.
      */
-    static class Parsed {
-        final List<Calendrical> calendricals = new ArrayList<Calendrical>();
-        
+    private final class ParsedList extends AbstractList<Calendrical> {
+        @Override
+        public Calendrical get(int index) {
+            if (index < 0 || index >= sequenceLength) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + sequenceLength);
+            }
+            return getSequence(index);
+        }
+        @Override
+        public int size() {
+            return sequenceLength;
+        }
         @Override
-        protected Parsed clone() {
-            Parsed cloned = new Parsed();
-            cloned.calendricals.addAll(this.calendricals);
-            return cloned;
+        public void add(int index, Calendrical calendrical) {
+            if (index == sequenceLength) {
+                setParsed(calendrical);
+            } else {
+                List<Calendrical> copy = new ArrayList<Calendrical>(this);
+                copy.add(index, calendrical);
+                rebuild(copy);
+            }
+            modCount++;
         }
         @Override
-        public String toString() {
-            return calendricals.toString();
+        public Calendrical set(int index, Calendrical calendrical) {
+            List<Calendrical> copy = new ArrayList<Calendrical>(this);
+            Calendrical old = copy.set(index, calendrical);
+            rebuild(copy);
+            return old;
+        }
+        @Override
+        public Calendrical remove(int index) {
+            List<Calendrical> copy = new ArrayList<Calendrical>(this);
+            Calendrical old = copy.remove(index);
+            rebuild(copy);
+            modCount++;
+            return old;
+        }
+        @Override
+        public void clear() {
+            rebuild(new ArrayList<Calendrical>());
+            modCount++;
+        }
+        private void rebuild(List<Calendrical> calendricals) {
+            for (Calendrical calendrical : calendricals) {
+                MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
+            }
+            present = 0;
+            others.clear();
+            sequenceLength = 0;
+            for (Calendrical calendrical : calendricals) {
+                setParsed(calendrical);
+            }
         }
     }
 
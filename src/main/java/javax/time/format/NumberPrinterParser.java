@@ -72,11 +72,11 @@ class NumberPrinterParser implements DateTimePrinter, DateTimeParser {
     /**
      * The maximum width allowed, from 1 to 19.
      */
-    private final int maxWidth;
+    final int maxWidth;
     /**
      * The positive/negative sign style, not null.
      */
-    private final SignStyle signStyle;
+    final SignStyle signStyle;
     /**
      * The subsequent width of fixed width non-negative number fields, 0 or greater.
      */
@@ -102,6 +102,25 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         return null;
     }
 
+    /**
+     * Gets the trie of text to field for the specified rule, style and locale.
+     * <p>
+     * The trie is built once per store and matches the same text as the
+     * iterator from {@link #getTextIterator} in time proportional to the length of the text.
+     *
+     * @param rule  the rule to get text for, not null
+     * @param style  the style to get text for, null for all parsable text
+     * @param locale  the locale to get text for, not null
+     * @return the trie of text, null if the rule and style is not parsable
+     */
+    TextTrie getTextTrie(DateTimeRule rule, TextStyle style, Locale locale) {
+        Object store = findStore(rule, locale);
+        if (store instanceof LocaleStore) {
+            return ((LocaleStore) store).getTextTrie(style);
+        }
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     private Object findStore(DateTimeRule rule, Locale locale) {
         Entry<DateTimeRule, Locale> key = createEntry(rule, locale);
@@ -240,6 +259,10 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          * Parsable data.
          */
         private final Map<TextStyle, List<Entry<String, DateTimeField>>> parsable;
+        /**
+         * Parsable data as tries, matching the parsable lists.
+         */
+        private final Map<TextStyle, TextTrie> parsableTries;
 
         //-----------------------------------------------------------------------
         /**
@@ -266,6 +289,11 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             }
             Collections.sort(allList, COMPARATOR);
             this.parsable = map;
+            Map<TextStyle, TextTrie> tries = new HashMap<TextStyle, TextTrie>();
+            for (Entry<TextStyle, List<Entry<String, DateTimeField>>> entry : map.entrySet()) {
+                tries.put(entry.getKey(), new TextTrie(entry.getValue()));
+            }
+            this.parsableTries = tries;
         }
 
         //-----------------------------------------------------------------------
@@ -295,6 +323,16 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             List<Entry<String, DateTimeField>> list = parsable.get(style);
             return list != null ? list.iterator() : null;
         }
+
+        /**
+         * Gets a trie of text to field for the specified style for the purpose of parsing.
+         *
+         * @param style  the style to get text for, null for all parsable text
+         * @return the trie of text, null if the style is not parsable
+         */
+        TextTrie getTextTrie(TextStyle style) {
+            return parsableTries.get(style);
+        }
     }
 
 }
@@ -94,7 +94,22 @@ final class TextPrinterParser implements DateTimePrinter, DateTimeParser {
             throw new IndexOutOfBoundsException();
         }
         TextStyle style = (context.isStrict() ? textStyle : null);
-        Iterator<Entry<String, DateTimeField>> it = DateTimeFormatters.getTextProvider().getTextIterator(rule, style, context.getLocale());
+        DateTimeTextProvider provider = DateTimeFormatters.getTextProvider();
+        if (provider instanceof SimpleDateTimeTextProvider) {
+            TextTrie trie = ((SimpleDateTimeTextProvider) provider).getTextTrie(rule, style, context.getLocale());
+            if (trie != null) {
+                Entry<String, DateTimeField> entry = trie.match(parseText, position, context.isCaseSensitive());
+                if (entry != null) {
+                    context.setParsed(entry.getValue());
+                    return position + entry.getKey().length();
+                }
+                if (context.isStrict()) {
+                    return ~position;
+                }
+                return numberPrinterParser().parse(context, parseText, position);
+            }
+        }
+        Iterator<Entry<String, DateTimeField>> it = provider.getTextIterator(rule, style, context.getLocale());
         if (it != null) {
             while (it.hasNext()) {
                 Entry<String, DateTimeField> entry = it.next();
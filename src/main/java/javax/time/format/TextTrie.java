@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import javax.time.calendrical.DateTimeField;
+
+/**
+ * A character trie used to match parsed text against a set of date-time text.
+ * <p>
+ * The trie is built from a list of text to field pairs, such as the month names,
+ * and finds the longest text that matches the input in time proportional to the
+ * length of the match. Where two texts are equivalent the first in the list wins.
+ * Two tries are built, one with the exact characters for case sensitive parsing
+ * and one with case folded characters for case insensitive parsing.
+ * <p>
+ * TextTrie is immutable and thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+final class TextTrie {
+
+    /**
+     * The root node for case sensitive matching.
+     */
+    private final Node exactRoot;
+    /**
+     * The root node for case insensitive matching.
+     */
+    private final Node foldedRoot;
+
+    /**
+     * Constructor.
+     *
+     * @param entries  the text to field pairs, in priority order, not null
+     */
+    TextTrie(List<Entry<String, DateTimeField>> entries) {
+        NodeBuilder exact = new NodeBuilder();
+        NodeBuilder folded = new NodeBuilder();
+        for (Entry<String, DateTimeField> entry : entries) {
+            String text = entry.getKey();
+            NodeBuilder exactNode = exact;
+            NodeBuilder foldedNode = folded;
+            for (int i = 0; i < text.length(); i++) {
+                char ch = text.charAt(i);
+                exactNode = exactNode.child(ch);
+                foldedNode = foldedNode.child(fold(ch));
+            }
+            if (exactNode.entry == null) {
+                exactNode.entry = entry;
+            }
+            if (foldedNode.entry == null) {
+                foldedNode.entry = entry;
+            }
+        }
+        this.exactRoot = exact.build();
+        this.foldedRoot = folded.build();
+    }
+
+    /**
+     * Folds the case of a character.
+     *
+     * @param ch  the character to fold
+     * @return the folded character
+     */
+    private static char fold(char ch) {
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the longest text matching the input at the specified position.
+     *
+     * @param text  the text to match against, not null
+     * @param position  the position to start matching at
+     * @param caseSensitive  whether to match case sensitively
+     * @return the matching text to field pair, null if no match
+     */
+    Entry<String, DateTimeField> match(CharSequence text, int position, boolean caseSensitive) {
+        Node node = (caseSensitive ? exactRoot : foldedRoot);
+        Entry<String, DateTimeField> best = node.entry;
+        int length = text.length();
+        for (int pos = position; pos < length; pos++) {
+            char ch = text.charAt(pos);
+            node = node.child(caseSensitive ? ch : fold(ch));
+            if (node == null) {
+                break;
+            }
+            if (node.entry != null) {
+                best = node.entry;
+            }
+        }
+        return best;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An immutable node in the trie.
+     */
+    private static final class Node {
+        /**
+         * The sorted characters of the children.
+         */
+        private final char[] chars;
+        /**
+         * The children, matching the characters.
+         */
+        private final Node[] children;
+        /**
+         * The text ending at this node, null if none.
+         */
+        private final Entry<String, DateTimeField> entry;
+
+        private Node(char[] chars, Node[] children, Entry<String, DateTimeField> entry) {
+            this.chars = chars;
+            this.children = children;
+            this.entry = entry;
+        }
+
+        private Node child(char ch) {
+            int index = Arrays.binarySearch(chars, ch);
+            return (index >= 0 ? children[index] : null);
+        }
+    }
+
+    /**
+     * A mutable node used while building the trie.
+     */
+    private static final class NodeBuilder {
+        private final Map<Character, NodeBuilder> children = new TreeMap<Character, NodeBuilder>();
+        private Entry<String, DateTimeField> entry;
+
+        private NodeBuilder child(char ch) {
+            NodeBuilder child = children.get(ch);
+            if (child == null) {
+                child = new NodeBuilder();
+                children.put(ch, child);
+            }
+            return child;
+        }
+
+        private Node build() {
+            char[] chars = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Entry<Character, NodeBuilder> child : children.entrySet()) {
+                chars[i] = child.getKey();
+                nodes[i] = child.getValue().build();
+                i++;
+            }
+            return new Node(chars, nodes, entry);
+        }
+    }
+
+}
@@ -32,12 +32,9 @@
 package javax.time.format;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import javax.time.ZoneId;
@@ -56,7 +53,7 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
     /**
      * The text style to output, null means the id.
      */
-    private final TextStyle textStyle;
+    final TextStyle textStyle;
 
     /**
      * Constructor.
@@ -92,23 +89,18 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
 
     //-----------------------------------------------------------------------
     /**
-     * The cached tree to speed up parsing.
+     * The cached tree to speed up parsing, replaced when new IDs are registered.
      */
-    private static SubstringTree preparedTree;
-    /**
-     * The cached IDs.
-     */
-    private static Set<String> preparedIDs;  // TODO: used inside and outside sync block
+    private static volatile ZoneIdTree preparedTree;
 
     /**
      * This implementation looks for the longest matching string.
      * For example, parsing Etc/GMT-2 will return Etc/GMC-2 rather than just
      * Etc/GMC although both are valid.
      * <p>
-     * This implementation uses a tree to search for valid time-zone names in
-     * the parseText. The top level node of the tree has a length equal to the
-     * length of the shortest time-zone as well as the beginning characters of
-     * all other time-zones.
+     * This implementation uses an immutable tree of the parsable time-zone IDs
+     * which is matched against the parse text without allocating substrings.
+     * The tree is only rebuilt when the zone rules groups register new IDs.
      */
     public int parse(DateTimeParseContext context, CharSequence text, int position) {
         int length = text.length();
@@ -121,18 +113,14 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
         if (ids.size() == 0) {
             return ~position;
         }
-        SubstringTree tree;
-        synchronized (ZoneIdPrinterParser.class) {
-            if (preparedTree == null || preparedIDs.size() < ids.size()) {
-                ids = new HashSet<String>(ids);
-                preparedTree = prepareParser(ids);
-                preparedIDs = ids;
-            }
-            tree = preparedTree;
+        ZoneIdTree tree = preparedTree;
+        if (tree == null || tree.size != ids.size()) {
+            tree = new ZoneIdTree(ids);
+            preparedTree = tree;
         }
         
         // handle fixed time-zone ids
-        if (text.subSequence(position, text.length()).toString().startsWith("UTC")) {
+        if (startsWith(text, position, "UTC")) {
             DateTimeParseContext newContext = new DateTimeParseContext(context.getLocale(), DateTimeFormatSymbols.STANDARD);
             int startPos = position + 3;
             int endPos = new ZoneOffsetPrinterParser("", "+HH:MM:ss").parse(newContext, text, startPos);
@@ -146,17 +134,8 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
         }
         
         // parse
-        String parsedZoneId = null;
-        while (tree != null) {
-            int nodeLength = tree.length;
-            if (position + nodeLength > length) {
-                break;
-            }
-            parsedZoneId = text.subSequence(position, position + nodeLength).toString();
-            tree = tree.get(parsedZoneId);
-        }
-        
-        if (parsedZoneId != null && preparedIDs.contains(parsedZoneId)) {
+        String parsedZoneId = tree.match(text, position);
+        if (parsedZoneId != null) {
             // handle zone version
             ZoneId zone = ZoneId.of(parsedZoneId);
             int pos = position + parsedZoneId.length();
@@ -177,95 +156,143 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
         }
     }
 
+    /**
+     * Checks if the text at the position starts with the prefix.
+     *
+     * @param text  the text to check, not null
+     * @param position  the position to start at, valid
+     * @param prefix  the prefix to find, not null
+     * @return true if the text starts with the prefix at the position
+     */
+    private static boolean startsWith(CharSequence text, int position, String prefix) {
+        if (position + prefix.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(position + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     //-----------------------------------------------------------------------
     /**
-     * Model a tree of substrings to make the parsing easier. Due to the nature
-     * of time-zone names, it can be faster to parse based in unique substrings
-     * rather than just a character by character match.
+     * Immutable tree of time-zone IDs used to find the longest matching ID.
      * <p>
-     * For example, to parse America/Denver we can look at the first two
-     * character "Am". We then notice that the shortest time-zone that starts
-     * with Am is America/Nome which is 12 characters long. Checking the first
-     * 12 characters of America/Denver gives America/Denv which is a substring
-     * of only 1 time-zone: America/Denver. Thus, with just 3 comparisons that
-     * match can be found.
+     * Each node holds the sorted characters that can follow the prefix it
+     * represents, the matching child nodes, and the ID that ends at the node, if any.
+     * Parsing walks down the tree one character at a time using a binary search,
+     * remembering the last complete ID seen.
      * <p>
-     * This structure maps substrings to substrings of a longer length. Each
-     * node of the tree contains a length and a map of valid substrings to
-     * sub-nodes. The parser gets the length from the root node. It then
-     * extracts a substring of that length from the parseText. If the map
-     * contains the substring, it is set as the possible time-zone and the
-     * sub-node for that substring is retrieved. The process continues until the
-     * substring is no longer found, at which point the matched text is checked
-     * against the real time-zones.
+     * The tree is never modified once built, thus it can be safely shared
+     * between threads via a volatile field.
      */
-    private static final class SubstringTree {
+    static final class ZoneIdTree {
         /**
-         * The length of the substring this node of the tree contains.
-         * Subtrees will have a longer length.
+         * The number of IDs the tree was built from.
          */
-        final int length;
+        final int size;
         /**
-         * Map of a substring to a set of substrings that contain the key.
+         * The root node.
          */
-        private final Map<CharSequence, SubstringTree> substringMap = new HashMap<CharSequence, SubstringTree>();
+        private final Node root;
 
         /**
          * Constructor.
          *
-         * @param length  the length of this tree
+         * @param availableIDs  the available IDs, not null
          */
-        private SubstringTree(int length) {
-            this.length = length;
+        ZoneIdTree(Set<String> availableIDs) {
+            List<String> ids = new ArrayList<String>(availableIDs);
+            Collections.sort(ids);
+            this.size = ids.size();
+            this.root = build(ids, 0, ids.size(), 0);
         }
 
-        private SubstringTree get(CharSequence substring2) {
-            return substringMap.get(substring2);
-
+        /**
+         * Builds the node for the sorted IDs in the range that all share
+         * the prefix of the specified depth.
+         *
+         * @param ids  the sorted IDs, not null
+         * @param from  the start index, inclusive
+         * @param to  the end index, exclusive
+         * @param depth  the length of the shared prefix
+         * @return the node, not null
+         */
+        private static Node build(List<String> ids, int from, int to, int depth) {
+            String id = null;
+            if (ids.get(from).length() == depth) {
+                id = ids.get(from++);
+            }
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (i == from || ids.get(i).charAt(depth) != ids.get(i - 1).charAt(depth)) {
+                    count++;
+                }
+            }
+            char[] chars = new char[count];
+            Node[] children = new Node[count];
+            int child = 0;
+            int i = from;
+            while (i < to) {
+                char ch = ids.get(i).charAt(depth);
+                int j = i + 1;
+                while (j < to && ids.get(j).charAt(depth) == ch) {
+                    j++;
+                }
+                chars[child] = ch;
+                children[child++] = build(ids, i, j, depth + 1);
+                i = j;
+            }
+            return new Node(id, chars, children);
         }
 
         /**
-         * Values must be added from shortest to longest.
+         * Finds the longest ID matching the text at the position.
          *
-         * @param newSubstring  the substring to add, not null
+         * @param text  the text to match, not null
+         * @param position  the position to match from, valid
+         * @return the matched ID, null if none
          */
-        private void add(String newSubstring) {
-            int idLen = newSubstring.length();
-            if (idLen == length) {
-                substringMap.put(newSubstring, null);
-            } else if (idLen > length) {
-                String substring = newSubstring.substring(0, length);
-                SubstringTree parserTree = substringMap.get(substring);
-                if (parserTree == null) {
-                    parserTree = new SubstringTree(idLen);
-                    substringMap.put(substring, parserTree);
+        String match(CharSequence text, int position) {
+            int length = text.length();
+            Node node = root;
+            String matched = node.id;
+            for (int pos = position; pos < length; pos++) {
+                node = node.child(text.charAt(pos));
+                if (node == null) {
+                    break;
+                }
+                if (node.id != null) {
+                    matched = node.id;
                 }
-                parserTree.add(newSubstring);
             }
+            return matched;
         }
-    }
 
-    /**
-     * Builds an optimized parsing tree.
-     *
-     * @param availableIDs  the available IDs, not null, not empty
-     * @return the tree, not null
-     */
-    private static SubstringTree prepareParser(Set<String> availableIDs) {
-        // sort by length
-        List<String> ids = new ArrayList<String>(availableIDs);
-        Collections.sort(ids, new Comparator<String>() {
-            public int compare(String str1, String str2) {
-                return str1.length() == str2.length() ? str1.compareTo(str2) : str1.length() - str2.length();
+        /**
+         * A single node of the tree.
+         */
+        private static final class Node {
+            /** The ID ending at this node, null if none. */
+            private final String id;
+            /** The sorted characters leading to the child nodes. */
+            private final char[] chars;
+            /** The child nodes, parallel to the characters. */
+            private final Node[] children;
+
+            private Node(String id, char[] chars, Node[] children) {
+                this.id = id;
+                this.chars = chars;
+                this.children = children;
+            }
+
+            private Node child(char ch) {
+                int index = Arrays.binarySearch(chars, ch);
+                return (index >= 0 ? children[index] : null);
             }
-        });
-        
-        // build the tree
-        SubstringTree tree = new SubstringTree(ids.get(0).length());
-        for (String id : ids) {
-            tree.add(id);
         }
-        return tree;
     }
 
     //-----------------------------------------------------------------------
@@ -53,11 +53,11 @@ final class ZoneOffsetPrinterParser implements DateTimePrinter, DateTimeParser {
     /**
      * The text to use for UTC.
      */
-    private final String noOffsetText;
+    final String noOffsetText;
     /**
      * The pattern type.
      */
-    private final int type;
+    final int type;
 
     /**
      * Constructor.
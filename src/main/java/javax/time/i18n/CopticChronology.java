@@ -70,6 +70,10 @@ public final class CopticChronology extends Chronology implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 1L;
+    /**
+     * The epoch-day of 0001-01-01 (Coptic).
+     */
+    private static final long EPOCH_DAY_0001_01_01 = -615558L;
 
     //-----------------------------------------------------------------------
     /**
@@ -113,6 +117,36 @@ public final class CopticChronology extends Chronology implements Serializable {
         return "Coptic";
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a Coptic date to an epoch-day.
+     *
+     * @param prolepticYear  the Coptic proleptic-year
+     * @param monthOfYear  the Coptic month-of-year, from 1 to 13
+     * @param dayOfMonth  the Coptic day-of-month, from 1 to 30
+     * @return the epoch-day
+     */
+    @Override
+    public long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        long startYearDays = (prolepticYear - 1L) * 365 + MathUtils.floorDiv(prolepticYear, 4);
+        return startYearDays + (monthOfYear - 1) * 30 + dayOfMonth - 1 + EPOCH_DAY_0001_01_01;
+    }
+
+    /**
+     * Converts an epoch-day to a packed Coptic date.
+     *
+     * @param epochDay  the epoch-day to convert
+     * @return the packed date
+     * @throws ArithmeticException if the year exceeds the capacity of an {@code int}
+     */
+    @Override
+    public long toPackedDate(long epochDay) {
+        long days = epochDay - EPOCH_DAY_0001_01_01;
+        long year = MathUtils.floorDiv(days * 4 + 1463, 1461);
+        int doy0 = (int) (days - ((year - 1) * 365 + MathUtils.floorDiv(year, 4)));
+        return packDate(MathUtils.safeToInt(year), doy0 / 30 + 1, doy0 % 30 + 1);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * The period unit for days in the Coptic calendar system.
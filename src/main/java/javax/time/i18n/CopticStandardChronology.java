@@ -61,10 +61,6 @@ public final class CopticStandardChronology extends StandardChronology implement
      * Serialization version.
      */
     private static final long serialVersionUID = 1L;
-    /**
-     * The number of days to add to MJD to get the Coptic epoch day.
-     */
-    private static final int MJD_TO_COPTIC = 574971;
 
     //-----------------------------------------------------------------------
     /**
@@ -96,23 +92,26 @@ public final class CopticStandardChronology extends StandardChronology implement
     @Override
     public ChronologyDate createDate(LocalDate date) {
         MathUtils.checkNotNull(date, "LocalDate must not be null");
-        long epochDay = date.toEpochDay();
-        int prolepticYear = (int) (((epochDay * 4) + 1463) / 1461);
-        int startYearEpochDay = (prolepticYear - 1) * 365 + (prolepticYear / 4);
-        int doy0 = (int) (epochDay - startYearEpochDay);
-        int month = doy0 / 30 + 1;
-        int dom = doy0 % 30 + 1;
-        return buildDate(date, prolepticYear, month, dom);
+        long packed = toPackedDate(date.toEpochDay());
+        return buildDate(date, unpackProlepticYear(packed), unpackMonthOfYear(packed), unpackDayOfMonth(packed));
     }
 
     @Override
     public ChronologyDate createDate(int prolepticYear, int monthOfYear, int dayOfMonth) {
-        int doy0 = (monthOfYear - 1) * 30 + dayOfMonth - 1;
-        long epochDay = ((long) prolepticYear) * 365 + ((long) prolepticYear) / 4 + doy0;
-        LocalDate date = LocalDate.ofModifiedJulianDay(epochDay - MJD_TO_COPTIC);
+        LocalDate date = LocalDate.ofEpochDay(toEpochDay(prolepticYear, monthOfYear, dayOfMonth));
         return buildDate(date, prolepticYear, monthOfYear, dayOfMonth);
     }
 
+    @Override
+    public long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        return CopticChronology.INSTANCE.toEpochDay(prolepticYear, monthOfYear, dayOfMonth);
+    }
+
+    @Override
+    public long toPackedDate(long epochDay) {
+        return CopticChronology.INSTANCE.toPackedDate(epochDay);
+    }
+
     @Override
     public int getDayOfYear(ChronologyDate date) {
         return (date.getMonthOfYear() - 1) * 30 + date.getDayOfMonth();
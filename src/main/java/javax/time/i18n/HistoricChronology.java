@@ -33,6 +33,7 @@ package javax.time.i18n;
 
 import java.io.Serializable;
 
+import javax.time.CalendricalException;
 import javax.time.Duration;
 import javax.time.LocalDate;
 import javax.time.MathUtils;
@@ -44,6 +45,7 @@ import javax.time.calendrical.Chronology;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 import javax.time.calendrical.DateTimeRuleRange;
+import javax.time.calendrical.ISOChronology;
 import javax.time.calendrical.ISOPeriodUnit;
 import javax.time.calendrical.InvalidCalendarFieldException;
 import javax.time.calendrical.PeriodUnit;
@@ -200,6 +202,44 @@ public final class HistoricChronology extends Chronology implements Serializable
         return "Historic " + cutover;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a historic date to an epoch-day.
+     * <p>
+     * A date that would be before the cutover in the ISO calendar system
+     * is converted using the Julian calendar system.
+     *
+     * @param prolepticYear  the historic proleptic-year
+     * @param monthOfYear  the historic month-of-year, from 1 to 12
+     * @param dayOfMonth  the historic day-of-month, from 1 to 31
+     * @return the epoch-day
+     */
+    @Override
+    public long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        long epochDay = ISOChronology.INSTANCE.toEpochDay(prolepticYear, monthOfYear, dayOfMonth);
+        if (epochDay < cutover.toEpochDay()) {
+            return JulianChronology.INSTANCE.toEpochDay(prolepticYear, monthOfYear, dayOfMonth);
+        }
+        return epochDay;
+    }
+
+    /**
+     * Converts an epoch-day to a packed historic date.
+     * <p>
+     * An epoch-day before the cutover is converted using the Julian calendar system.
+     *
+     * @param epochDay  the epoch-day to convert
+     * @return the packed date
+     * @throws CalendricalException if the year is out of range
+     */
+    @Override
+    public long toPackedDate(long epochDay) {
+        if (epochDay < cutover.toEpochDay()) {
+            return JulianChronology.INSTANCE.toPackedDate(epochDay);
+        }
+        return ISOChronology.INSTANCE.toPackedDate(epochDay);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the rule for the year field in the Historic chronology.
@@ -34,6 +34,7 @@ package javax.time.i18n;
 import java.io.Serializable;
 
 import javax.time.Duration;
+import javax.time.MathUtils;
 import javax.time.calendrical.Chronology;
 import javax.time.calendrical.ISOPeriodUnit;
 import javax.time.calendrical.PeriodUnit;
@@ -63,6 +64,10 @@ public final class JulianChronology extends Chronology implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 1L;
+    /**
+     * The epoch-day of 0000-03-01 (Julian), the start of the first march-based year.
+     */
+    private static final long EPOCH_DAY_0000_03_01 = -719470L;
 
     //-----------------------------------------------------------------------
     /**
@@ -106,6 +111,45 @@ public final class JulianChronology extends Chronology implements Serializable {
         return "Julian";
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a Julian date to an epoch-day.
+     * <p>
+     * The calculation uses march-based years so that the leap day is
+     * at the end of the year.
+     *
+     * @param prolepticYear  the Julian proleptic-year
+     * @param monthOfYear  the Julian month-of-year, from 1 to 12
+     * @param dayOfMonth  the Julian day-of-month, from 1 to 31
+     * @return the epoch-day
+     */
+    @Override
+    public long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        long marchYear = prolepticYear - (monthOfYear <= 2 ? 1 : 0);
+        int marchMonth0 = (monthOfYear + 9) % 12;
+        long days = 365 * marchYear + MathUtils.floorDiv(marchYear, 4) + (153 * marchMonth0 + 2) / 5 + dayOfMonth - 1;
+        return days + EPOCH_DAY_0000_03_01;
+    }
+
+    /**
+     * Converts an epoch-day to a packed Julian date.
+     *
+     * @param epochDay  the epoch-day to convert
+     * @return the packed date
+     * @throws ArithmeticException if the year exceeds the capacity of an {@code int}
+     */
+    @Override
+    public long toPackedDate(long epochDay) {
+        long days = epochDay - EPOCH_DAY_0000_03_01;
+        long marchYear = MathUtils.floorDiv(4 * days + 3, 1461);
+        int marchDoy0 = (int) (days - (365 * marchYear + MathUtils.floorDiv(marchYear, 4)));
+        int marchMonth0 = (5 * marchDoy0 + 2) / 153;
+        int dom = marchDoy0 - (153 * marchMonth0 + 2) / 5 + 1;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int year = MathUtils.safeToInt(marchYear + marchMonth0 / 10);
+        return packDate(year, month, dom);
+    }
+
 //    //-----------------------------------------------------------------------
 //    /**
 //     * Gets the rule for the year field in the Julian chronology.
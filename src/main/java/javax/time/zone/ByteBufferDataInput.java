@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Adapts a {@code ByteBuffer} to the {@code DataInput} interface.
+ * <p>
+ * This allows serialized time-zone data to be decoded directly from a buffer,
+ * such as a memory-mapped file, without first copying it to a byte array.
+ * The buffer is read from its current position using big-endian byte order.
+ * <p>
+ * This class is mutable and not thread-safe.
+ * Each thread should use a separate instance with its own duplicate of the buffer.
+ *
+ * @author Stephen Colebourne
+ */
+final class ByteBufferDataInput implements DataInput {
+
+    /**
+     * The buffer to read from.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer  the buffer to read from, positioned at the first byte to read, not null
+     */
+    ByteBufferDataInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    //-----------------------------------------------------------------------
+    public void readFully(byte[] bytes) throws IOException {
+        readFully(bytes, 0, bytes.length);
+    }
+
+    public void readFully(byte[] bytes, int off, int len) throws IOException {
+        try {
+            buffer.get(bytes, off, len);
+        } catch (BufferUnderflowException ex) {
+            throw new EOFException();
+        }
+    }
+
+    public int skipBytes(int n) {
+        int skip = Math.max(Math.min(n, buffer.remaining()), 0);
+        buffer.position(buffer.position() + skip);
+        return skip;
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public byte readByte() throws IOException {
+        try {
+            return buffer.get();
+        } catch (BufferUnderflowException ex) {
+            throw new EOFException();
+        }
+    }
+
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    public short readShort() throws IOException {
+        try {
+            return buffer.getShort();
+        } catch (BufferUnderflowException ex) {
+            throw new EOFException();
+        }
+    }
+
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    public char readChar() throws IOException {
+        return (char) readShort();
+    }
+
+    public int readInt() throws IOException {
+        try {
+            return buffer.getInt();
+        } catch (BufferUnderflowException ex) {
+            throw new EOFException();
+        }
+    }
+
+    public long readLong() throws IOException {
+        try {
+            return buffer.getLong();
+        } catch (BufferUnderflowException ex) {
+            throw new EOFException();
+        }
+    }
+
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Reads a line of text, as per {@link DataInputStream#readLine()}.
+     * <p>
+     * Each byte is converted to a character without decoding.
+     * The line is terminated by a line feed, a carriage return, a carriage return
+     * followed by a line feed, or the end of the buffer.
+     *
+     * @return the line without the terminator, null if at the end of the buffer
+     */
+    public String readLine() {
+        if (buffer.hasRemaining() == false) {
+            return null;
+        }
+        StringBuilder buf = new StringBuilder();
+        while (buffer.hasRemaining()) {
+            int ch = buffer.get() & 0xFF;
+            if (ch == '\n') {
+                break;
+            }
+            if (ch == '\r') {
+                if (buffer.hasRemaining() && buffer.get(buffer.position()) == '\n') {
+                    buffer.get();
+                }
+                break;
+            }
+            buf.append((char) ch);
+        }
+        return buf.toString();
+    }
+
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+}
@@ -32,11 +32,16 @@
 package javax.time.zone;
 
 import java.io.ByteArrayInputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.io.StreamCorruptedException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -47,16 +52,32 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.time.CalendricalException;
+import javax.time.ZoneOffset;
 
 /**
  * Loads time-zone rules stored in a file accessed via class loader.
  * <p>
+ * Where the file is directly accessible on the file system it is memory-mapped.
+ * Only the index of versions and regions is read eagerly from a mapped file, with the
+ * rules of each region being decoded directly from the mapped buffer on first use.
+ * The system property {@code javax.time.zone.ZoneRulesFile} may be used to name a file
+ * to be mapped in place of those found via the class loader.
+ * <p>
+ * Both the original format and the compact version 2 format are read.
+ * The compact format shares pools of offsets and transition rules between regions,
+ * with a table locating the rules of each region.
+ * <p>
  * This class is immutable and thread-safe.
  *
  * @author Stephen Colebourne
  */
 final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
 
+    /**
+     * The system property naming a file of rules to be memory-mapped.
+     */
+    static final String FILE_PROPERTY = "javax.time.zone.ZoneRulesFile";
+
     /**
      * The time-zone group ID.
      */
@@ -70,9 +91,18 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
      */
     private final Set<String> regions;
     /**
-     * The rules.
+     * The rules, each either the serialized form or the decoded rules.
+     * The serialized form is a byte array, or a buffer when memory-mapped.
      */
     private final AtomicReferenceArray<Object> rules;
+    /**
+     * The pool of offsets in the compact format, null if not compact.
+     */
+    private final ZoneOffset[] offsetPool;
+    /**
+     * The pool of transition rules in the compact format, null if not compact.
+     */
+    private final ZoneOffsetTransitionRule[] rulePool;
 
     /**
      * Loads any time-zone rules data stored in files.
@@ -93,6 +123,15 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
      */
     private static List<ResourceZoneRulesDataProvider> loadResources() {
         List<ResourceZoneRulesDataProvider> providers = new ArrayList<ResourceZoneRulesDataProvider>();
+        String fileName = System.getProperty(FILE_PROPERTY);
+        if (fileName != null) {
+            try {
+                providers.add(map(new File(fileName)));
+            } catch (Exception ex) {
+                throw new RuntimeException("Unable to load time-zone rule data: " + fileName, ex);
+            }
+            return providers;
+        }
         URL url = null;
         try {
             Enumeration<URL> en = Thread.currentThread().getContextClassLoader().getResources("javax/time/calendar/zone/ZoneRules.dat");
@@ -100,7 +139,11 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
             while (en.hasMoreElements()) {
                 url = en.nextElement();
                 if (loaded.add(url.toExternalForm())) {
-                    providers.add(new ResourceZoneRulesDataProvider(url));
+                    if (url.getProtocol().equals("file")) {
+                        providers.add(map(new File(url.toURI())));
+                    } else {
+                        providers.add(load(url));
+                    }
                 }
             }
         } catch (Exception ex) {
@@ -112,67 +155,203 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
     /**
      * Loads the rules from a URL, often in a jar file.
      *
-     * @param url  the jar file to load, not null 
+     * @param url  the jar file to load, not null
+     * @return the provider, not null
      * @throws Exception if an error occurs
      */
-    private ResourceZoneRulesDataProvider(URL url) throws ClassNotFoundException, IOException {
+    static ResourceZoneRulesDataProvider load(URL url) throws ClassNotFoundException, IOException {
         boolean throwing = false;
         InputStream in = null;
         try {
             in = url.openStream();
-            DataInputStream dis = new DataInputStream(in);
-            if (dis.readByte() != 1) {
-                throw new StreamCorruptedException("File format not recognised");
-            }
-            this.groupID = dis.readUTF();
-            int versionCount = dis.readShort();
-            String[] versionArray = new String[versionCount];
-            for (int i = 0; i < versionCount; i++) {
-                versionArray[i] = dis.readUTF();
+            return new ResourceZoneRulesDataProvider(new DataInputStream(in), null);
+        } catch (IOException ex) {
+            throwing = true;
+            throw ex;
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ex) {
+                    if (throwing == false) {
+                        throw ex;
+                    }
+                }
             }
-            int regionCount = dis.readShort();
-            String[] regionArray = new String[regionCount];
-            for (int i = 0; i < regionCount; i++) {
-                regionArray[i] = dis.readUTF();
+        }
+    }
+
+    /**
+     * Loads the rules by memory-mapping a file.
+     * <p>
+     * The mapping remains valid once the file is closed.
+     *
+     * @param file  the file to map, not null
+     * @return the provider, not null
+     * @throws Exception if an error occurs
+     */
+    static ResourceZoneRulesDataProvider map(File file) throws ClassNotFoundException, IOException {
+        boolean throwing = false;
+        RandomAccessFile raf = null;
+        try {
+            raf = new RandomAccessFile(file, "r");
+            FileChannel channel = raf.getChannel();
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ResourceZoneRulesDataProvider(new ByteBufferDataInput(buffer), buffer);
+        } catch (IOException ex) {
+            throwing = true;
+            throw ex;
+        } finally {
+            if (raf != null) {
+                try {
+                    raf.close();
+                } catch (IOException ex) {
+                    if (throwing == false) {
+                        throw ex;
+                    }
+                }
             }
-            this.regions = new HashSet<String>(Arrays.asList(regionArray));
-            // link version-region-rules
-            Set<ZoneRulesVersion> versionSet = new HashSet<ZoneRulesVersion>(versionCount);
-            for (int i = 0; i < versionCount; i++) {
+        }
+    }
+
+    /**
+     * Reads the rules from the input.
+     * <p>
+     * If a buffer is specified, the input must read from it, and the rules are retained
+     * as views of the buffer rather than being copied.
+     *
+     * @param dis  the input to read, not null
+     * @param buffer  the buffer being read by the input, null if not reading a buffer
+     * @throws Exception if an error occurs
+     */
+    private ResourceZoneRulesDataProvider(DataInput dis, ByteBuffer buffer) throws ClassNotFoundException, IOException {
+        int format = dis.readByte();
+        if (format != 1 && format != 2) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        this.groupID = dis.readUTF();
+        int versionCount = dis.readShort();
+        String[] versionArray = new String[versionCount];
+        for (int i = 0; i < versionCount; i++) {
+            versionArray[i] = dis.readUTF();
+        }
+        int regionCount = dis.readShort();
+        String[] regionArray = new String[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            regionArray[i] = dis.readUTF();
+        }
+        this.regions = new HashSet<String>(Arrays.asList(regionArray));
+        // link version-region-rules
+        Set<ZoneRulesVersion> versionSet = new HashSet<ZoneRulesVersion>(versionCount);
+        int[] links = new int[regionCount];  // compact format only, rules index plus one by region
+        for (int i = 0; i < versionCount; i++) {
+            String[] versionRegionArray;
+            short[] versionRulesArray;
+            if (format == 2) {
+                readCompactLinks(dis, links);
+                int versionRegionCount = 0;
+                for (int link : links) {
+                    versionRegionCount += (link > 0 ? 1 : 0);
+                }
+                versionRegionArray = new String[versionRegionCount];
+                versionRulesArray = new short[versionRegionCount];
+                for (int j = 0, k = 0; j < regionCount; j++) {
+                    if (links[j] > 0) {
+                        versionRegionArray[k] = regionArray[j];
+                        versionRulesArray[k++] = (short) (links[j] - 1);
+                    }
+                }
+            } else {
                 int versionRegionCount = dis.readShort();
-                String[] versionRegionArray = new String[versionRegionCount];
-                short[] versionRulesArray = new short[versionRegionCount];
+                versionRegionArray = new String[versionRegionCount];
+                versionRulesArray = new short[versionRegionCount];
                 for (int j = 0; j < versionRegionCount; j++) {
                     versionRegionArray[j] = regionArray[dis.readShort()];
                     versionRulesArray[j] = dis.readShort();
                 }
-                versionSet.add(new ResourceZoneRulesVersion(this, versionArray[i], versionRegionArray, versionRulesArray));
             }
-            this.versions = versionSet;
-            // rules
+            versionSet.add(new ResourceZoneRulesVersion(this, versionArray[i], versionRegionArray, versionRulesArray));
+        }
+        this.versions = versionSet;
+        // rules
+        if (format == 2) {
+            this.offsetPool = new ZoneOffset[dis.readShort()];
+            for (int i = 0; i < offsetPool.length; i++) {
+                offsetPool[i] = Ser.readOffset(dis);
+            }
+            this.rulePool = new ZoneOffsetTransitionRule[dis.readShort()];
+            for (int i = 0; i < rulePool.length; i++) {
+                rulePool[i] = ZoneOffsetTransitionRule.readExternal(dis);
+            }
             int ruleCount = dis.readShort();
+            int[] positions = new int[ruleCount + 1];
+            for (int i = 0; i <= ruleCount; i++) {
+                positions[i] = dis.readInt();
+                if (positions[i] < (i == 0 ? 0 : positions[i - 1])) {
+                    throw new StreamCorruptedException("Invalid rules position");
+                }
+            }
+            ByteBuffer data;
+            if (buffer != null) {
+                data = buffer.slice();
+                if (dis.skipBytes(positions[ruleCount]) != positions[ruleCount]) {
+                    throw new StreamCorruptedException("File truncated");
+                }
+            } else {
+                byte[] bytes = new byte[positions[ruleCount]];
+                dis.readFully(bytes);
+                data = ByteBuffer.wrap(bytes);
+            }
             this.rules = new AtomicReferenceArray<Object>(ruleCount);
             for (int i = 0; i < ruleCount; i++) {
-                byte[] bytes = new byte[dis.readShort()];
-                dis.readFully(bytes);
-                rules.set(i, bytes);
+                ByteBuffer bytes = data.duplicate();
+                bytes.limit(positions[i + 1]);
+                bytes.position(positions[i]);
+                rules.set(i, bytes.slice());
             }
-        } catch (IOException ex) {
-            throwing = true;
-            throw ex;
-        } finally {
-            if (in != null) {
-                try {
-                    in.close();
-                } catch (IOException ex) {
-                    if (throwing == false) {
-                        throw ex;
+        } else {
+            this.offsetPool = null;
+            this.rulePool = null;
+            int ruleCount = dis.readShort();
+            this.rules = new AtomicReferenceArray<Object>(ruleCount);
+            for (int i = 0; i < ruleCount; i++) {
+                int length = dis.readShort();
+                if (buffer != null) {
+                    ByteBuffer bytes = buffer.slice();
+                    if (dis.skipBytes(length) != length) {
+                        throw new StreamCorruptedException("File truncated");
                     }
+                    bytes.limit(length);
+                    rules.set(i, bytes);
+                } else {
+                    byte[] bytes = new byte[length];
+                    dis.readFully(bytes);
+                    rules.set(i, bytes);
                 }
             }
         }
     }
 
+    /**
+     * Reads the changes to the links from region to rules for one version in the compact format.
+     *
+     * @param dis  the input to read, not null
+     * @param links  the rules index plus one of each region in the previous version, updated, not null
+     * @throws IOException if an error occurs
+     */
+    private static void readCompactLinks(DataInput dis, int[] links) throws IOException {
+        long changes = Ser.readVarLong(dis);
+        long regionIndex = 0;
+        for (long i = 0; i < changes; i++) {
+            regionIndex += Ser.readVarLong(dis);
+            long link = Ser.readVarLong(dis);
+            if (regionIndex < 0 || regionIndex >= links.length || link < 0 || link > Short.MAX_VALUE + 1) {
+                throw new StreamCorruptedException("Invalid region link");
+            }
+            links[(int) regionIndex] = (int) link;
+        }
+    }
+
     //-----------------------------------------------------------------------
     public String getGroupID() {
         return groupID;
@@ -200,6 +379,10 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
             DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes));
             obj = Ser.read(dis);
             rules.set(index, obj);
+        } else if (obj instanceof ByteBuffer) {
+            ByteBufferDataInput dis = new ByteBufferDataInput(((ByteBuffer) obj).duplicate());
+            obj = (offsetPool != null ? StandardZoneRules.readCompact(dis, offsetPool, rulePool) : Ser.read(dis));
+            rules.set(index, obj);
         }
         return (ZoneRules) obj;
     }
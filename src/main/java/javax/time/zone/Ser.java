@@ -217,4 +217,81 @@ final class Ser implements Externalizable {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Writes an unsigned variable length value to the stream.
+     * <p>
+     * Seven bits are written per byte, least significant first, with the top
+     * bit set on all bytes except the last.
+     *
+     * @param value  the value, treated as unsigned
+     * @param out  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    static void writeVarLong(long value, DataOutput out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads an unsigned variable length value from the stream.
+     *
+     * @param in  the input stream, not null
+     * @return the value, treated as unsigned
+     * @throws IOException if an error occurs
+     */
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Invalid variable length value");
+    }
+
+    /**
+     * Writes the difference between two ascending epoch seconds to the stream.
+     * <p>
+     * The difference is written as a variable length value in hours, quarter hours
+     * or seconds, with the low bits indicating which unit is used.
+     * Most differences are whole hours of less than a year, needing two bytes.
+     *
+     * @param delta  the difference in epoch seconds, zero or greater
+     * @param out  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    static void writeEpochSecDelta(long delta, DataOutput out) throws IOException {
+        if (delta < 0) {
+            throw new IllegalArgumentException("Epoch seconds must be ascending");
+        }
+        if (delta % 3600 == 0) {
+            writeVarLong((delta / 3600) << 1, out);
+        } else if (delta % 900 == 0) {
+            writeVarLong(((delta / 900) << 2) | 1, out);
+        } else {
+            writeVarLong((delta << 2) | 3, out);
+        }
+    }
+
+    /**
+     * Reads the difference between two ascending epoch seconds from the stream.
+     *
+     * @param in  the input stream, not null
+     * @return the difference in epoch seconds, zero or greater
+     * @throws IOException if an error occurs
+     */
+    static long readEpochSecDelta(DataInput in) throws IOException {
+        long store = readVarLong(in);
+        if ((store & 1) == 0) {
+            return (store >>> 1) * 3600;
+        }
+        return ((store & 3) == 1 ? (store >>> 2) * 900 : store >>> 2);
+    }
+
 }
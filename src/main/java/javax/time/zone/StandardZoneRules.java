@@ -35,15 +35,17 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.time.Instant;
 import javax.time.LocalDateTime;
+import javax.time.MathUtils;
 import javax.time.OffsetDateTime;
 import javax.time.Period;
 import javax.time.Year;
@@ -97,10 +99,17 @@ final class StandardZoneRules implements ZoneRules, Serializable {
      */
     private final ZoneOffsetTransitionRule[] lastRules;
     /**
-     * The map of recent transitions.
+     * The first year held in the cache of recent transitions.
      */
-    private final ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache =
-                new ConcurrentHashMap<Integer, ZoneOffsetTransition[]>();
+    private final int lastRulesCacheStartYear;
+    /**
+     * The cache of recent transitions, indexed by year from the start year.
+     */
+    private final AtomicReferenceArray<ZoneOffsetTransition[]> lastRulesCache;
+    /**
+     * The table of transitions derived from the last rules, lazily created.
+     */
+    private transient volatile LastRulesTable lastRulesTable;
 
     /**
      * Creates an instance.
@@ -156,6 +165,9 @@ final class StandardZoneRules implements ZoneRules, Serializable {
             throw new IllegalArgumentException("Too many transition rules");
         }
         this.lastRules = lastRules.toArray(new ZoneOffsetTransitionRule[lastRules.size()]);
+        this.lastRulesCacheStartYear = findLastRulesCacheStartYear();
+        this.lastRulesCache = new AtomicReferenceArray<ZoneOffsetTransition[]>(
+                Math.max(LAST_CACHED_YEAR - lastRulesCacheStartYear, 0));
     }
 
     /**
@@ -197,6 +209,25 @@ final class StandardZoneRules implements ZoneRules, Serializable {
             }
         }
         this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
+        this.lastRulesCacheStartYear = findLastRulesCacheStartYear();
+        this.lastRulesCache = new AtomicReferenceArray<ZoneOffsetTransition[]>(
+                Math.max(LAST_CACHED_YEAR - lastRulesCacheStartYear, 0));
+    }
+
+    /**
+     * Finds the first year that the last rules apply to, used to index the cache.
+     * <p>
+     * This is the year of the last historic transition.
+     * If there are no last rules then nothing is cached.
+     *
+     * @return the first year to cache
+     */
+    private int findLastRulesCacheStartYear() {
+        if (lastRules.length == 0 || savingsInstantTransitions.length == 0) {
+            return LAST_CACHED_YEAR;
+        }
+        long lastHistoric = savingsInstantTransitions[savingsInstantTransitions.length - 1];
+        return OffsetDateTime.ofEpochSecond(lastHistoric, wallOffsets[wallOffsets.length - 1]).getYear();
     }
 
     //-----------------------------------------------------------------------
@@ -236,6 +267,141 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         }
     }
 
+    /**
+     * Writes the state to the stream using the compact format.
+     * <p>
+     * Transitions after the first are delta-encoded, while offsets and transition rules are written as
+     * indices into the pools, which are shared by all the rules in a file.
+     * Values not in a pool are added to it.
+     *
+     * @param out  the output stream, not null
+     * @param offsetPool  the pool of offsets to indices, added to, not null
+     * @param rulePool  the pool of transition rules to indices, added to, not null
+     * @throws IOException if an error occurs
+     */
+    void writeCompact(DataOutput out, Map<ZoneOffset, Integer> offsetPool,
+            Map<ZoneOffsetTransitionRule, Integer> rulePool) throws IOException {
+        writeCompactTransitions(standardTransitions, standardOffsets, out, offsetPool);
+        writeCompactTransitions(savingsInstantTransitions, wallOffsets, out, offsetPool);
+        Ser.writeVarLong(lastRules.length, out);
+        for (ZoneOffsetTransitionRule rule : lastRules) {
+            Ser.writeVarLong(poolIndex(rulePool, rule), out);
+        }
+    }
+
+    /**
+     * Writes transitions and offsets using the compact format.
+     *
+     * @param transitions  the transitions, not null
+     * @param offsets  the offsets, one more than the transitions, not null
+     * @param out  the output stream, not null
+     * @param offsetPool  the pool of offsets to indices, added to, not null
+     * @throws IOException if an error occurs
+     */
+    private static void writeCompactTransitions(long[] transitions, ZoneOffset[] offsets,
+            DataOutput out, Map<ZoneOffset, Integer> offsetPool) throws IOException {
+        Ser.writeVarLong(transitions.length, out);
+        for (int i = 0; i < transitions.length; i++) {
+            if (i == 0) {
+                Ser.writeEpochSec(transitions[0], out);
+            } else {
+                Ser.writeEpochSecDelta(transitions[i] - transitions[i - 1], out);
+            }
+        }
+        for (ZoneOffset offset : offsets) {
+            Ser.writeVarLong(poolIndex(offsetPool, offset), out);
+        }
+    }
+
+    /**
+     * Gets the index of an object in a pool, adding it if necessary.
+     *
+     * @param pool  the pool of objects to indices, not null
+     * @param object  the object to find, not null
+     * @return the index of the object
+     */
+    private static <T> int poolIndex(Map<T, Integer> pool, T object) {
+        Integer index = pool.get(object);
+        if (index == null) {
+            index = pool.size();
+            pool.put(object, index);
+        }
+        return index;
+    }
+
+    /**
+     * Reads the state from the stream using the compact format.
+     *
+     * @param in  the input stream, not null
+     * @param offsetPool  the pool of offsets, not null
+     * @param rulePool  the pool of transition rules, not null
+     * @return the created object, not null
+     * @throws IOException if an error occurs
+     */
+    static StandardZoneRules readCompact(DataInput in, ZoneOffset[] offsetPool,
+            ZoneOffsetTransitionRule[] rulePool) throws IOException {
+        int stdSize = readCompactSize(in);
+        long[] stdTrans = readCompactTransitions(in, stdSize);
+        ZoneOffset[] stdOffsets = readCompactPooled(in, offsetPool, new ZoneOffset[stdSize + 1]);
+        int savSize = readCompactSize(in);
+        long[] savTrans = readCompactTransitions(in, savSize);
+        ZoneOffset[] savOffsets = readCompactPooled(in, offsetPool, new ZoneOffset[savSize + 1]);
+        int ruleSize = readCompactSize(in);
+        ZoneOffsetTransitionRule[] rules = readCompactPooled(in, rulePool, new ZoneOffsetTransitionRule[ruleSize]);
+        return new StandardZoneRules(stdTrans, stdOffsets, savTrans, savOffsets, rules);
+    }
+
+    /**
+     * Reads a size using the compact format.
+     *
+     * @param in  the input stream, not null
+     * @return the size, zero or greater
+     * @throws IOException if an error occurs
+     */
+    private static int readCompactSize(DataInput in) throws IOException {
+        long size = Ser.readVarLong(in);
+        if (size < 0 || size > Integer.MAX_VALUE - 1) {
+            throw new StreamCorruptedException("Invalid size");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Reads delta-encoded transitions using the compact format.
+     *
+     * @param in  the input stream, not null
+     * @param size  the number of transitions
+     * @return the transitions, not null
+     * @throws IOException if an error occurs
+     */
+    private static long[] readCompactTransitions(DataInput in, int size) throws IOException {
+        long[] transitions = new long[size];
+        for (int i = 0; i < size; i++) {
+            transitions[i] = (i == 0 ? Ser.readEpochSec(in) : transitions[i - 1] + Ser.readEpochSecDelta(in));
+        }
+        return transitions;
+    }
+
+    /**
+     * Reads pooled values using the compact format.
+     *
+     * @param in  the input stream, not null
+     * @param pool  the pool of values, not null
+     * @param array  the array to fill, not null
+     * @return the filled array, not null
+     * @throws IOException if an error occurs
+     */
+    private static <T> T[] readCompactPooled(DataInput in, T[] pool, T[] array) throws IOException {
+        for (int i = 0; i < array.length; i++) {
+            long index = Ser.readVarLong(in);
+            if (index < 0 || index >= pool.length) {
+                throw new StreamCorruptedException("Invalid pool index");
+            }
+            array[i] = pool[(int) index];
+        }
+        return array;
+    }
+
     /**
      * Reads the state from the stream.
      *
@@ -284,6 +450,10 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         // check if using last rules
         if (lastRules.length > 0 &&
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
+            LastRulesTable table = findLastRulesTable();
+            if (table != null && epochSec < table.endEpochSecond) {
+                return table.getOffset(epochSec);
+            }
             OffsetDateTime dt = OffsetDateTime.ofInstant(instant, wallOffsets[wallOffsets.length - 1]);
             ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
             ZoneOffsetTransition trans = null;
@@ -305,6 +475,36 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         return wallOffsets[index + 1];
     }
 
+    //-----------------------------------------------------------------------
+    @Override
+    public void getOffsets(long[] epochSeconds, int[] offsetSecondsOut) {
+        MathUtils.checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        MathUtils.checkNotNull(offsetSecondsOut, "Offset seconds array must not be null");
+        if (offsetSecondsOut.length < epochSeconds.length) {
+            throw new IllegalArgumentException("Offset seconds array must be at least as long as the input");
+        }
+        OffsetCursor cursor = new OffsetCursor();
+        for (int i = 0; i < epochSeconds.length; i++) {
+            offsetSecondsOut[i] = cursor.getOffsetSeconds(epochSeconds[i]);
+        }
+    }
+
+    @Override
+    public void getOffsets(long[] epochSeconds, int[] offsetSecondsOut, long[] epochDaysOut, long[] nanoOfDaysOut) {
+        MathUtils.checkNotNull(epochSeconds, "Epoch seconds array must not be null");
+        MathUtils.checkNotNull(epochDaysOut, "Epoch days array must not be null");
+        MathUtils.checkNotNull(nanoOfDaysOut, "Nano of days array must not be null");
+        if (epochDaysOut.length < epochSeconds.length || nanoOfDaysOut.length < epochSeconds.length) {
+            throw new IllegalArgumentException("Epoch days and nano of days arrays must be at least as long as the input");
+        }
+        getOffsets(epochSeconds, offsetSecondsOut);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long localSecs = MathUtils.safeAdd(epochSeconds[i], offsetSecondsOut[i]);
+            epochDaysOut[i] = MathUtils.floorDiv(localSecs, MathUtils.SECONDS_PER_DAY);
+            nanoOfDaysOut[i] = MathUtils.floorMod(localSecs, MathUtils.SECONDS_PER_DAY) * MathUtils.NANOS_PER_SECOND;
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffsetInfo getOffsetInfo(LocalDateTime dt) {
@@ -393,22 +593,65 @@ final class StandardZoneRules implements ZoneRules, Serializable {
      * @return the transition array, not null
      */
     private ZoneOffsetTransition[] findTransitionArray(int year) {
-        Integer yearObj = year;  // should use Year class, but this saves a class load
-        ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
-        if (transArray != null) {
-            return transArray;
+        int index = year - lastRulesCacheStartYear;
+        if (index < 0 || index >= lastRulesCache.length()) {
+            return createTransitionArray(year);
+        }
+        ZoneOffsetTransition[] transArray = lastRulesCache.get(index);
+        if (transArray == null) {
+            transArray = createTransitionArray(year);
+            if (lastRulesCache.compareAndSet(index, null, transArray) == false) {
+                transArray = lastRulesCache.get(index);
+            }
         }
+        return transArray;
+    }
+
+    /**
+     * Creates the transition array for the given year from the last rules.
+     *
+     * @param year  the year
+     * @return the transition array, not null
+     */
+    private ZoneOffsetTransition[] createTransitionArray(int year) {
         ZoneOffsetTransitionRule[] ruleArray = lastRules;
-        transArray  = new ZoneOffsetTransition[ruleArray.length];
+        ZoneOffsetTransition[] transArray  = new ZoneOffsetTransition[ruleArray.length];
         for (int i = 0; i < ruleArray.length; i++) {
             transArray[i] = ruleArray[i].createTransition(year);
         }
-        if (year < LAST_CACHED_YEAR) {
-            lastRulesCache.putIfAbsent(yearObj, transArray);
-        }
         return transArray;
     }
 
+    @Override
+    public void preloadTransitions(int startYear, int endYear) {
+        int start = Math.max(startYear, lastRulesCacheStartYear);
+        int end = Math.min(endYear, LAST_CACHED_YEAR - 1);
+        for (int year = start; year <= end; year++) {
+            findTransitionArray(year);
+        }
+        if (start <= end) {
+            findLastRulesTable();
+        }
+    }
+
+    /**
+     * Finds the table of transitions derived from the last rules, creating it if necessary.
+     * <p>
+     * The table is only created if the last rules produce a consistent sequence of
+     * transitions, where the offset before each transition matches the offset after
+     * the previous one. Otherwise, the year-by-year lookup is used.
+     *
+     * @return the table, null if the last rules cannot be tabulated
+     */
+    private LastRulesTable findLastRulesTable() {
+        LastRulesTable table = lastRulesTable;
+        if (table == null) {
+            table = LastRulesTable.create(this);
+            lastRulesTable = table;
+        }
+        return table.epochSeconds != null ? table : null;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isValidDateTime(OffsetDateTime dateTime) {
@@ -443,6 +686,9 @@ final class StandardZoneRules implements ZoneRules, Serializable {
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffsetTransition nextTransition(Instant instant) {
+        if (savingsInstantTransitions.length == 0) {
+            return null;  // last rules are only used after a historic transition
+        }
         long epochSec = instant.getEpochSecond();
         
         // check if using last rules
@@ -478,6 +724,9 @@ final class StandardZoneRules implements ZoneRules, Serializable {
 
     @Override
     public ZoneOffsetTransition previousTransition(Instant instant) {
+        if (savingsInstantTransitions.length == 0) {
+            return null;  // last rules are only used after a historic transition
+        }
         long epochSec = instant.getEpochSecond();
         if (instant.getNanoOfSecond() > 0 && epochSec < Long.MAX_VALUE) {
             epochSec += 1;  // allow rest of method to only use seconds
@@ -554,6 +803,191 @@ final class StandardZoneRules implements ZoneRules, Serializable {
                 Arrays.hashCode(lastRules);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * A cursor over the transitions, used for bulk offset lookup.
+     * <p>
+     * The cursor remembers the range of epoch-seconds over which the last offset
+     * found applies. Input sorted in ascending order therefore moves through the
+     * transitions sequentially, only searching when it jumps past the next transition.
+     * <p>
+     * This class is mutable and not thread-safe.
+     */
+    private final class OffsetCursor {
+        /** The transitions being walked, null if not yet positioned. */
+        private long[] transitions;
+        /** The offsets matching the transitions. */
+        private ZoneOffset[] offsets;
+        /** The exclusive upper bound of the transitions being walked. */
+        private long regionEnd;
+        /** The index of the current transition, -1 if before the first. */
+        private int index;
+        /** The inclusive start of the current range. */
+        private long start = Long.MAX_VALUE;
+        /** The exclusive end of the current range. */
+        private long end = Long.MIN_VALUE;
+        /** The offset applicable within the current range. */
+        private int offsetSecs;
+
+        /**
+         * Gets the total offset seconds applicable at the specified epoch second.
+         *
+         * @param epochSec  the epoch second
+         * @return the total offset seconds
+         */
+        int getOffsetSeconds(long epochSec) {
+            if (epochSec >= start && epochSec < end) {
+                return offsetSecs;
+            }
+            if (transitions != null && epochSec >= end && end < regionEnd && epochSec < regionEnd &&
+                    (index + 2 >= transitions.length || epochSec < transitions[index + 2])) {
+                // sequential step to the next transition
+                index++;
+                update(Long.MIN_VALUE);
+                return offsetSecs;
+            }
+            seek(epochSec);
+            return offsetSecs;
+        }
+
+        /**
+         * Positions the cursor at the specified epoch second using a search.
+         *
+         * @param epochSec  the epoch second
+         */
+        private void seek(long epochSec) {
+            long regionStart = Long.MIN_VALUE;
+            if (lastRules.length > 0 && savingsInstantTransitions.length > 0 &&
+                    epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
+                LastRulesTable table = findLastRulesTable();
+                if (table == null || epochSec >= table.endEpochSecond) {
+                    // beyond the table, so use a range of one second
+                    transitions = null;
+                    start = epochSec;
+                    end = epochSec + 1;
+                    offsetSecs = getOffset(Instant.ofEpochSecond(epochSec)).getTotalSeconds();
+                    return;
+                }
+                transitions = table.epochSeconds;
+                offsets = table.offsets;
+                regionStart = savingsInstantTransitions[savingsInstantTransitions.length - 1] + 1;
+                regionEnd = table.endEpochSecond;
+            } else {
+                transitions = savingsInstantTransitions;
+                offsets = wallOffsets;
+                regionEnd = (lastRules.length > 0 && savingsInstantTransitions.length > 0 ?
+                        savingsInstantTransitions[savingsInstantTransitions.length - 1] + 1 : Long.MAX_VALUE);
+            }
+            index = Arrays.binarySearch(transitions, epochSec);
+            if (index < 0) {
+                // switch negative insert position to start of matched range
+                index = -index - 2;
+            }
+            update(regionStart);
+        }
+
+        /**
+         * Updates the current range from the index.
+         *
+         * @param regionStart  the inclusive lower bound of the transitions being walked
+         */
+        private void update(long regionStart) {
+            start = Math.max(index >= 0 ? transitions[index] : Long.MIN_VALUE, regionStart);
+            end = Math.min(index + 1 < transitions.length ? transitions[index + 1] : Long.MAX_VALUE, regionEnd);
+            offsetSecs = offsets[index + 1].getTotalSeconds();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A precomputed table of the transitions produced by the last rules.
+     * <p>
+     * The table covers every year from that of the last historic transition up to
+     * and including {@link #LAST_CACHED_YEAR}, allowing the offset at an instant
+     * to be found by a binary search of a primitive array without creating objects.
+     * <p>
+     * This class is immutable and thread-safe.
+     */
+    private static final class LastRulesTable {
+        /**
+         * The transitions (epoch seconds), sorted, null if the rules cannot be tabulated.
+         */
+        private final long[] epochSeconds;
+        /**
+         * The offsets, where the offset at index {@code i + 1} applies from the
+         * transition at index {@code i} and the offset at index zero applies before
+         * the first transition.
+         */
+        private final ZoneOffset[] offsets;
+        /**
+         * The exclusive upper bound of the table (epoch seconds).
+         */
+        private final long endEpochSecond;
+
+        /**
+         * Creates the table for the specified rules.
+         *
+         * @param rules  the rules to tabulate, not null
+         * @return the table, not null
+         */
+        static LastRulesTable create(StandardZoneRules rules) {
+            ZoneOffset lastHistoricOffset = rules.wallOffsets[rules.wallOffsets.length - 1];
+            int startYear = rules.lastRulesCacheStartYear;
+            int ruleCount = rules.lastRules.length;
+            int yearCount = LAST_CACHED_YEAR - startYear + 1;
+            if (yearCount <= 0) {
+                return new LastRulesTable(null, null, Long.MIN_VALUE);
+            }
+            long[] epochSeconds = new long[yearCount * ruleCount];
+            ZoneOffset[] offsets = new ZoneOffset[epochSeconds.length + 1];
+            int index = 0;
+            for (int year = startYear; year <= LAST_CACHED_YEAR; year++) {
+                for (ZoneOffsetTransitionRule rule : rules.lastRules) {
+                    ZoneOffsetTransition trans = rule.createTransition(year);
+                    long epochSec = trans.getInstant().getEpochSecond();
+                    if (index == 0) {
+                        offsets[0] = trans.getOffsetBefore();
+                    } else if (epochSec <= epochSeconds[index - 1] ||
+                            trans.getOffsetBefore().equals(offsets[index]) == false) {
+                        return new LastRulesTable(null, null, Long.MIN_VALUE);
+                    }
+                    epochSeconds[index] = epochSec;
+                    offsets[++index] = trans.getOffsetAfter();
+                }
+            }
+            long end = OffsetDateTime.ofMidnight(LAST_CACHED_YEAR + 1, 1, 1, lastHistoricOffset).toEpochSecond();
+            return new LastRulesTable(epochSeconds, offsets, end);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param epochSeconds  the transitions, may be null
+         * @param offsets  the offsets, may be null
+         * @param endEpochSecond  the exclusive upper bound
+         */
+        private LastRulesTable(long[] epochSeconds, ZoneOffset[] offsets, long endEpochSecond) {
+            this.epochSeconds = epochSeconds;
+            this.offsets = offsets;
+            this.endEpochSecond = endEpochSecond;
+        }
+
+        /**
+         * Gets the offset applicable at the specified epoch second.
+         *
+         * @param epochSec  the epoch second, within the range of the table
+         * @return the offset, not null
+         */
+        ZoneOffset getOffset(long epochSec) {
+            int index  = Arrays.binarySearch(epochSeconds, epochSec);
+            if (index < 0) {
+                // switch negative insert position to start of matched range
+                index = -index - 2;
+            }
+            return offsets[index + 1];
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string describing this object.
@@ -41,11 +41,13 @@ import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
+import java.io.IOException;
 import java.text.ParsePosition;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,6 +55,13 @@ import java.util.SortedMap;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
 
@@ -112,6 +121,8 @@ public final class TZDBZoneRulesCompiler {
         File baseSrcDir = null;
         File dstDir = null;
         boolean verbose = false;
+        boolean compact = false;
+        boolean parallel = false;
         
         // parse options
         int i;
@@ -140,6 +151,16 @@ public final class TZDBZoneRulesCompiler {
                     verbose = true;
                     continue;
                 }
+            } else if ("-compact".equals(arg)) {
+                if (compact == false) {
+                    compact = true;
+                    continue;
+                }
+            } else if ("-parallel".equals(arg)) {
+                if (parallel == false) {
+                    parallel = true;
+                    continue;
+                }
             } else if ("-help".equals(arg) == false) {
                 System.out.println("Unrecognised option: " + arg);
             }
@@ -178,6 +199,7 @@ public final class TZDBZoneRulesCompiler {
             srcDirs.add(srcDir);
         } else {
             File[] dirs = baseSrcDir.listFiles();
+            Arrays.sort(dirs);
             for (File dir : dirs) {
                 if (dir.isDirectory() && dir.getName().matches("[12][0-9][0-9][0-9][A-Za-z0-9._-]+")) {
                     srcDirs.add(dir);
@@ -198,7 +220,17 @@ public final class TZDBZoneRulesCompiler {
             System.out.println("Destination is not a directory: " + dstDir);
             return;
         }
-        process(srcDirs, srcFileNames, dstDir, verbose);
+        ExecutorService executor = null;
+        if (parallel) {
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+        try {
+            process(srcDirs, srcFileNames, dstDir, verbose, compact, executor);
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
         System.exit(0);
     }
 
@@ -213,6 +245,8 @@ public final class TZDBZoneRulesCompiler {
         System.out.println("   -version <version>    Specify the version, such as 2009a (optional)");
         System.out.println("   -help                 Print this usage message");
         System.out.println("   -verbose              Output verbose information during compilation");
+        System.out.println("   -compact              Output the compact version 2 file format");
+        System.out.println("   -parallel             Build the zones of each version in parallel");
         System.out.println(" There must be one directory for each version in srcdir");
         System.out.println(" Each directory must have the name of the version, such as 2009a");
         System.out.println(" Each directory must contain the unpacked tzdb files, such as asia or europe");
@@ -224,12 +258,13 @@ public final class TZDBZoneRulesCompiler {
     /**
      * Process to create the jar files.
      */
-    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir, boolean verbose) {
+    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir,
+            boolean verbose, boolean compact, ExecutorService executor) {
         // build actual jar files
-        Map<Object, Object> deduplicateMap = new HashMap<Object, Object>();
+        ConcurrentMap<Object, Object> deduplicateMap = new ConcurrentHashMap<Object, Object>();
         Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
         Set<String> allRegionIds = new TreeSet<String>();
-        Set<ZoneRules> allRules = new HashSet<ZoneRules>();
+        Set<ZoneRules> allRules = new LinkedHashSet<ZoneRules>();  // ordered for repeatable output
         SortedMap<LocalDate, Byte> bestLeapSeconds = null;
         
         for (File srcDir : srcDirs) {
@@ -254,6 +289,7 @@ public final class TZDBZoneRulesCompiler {
             String loopVersion = srcDir.getName();
             TZDBZoneRulesCompiler compiler = new TZDBZoneRulesCompiler(loopVersion, srcFiles, leapSecondsFile, verbose);
             compiler.setDeduplicateMap(deduplicateMap);
+            compiler.setExecutor(executor);
             try {
                 // compile
                 compiler.compile();
@@ -265,7 +301,7 @@ public final class TZDBZoneRulesCompiler {
                 if (verbose) {
                     System.out.println("Outputting file: " + dstFile);
                 }
-                outputFile(dstFile, loopVersion, builtZones, parsedLeapSeconds);
+                outputFile(dstFile, loopVersion, builtZones, parsedLeapSeconds, compact);
                 
                 // create totals
                 allBuiltZones.put(loopVersion, builtZones);
@@ -292,28 +328,29 @@ public final class TZDBZoneRulesCompiler {
         if (verbose) {
             System.out.println("Outputting combined file: " + dstFile);
         }
-        outputFile(dstFile, allBuiltZones, allRegionIds, allRules, bestLeapSeconds);
+        outputFile(dstFile, allBuiltZones, allRegionIds, allRules, bestLeapSeconds, compact);
     }
 
     /**
      * Outputs the file.
      */
-    private static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones, SortedMap<LocalDate, Byte> leapSeconds) {
+    private static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones,
+            SortedMap<LocalDate, Byte> leapSeconds, boolean compact) {
         Map<String, SortedMap<String, ZoneRules>> loopAllBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
         loopAllBuiltZones.put(version, builtZones);
         Set<String> loopAllRegionIds = new TreeSet<String>(builtZones.keySet());
-        Set<ZoneRules> loopAllRules = new HashSet<ZoneRules>(builtZones.values());
-        outputFile(dstFile, loopAllBuiltZones, loopAllRegionIds, loopAllRules, leapSeconds);
+        Set<ZoneRules> loopAllRules = new LinkedHashSet<ZoneRules>(builtZones.values());
+        outputFile(dstFile, loopAllBuiltZones, loopAllRegionIds, loopAllRules, leapSeconds, compact);
     }
 
     /**
      * Outputs the file.
      */
-    private static void outputFile(File dstFile, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
-            Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds) {
+    static void outputFile(File dstFile, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+            Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds, boolean compact) {
         try {
             JarOutputStream jos = new JarOutputStream(new FileOutputStream(dstFile));
-            outputTZEntry(jos, allBuiltZones, allRegionIds, allRules);
+            outputTZEntry(jos, allBuiltZones, allRegionIds, allRules, compact);
             outputLeapSecondEntry(jos, leapSeconds);
             jos.close();
         } catch (Exception ex) {
@@ -328,14 +365,14 @@ public final class TZDBZoneRulesCompiler {
      */
     private static void outputTZEntry(
             JarOutputStream jos, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
-            Set<String> allRegionIds, Set<ZoneRules> allRules) {
+            Set<String> allRegionIds, Set<ZoneRules> allRules, boolean compact) {
         // this format is not publicly specified
         try {
             jos.putNextEntry(new ZipEntry("javax/time/calendar/zone/ZoneRules.dat"));
             DataOutputStream out = new DataOutputStream(jos);
             
             // file version
-            out.writeByte(1);
+            out.writeByte(compact ? 2 : 1);
             // group
             out.writeUTF("TZDB");
             // all versions and regions
@@ -351,26 +388,34 @@ public final class TZDBZoneRulesCompiler {
             }
             // link version-region-rules
             List<ZoneRules> rulesList = new ArrayList<ZoneRules>(allRules);
-            for (String version : allBuiltZones.keySet()) {
-                out.writeShort(allBuiltZones.get(version).size());
-                for (Map.Entry<String, ZoneRules> entry : allBuiltZones.get(version).entrySet()) {
-                     int regionIndex = Arrays.binarySearch(regionArray, entry.getKey());
-                     int rulesIndex = rulesList.indexOf(entry.getValue());
-                     out.writeShort(regionIndex);
-                     out.writeShort(rulesIndex);
+            if (compact) {
+                outputCompactLinks(out, allBuiltZones, regionArray, rulesList);
+            } else {
+                for (String version : allBuiltZones.keySet()) {
+                    out.writeShort(allBuiltZones.get(version).size());
+                    for (Map.Entry<String, ZoneRules> entry : allBuiltZones.get(version).entrySet()) {
+                         int regionIndex = Arrays.binarySearch(regionArray, entry.getKey());
+                         int rulesIndex = rulesList.indexOf(entry.getValue());
+                         out.writeShort(regionIndex);
+                         out.writeShort(rulesIndex);
+                    }
                 }
             }
             // rules
-            out.writeShort(rulesList.size());
-            ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
-            for (ZoneRules rules : rulesList) {
-                baos.reset();
-                DataOutputStream dataos = new DataOutputStream(baos);
-                Ser.write(rules, dataos);
-                dataos.close();
-                byte[] bytes = baos.toByteArray();
-                out.writeShort(bytes.length);
-                out.write(bytes);
+            if (compact) {
+                outputCompactRules(out, rulesList);
+            } else {
+                out.writeShort(rulesList.size());
+                ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
+                for (ZoneRules rules : rulesList) {
+                    baos.reset();
+                    DataOutputStream dataos = new DataOutputStream(baos);
+                    Ser.write(rules, dataos);
+                    dataos.close();
+                    byte[] bytes = baos.toByteArray();
+                    out.writeShort(bytes.length);
+                    out.write(bytes);
+                }
             }
             
             out.flush();
@@ -382,6 +427,75 @@ public final class TZDBZoneRulesCompiler {
         }
     }
 
+    /**
+     * Outputs the links from version and region to rules in the compact version 2 format.
+     * <p>
+     * Each version is written as the changes from the previous version, which are
+     * usually few, with zero as the rules index of a region that has been removed.
+     */
+    private static void outputCompactLinks(DataOutputStream out, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+            String[] regionArray, List<ZoneRules> rulesList) throws IOException {
+        int[] previous = new int[regionArray.length];
+        for (SortedMap<String, ZoneRules> builtZones : allBuiltZones.values()) {
+            int[] current = new int[regionArray.length];
+            for (Map.Entry<String, ZoneRules> entry : builtZones.entrySet()) {
+                int regionIndex = Arrays.binarySearch(regionArray, entry.getKey());
+                current[regionIndex] = rulesList.indexOf(entry.getValue()) + 1;
+            }
+            int changes = 0;
+            for (int i = 0; i < regionArray.length; i++) {
+                if (current[i] != previous[i]) {
+                    changes++;
+                }
+            }
+            Ser.writeVarLong(changes, out);
+            int lastIndex = 0;
+            for (int i = 0; i < regionArray.length; i++) {
+                if (current[i] != previous[i]) {
+                    Ser.writeVarLong(i - lastIndex, out);
+                    Ser.writeVarLong(current[i], out);
+                    lastIndex = i;
+                }
+            }
+            previous = current;
+        }
+    }
+
+    /**
+     * Outputs the rules in the compact version 2 format.
+     * <p>
+     * The offsets and transition rules are written once to shared pools, followed by
+     * a table of the position of each set of rules within the rules data.
+     */
+    private static void outputCompactRules(DataOutputStream out, List<ZoneRules> rulesList) throws IOException {
+        Map<ZoneOffset, Integer> offsetPool = new LinkedHashMap<ZoneOffset, Integer>();
+        Map<ZoneOffsetTransitionRule, Integer> rulePool = new LinkedHashMap<ZoneOffsetTransitionRule, Integer>();
+        int[] positions = new int[rulesList.size() + 1];
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(65536);
+        DataOutputStream dataos = new DataOutputStream(baos);
+        for (int i = 0; i < rulesList.size(); i++) {
+            positions[i] = dataos.size();
+            ((StandardZoneRules) rulesList.get(i)).writeCompact(dataos, offsetPool, rulePool);
+        }
+        positions[rulesList.size()] = dataos.size();
+        dataos.close();
+        // pools
+        out.writeShort(offsetPool.size());
+        for (ZoneOffset offset : offsetPool.keySet()) {
+            Ser.writeOffset(offset, out);
+        }
+        out.writeShort(rulePool.size());
+        for (ZoneOffsetTransitionRule rule : rulePool.keySet()) {
+            rule.writeExternal(out);
+        }
+        // position table and data
+        out.writeShort(rulesList.size());
+        for (int position : positions) {
+            out.writeInt(position);
+        }
+        baos.writeTo(out);
+    }
+
     /**
      * Outputs the leap second entries in the JAR file.
      */
@@ -427,7 +541,9 @@ public final class TZDBZoneRulesCompiler {
     /** The built zones. */
     private final SortedMap<String, ZoneRules> builtZones = new TreeMap<String, ZoneRules>();
     /** A map to deduplicate object instances. */
-    private Map<Object, Object> deduplicateMap = new HashMap<Object, Object>();
+    private ConcurrentMap<Object, Object> deduplicateMap = new ConcurrentHashMap<Object, Object>();
+    /** The executor to build zones in parallel, null to build serially. */
+    private ExecutorService executor;
     /** Sorted collection of LeapSecondRules. */
     private final SortedMap<LocalDate, Byte> leapSeconds = new TreeMap<LocalDate, Byte>();
 
@@ -501,10 +617,21 @@ public final class TZDBZoneRulesCompiler {
      *
      * @param deduplicateMap  the map to deduplicate items
      */
-    void setDeduplicateMap(Map<Object, Object> deduplicateMap) {
+    void setDeduplicateMap(ConcurrentMap<Object, Object> deduplicateMap) {
         this.deduplicateMap = deduplicateMap;
     }
 
+    /**
+     * Sets the executor used to build the zones in parallel.
+     * <p>
+     * The built rules are the same whether built serially or in parallel.
+     *
+     * @param executor  the executor, null to build serially
+     */
+    void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses the source files.
@@ -891,17 +1018,37 @@ public final class TZDBZoneRulesCompiler {
      * @throws Exception if an error occurs
      */
     private void buildZoneRules() throws Exception {
+        // adjust the rules once, as they are shared between zones
+        for (List<TZDBRule> tzdbRules : rules.values()) {
+            for (TZDBRule tzdbRule : tzdbRules) {
+                tzdbRule.adjustToFowards(2004);  // irrelevant, treat as leap year
+            }
+        }
+        
         // build zones
-        for (String zoneId : zones.keySet()) {
-            printVerbose("Building zone " + zoneId);
-            zoneId = deduplicate(zoneId);
-            List<TZDBZone> tzdbZones = zones.get(zoneId);
-            ZoneRulesBuilder bld = new ZoneRulesBuilder();
-            for (TZDBZone tzdbZone : tzdbZones) {
-                bld = tzdbZone.addToBuilder(bld, rules);
+        if (executor == null) {
+            for (String zoneId : zones.keySet()) {
+                zoneId = deduplicate(zoneId);
+                builtZones.put(zoneId, buildZone(zoneId));
+            }
+        } else {
+            Map<String, Future<ZoneRules>> futures = new TreeMap<String, Future<ZoneRules>>();
+            for (String zoneId : zones.keySet()) {
+                final String id = deduplicate(zoneId);
+                futures.put(id, executor.submit(new Callable<ZoneRules>() {
+                    public ZoneRules call() throws Exception {
+                        return buildZone(id);
+                    }
+                }));
+            }
+            for (Map.Entry<String, Future<ZoneRules>> entry : futures.entrySet()) {
+                try {
+                    builtZones.put(entry.getKey(), entry.getValue().get());
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause();
+                    throw (cause instanceof Exception ? (Exception) cause : ex);
+                }
             }
-            ZoneRules buildRules = bld.toRules(zoneId, deduplicateMap);
-            builtZones.put(zoneId, deduplicate(buildRules));
         }
         
         // build aliases
@@ -926,6 +1073,25 @@ public final class TZDBZoneRulesCompiler {
         builtZones.remove("GMT");
     }
 
+    /**
+     * Builds the rules for a single zone.
+     * <p>
+     * This may be called in parallel for different zones.
+     *
+     * @param zoneId  the zone ID, not null
+     * @return the deduplicated rules, not null
+     */
+    private ZoneRules buildZone(String zoneId) {
+        printVerbose("Building zone " + zoneId);
+        List<TZDBZone> tzdbZones = zones.get(zoneId);
+        ZoneRulesBuilder bld = new ZoneRulesBuilder();
+        for (TZDBZone tzdbZone : tzdbZones) {
+            bld = tzdbZone.addToBuilder(bld, rules);
+        }
+        ZoneRules buildRules = bld.toRules(zoneId, deduplicateMap);
+        return deduplicate(buildRules);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Deduplicates an object instance.
@@ -936,10 +1102,8 @@ public final class TZDBZoneRulesCompiler {
      */
     @SuppressWarnings("unchecked")
     <T> T deduplicate(T object) {
-        if (deduplicateMap.containsKey(object) == false) {
-            deduplicateMap.put(object, object);
-        }
-        return (T) deduplicateMap.get(object);
+        Object existing = deduplicateMap.putIfAbsent(object, object);
+        return (existing != null ? (T) existing : object);
     }
 
     //-----------------------------------------------------------------------
@@ -999,7 +1163,6 @@ public final class TZDBZoneRulesCompiler {
         String text;
 
         void addToBuilder(ZoneRulesBuilder bld) {
-            adjustToFowards(2004);  // irrelevant, treat as leap year
             bld.addRuleToWindow(startYear, endYear, month, dayOfMonth, dayOfWeek, time, endOfDay, timeDefinition, savingsAmount);
         }
     }
@@ -34,7 +34,9 @@ package javax.time.zone;
 import java.util.List;
 
 import javax.time.Instant;
+import javax.time.LocalDate;
 import javax.time.LocalDateTime;
+import javax.time.LocalTime;
 import javax.time.OffsetDate;
 import javax.time.OffsetDateTime;
 import javax.time.OffsetTime;
@@ -247,6 +249,68 @@ public interface ZoneRules {
      */
     List<ZoneOffsetTransitionRule> getTransitionRules();
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the offsets applicable at each of the specified epoch-seconds in this zone.
+     * <p>
+     * This is a bulk equivalent of {@link #getOffset(Instant)}, intended for converting
+     * large numbers of timestamps without creating an object per element.
+     * Each element of the input is converted to the total offset in seconds and stored
+     * at the same index of the output array.
+     * <p>
+     * The input does not have to be sorted, however implementations may be able to
+     * process input sorted in ascending order more efficiently.
+     *
+     * @param epochSeconds  the epoch-seconds to find the offsets for, from 1970-01-01Z, not null
+     * @param offsetSecondsOut  the array to fill with the total offset seconds,
+     *  at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     */
+    void getOffsets(long[] epochSeconds, int[] offsetSecondsOut);
+
+    /**
+     * Gets the offsets and local date-times applicable at each of the specified epoch-seconds in this zone.
+     * <p>
+     * This is a bulk equivalent of {@link #getOffset(Instant)} followed by conversion
+     * to a local date-time, intended for converting large numbers of timestamps without
+     * creating an object per element.
+     * Each element of the input is converted to the total offset in seconds, the local
+     * epoch-day and the local nano-of-day, stored at the same index of the output arrays.
+     * The epoch-day and nano-of-day are equivalent to {@link LocalDate#toEpochDay()} and
+     * {@link LocalTime#toNanoOfDay()} of the local date-time.
+     * <p>
+     * The input does not have to be sorted, however implementations may be able to
+     * process input sorted in ascending order more efficiently.
+     *
+     * @param epochSeconds  the epoch-seconds to convert, from 1970-01-01Z, not null
+     * @param offsetSecondsOut  the array to fill with the total offset seconds,
+     *  at least as long as the input, not null
+     * @param epochDaysOut  the array to fill with the local epoch-day,
+     *  at least as long as the input, not null
+     * @param nanoOfDaysOut  the array to fill with the local nano-of-day,
+     *  at least as long as the input, not null
+     * @throws IllegalArgumentException if an output array is too short
+     * @throws ArithmeticException if the calculation overflows
+     */
+    void getOffsets(long[] epochSeconds, int[] offsetSecondsOut, long[] epochDaysOut, long[] nanoOfDaysOut);
+
+    //-----------------------------------------------------------------------
+    /**
+     * Preloads any cached transition data for the specified range of years.
+     * <p>
+     * Implementations may lazily derive and cache the transitions produced by
+     * the {@link #getTransitionRules() transition rules}. This method allows an
+     * application to perform that work up front, such as at startup, rather than
+     * on first use. It has no effect on the result of any other method.
+     * <p>
+     * Years outside the range cached by the implementation are ignored.
+     * Rules without cached data, such as fixed offset rules, do nothing.
+     *
+     * @param startYear  the first year to preload, inclusive
+     * @param endYear  the last year to preload, inclusive
+     */
+    void preloadTransitions(int startYear, int endYear);
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this set of rules equals another.
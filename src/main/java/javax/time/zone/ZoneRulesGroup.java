@@ -111,6 +111,10 @@ public final class ZoneRulesGroup {
     private AtomicReference<TreeMap<String, ZoneRulesVersion>> versions =
             new AtomicReference<TreeMap<String, ZoneRulesVersion>>(
                     new TreeMap<String, ZoneRulesVersion>(Collections.reverseOrder()));
+    /**
+     * The generation of the versions, incremented each time a provider is registered.
+     */
+    private volatile int generation;
 
     //-----------------------------------------------------------------------
     /**
@@ -259,6 +263,7 @@ public final class ZoneRulesGroup {
             newVersions.put(versionID, version);
         }
         versions.set(newVersions);
+        generation++;  // synchronized by caller, published after the versions
         
         Set<String> regionIDs = provider.getRegionIDs();
         for (String regionID : regionIDs) {
@@ -402,6 +407,20 @@ public final class ZoneRulesGroup {
         return Collections.unmodifiableSet(versions.get().keySet());
     }
 
+    /**
+     * Gets the generation of the versions held by this group.
+     * <p>
+     * The generation changes each time a provider is registered with this group,
+     * and at no other time. Callers may cache the result of a query for the latest
+     * version, and only repeat the query when the generation changes.
+     * The generation must be read before the query is made.
+     *
+     * @return the generation of the versions
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
     /**
      * Gets the latest available version of the group's data.
      * <p>
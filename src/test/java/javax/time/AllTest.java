@@ -95,6 +95,8 @@ import javax.time.format.TestZoneOffsetPrinter;
 import javax.time.i18n.TestCopticChronology;
 import javax.time.i18n.TestCopticDate;
 import javax.time.i18n.TestInterCalendarSystem;
+import javax.time.i18n.TestJulianChronology;
+import javax.time.zone.TestByteBufferDataInput;
 import javax.time.zone.TestFixedZoneRules;
 import javax.time.zone.TestStandardZoneRules;
 import javax.time.zone.TestTZDBZoneRulesCompiler;
@@ -129,8 +131,11 @@ public class AllTest {
             TestInstant.class,
             TestMathUtils.class,
             TestTimeSource_Fixed.class,
+            TestTimeSource_LeapSmeared.class,
+            TestTimeSource_NanoSystem.class,
             TestTimeSource_OffsetSystem.class,
             TestTimeSource_System.class,
+            TestTimeSource_Ticker.class,
             // time scale
             TestTAIInstant.class,
             TestUTCInstant.class,
@@ -220,7 +225,9 @@ public class AllTest {
             TestCopticChronology.class,
             TestCopticDate.class,
             TestInterCalendarSystem.class,
+            TestJulianChronology.class,
             // zone
+            TestByteBufferDataInput.class,
             TestFixedZoneRules.class,
             TestStandardZoneRules.class,
             TestTZDBZoneRulesCompiler.class,
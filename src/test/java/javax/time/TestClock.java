@@ -108,6 +108,16 @@ public class TestClock {
         }
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_mockClock_primitives() {
+        LocalDateTime expected = MOCK.dateTime();
+        assertEquals(MOCK.epochDay(), expected.toLocalDate().toEpochDay());
+        assertEquals(MOCK.nanoOfDay(), expected.toLocalTime().toNanoOfDay());
+        assertEquals(MOCK.localEpochNano(),
+                expected.toLocalDate().toEpochDay() * MathUtils.NANOS_PER_DAY + expected.toLocalTime().toNanoOfDay());
+    }
+
     //-----------------------------------------------------------------------
     @Test(expectedExceptions=UnsupportedOperationException.class, groups={"tck"})
     public void test_mockClockNoOverrides_getSource() {
@@ -43,6 +43,8 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import javax.time.zone.ZoneRules;
+
 import org.testng.annotations.Test;
 
 /**
@@ -111,6 +113,96 @@ public class TestClock_TimeSourceClock {
         assertSame(test, changed);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_primitives_matchObjects() {
+        ZoneId[] zones = {ZONE, ZoneId.UTC, ZoneId.of("America/New_York"), ZoneId.of("Asia/Kolkata"), ZoneId.of(ZoneOffset.ofHoursMinutes(-3, -30))};
+        Instant[] instants = {
+            DATE_TIME.toInstant(),
+            Instant.EPOCH,
+            Instant.ofEpochSecond(-1, 999999999),
+            Instant.ofEpochSecond(-86400L * 365 * 50, 1),
+            OffsetDateTime.of(2008, 3, 30, 0, 59, 59, 999999999, ZoneOffset.UTC).toInstant(),
+            OffsetDateTime.of(2008, 3, 30, 1, 0, ZoneOffset.UTC).toInstant(),
+            OffsetDateTime.of(2008, 12, 31, 23, 59, 59, 999999999, ZoneOffset.UTC).toInstant(),
+        };
+        for (ZoneId zone : zones) {
+            for (Instant instant : instants) {
+                Clock test = Clock.clock(TimeSource.fixed(instant), zone);
+                LocalDateTime expected = test.dateTime();
+                assertEquals(test.epochDay(), expected.toLocalDate().toEpochDay(), zone + " " + instant);
+                assertEquals(test.nanoOfDay(), expected.toLocalTime().toNanoOfDay(), zone + " " + instant);
+                assertEquals(test.localEpochNano(),
+                        expected.toLocalDate().toEpochDay() * MathUtils.NANOS_PER_DAY + expected.toLocalTime().toNanoOfDay(),
+                        zone + " " + instant);
+            }
+        }
+    }
+
+    public void test_offset_acrossTransitions() {
+        final Instant[] now = new Instant[1];
+        TimeSource source = new TimeSource() {
+            @Override
+            public Instant instant() {
+                return now[0];
+            }
+        };
+        Clock test = Clock.clock(source, ZONE);
+        ZoneRules rules = ZONE.getRules();
+        Instant[] transitions = {
+            OffsetDateTime.of(2008, 3, 30, 1, 0, ZoneOffset.UTC).toInstant(),
+            OffsetDateTime.of(2008, 10, 26, 1, 0, ZoneOffset.UTC).toInstant(),
+        };
+        for (Instant transition : transitions) {
+            for (long secs = -2; secs <= 2; secs++) {
+                for (long nanos : new long[] {0, 999999999}) {
+                    now[0] = transition.plusSeconds(secs).plusNanos(nanos);
+                    ZoneOffset expected = rules.getOffset(now[0]);
+                    assertEquals(test.offsetDateTime().getOffset(), expected, now[0].toString());
+                    assertEquals(test.dateTime(), OffsetDateTime.ofInstant(now[0], expected).toLocalDateTime(), now[0].toString());
+                    assertEquals(test.localEpochNano(), DateTimeCodecs.toEpochNano(now[0]) + expected.getTotalSeconds() * 1000000000L);
+                }
+            }
+        }
+        // backwards in time
+        now[0] = transitions[0].minusSeconds(1);
+        assertEquals(test.offsetDateTime().getOffset(), ZoneOffset.ofHours(1));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_offsetWindow() {
+        ZoneRules rules = ZONE.getRules();
+        Clock.OffsetWindow test = new Clock.OffsetWindow(rules, DATE_TIME.toInstant());
+        assertSame(test.rules, rules);
+        assertEquals(test.offset, ZoneOffset.ofHours(2));
+        assertEquals(test.offsetSeconds, 7200);
+        assertEquals(test.start, OffsetDateTime.of(2008, 3, 30, 1, 0, ZoneOffset.UTC).toEpochSecond());
+        assertEquals(test.end, OffsetDateTime.of(2008, 10, 26, 1, 0, ZoneOffset.UTC).toEpochSecond());
+    }
+
+    @Test(groups={"implementation"})
+    public void test_offsetWindow_atTransition() {
+        ZoneRules rules = ZONE.getRules();
+        Instant transition = OffsetDateTime.of(2008, 3, 30, 1, 0, ZoneOffset.UTC).toInstant();
+        Clock.OffsetWindow test = new Clock.OffsetWindow(rules, transition);
+        assertEquals(test.offset, ZoneOffset.ofHours(2));
+        assertEquals(test.start, transition.getEpochSecond());
+        assertEquals(test.end, OffsetDateTime.of(2008, 10, 26, 1, 0, ZoneOffset.UTC).toEpochSecond());
+    }
+
+    @Test(groups={"implementation"})
+    public void test_offsetWindow_fixed() {
+        ZoneRules rules = ZoneId.of(OFFSET).getRules();
+        Clock.OffsetWindow test = new Clock.OffsetWindow(rules, DATE_TIME.toInstant());
+        assertEquals(test.offset, OFFSET);
+        assertEquals(test.start, Long.MIN_VALUE);
+        assertEquals(test.end, Long.MAX_VALUE);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_localEpochNano_tooLarge() {
+        Clock.clock(TimeSource.fixed(Instant.ofEpochSecond(Long.MAX_VALUE / 1000000000L + 1)), ZONE).localEpochNano();
+    }
+
     //-----------------------------------------------------------------------
     public void test_equals() {
         Clock test = Clock.clock(TIME_SOURCE, ZONE);
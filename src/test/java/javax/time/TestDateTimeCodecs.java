@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+import javax.time.calendrical.IllegalCalendarFieldValueException;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test DateTimeCodecs.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestDateTimeCodecs {
+
+    private static final ZoneOffset OFFSET_PONE = ZoneOffset.ofHours(1);
+    private static final ZoneOffset OFFSET_MTWO = ZoneOffset.ofHoursMinutes(-2, -30);
+
+    //-----------------------------------------------------------------------
+    public void test_utilityClass() throws Exception {
+        assertTrue(Modifier.isFinal(DateTimeCodecs.class.getModifiers()));
+        Constructor<?>[] cons = DateTimeCodecs.class.getDeclaredConstructors();
+        assertEquals(cons.length, 1);
+        assertEquals(cons[0].getParameterTypes().length, 0);
+        assertTrue(Modifier.isPrivate(cons[0].getModifiers()));
+    }
+
+    //-----------------------------------------------------------------------
+    // LocalDate
+    //-----------------------------------------------------------------------
+    @DataProvider(name="epochDays")
+    Object[][] data_epochDays() {
+        return new Object[][] {
+            {LocalDate.of(1970, 1, 1), 0},
+            {LocalDate.of(1970, 1, 2), 1},
+            {LocalDate.of(1969, 12, 31), -1},
+            {LocalDate.of(2000, 2, 29), 11016},
+            {LocalDate.of(2008, 6, 30), 14060},
+            {LocalDate.of(0, 1, 1), -719528},
+            {LocalDate.of(-1, 12, 31), -719529},
+        };
+    }
+
+    @Test(dataProvider="epochDays")
+    public void test_toEpochDay(LocalDate date, int epochDay) {
+        assertEquals(DateTimeCodecs.toEpochDay(date), epochDay);
+        assertEquals(DateTimeCodecs.ofEpochDay(epochDay), date);
+    }
+
+    public void test_toEpochDay_intMinMax() {
+        LocalDate min = LocalDate.ofEpochDay(Integer.MIN_VALUE);
+        LocalDate max = LocalDate.ofEpochDay(Integer.MAX_VALUE);
+        assertEquals(DateTimeCodecs.toEpochDay(min), Integer.MIN_VALUE);
+        assertEquals(DateTimeCodecs.toEpochDay(max), Integer.MAX_VALUE);
+        assertEquals(DateTimeCodecs.ofEpochDay(Integer.MIN_VALUE), min);
+        assertEquals(DateTimeCodecs.ofEpochDay(Integer.MAX_VALUE), max);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_toEpochDay_tooLarge() {
+        DateTimeCodecs.toEpochDay(LocalDate.ofEpochDay(Integer.MAX_VALUE).plusDays(1));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_toEpochDays_tooSmall() {
+        DateTimeCodecs.toEpochDays(new LocalDate[] {LocalDate.of(Year.MIN_YEAR, 1, 1)}, new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toEpochDay_null() {
+        DateTimeCodecs.toEpochDay(null);
+    }
+
+    public void test_toEpochDays_roundTrip() {
+        LocalDate[] dates = new LocalDate[1000];
+        LocalDate date = LocalDate.of(2007, 12, 20);
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = date;
+            if (i % 3 != 0) {
+                date = date.plusDays(i % 5 == 0 ? 40 : 1);
+            }
+        }
+        dates[500] = LocalDate.of(1850, 3, 1);
+        dates[501] = LocalDate.of(1850, 2, 28);
+        int[] epochDays = new int[dates.length];
+        DateTimeCodecs.toEpochDays(dates, epochDays);
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(epochDays[i], DateTimeCodecs.toEpochDay(dates[i]));
+        }
+        LocalDate[] decoded = new LocalDate[dates.length];
+        DateTimeCodecs.ofEpochDays(epochDays, decoded);
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(decoded[i], dates[i]);
+        }
+    }
+
+    public void test_ofEpochDays_monthBoundaries() {
+        int start = DateTimeCodecs.toEpochDay(LocalDate.of(1999, 12, 1));
+        int[] epochDays = new int[800];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = start + i;
+        }
+        LocalDate[] decoded = new LocalDate[epochDays.length];
+        DateTimeCodecs.ofEpochDays(epochDays, decoded);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(decoded[i], LocalDate.ofEpochDay(epochDays[i]));
+        }
+    }
+
+    public void test_ofEpochDays_backwards() {
+        int[] epochDays = new int[] {31, 30, 29, 0, -1, 59, 58, 60};
+        LocalDate[] decoded = new LocalDate[epochDays.length];
+        DateTimeCodecs.ofEpochDays(epochDays, decoded);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(decoded[i], LocalDate.ofEpochDay(epochDays[i]));
+        }
+    }
+
+    public void test_ofEpochDays_reusesEqual() {
+        LocalDate[] decoded = new LocalDate[3];
+        DateTimeCodecs.ofEpochDays(new int[] {100, 100, 100}, decoded);
+        assertSame(decoded[1], decoded[0]);
+        assertSame(decoded[2], decoded[0]);
+    }
+
+    public void test_ofEpochDays_emptyArrays() {
+        DateTimeCodecs.ofEpochDays(new int[0], new LocalDate[0]);
+        DateTimeCodecs.toEpochDays(new LocalDate[0], new int[0]);
+    }
+
+    public void test_ofEpochDays_outputLonger() {
+        LocalDate[] decoded = new LocalDate[3];
+        DateTimeCodecs.ofEpochDays(new int[] {1, 2}, decoded);
+        assertEquals(decoded[0], LocalDate.of(1970, 1, 2));
+        assertEquals(decoded[1], LocalDate.of(1970, 1, 3));
+        assertEquals(decoded[2], null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofEpochDays_outputTooShort() {
+        DateTimeCodecs.ofEpochDays(new int[] {1, 2}, new LocalDate[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_toEpochDays_outputTooShort() {
+        DateTimeCodecs.toEpochDays(new LocalDate[] {LocalDate.of(2008, 6, 30)}, new int[0]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toEpochDays_nullElement() {
+        DateTimeCodecs.toEpochDays(new LocalDate[] {null}, new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toEpochDays_nullArray() {
+        DateTimeCodecs.toEpochDays((LocalDate[]) null, new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_ofEpochDays_nullArray() {
+        DateTimeCodecs.ofEpochDays(new int[1], (LocalDate[]) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // LocalTime
+    //-----------------------------------------------------------------------
+    public void test_toNanoOfDays_roundTrip() {
+        LocalTime[] times = new LocalTime[] {
+            LocalTime.MIDNIGHT, LocalTime.MIDNIGHT, LocalTime.of(12, 30, 40, 987654321), LocalTime.MIDDAY, LocalTime.of(23, 59, 59, 999999999),
+        };
+        long[] nanos = new long[times.length];
+        DateTimeCodecs.toNanoOfDays(times, nanos);
+        LocalTime[] decoded = new LocalTime[times.length];
+        DateTimeCodecs.ofNanoOfDays(nanos, decoded);
+        for (int i = 0; i < times.length; i++) {
+            assertEquals(nanos[i], times[i].toNanoOfDay());
+            assertEquals(decoded[i], times[i]);
+        }
+        assertSame(decoded[1], decoded[0]);
+    }
+
+    @Test(expectedExceptions=IllegalCalendarFieldValueException.class)
+    public void test_ofNanoOfDays_invalid() {
+        DateTimeCodecs.ofNanoOfDays(new long[] {-1}, new LocalTime[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofNanoOfDays_outputTooShort() {
+        DateTimeCodecs.ofNanoOfDays(new long[] {1}, new LocalTime[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    // LocalDateTime
+    //-----------------------------------------------------------------------
+    @DataProvider(name="localEpochNanos")
+    Object[][] data_localEpochNanos() {
+        return new Object[][] {
+            {LocalDateTime.of(1970, 1, 1, 0, 0), 0L},
+            {LocalDateTime.of(1970, 1, 1, 0, 0, 0, 1), 1L},
+            {LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999999999), -1L},
+            {LocalDateTime.of(2008, 6, 30, 11, 30, 10, 500), 1214825410000000500L},
+            {LocalDateTime.of(2262, 4, 11, 23, 47, 16, 854775807), Long.MAX_VALUE},
+            {LocalDateTime.of(1677, 9, 21, 0, 12, 43, 145224192), Long.MIN_VALUE},
+        };
+    }
+
+    @Test(dataProvider="localEpochNanos")
+    public void test_toLocalEpochNano(LocalDateTime dateTime, long nanos) {
+        assertEquals(DateTimeCodecs.toLocalEpochNano(dateTime), nanos);
+        assertEquals(DateTimeCodecs.ofLocalEpochNano(nanos), dateTime);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_toLocalEpochNano_tooLarge() {
+        DateTimeCodecs.toLocalEpochNano(LocalDateTime.of(2262, 4, 12, 0, 0));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_toLocalEpochNano_tooSmall() {
+        DateTimeCodecs.toLocalEpochNano(LocalDateTime.of(1677, 9, 21, 0, 12, 43, 145224191));
+    }
+
+    public void test_ofEpochDay_dateTime() {
+        assertEquals(DateTimeCodecs.ofEpochDay(14060, 41410000000500L), LocalDateTime.of(2008, 6, 30, 11, 30, 10, 500));
+        assertEquals(DateTimeCodecs.ofEpochDay(-1, 0), LocalDateTime.of(1969, 12, 31, 0, 0));
+    }
+
+    @Test(expectedExceptions=IllegalCalendarFieldValueException.class)
+    public void test_ofEpochDay_dateTime_invalidNanoOfDay() {
+        DateTimeCodecs.ofEpochDay(0, 86400L * 1000000000L);
+    }
+
+    private LocalDateTime[] dateTimes() {
+        LocalDateTime[] dateTimes = new LocalDateTime[500];
+        LocalDateTime dateTime = LocalDateTime.of(1969, 12, 31, 22, 0, 0, 123);
+        for (int i = 0; i < dateTimes.length; i++) {
+            dateTimes[i] = dateTime;
+            if (i % 4 != 0) {
+                dateTime = dateTime.plusMinutes(i % 7 == 0 ? 2000 : 17);
+            }
+        }
+        return dateTimes;
+    }
+
+    public void test_toEpochDays_dateTime_roundTrip() {
+        LocalDateTime[] dateTimes = dateTimes();
+        int[] epochDays = new int[dateTimes.length];
+        long[] nanoOfDays = new long[dateTimes.length];
+        DateTimeCodecs.toEpochDays(dateTimes, epochDays, nanoOfDays);
+        LocalDateTime[] decoded = new LocalDateTime[dateTimes.length];
+        DateTimeCodecs.ofEpochDays(epochDays, nanoOfDays, decoded);
+        for (int i = 0; i < dateTimes.length; i++) {
+            assertEquals(epochDays[i], DateTimeCodecs.toEpochDay(dateTimes[i].toLocalDate()));
+            assertEquals(nanoOfDays[i], dateTimes[i].toLocalTime().toNanoOfDay());
+            assertEquals(decoded[i], dateTimes[i]);
+        }
+        assertSame(decoded[1], decoded[0]);
+    }
+
+    public void test_toLocalEpochNanos_roundTrip() {
+        LocalDateTime[] dateTimes = dateTimes();
+        long[] nanos = new long[dateTimes.length];
+        DateTimeCodecs.toLocalEpochNanos(dateTimes, nanos);
+        LocalDateTime[] decoded = new LocalDateTime[dateTimes.length];
+        DateTimeCodecs.ofLocalEpochNanos(nanos, decoded);
+        for (int i = 0; i < dateTimes.length; i++) {
+            assertEquals(nanos[i], DateTimeCodecs.toLocalEpochNano(dateTimes[i]));
+            assertEquals(decoded[i], dateTimes[i]);
+        }
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofEpochDays_dateTime_nanosTooShort() {
+        DateTimeCodecs.ofEpochDays(new int[2], new long[1], new LocalDateTime[2]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_toEpochDays_dateTime_outputTooShort() {
+        DateTimeCodecs.toEpochDays(new LocalDateTime[] {LocalDateTime.of(2008, 6, 30, 11, 30)}, new int[1], new long[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    // Instant
+    //-----------------------------------------------------------------------
+    public void test_toEpochNano() {
+        assertEquals(DateTimeCodecs.toEpochNano(Instant.ofEpochSecond(0, 0)), 0L);
+        assertEquals(DateTimeCodecs.toEpochNano(Instant.ofEpochSecond(-1, 999999999)), -1L);
+        assertEquals(DateTimeCodecs.toEpochNano(Instant.ofEpochSecond(1214825410, 500)), 1214825410000000500L);
+        assertEquals(DateTimeCodecs.toEpochNano(Instant.ofEpochNano(Long.MAX_VALUE)), Long.MAX_VALUE);
+        assertEquals(DateTimeCodecs.toEpochNano(Instant.ofEpochNano(Long.MIN_VALUE)), Long.MIN_VALUE);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_toEpochNano_tooLarge() {
+        DateTimeCodecs.toEpochNano(Instant.ofEpochNano(Long.MAX_VALUE).plusNanos(1));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toEpochNano_null() {
+        DateTimeCodecs.toEpochNano(null);
+    }
+
+    public void test_toEpochNanos_roundTrip() {
+        Instant[] instants = new Instant[] {
+            Instant.ofEpochSecond(-1, 999999999), Instant.ofEpochSecond(0), Instant.ofEpochSecond(0), Instant.ofEpochSecond(1214825410, 500),
+        };
+        long[] nanos = new long[instants.length];
+        DateTimeCodecs.toEpochNanos(instants, nanos);
+        Instant[] decoded = new Instant[instants.length];
+        DateTimeCodecs.ofEpochNanos(nanos, decoded);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(nanos[i], DateTimeCodecs.toEpochNano(instants[i]));
+            assertEquals(decoded[i], instants[i]);
+        }
+        assertSame(decoded[2], decoded[1]);
+    }
+
+    public void test_toEpochSeconds_roundTrip() {
+        Instant[] instants = new Instant[] {
+            Instant.ofEpochSecond(Long.MIN_VALUE), Instant.ofEpochSecond(-1, 999999999), Instant.ofEpochSecond(-1, 999999999),
+            Instant.ofEpochSecond(1214825410, 500), Instant.ofEpochSecond(Long.MAX_VALUE, 999999999),
+        };
+        long[] secs = new long[instants.length];
+        int[] nanos = new int[instants.length];
+        DateTimeCodecs.toEpochSeconds(instants, secs, nanos);
+        Instant[] decoded = new Instant[instants.length];
+        DateTimeCodecs.ofEpochSeconds(secs, nanos, decoded);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(secs[i], instants[i].getEpochSecond());
+            assertEquals(nanos[i], instants[i].getNanoOfSecond());
+            assertEquals(decoded[i], instants[i]);
+        }
+        assertSame(decoded[2], decoded[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofEpochSeconds_instant_nanosTooShort() {
+        DateTimeCodecs.ofEpochSeconds(new long[2], new int[1], new Instant[2]);
+    }
+
+    //-----------------------------------------------------------------------
+    // OffsetDateTime
+    //-----------------------------------------------------------------------
+    @DataProvider(name="offsetDateTimes")
+    Object[][] data_offsetDateTimes() {
+        return new Object[][] {
+            {OffsetDateTime.of(1970, 1, 1, 0, 0, ZoneOffset.UTC)},
+            {OffsetDateTime.of(1970, 1, 1, 0, 30, OFFSET_PONE)},
+            {OffsetDateTime.of(2008, 6, 30, 11, 30, 10, 999999999, OFFSET_MTWO)},
+            {OffsetDateTime.of(1850, 2, 28, 23, 59, 59, 1, ZoneOffset.ofHours(18))},
+            {OffsetDateTime.of(Year.MIN_YEAR, 1, 1, 0, 0, ZoneOffset.ofHours(-18))},
+            {OffsetDateTime.of(Year.MAX_YEAR, 12, 31, 23, 59, 59, 999999999, ZoneOffset.ofHours(18))},
+        };
+    }
+
+    @Test(dataProvider="offsetDateTimes")
+    public void test_toNanoAndOffset(OffsetDateTime dateTime) {
+        long packed = DateTimeCodecs.toNanoAndOffset(dateTime);
+        assertEquals((int) packed, dateTime.getNanoOfSecond());
+        assertEquals((int) (packed >> 32), dateTime.getOffset().getTotalSeconds());
+        OffsetDateTime decoded = DateTimeCodecs.ofEpochSecond(dateTime.toEpochSecond(), packed);
+        assertEquals(decoded, dateTime);
+    }
+
+    public void test_toEpochSeconds_offsetDateTime_roundTrip() {
+        Object[][] data = data_offsetDateTimes();
+        OffsetDateTime[] dateTimes = new OffsetDateTime[data.length];
+        for (int i = 0; i < data.length; i++) {
+            dateTimes[i] = (OffsetDateTime) data[i][0];
+        }
+        long[] secs = new long[dateTimes.length];
+        long[] packed = new long[dateTimes.length];
+        DateTimeCodecs.toEpochSeconds(dateTimes, secs, packed);
+        OffsetDateTime[] decoded = new OffsetDateTime[dateTimes.length];
+        DateTimeCodecs.ofEpochSeconds(secs, packed, decoded);
+        for (int i = 0; i < dateTimes.length; i++) {
+            assertEquals(secs[i], dateTimes[i].toEpochSecond());
+            assertEquals(packed[i], DateTimeCodecs.toNanoAndOffset(dateTimes[i]));
+            assertEquals(decoded[i], dateTimes[i]);
+        }
+    }
+
+    @Test(expectedExceptions=IllegalCalendarFieldValueException.class)
+    public void test_ofEpochSecond_invalidNano() {
+        DateTimeCodecs.ofEpochSecond(0, 1000000000L);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofEpochSecond_invalidOffset() {
+        DateTimeCodecs.ofEpochSecond(0, ((long) 19 * 3600) << 32);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_ofEpochSecond_tooLarge() {
+        OffsetDateTime max = OffsetDateTime.of(Year.MAX_YEAR, 12, 31, 23, 59, ZoneOffset.UTC);
+        DateTimeCodecs.ofEpochSecond(max.toEpochSecond() + 60, 0);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofEpochSeconds_offsetDateTime_outputTooShort() {
+        DateTimeCodecs.ofEpochSeconds(new long[1], new long[1], new OffsetDateTime[0]);
+    }
+
+}
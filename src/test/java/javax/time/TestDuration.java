@@ -2172,6 +2172,94 @@ public class TestDuration {
         assertEquals(test.dividedBy(Long.MAX_VALUE), Duration.ofSeconds(1));
     }
 
+    //-----------------------------------------------------------------------
+    // long arithmetic matches BigInteger
+    //-----------------------------------------------------------------------
+    private static final long[] BOUNDARY_SECONDS = {
+        0, 1, -1, 59, -59, 60, -60, 61, -61, 86399, -86401,
+        9223372034L, -9223372034L, 9223372035L, -9223372035L, 9223372036L, -9223372036L,
+        9223372037L, -9223372037L, Long.MAX_VALUE / 2, Long.MIN_VALUE / 2, Long.MAX_VALUE, Long.MIN_VALUE,
+    };
+    private static final int[] BOUNDARY_NANOS = {0, 1, 500000000, 854775807, 854775808, 999999999};
+    private static final long[] BOUNDARY_OPERANDS = {
+        -1, 2, -2, 3, 7, -1000, 1000000007L, Integer.MAX_VALUE, Integer.MIN_VALUE,
+        Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L, Long.MAX_VALUE, Long.MIN_VALUE,
+    };
+
+    private static BigInteger nanosPerUnit(TimeUnit unit) {
+        return BigInteger.valueOf(unit.toNanos(1));
+    }
+
+    private static Duration durationOrNull(BigInteger nanos) {
+        try {
+            return Duration.ofNanos(nanos);
+        } catch (ArithmeticException ex) {
+            return null;
+        }
+    }
+
+    @Test(groups={"implementation"})
+    public void test_get_matchesBigInteger() {
+        for (long secs : BOUNDARY_SECONDS) {
+            for (int nos : BOUNDARY_NANOS) {
+                Duration test = Duration.ofSeconds(secs, nos);
+                for (TimeUnit unit : TimeUnit.values()) {
+                    BigInteger expected = test.toNanos().divide(nanosPerUnit(unit));
+                    expected = expected.min(BigInteger.valueOf(Long.MAX_VALUE)).max(BigInteger.valueOf(Long.MIN_VALUE));
+                    assertEquals(test.get(unit), expected.longValue(), test + " " + unit);
+                }
+            }
+        }
+    }
+
+    @Test(groups={"implementation"})
+    public void test_multipliedBy_matchesBigInteger() {
+        for (long secs : BOUNDARY_SECONDS) {
+            for (int nos : BOUNDARY_NANOS) {
+                Duration test = Duration.ofSeconds(secs, nos);
+                for (long multiplicand : BOUNDARY_OPERANDS) {
+                    Duration expected = durationOrNull(test.toNanos().multiply(BigInteger.valueOf(multiplicand)));
+                    try {
+                        assertEquals(test.multipliedBy(multiplicand), expected, test + " * " + multiplicand);
+                    } catch (ArithmeticException ex) {
+                        assertEquals(expected, null, test + " * " + multiplicand);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(groups={"implementation"})
+    public void test_dividedBy_matchesBigInteger() {
+        for (long secs : BOUNDARY_SECONDS) {
+            for (int nos : BOUNDARY_NANOS) {
+                Duration test = Duration.ofSeconds(secs, nos);
+                for (long divisor : BOUNDARY_OPERANDS) {
+                    Duration expected = durationOrNull(test.toNanos().divide(BigInteger.valueOf(divisor)));
+                    try {
+                        assertEquals(test.dividedBy(divisor), expected, test + " / " + divisor);
+                    } catch (ArithmeticException ex) {
+                        assertEquals(expected, null, test + " / " + divisor);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(groups={"implementation"})
+    public void test_of_TimeUnit_matchesBigInteger() {
+        for (long amount : BOUNDARY_SECONDS) {
+            for (TimeUnit unit : TimeUnit.values()) {
+                Duration expected = durationOrNull(BigInteger.valueOf(amount).multiply(nanosPerUnit(unit)));
+                try {
+                    assertEquals(Duration.of(amount, unit), expected, amount + " " + unit);
+                } catch (ArithmeticException ex) {
+                    assertEquals(expected, null, amount + " " + unit);
+                }
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     // negated()
     //-----------------------------------------------------------------------
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javax.time.calendrical.ISOPeriodUnit;
+import javax.time.calendrical.PeriodUnit;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test InstantColumn.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestInstantColumn {
+
+    private static final Instant I_1 = Instant.ofEpochSecond(1214825410, 500);
+    private static final Instant I_2 = Instant.ofEpochSecond(1214825470);
+    private static final Instant I_3 = Instant.ofEpochSecond(1214829010);
+    private static final Instant MIN = Instant.ofEpochNano(Long.MIN_VALUE);
+    private static final Instant MAX = Instant.ofEpochNano(Long.MAX_VALUE);
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        InstantColumn test = InstantColumn.of(I_1, I_2, I_3);
+        assertEquals(test.size(), 3);
+        assertEquals(test.isSorted(), true);
+        assertEquals(test.get(0), I_1);
+        assertEquals(test.get(2), I_3);
+        assertEquals(test.getEpochNano(0), 1214825410000000500L);
+        assertTrue(Arrays.equals(test.toArray(), new Instant[] {I_1, I_2, I_3}));
+        assertTrue(Arrays.equals(test.toEpochNanos(), new long[] {1214825410000000500L, 1214825470000000000L, 1214829010000000000L}));
+    }
+
+    public void test_of_unsorted() {
+        assertEquals(InstantColumn.of(I_2, I_1).isSorted(), false);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_of_tooLarge() {
+        InstantColumn.of(MAX.plusNanos(1));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_null() {
+        InstantColumn.of((Instant[]) null);
+    }
+
+    public void test_ofEpochNanos_copiesArray() {
+        long[] epochNanos = new long[] {1, 2, 3};
+        InstantColumn test = InstantColumn.ofEpochNanos(epochNanos);
+        epochNanos[0] = 9;
+        assertEquals(test.getEpochNano(0), 1);
+        test.toEpochNanos()[1] = 9;
+        assertEquals(test.getEpochNano(1), 2);
+    }
+
+    public void test_buffer_roundTrip() {
+        InstantColumn test = InstantColumn.of(I_1, I_2, I_3);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(40);
+        buffer.putLong(7);
+        test.writeTo(buffer);
+        assertEquals(buffer.position(), 32);
+        buffer.flip();
+        assertEquals(buffer.getLong(), 7);
+        InstantColumn read = InstantColumn.ofEpochNanos(buffer);
+        assertEquals(buffer.position(), 32);
+        assertEquals(read, test);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_binarySearch() {
+        InstantColumn test = InstantColumn.of(I_1, I_2, I_3);
+        assertEquals(test.binarySearch(I_2), 1);
+        assertEquals(test.binarySearch(I_2.plusNanos(1)), -3);
+        assertEquals(test.binarySearch(MIN.minusNanos(1)), -1);
+        assertEquals(test.binarySearch(MAX.plusNanos(1)), -4);
+    }
+
+    @Test(expectedExceptions=IllegalStateException.class)
+    public void test_binarySearch_unsorted() {
+        InstantColumn.of(I_2, I_1).binarySearch(I_1);
+    }
+
+    @DataProvider(name="between")
+    Object[][] data_between() {
+        return new Object[][] {
+            {I_1, I_3, new Instant[] {I_1, I_2, I_2}},
+            {I_1.plusNanos(1), I_3.plusNanos(1), new Instant[] {I_2, I_2, I_3}},
+            {I_2, I_2, new Instant[0]},
+            {I_3, I_1, new Instant[0]},
+            {MIN.minusSeconds(1), MIN, new Instant[0]},
+            {MIN, MIN.plusNanos(1), new Instant[] {MIN}},
+            {MAX, MAX.plusNanos(1), new Instant[] {MAX}},
+            {MAX.plusNanos(1), MAX.plusSeconds(1), new Instant[0]},
+            {MIN.minusSeconds(1), MAX.plusSeconds(1), new Instant[] {MIN, I_1, I_2, I_2, I_3, MAX}},
+        };
+    }
+
+    @Test(dataProvider="between")
+    public void test_between_sorted(Instant start, Instant end, Instant[] expected) {
+        InstantColumn test = InstantColumn.of(MIN, I_1, I_2, I_2, I_3, MAX);
+        assertEquals(test.between(start, end), InstantColumn.of(expected));
+    }
+
+    @Test(dataProvider="between")
+    public void test_between_unsorted(Instant start, Instant end, Instant[] expected) {
+        InstantColumn test = InstantColumn.of(MAX, I_1, I_2, I_2, I_3, MIN);
+        InstantColumn result = test.between(start, end);
+        long[] sorted = result.toEpochNanos();
+        Arrays.sort(sorted);
+        assertEquals(InstantColumn.ofEpochNanos(sorted), InstantColumn.of(expected));
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="truncated")
+    Object[][] data_truncated() {
+        return new Object[][] {
+            {ISOPeriodUnit.NANOS, I_1, I_1},
+            {ISOPeriodUnit.SECONDS, I_1, Instant.ofEpochSecond(1214825410)},
+            {ISOPeriodUnit.HOURS, I_1, OffsetDateTime.of(2008, 6, 30, 11, 0, ZoneOffset.UTC).toInstant()},
+            {ISOPeriodUnit.DAYS, I_1, OffsetDateTime.of(2008, 6, 30, 0, 0, ZoneOffset.UTC).toInstant()},
+            {ISOPeriodUnit.MONTHS, I_1, OffsetDateTime.of(2008, 6, 1, 0, 0, ZoneOffset.UTC).toInstant()},
+            {ISOPeriodUnit.YEARS, I_1, OffsetDateTime.of(2008, 1, 1, 0, 0, ZoneOffset.UTC).toInstant()},
+            {ISOPeriodUnit.HOURS, Instant.ofEpochSecond(-1), Instant.ofEpochSecond(-3600)},
+            {ISOPeriodUnit.DAYS, Instant.ofEpochSecond(-1), Instant.ofEpochSecond(-86400)},
+        };
+    }
+
+    @Test(dataProvider="truncated")
+    public void test_truncatedTo(PeriodUnit unit, Instant instant, Instant expected) {
+        InstantColumn test = InstantColumn.of(instant, I_3, instant);
+        InstantColumn truncated = test.truncatedTo(unit);
+        assertEquals(truncated.get(0), expected);
+        assertEquals(truncated.get(2), expected);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_truncatedTo_overflow() {
+        InstantColumn.of(MIN).truncatedTo(ISOPeriodUnit.DAYS);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_truncatedTo_unsupported() {
+        InstantColumn.of(I_1).truncatedTo(ISOPeriodUnit.WEEK_BASED_YEARS);
+    }
+
+    //-----------------------------------------------------------------------
+    private Instant[] acrossTransitions() {
+        Instant[] instants = new Instant[2000];
+        Instant instant = OffsetDateTime.of(2008, 3, 1, 0, 0, ZoneOffset.UTC).toInstant();
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = instant;
+            instant = instant.plusSeconds(i % 5 == 0 ? -3000 : 7200);
+        }
+        return instants;
+    }
+
+    public void test_toLocalEpochNanos() {
+        Instant[] instants = acrossTransitions();
+        long[] local = InstantColumn.of(instants).toLocalEpochNanos(LONDON);
+        for (int i = 0; i < instants.length; i++) {
+            LocalDateTime expected = ZonedDateTime.ofInstant(instants[i], LONDON).toLocalDateTime();
+            assertEquals(DateTimeCodecs.ofLocalEpochNano(local[i]), expected);
+        }
+    }
+
+    public void test_toLocalDates() {
+        Instant[] instants = acrossTransitions();
+        LocalDateColumn dates = InstantColumn.of(instants).toLocalDates(LONDON);
+        assertEquals(dates.size(), instants.length);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(dates.get(i), ZonedDateTime.ofInstant(instants[i], LONDON).toLocalDate());
+        }
+    }
+
+    public void test_toLocalDates_fixedOffset() {
+        InstantColumn test = InstantColumn.of(OffsetDateTime.of(2008, 6, 30, 23, 0, ZoneOffset.UTC).toInstant());
+        assertEquals(test.toLocalDates(ZoneId.of(ZoneOffset.ofHours(2))).get(0), LocalDate.of(2008, 7, 1));
+        assertEquals(test.toLocalDates(ZoneId.UTC).get(0), LocalDate.of(2008, 6, 30));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toLocalDates_null() {
+        InstantColumn.of(I_1).toLocalDates(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        InstantColumn a = InstantColumn.of(I_1, I_2);
+        InstantColumn b = InstantColumn.of(I_1, I_2);
+        InstantColumn c = InstantColumn.of(I_2, I_1);
+        assertEquals(a.equals(a), true);
+        assertEquals(a.equals(b), true);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(c));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+    public void test_toString() {
+        assertEquals(InstantColumn.of(I_1, I_2).toString(), "InstantColumn[size=2]");
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javax.time.calendrical.ISOPeriodUnit;
+import javax.time.calendrical.PeriodUnit;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test LocalDateColumn.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestLocalDateColumn {
+
+    private static final LocalDate D_2008_06_28 = LocalDate.of(2008, 6, 28);
+    private static final LocalDate D_2008_06_30 = LocalDate.of(2008, 6, 30);
+    private static final LocalDate D_2008_07_01 = LocalDate.of(2008, 7, 1);
+    private static final LocalDate D_2009_01_01 = LocalDate.of(2009, 1, 1);
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        LocalDateColumn test = LocalDateColumn.of(D_2008_06_28, D_2008_06_30, D_2009_01_01);
+        assertEquals(test.size(), 3);
+        assertEquals(test.isSorted(), true);
+        assertEquals(test.get(0), D_2008_06_28);
+        assertEquals(test.get(2), D_2009_01_01);
+        assertEquals(test.getEpochDay(1), (int) D_2008_06_30.toEpochDay());
+        assertTrue(Arrays.equals(test.toArray(), new LocalDate[] {D_2008_06_28, D_2008_06_30, D_2009_01_01}));
+    }
+
+    public void test_of_unsorted() {
+        LocalDateColumn test = LocalDateColumn.of(D_2008_06_30, D_2008_06_28);
+        assertEquals(test.isSorted(), false);
+    }
+
+    public void test_of_empty() {
+        LocalDateColumn test = LocalDateColumn.of();
+        assertEquals(test.size(), 0);
+        assertEquals(test.isSorted(), true);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_null() {
+        LocalDateColumn.of((LocalDate[]) null);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_get_invalid() {
+        LocalDateColumn.of(D_2008_06_28).get(1);
+    }
+
+    public void test_ofEpochDays_copiesArray() {
+        int[] epochDays = new int[] {1, 2, 3};
+        LocalDateColumn test = LocalDateColumn.ofEpochDays(epochDays);
+        epochDays[0] = 9;
+        assertEquals(test.getEpochDay(0), 1);
+        test.toEpochDays()[1] = 9;
+        assertEquals(test.getEpochDay(1), 2);
+    }
+
+    public void test_buffer_roundTrip() {
+        LocalDateColumn test = LocalDateColumn.of(D_2008_06_28, D_2008_06_30, D_2009_01_01);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(20);
+        buffer.putInt(7);
+        test.writeTo(buffer);
+        assertEquals(buffer.position(), 16);
+        buffer.flip();
+        assertEquals(buffer.getInt(), 7);
+        LocalDateColumn read = LocalDateColumn.ofEpochDays(buffer);
+        assertEquals(buffer.position(), 16);
+        assertEquals(read, test);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_binarySearch() {
+        LocalDateColumn test = LocalDateColumn.of(D_2008_06_28, D_2008_06_30, D_2009_01_01);
+        assertEquals(test.binarySearch(D_2008_06_30), 1);
+        assertEquals(test.binarySearch(D_2008_07_01), -3);
+        assertEquals(test.binarySearch(LocalDate.of(Year.MIN_YEAR, 1, 1)), -1);
+        assertEquals(test.binarySearch(LocalDate.of(Year.MAX_YEAR, 1, 1)), -4);
+    }
+
+    @Test(expectedExceptions=IllegalStateException.class)
+    public void test_binarySearch_unsorted() {
+        LocalDateColumn.of(D_2008_06_30, D_2008_06_28).binarySearch(D_2008_06_30);
+    }
+
+    @DataProvider(name="between")
+    Object[][] data_between() {
+        return new Object[][] {
+            {D_2008_06_28, D_2008_07_01, new LocalDate[] {D_2008_06_28, D_2008_06_30, D_2008_06_30}},
+            {D_2008_06_30, D_2009_01_01, new LocalDate[] {D_2008_06_30, D_2008_06_30}},
+            {D_2008_06_30, D_2008_06_30, new LocalDate[0]},
+            {D_2009_01_01, D_2008_06_28, new LocalDate[0]},
+            {LocalDate.of(Year.MIN_YEAR, 1, 1), LocalDate.of(Year.MAX_YEAR, 1, 1), new LocalDate[] {D_2008_06_28, D_2008_06_30, D_2008_06_30, D_2009_01_01}},
+        };
+    }
+
+    @Test(dataProvider="between")
+    public void test_between_sorted(LocalDate start, LocalDate end, LocalDate[] expected) {
+        LocalDateColumn test = LocalDateColumn.of(D_2008_06_28, D_2008_06_30, D_2008_06_30, D_2009_01_01);
+        assertEquals(test.between(start, end), LocalDateColumn.of(expected));
+    }
+
+    public void test_between_unsorted() {
+        LocalDateColumn test = LocalDateColumn.of(D_2009_01_01, D_2008_06_30, D_2008_06_28, D_2008_07_01);
+        assertEquals(test.between(D_2008_06_30, D_2009_01_01), LocalDateColumn.of(D_2008_06_30, D_2008_07_01));
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="truncated")
+    Object[][] data_truncated() {
+        return new Object[][] {
+            {ISOPeriodUnit.DAYS, D_2008_06_30, D_2008_06_30},
+            {ISOPeriodUnit.WEEKS, LocalDate.of(2008, 6, 30), LocalDate.of(2008, 6, 30)},
+            {ISOPeriodUnit.WEEKS, LocalDate.of(2008, 7, 6), LocalDate.of(2008, 6, 30)},
+            {ISOPeriodUnit.WEEKS, LocalDate.of(1970, 1, 1), LocalDate.of(1969, 12, 29)},
+            {ISOPeriodUnit.MONTHS, D_2008_06_30, LocalDate.of(2008, 6, 1)},
+            {ISOPeriodUnit.MONTHS, LocalDate.of(-4, 2, 29), LocalDate.of(-4, 2, 1)},
+            {ISOPeriodUnit.QUARTERS, LocalDate.of(2008, 6, 30), LocalDate.of(2008, 4, 1)},
+            {ISOPeriodUnit.QUARTERS, LocalDate.of(2008, 7, 1), LocalDate.of(2008, 7, 1)},
+            {ISOPeriodUnit.YEARS, LocalDate.of(2008, 12, 31), LocalDate.of(2008, 1, 1)},
+            {ISOPeriodUnit.YEARS, LocalDate.of(-1, 6, 1), LocalDate.of(-1, 1, 1)},
+            {ISOPeriodUnit.DECADES, LocalDate.of(2008, 6, 30), LocalDate.of(2000, 1, 1)},
+            {ISOPeriodUnit.DECADES, LocalDate.of(-1, 6, 30), LocalDate.of(-10, 1, 1)},
+        };
+    }
+
+    @Test(dataProvider="truncated")
+    public void test_truncatedTo(PeriodUnit unit, LocalDate date, LocalDate expected) {
+        LocalDateColumn test = LocalDateColumn.of(date, date.plusDays(1), date);
+        LocalDateColumn truncated = test.truncatedTo(unit);
+        assertEquals(truncated.get(0), expected);
+        assertEquals(truncated.get(2), expected);
+    }
+
+    public void test_truncatedTo_months_sequence() {
+        LocalDate[] dates = new LocalDate[800];
+        LocalDate date = LocalDate.of(1999, 11, 15);
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = date;
+            date = date.plusDays(i % 3 == 0 ? -1 : 2);
+        }
+        LocalDateColumn truncated = LocalDateColumn.of(dates).truncatedTo(ISOPeriodUnit.MONTHS);
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(truncated.get(i), dates[i].withDayOfMonth(1));
+        }
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_truncatedTo_unsupported() {
+        LocalDateColumn.of(D_2008_06_30).truncatedTo(ISOPeriodUnit.HOURS);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        LocalDateColumn a = LocalDateColumn.of(D_2008_06_28, D_2008_06_30);
+        LocalDateColumn b = LocalDateColumn.of(D_2008_06_28, D_2008_06_30);
+        LocalDateColumn c = LocalDateColumn.of(D_2008_06_30, D_2008_06_28);
+        assertEquals(a.equals(a), true);
+        assertEquals(a.equals(b), true);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(c));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+    public void test_toString() {
+        assertEquals(LocalDateColumn.of(D_2008_06_28, D_2008_06_30).toString(), "LocalDateColumn[size=2]");
+    }
+
+}
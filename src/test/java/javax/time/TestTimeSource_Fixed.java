@@ -96,6 +96,27 @@ public class TestTimeSource_Fixed {
         assertEquals(fixed.millis(), INSTANT.toEpochMilli());
     }
 
+    public void test_fixed_epochNano() {
+        TimeSource fixed = TimeSource.fixed(INSTANT);
+        assertEquals(fixed.epochNano(), INSTANT.getEpochSecond() * 1000000000L + INSTANT.getNanoOfSecond());
+        assertEquals(TimeSource.fixed(Instant.ofEpochSecond(-1, 1)).epochNano(), -999999999L);
+    }
+
+    public void test_fixed_epochNano_minValue() {
+        TimeSource fixed = TimeSource.fixed(Instant.ofEpochSecond(Long.MIN_VALUE / 1000000000L - 1, 145224192));
+        assertEquals(fixed.epochNano(), Long.MIN_VALUE);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_fixed_epochNano_tooLarge() {
+        TimeSource.fixed(Instant.ofEpochSecond(Long.MAX_VALUE / 1000000000L + 1)).epochNano();
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_fixed_epochNano_tooSmall() {
+        TimeSource.fixed(Instant.ofEpochSecond(Long.MIN_VALUE / 1000000000L - 1, 145224191)).epochNano();
+    }
+
     //-----------------------------------------------------------------------
     public void test_fixed_equals() {
         TimeSource fixed = TimeSource.fixed(INSTANT);
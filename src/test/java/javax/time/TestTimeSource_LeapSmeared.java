@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.Serializable;
+
+import javax.time.calendrical.TAIInstant;
+import javax.time.calendrical.UTCInstant;
+import javax.time.calendrical.UTCRules;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test leap smeared TimeSource.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestTimeSource_LeapSmeared {
+
+    private static final Duration UTC_SLS = Duration.ofSeconds(1000);
+    private static final Duration DAY = Duration.ofSeconds(86400);
+    /** The TAI seconds at 2009-01-01T00:00Z, just after the leap second at the end of 2008. */
+    private static final long TAI_2009 = (54832L - 36204L) * 86400L + 34;
+    private static final Instant MIDNIGHT_2009 = OffsetDateTime.of(2009, 1, 1, 0, 0, ZoneOffset.UTC).toInstant();
+
+    static class MockTAITimeSource extends TimeSource {
+        TAIInstant tai;
+        @Override
+        public Instant instant() {
+            return tai.toInstant();
+        }
+        @Override
+        public TAIInstant taiInstant() {
+            return tai;
+        }
+    }
+
+    static class MockUTCRulesNegativeLeapOn1000 extends UTCRules {
+        @Override
+        public String getName() {
+            return "MockNegative1000";
+        }
+        @Override
+        public int getLeapSecondAdjustment(long mjDay) {
+            return (mjDay == 1000 ? -1 : 0);
+        }
+        @Override
+        public int getTAIOffset(long mjDay) {
+            return (mjDay <= 1000 ? 10 : 9);
+        }
+        @Override
+        public long[] getLeapSecondDates() {
+            return new long[] {1000};
+        }
+        @Override
+        protected UTCInstant convertToUTC(TAIInstant taiInstant) {
+            return null;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_leapSmeared_isNotSerializable() {
+        TimeSource test = TimeSource.leapSmeared(TimeSource.system(), UTC_SLS);
+        assertFalse(test instanceof Serializable);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_leapSmeared_nullTimeSource() {
+        TimeSource.leapSmeared(null, UTC_SLS);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_leapSmeared_nullWindow() {
+        TimeSource.leapSmeared(TimeSource.system(), null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_leapSmeared_windowZero() {
+        TimeSource.leapSmeared(TimeSource.system(), Duration.ZERO);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_leapSmeared_windowFraction() {
+        TimeSource.leapSmeared(TimeSource.system(), Duration.ofMillis(1500));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_leapSmeared_windowTooLarge() {
+        TimeSource.leapSmeared(TimeSource.system(), DAY.plusSeconds(1));
+    }
+
+    public void test_toString() {
+        TimeSource test = TimeSource.leapSmeared(TimeSource.system(), UTC_SLS);
+        assertEquals(test.toString(), "LeapSmearedTimeSource[SystemTimeSource,PT1000S]");
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_utcSls_matchesTAIInstant() {
+        MockTAITimeSource mock = new MockTAITimeSource();
+        TimeSource test = TimeSource.leapSmeared(mock, UTC_SLS);
+        for (long secs = TAI_2009 - 1100; secs < TAI_2009 + 100; secs++) {
+            for (int nanos = 0; nanos < 1000000000; nanos += 123456789) {
+                mock.tai = TAIInstant.ofTAISeconds(secs, nanos);
+                assertEquals(test.instant(), mock.tai.toInstant());
+            }
+        }
+    }
+
+    public void test_utcSls_timeMovesBackwards() {
+        MockTAITimeSource mock = new MockTAITimeSource();
+        TimeSource test = TimeSource.leapSmeared(mock, UTC_SLS);
+        long[] secs = {TAI_2009 - 500, TAI_2009 - 500000000L, TAI_2009 - 1, TAI_2009 + 4000000000L, TAI_2009 - 999, -10000000000L};
+        for (long sec : secs) {
+            mock.tai = TAIInstant.ofTAISeconds(sec, 5);
+            assertEquals(test.instant(), mock.tai.toInstant());
+        }
+    }
+
+    public void test_day_windowEnds() {
+        MockTAITimeSource mock = new MockTAITimeSource();
+        TimeSource test = TimeSource.leapSmeared(mock, DAY);
+        mock.tai = TAIInstant.ofTAISeconds(TAI_2009, 0);
+        assertEquals(test.instant(), MIDNIGHT_2009);
+        mock.tai = TAIInstant.ofTAISeconds(TAI_2009 - 86400, 0);
+        assertEquals(test.instant(), MIDNIGHT_2009.minusSeconds(86399));
+        mock.tai = TAIInstant.ofTAISeconds(TAI_2009 - 86401, 0);
+        assertEquals(test.instant(), MIDNIGHT_2009.minusSeconds(86400));
+        mock.tai = TAIInstant.ofTAISeconds(TAI_2009 - 43200, 0);
+        assertEquals(test.instant(), MIDNIGHT_2009.minusSeconds(43199).minusMillis(500));
+        mock.tai = TAIInstant.ofTAISeconds(TAI_2009 + 1, 0);
+        assertEquals(test.instant(), MIDNIGHT_2009.plusSeconds(1));
+    }
+
+    public void test_day_neverJumpsOrStalls() {
+        MockTAITimeSource mock = new MockTAITimeSource();
+        TimeSource test = TimeSource.leapSmeared(mock, DAY);
+        mock.tai = TAIInstant.ofTAISeconds(TAI_2009 - 86500, 0);
+        Instant previous = test.instant();
+        for (long secs = TAI_2009 - 86499; secs < TAI_2009 + 100; secs++) {
+            mock.tai = TAIInstant.ofTAISeconds(secs, 0);
+            Instant instant = test.instant();
+            Duration elapsed = Duration.between(previous, instant);
+            assertTrue(elapsed.isGreaterThan(Duration.ofMillis(999)), "" + instant);
+            assertTrue(elapsed.isLessThan(Duration.ofMillis(1001)) || elapsed.equals(Duration.ofSeconds(1)), "" + instant);
+            previous = instant;
+        }
+    }
+
+    public void test_negativeLeap() {
+        MockTAITimeSource mock = new MockTAITimeSource();
+        TimeSource test = new TimeSource.LeapSmearedTimeSource(mock, UTC_SLS, new MockUTCRulesNegativeLeapOn1000());
+        long leapEnd = (1001L - 36204L) * 86400L + 9;
+        Instant midnight = LocalDate.of(1861, 8, 14).atMidnight().atOffset(ZoneOffset.UTC).toInstant();
+        mock.tai = TAIInstant.ofTAISeconds(leapEnd, 0);
+        assertEquals(test.instant(), midnight);
+        mock.tai = TAIInstant.ofTAISeconds(leapEnd - 1000, 0);
+        assertEquals(test.instant(), midnight.minusSeconds(1001));
+        mock.tai = TAIInstant.ofTAISeconds(leapEnd - 500, 0);
+        assertEquals(test.instant(), midnight.minusSeconds(500).minusMillis(500));
+        mock.tai = TAIInstant.ofTAISeconds(leapEnd - 1001, 0);
+        assertEquals(test.instant(), midnight.minusSeconds(1002));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_taiInstant_delegates() {
+        MockTAITimeSource mock = new MockTAITimeSource();
+        mock.tai = TAIInstant.ofTAISeconds(TAI_2009, 0);
+        TimeSource test = TimeSource.leapSmeared(mock, UTC_SLS);
+        assertEquals(test.taiInstant(), mock.tai);
+        assertEquals(test.utcInstant(), UTCInstant.of(mock.tai));
+    }
+
+}
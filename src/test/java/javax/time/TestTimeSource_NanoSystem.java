@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test nano system TimeSource.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestTimeSource_NanoSystem {
+
+    //-----------------------------------------------------------------------
+    public void test_nanoSystem_isSerializable() throws IOException, ClassNotFoundException {
+        TimeSource test = TimeSource.nanoSystem();
+        assertTrue(test instanceof Serializable);
+        
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+        
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        assertSame(ois.readObject(), test);
+    }
+
+    public void test_nanoSystem_singleton() {
+        assertSame(TimeSource.nanoSystem(), TimeSource.nanoSystem());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_nanoSystem_instant() {
+        TimeSource test = TimeSource.nanoSystem();
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            Instant instant = test.instant();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant.toEpochMilli()) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_nanoSystem_millis() {
+        TimeSource test = TimeSource.nanoSystem();
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long millis = test.millis();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - millis) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_nanoSystem_instant_nonDecreasing() {
+        TimeSource test = TimeSource.nanoSystem();
+        Instant previous = test.instant();
+        for (int i = 0; i < 10000; i++) {
+            Instant instant = test.instant();
+            assertTrue(instant.compareTo(previous) >= 0);
+            previous = instant;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_resync_behindMillisClock() {
+        TimeSource.NanoSystemTimeSource test = new TimeSource.NanoSystemTimeSource();
+        long before = System.currentTimeMillis() * 1000000L;
+        long result = test.resync(System.nanoTime(), 0);
+        long after = System.currentTimeMillis() * 1000000L;
+        assertTrue(result >= before && result <= after, "" + result);
+        assertEquals(result % 1000000L, 0);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_resync_aheadOfMillisClock() {
+        TimeSource.NanoSystemTimeSource test = new TimeSource.NanoSystemTimeSource();
+        long before = System.currentTimeMillis() * 1000000L;
+        long result = test.resync(System.nanoTime(), Long.MAX_VALUE / 2);
+        long after = System.currentTimeMillis() * 1000000L;
+        assertTrue(result >= before + 999999L && result <= after + 999999L, "" + result);
+        assertEquals(result % 1000000L, 999999L);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_resync_withinMillisecondUnchanged() {
+        TimeSource.NanoSystemTimeSource test = new TimeSource.NanoSystemTimeSource();
+        for (int i = 0; i < 100; i++) {
+            long wall = System.currentTimeMillis();
+            long epochNano = wall * 1000000L + 123456L;
+            long result = test.resync(System.nanoTime(), epochNano);
+            if (System.currentTimeMillis() == wall) {
+                assertEquals(result, epochNano);
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_nanoSystem_toString() {
+        assertEquals(TimeSource.nanoSystem().toString(), "NanoSystemTimeSource");
+    }
+
+}
@@ -90,6 +90,19 @@ public class TestTimeSource_OffsetSystem {
         fail();
     }
 
+    public void test_offset_epochNano() {
+        TimeSource offset = TimeSource.offsetSystem(OFFSET);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long epochNano = offset.epochNano();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis + 2000 - epochNano / 1000000L) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
     //-----------------------------------------------------------------------
     public void test_offset_equals() {
         TimeSource offset = TimeSource.offsetSystem(OFFSET);
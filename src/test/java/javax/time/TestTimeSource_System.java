@@ -97,6 +97,19 @@ public class TestTimeSource_System {
         fail();
     }
 
+    public void test_system_epochNano() {
+        TimeSource system = TimeSource.system();
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long epochNano = system.epochNano();
+            long systemMillis = System.currentTimeMillis();
+            if (systemMillis - epochNano / 1000000L < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
     //-----------------------------------------------------------------------
     public void test_system_equals() {
         TimeSource system = TimeSource.system();
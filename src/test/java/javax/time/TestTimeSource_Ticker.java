@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.Serializable;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test ticker TimeSource.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestTimeSource_Ticker {
+
+    private static final Duration INTERVAL = Duration.ofMillis(5);
+
+    //-----------------------------------------------------------------------
+    public void test_ticker_isNotSerializable() {
+        TimeSource test = TimeSource.ticker(TimeSource.system(), INTERVAL);
+        assertFalse(test instanceof Serializable);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_ticker_nullTimeSource() {
+        TimeSource.ticker(null, INTERVAL);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_ticker_nullInterval() {
+        TimeSource.ticker(TimeSource.system(), null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ticker_intervalTooSmall() {
+        TimeSource.ticker(TimeSource.system(), Duration.ofNanos(999999));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ticker_intervalNegative() {
+        TimeSource.ticker(TimeSource.system(), Duration.ofMillis(-1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_ticker_initialInstant() {
+        Instant fixed = Instant.ofEpochSecond(1234);
+        TimeSource test = TimeSource.ticker(TimeSource.fixed(fixed), INTERVAL);
+        assertEquals(test.instant(), fixed);
+        assertEquals(test.millis(), 1234000L);
+    }
+
+    public void test_ticker_cachedBetweenTicks() {
+        TimeSource test = TimeSource.ticker(TimeSource.system(), Duration.ofSeconds(1000));
+        Instant instant = test.instant();
+        assertSame(test.instant(), instant);
+    }
+
+    public void test_ticker_refreshed() throws InterruptedException {
+        TimeSource test = TimeSource.ticker(TimeSource.system(), INTERVAL);
+        Instant first = test.instant();
+        for (int i = 0; i < 1000; i++) {
+            Thread.sleep(2);
+            if (test.instant().isAfter(first)) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    @Test(groups={"implementation"})
+    public void test_ticker_tickFailureKeepsInstant() throws InterruptedException {
+        final Instant fixed = Instant.ofEpochSecond(1234);
+        final boolean[] fail = new boolean[1];
+        TimeSource source = new TimeSource() {
+            @Override
+            public Instant instant() {
+                if (fail[0]) {
+                    throw new CalendricalException("Unavailable");
+                }
+                return fixed;
+            }
+        };
+        TimeSource test = TimeSource.ticker(source, INTERVAL);
+        fail[0] = true;
+        Thread.sleep(50);
+        assertEquals(test.instant(), fixed);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_ticker_tickErrorKeepsTimer() throws InterruptedException {
+        final Instant fixed = Instant.ofEpochSecond(1234);
+        final boolean[] fail = new boolean[1];
+        TimeSource source = new TimeSource() {
+            @Override
+            public Instant instant() {
+                if (fail[0]) {
+                    throw new StackOverflowError();
+                }
+                return fixed;
+            }
+        };
+        TimeSource test = TimeSource.ticker(source, INTERVAL);
+        fail[0] = true;
+        Thread.sleep(50);
+        assertEquals(test.instant(), fixed);
+        test_ticker_refreshed();
+    }
+
+    @Test(groups={"implementation"})
+    public void test_ticker_sharesOneThread() {
+        TimeSource[] tickers = new TimeSource[5];
+        for (int i = 0; i < tickers.length; i++) {
+            tickers[i] = TimeSource.ticker(TimeSource.system(), Duration.ofSeconds(1000));
+        }
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("TimeSource ticker")) {
+                count++;
+            }
+        }
+        assertEquals(count, 1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_ticker_toString() {
+        TimeSource test = TimeSource.ticker(TimeSource.system(), INTERVAL);
+        assertTrue(test.toString().startsWith("TickerTimeSource[SystemTimeSource,"));
+    }
+
+}
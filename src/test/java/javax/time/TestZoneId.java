@@ -40,6 +40,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -59,6 +60,7 @@ import javax.time.calendrical.MockRuleNoValue;
 import javax.time.format.TextStyle;
 import javax.time.zone.ZoneOffsetInfo;
 import javax.time.zone.ZoneOffsetTransition;
+import javax.time.zone.ZoneRulesGroup;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -420,6 +422,7 @@ public class TestZoneId {
                 {"A:B#("}, {"A:B#)"}, {"A:B#="}, {"A:B#+"},
                 {"A:B#\\"}, {"A:B#|"}, {"A:B#,"}, {"A:B#<"}, {"A:B#>"}, {"A:B#?"}, {"A:B#;"}, {"A:B#:"},
                 {"A:B#'"}, {"A:B#@"}, {"A:B#~"}, {"A:B#["}, {"A:B#]"}, {"A:B#{"}, {"A:B#}"},
+                {"A:"}, {"A#"}, {"A:B#"}, {"A:#B"}, {":B"}, {"#B"}, {"A:B:C"}, {"A#B#C"}, {"A#B:C"}, {"A:B#C#D"},
         };
     }
 
@@ -507,6 +510,44 @@ public class TestZoneId {
         assertEquals(test.isFixedOffset(), false);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_of_string_cached() {
+        ZoneId test = ZoneId.of("Europe/Paris");
+        assertSame(ZoneId.of("Europe/Paris"), test);
+        assertSame(ZoneId.ofUnchecked("Europe/Paris"), test);
+    }
+
+    public void test_of_string_cachedByInput() {
+        ZoneId test = ZoneId.of("TZDB:Europe/Paris#2008i");
+        assertSame(ZoneId.of("TZDB:Europe/Paris#2008i"), test);
+        assertEquals(ZoneId.of("Europe/Paris#2008i"), test);
+    }
+
+    public void test_of_string_cacheAdmitsNewIDsWhenFull() {
+        for (int i = 0; i < 3000; i++) {
+            ZoneId.of("UTC+" + (i / 3600 < 10 ? "0" : "") + (i / 3600) + ":" + ((i / 60) % 60 < 10 ? "0" : "") + ((i / 60) % 60) + ":" + (i % 60 < 10 ? "0" : "") + (i % 60));
+        }
+        ZoneId test = ZoneId.of("UTC+05:00:01");
+        assertSame(ZoneId.of("UTC+05:00:01"), test);
+    }
+
+    public void test_of_string_versionedRulesResolvedOnce() {
+        ZoneId test = ZoneId.of("Europe/London#2008i");
+        assertSame(test.getRules(), test.getRules());
+        assertEquals(test.getRules(), ZoneRulesGroup.getGroup("TZDB").getRules("Europe/London", "2008i"));
+    }
+
+    public void test_ofUnchecked_string_notCached() {
+        ZoneId test = ZoneId.ofUnchecked("UnknownGroup:CacheRegion#UnknownVersion");
+        assertEquals(ZoneId.ofUnchecked("UnknownGroup:CacheRegion#UnknownVersion"), test);
+        try {
+            ZoneId.of("UnknownGroup:CacheRegion#UnknownVersion");
+            fail();
+        } catch (CalendricalException ex) {
+            // expected
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Test(expectedExceptions=NullPointerException.class)
     public void test_of_string_null() {
@@ -48,7 +48,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import javax.time.CalendricalException;
 import javax.time.Duration;
+import javax.time.LocalDate;
+import javax.time.Year;
 
 import org.testng.annotations.Test;
 
@@ -445,6 +448,161 @@ public class TestISOChronology {
         assertEquals(test, list);
     }
 
+    //-----------------------------------------------------------------------
+    // toEpochDay(int,int,int) / toPackedDate(long)
+    //-----------------------------------------------------------------------
+    public void test_toEpochDay_matchesLocalDate() {
+        for (long epochDay = -800000; epochDay <= 800000; epochDay++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            assertEquals(ISOChronology.INSTANCE.toEpochDay(date.getYear(), date.getMonthOfYear().getValue(), date.getDayOfMonth()), epochDay);
+        }
+    }
+
+    public void test_toPackedDate_matchesLocalDate() {
+        for (long epochDay = -800000; epochDay <= 800000; epochDay++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            long packed = ISOChronology.INSTANCE.toPackedDate(epochDay);
+            assertEquals(packed, Chronology.packDate(date.getYear(), date.getMonthOfYear().getValue(), date.getDayOfMonth()));
+        }
+    }
+
+    public void test_toEpochDay_extremes() {
+        assertEquals(ISOChronology.INSTANCE.toEpochDay(Year.MIN_YEAR, 1, 1), LocalDate.MIN_DATE.toEpochDay());
+        assertEquals(ISOChronology.INSTANCE.toEpochDay(Year.MAX_YEAR, 12, 31), LocalDate.MAX_DATE.toEpochDay());
+    }
+
+    public void test_toPackedDate_extremes() {
+        assertEquals(ISOChronology.INSTANCE.toPackedDate(LocalDate.MIN_DATE.toEpochDay()), Chronology.packDate(Year.MIN_YEAR, 1, 1));
+        assertEquals(ISOChronology.INSTANCE.toPackedDate(LocalDate.MAX_DATE.toEpochDay()), Chronology.packDate(Year.MAX_YEAR, 12, 31));
+    }
+
+    @Test(expectedExceptions=IllegalCalendarFieldValueException.class)
+    public void test_toPackedDate_tooEarly() {
+        ISOChronology.INSTANCE.toPackedDate(LocalDate.MIN_DATE.toEpochDay() - 1);
+    }
+
+    @Test(expectedExceptions=IllegalCalendarFieldValueException.class)
+    public void test_toPackedDate_tooLate() {
+        ISOChronology.INSTANCE.toPackedDate(LocalDate.MAX_DATE.toEpochDay() + 1);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_toEpochDay_notSupported() {
+        MockOtherChronology.INSTANCE.toEpochDay(2011, 1, 1);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_toPackedDate_notSupported() {
+        MockOtherChronology.INSTANCE.toPackedDate(0);
+    }
+
+    //-----------------------------------------------------------------------
+    // toEpochDays(int[],int[],int[],long[]) / toDates(long[],int[],int[],int[])
+    //-----------------------------------------------------------------------
+    public void test_toEpochDays() {
+        int[] years = {2011, 1970, -1, 2000};
+        int[] months = {3, 1, 12, 2};
+        int[] days = {15, 1, 31, 29};
+        long[] out = new long[5];
+        ISOChronology.INSTANCE.toEpochDays(years, months, days, out);
+        for (int i = 0; i < years.length; i++) {
+            assertEquals(out[i], LocalDate.of(years[i], months[i], days[i]).toEpochDay());
+        }
+        assertEquals(out[4], 0);
+    }
+
+    public void test_toDates() {
+        long[] epochDays = {LocalDate.of(2011, 3, 15).toEpochDay(), 0, LocalDate.of(-1, 12, 31).toEpochDay(), LocalDate.of(2000, 2, 29).toEpochDay()};
+        int[] years = new int[4];
+        int[] months = new int[4];
+        int[] days = new int[4];
+        ISOChronology.INSTANCE.toDates(epochDays, years, months, days);
+        for (int i = 0; i < epochDays.length; i++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDays[i]);
+            assertEquals(years[i], date.getYear());
+            assertEquals(months[i], date.getMonthOfYear().getValue());
+            assertEquals(days[i], date.getDayOfMonth());
+        }
+        assertEquals(years[2], -1);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_toEpochDays_outputTooShort() {
+        ISOChronology.INSTANCE.toEpochDays(new int[] {2011, 2012}, new int[] {1, 1}, new int[] {1, 1}, new long[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_toEpochDays_inputTooShort() {
+        ISOChronology.INSTANCE.toEpochDays(new int[] {2011, 2012}, new int[] {1}, new int[] {1, 1}, new long[2]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_toDates_outputTooShort() {
+        ISOChronology.INSTANCE.toDates(new long[] {0, 1}, new int[2], new int[2], new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toEpochDays_nullYears() {
+        ISOChronology.INSTANCE.toEpochDays(null, new int[2], new int[2], new long[2]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toEpochDays_nullMonths() {
+        ISOChronology.INSTANCE.toEpochDays(new int[2], null, new int[2], new long[2]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toEpochDays_nullDays() {
+        ISOChronology.INSTANCE.toEpochDays(new int[2], new int[2], null, new long[2]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toEpochDays_nullOutput() {
+        ISOChronology.INSTANCE.toEpochDays(new int[2], new int[2], new int[2], null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toDates_null() {
+        ISOChronology.INSTANCE.toDates(null, new int[2], new int[2], new int[2]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toDates_nullYears() {
+        ISOChronology.INSTANCE.toDates(new long[2], null, new int[2], new int[2]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toDates_nullMonths() {
+        ISOChronology.INSTANCE.toDates(new long[2], new int[2], null, new int[2]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toDates_nullDays() {
+        ISOChronology.INSTANCE.toDates(new long[2], new int[2], new int[2], null);
+    }
+
+    //-----------------------------------------------------------------------
+    // packDate(int,int,int)
+    //-----------------------------------------------------------------------
+    public void test_packDate_roundTrip() {
+        int[] years = {Integer.MIN_VALUE, Year.MIN_YEAR, -1, 0, 1, 2011, Year.MAX_YEAR, Integer.MAX_VALUE};
+        for (int year : years) {
+            long packed = Chronology.packDate(year, 13, 31);
+            assertEquals(Chronology.unpackProlepticYear(packed), year);
+            assertEquals(Chronology.unpackMonthOfYear(packed), 13);
+            assertEquals(Chronology.unpackDayOfMonth(packed), 31);
+        }
+    }
+
+    public void test_packDate_sortsInDateOrder() {
+        long previous = Long.MIN_VALUE;
+        for (long epochDay = -1000; epochDay <= 1000; epochDay++) {
+            long packed = ISOChronology.INSTANCE.toPackedDate(epochDay - 719528);
+            assertTrue(packed > previous);
+            previous = packed;
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString() throws Exception {
         assertEquals(ISOChronology.INSTANCE.toString(), "ISO");
@@ -37,9 +37,16 @@ import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.io.Writer;
 import java.lang.reflect.Constructor;
 import java.util.Arrays;
 
@@ -361,6 +368,146 @@ public class TestUTCRules {
         assertEquals(rules.convertToTAI(expected), tai); // check reverse
     }
 
+    //-----------------------------------------------------------------------
+    // index
+    //-----------------------------------------------------------------------
+    public void test_index_matchesLeapSecondDates() {
+        rules.registerLeapSecond(MJD_2100 - 1, -1);
+        long[] leaps = rules.getLeapSecondDates();
+        int offset = 10;
+        int pos = 1;
+        for (long mjd = leaps[0] - 5; mjd < leaps[leaps.length - 1] + 5; mjd++) {
+            int adjust = 0;
+            if (pos < leaps.length && leaps[pos] == mjd) {
+                adjust = (mjd == MJD_2100 - 1 ? -1 : 1);
+            }
+            assertEquals(rules.getLeapSecondAdjustment(mjd), adjust);
+            assertEquals(rules.getTAIOffset(mjd), offset);
+            if (pos < leaps.length && leaps[pos] == mjd) {
+                offset += adjust;
+                pos++;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // convertToUTC(long[],long[],int[])/convertToTAI(long[],int[],long[])
+    //-----------------------------------------------------------------------
+    private long[] taiSecondsAroundLeaps() {
+        long[] leaps = rules.getLeapSecondDates();
+        long[] taiSecs = new long[leaps.length * 9 + 200];
+        int i = 0;
+        for (long leap : leaps) {
+            long start = (leap + 1 - MJD_1958) * SECS_PER_DAY + rules.getTAIOffset(leap + 1);
+            for (int j = -4; j <= 4; j++) {
+                taiSecs[i++] = start + j;
+            }
+        }
+        for (int j = 0; j < 200; j++) {
+            taiSecs[i++] = TAI_SECS_UTC1800 + j * 3 * SECS_PER_DAY * 365;
+        }
+        return taiSecs;
+    }
+
+    private void assertBulkMatches(long[] taiSecs) {
+        long[] mjds = new long[taiSecs.length];
+        int[] sods = new int[taiSecs.length];
+        rules.convertToUTC(taiSecs, mjds, sods);
+        for (int i = 0; i < taiSecs.length; i++) {
+            UTCInstant expected = rules.convertToUTC(TAIInstant.ofTAISeconds(taiSecs[i], 0));
+            assertEquals(mjds[i], expected.getModifiedJulianDay());
+            assertEquals(sods[i] * NANOS_PER_SEC, expected.getNanoOfDay());
+        }
+        long[] back = new long[taiSecs.length];
+        rules.convertToTAI(mjds, sods, back);
+        assertTrue(Arrays.equals(back, taiSecs));
+    }
+
+    public void test_convertToUTC_bulk_sorted() {
+        long[] taiSecs = taiSecondsAroundLeaps();
+        Arrays.sort(taiSecs);
+        assertBulkMatches(taiSecs);
+    }
+
+    public void test_convertToUTC_bulk_unsorted() {
+        long[] taiSecs = taiSecondsAroundLeaps();
+        for (int i = 0; i < taiSecs.length; i++) {
+            int j = (i * 7919) % taiSecs.length;
+            long temp = taiSecs[i];
+            taiSecs[i] = taiSecs[j];
+            taiSecs[j] = temp;
+        }
+        assertBulkMatches(taiSecs);
+    }
+
+    public void test_convertToUTC_bulk_negativeLeap() {
+        rules.registerLeapSecond(MJD_2100 - 1, -1);
+        long[] taiSecs = new long[6];
+        for (int i = 0; i < taiSecs.length; i++) {
+            taiSecs[i] = TAI_SECS_UTC2100_EXTRA_NEGATIVE_LEAP - 3 + i;
+        }
+        assertBulkMatches(taiSecs);
+    }
+
+    public void test_convertToUTC_bulk_inLeap() {
+        long[] mjds = new long[1];
+        int[] sods = new int[1];
+        rules.convertToUTC(new long[] {TAI_SECS_UTC1980 - 1}, mjds, sods);
+        assertEquals(mjds[0], MJD_1980 - 1);
+        assertEquals(sods[0], SECS_PER_DAY);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToUTC_bulk_nullTAISeconds() {
+        rules.convertToUTC(null, new long[1], new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToUTC_bulk_nullModifiedJulianDays() {
+        rules.convertToUTC(new long[1], null, new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToUTC_bulk_nullSecondOfDays() {
+        rules.convertToUTC(new long[1], new long[1], null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToTAI_bulk_nullModifiedJulianDays() {
+        rules.convertToTAI(null, new int[1], new long[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToTAI_bulk_nullSecondOfDays() {
+        rules.convertToTAI(new long[1], null, new long[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToTAI_bulk_nullTAISeconds() {
+        rules.convertToTAI(new long[1], new int[1], null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertToUTC_bulk_outputTooShort() {
+        rules.convertToUTC(new long[2], new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertToTAI_bulk_outputTooShort() {
+        rules.convertToTAI(new long[2], new int[2], new long[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_convertToTAI_bulk_invalidSecondOfDay() {
+        rules.convertToTAI(new long[] {MJD_1980, MJD_1980}, new int[] {0, (int) SECS_PER_DAY}, new long[2]);
+    }
+
+    public void test_convertToTAI_bulk_leapSecondOfDay() {
+        long[] taiSecs = new long[1];
+        rules.convertToTAI(new long[] {MJD_1980 - 1}, new int[] {(int) SECS_PER_DAY}, taiSecs);
+        assertEquals(taiSecs[0], TAI_SECS_UTC1980 - 1);
+    }
+
     //-----------------------------------------------------------------------
     // convertToUTC(Instant)/convertToInstant(UTCInstant)
     //-----------------------------------------------------------------------
@@ -528,6 +675,118 @@ public class TestUTCRules {
         rules.registerLeapSecond(MJD_2100, 3);
     }
 
+    //-----------------------------------------------------------------------
+    // loadLeapSecondsList()/watchLeapSecondsList()
+    //-----------------------------------------------------------------------
+    private static final long NTP_SECS_MJD_1900 = 15020L;
+
+    private File writeLeapSecondsList(String extraLines, int dropLines) throws IOException {
+        File file = File.createTempFile("leap-seconds", ".list");
+        file.deleteOnExit();
+        writeLeapSecondsList(file, extraLines, dropLines);
+        return file;
+    }
+
+    private void writeLeapSecondsList(File file, String extraLines, int dropLines) throws IOException {
+        long[] leaps = rules.getLeapSecondDates();
+        StringBuilder buf = new StringBuilder();
+        buf.append("#\tIERS leap second list\n#@\t3707596800\n\n");
+        for (int i = 0; i < leaps.length - dropLines; i++) {
+            long startMjd = (i == 0 ? leaps[i] : leaps[i] + 1);
+            buf.append((startMjd - NTP_SECS_MJD_1900) * SECS_PER_DAY).append('\t')
+                .append(rules.getTAIOffset(leaps[i] + 1)).append("\t# MJD ").append(startMjd).append('\n');
+        }
+        buf.append(extraLines);
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "US-ASCII");
+        try {
+            writer.write(buf.toString());
+        } finally {
+            writer.close();
+        }
+    }
+
+    public void test_loadLeapSecondsList_sameAsCurrent() throws Exception {
+        long[] leaps = rules.getLeapSecondDates();
+        File file = writeLeapSecondsList("", 0);
+        assertEquals(rules.loadLeapSecondsList(file), true);
+        assertTrue(Arrays.equals(rules.getLeapSecondDates(), leaps));
+        for (long mjd = leaps[0] - 2; mjd < leaps[leaps.length - 1] + 2; mjd++) {
+            assertEquals(rules.getTAIOffset(mjd), SystemUTCRules.INSTANCE.getTAIOffset(mjd));
+            assertEquals(rules.getLeapSecondAdjustment(mjd), SystemUTCRules.INSTANCE.getLeapSecondAdjustment(mjd));
+        }
+    }
+
+    public void test_loadLeapSecondsList_newLeapSecond() throws Exception {
+        String extra = ((MJD_2100 - NTP_SECS_MJD_1900) * SECS_PER_DAY) + " " + (CURRENT_TAI_OFFSET + 1) + "  # 1 Jan 2100\n";
+        File file = writeLeapSecondsList(extra, 0);
+        assertEquals(rules.loadLeapSecondsList(file), true);
+        assertEquals(rules.getLeapSecondAdjustment(MJD_2100 - 1), 1);
+        assertEquals(rules.getTAIOffset(MJD_2100), CURRENT_TAI_OFFSET + 1);
+        UTCInstant expected = UTCInstant.ofModifiedJulianDay(MJD_2100 - 1, SECS_PER_DAY * NANOS_PER_SEC, rules);
+        assertEquals(rules.convertToUTC(TAIInstant.ofTAISeconds(TAI_SECS_UTC2100, 0)), expected);
+    }
+
+    public void test_loadLeapSecondsList_olderFile() throws Exception {
+        long[] leaps = rules.getLeapSecondDates();
+        File file = writeLeapSecondsList("", 1);
+        assertEquals(rules.loadLeapSecondsList(file), false);
+        assertTrue(Arrays.equals(rules.getLeapSecondDates(), leaps));
+    }
+
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_loadLeapSecondsList_invalidNumber() throws Exception {
+        rules.loadLeapSecondsList(writeLeapSecondsList("3786825600 x\n", 0));
+    }
+
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_loadLeapSecondsList_notStartOfDay() throws Exception {
+        rules.loadLeapSecondsList(writeLeapSecondsList("3786825601 " + (CURRENT_TAI_OFFSET + 1) + "\n", 0));
+    }
+
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_loadLeapSecondsList_offsetJump() throws Exception {
+        rules.loadLeapSecondsList(writeLeapSecondsList("3786825600 " + (CURRENT_TAI_OFFSET + 2) + "\n", 0));
+    }
+
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_loadLeapSecondsList_empty() throws Exception {
+        File file = File.createTempFile("leap-seconds", ".list");
+        file.deleteOnExit();
+        rules.loadLeapSecondsList(file);
+    }
+
+    public void test_watchLeapSecondsList() throws Exception {
+        File file = writeLeapSecondsList("", 0);
+        Closeable watch = rules.watchLeapSecondsList(file, Duration.ofMillis(10));
+        try {
+            assertEquals(rules.getLeapSecondAdjustment(MJD_2100 - 1), 0);
+            long modified = file.lastModified();
+            writeLeapSecondsList(file, ((MJD_2100 - NTP_SECS_MJD_1900) * SECS_PER_DAY) + " " + (CURRENT_TAI_OFFSET - 1) + "\n", 0);
+            file.setLastModified(modified + 2000);
+            for (int i = 0; i < 500 && rules.getLeapSecondAdjustment(MJD_2100 - 1) == 0; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(rules.getLeapSecondAdjustment(MJD_2100 - 1), -1);
+        } finally {
+            watch.close();
+        }
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_watchSystemLeapSeconds_intervalTooShort() throws Exception {
+        UTCRules.watchSystemLeapSeconds(new File("leap-seconds.list"), Duration.ofNanos(999999));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_watchSystemLeapSeconds_nullFile() throws Exception {
+        UTCRules.watchSystemLeapSeconds(null, Duration.ofSeconds(1));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_loadSystemLeapSeconds_nullFile() throws Exception {
+        UTCRules.loadSystemLeapSeconds(null);
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
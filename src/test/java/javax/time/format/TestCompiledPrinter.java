@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.time.CalendricalException;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
+import javax.time.OffsetTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+import javax.time.calendrical.Calendrical;
+import javax.time.calendrical.ISODateTimeRule;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test CompiledPrinter.
+ *
+ * @author Stephen Colebourne
+ */
+@Test(groups={"implementation"})
+public class TestCompiledPrinter {
+
+    private static final LocalDate[] DATES = new LocalDate[] {
+        LocalDate.of(2011, 6, 30),
+        LocalDate.of(1, 1, 1),
+        LocalDate.of(0, 12, 31),
+        LocalDate.of(-1, 3, 5),
+        LocalDate.of(-12345, 3, 5),
+        LocalDate.of(9999, 12, 31),
+        LocalDate.of(10000, 1, 1),
+        LocalDate.of(999999999, 12, 31),
+        LocalDate.of(-999999999, 1, 1),
+    };
+    private static final LocalTime[] TIMES = new LocalTime[] {
+        LocalTime.MIDNIGHT,
+        LocalTime.of(23, 59, 59, 999999999),
+        LocalTime.of(11, 30, 0, 1),
+        LocalTime.of(11, 30, 0, 100000000),
+        LocalTime.of(11, 30, 0, 120000000),
+        LocalTime.of(11, 30, 0, 123456000),
+        LocalTime.of(11, 30, 0, 123450000),
+        LocalTime.of(11, 30, 5, 0),
+    };
+    private static final ZoneOffset[] OFFSETS = new ZoneOffset[] {
+        ZoneOffset.UTC,
+        ZoneOffset.ofHours(1),
+        ZoneOffset.ofHoursMinutes(-5, -30),
+        ZoneOffset.ofHoursMinutesSeconds(3, 7, 12),
+        ZoneOffset.ofHours(-18),
+    };
+
+    @DataProvider(name="formatters")
+    Object[][] data_formatters() {
+        return new Object[][] {
+            {DateTimeFormatters.isoLocalDate()},
+            {DateTimeFormatters.isoOffsetDate()},
+            {DateTimeFormatters.isoDate()},
+            {DateTimeFormatters.isoLocalTime()},
+            {DateTimeFormatters.isoOffsetTime()},
+            {DateTimeFormatters.isoTime()},
+            {DateTimeFormatters.isoLocalDateTime()},
+            {DateTimeFormatters.isoOffsetDateTime()},
+            {DateTimeFormatters.isoZonedDateTime()},
+            {DateTimeFormatters.isoDateTime()},
+            {DateTimeFormatters.pattern("yyyy/MM/dd HH:mm:ss.SSS")},
+            {DateTimeFormatters.pattern("HHmmss[ZZZ]['T'zzzz]")},
+            {DateTimeFormatters.pattern("yyyyMMdd'T'HHmm[ss]ZZZ")},
+            {new DateTimeFormatterBuilder()
+                .appendValue(ISODateTimeRule.YEAR, 1, 10, SignStyle.ALWAYS)
+                .appendValue(ISODateTimeRule.MONTH_OF_YEAR, 1, 2, SignStyle.NOT_NEGATIVE)
+                .appendValue(ISODateTimeRule.HOUR_OF_DAY)
+                .appendFraction(ISODateTimeRule.NANO_OF_SECOND, 3, 6)
+                .appendOffset("UTC", "+HHMMSS")
+                .toFormatter()},
+            {new DateTimeFormatterBuilder()
+                .appendValue(ISODateTimeRule.YEAR, 4, 4, SignStyle.NOT_NEGATIVE)
+                .optionalStart().appendLiteral('-').appendValue(ISODateTimeRule.HOUR_OF_DAY, 2)
+                .optionalStart().appendLiteral("~").appendOffset("Z", "+HH")
+                .toFormatter()},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="formatters")
+    public void test_print_matchesGeneric(DateTimeFormatter formatter) {
+        CompositePrinterParser pp = formatter.toPrinterParser(false);
+        CompiledPrinter compiled = CompiledPrinter.compile(pp);
+        for (Calendrical calendrical : calendricals()) {
+            String expected;
+            try {
+                StringBuilder buf = new StringBuilder();
+                pp.print(new DateTimePrintContext(calendrical, Locale.ENGLISH, DateTimeFormatSymbols.STANDARD), buf);
+                expected = buf.toString();
+            } catch (CalendricalException ex) {
+                expected = null;
+            }
+            String printed = (compiled != null ? compiled.print(calendrical) : null);
+            if (printed != null || expected == null) {
+                assertEquals(printed, expected, formatter + " " + calendrical);
+            }
+            if (expected != null) {
+                assertEquals(formatter.print(calendrical), expected, formatter + " " + calendrical);
+                StringBuilder buf = new StringBuilder("EXISTING");
+                formatter.printTo(calendrical, buf);
+                assertEquals(buf.toString(), "EXISTING" + expected);
+            }
+        }
+    }
+
+    private static List<Calendrical> calendricals() {
+        List<Calendrical> list = new ArrayList<Calendrical>();
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        for (LocalDate date : DATES) {
+            list.add(date);
+            for (ZoneOffset offset : OFFSETS) {
+                list.add(OffsetDate.of(date, offset));
+            }
+        }
+        for (LocalTime time : TIMES) {
+            list.add(time);
+            for (ZoneOffset offset : OFFSETS) {
+                list.add(OffsetTime.of(time, offset));
+            }
+        }
+        for (LocalDate date : DATES) {
+            for (LocalTime time : TIMES) {
+                LocalDateTime dateTime = LocalDateTime.of(date, time);
+                list.add(dateTime);
+                for (ZoneOffset offset : OFFSETS) {
+                    list.add(OffsetDateTime.of(dateTime, offset));
+                }
+                if (date.getYear() > -999999999 && date.getYear() < 999999999) {
+                    for (ZoneOffset offset : OFFSETS) {
+                        list.add(ZonedDateTime.of(dateTime, ZoneId.of(offset)));
+                    }
+                    list.add(ZonedDateTime.of(dateTime, paris));
+                }
+            }
+        }
+        return list;
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_compile_isoLocalDateTime() {
+        CompiledPrinter compiled = CompiledPrinter.compile(DateTimeFormatters.isoLocalDateTime().toPrinterParser(false));
+        assertNotNull(compiled);
+        assertEquals(compiled.print(LocalDateTime.of(2011, 6, 30, 11, 30)), "2011-06-30T11:30:00");
+        assertEquals(compiled.print(OffsetDateTime.of(2011, 6, 30, 11, 30, 0, 5000, ZoneOffset.ofHours(2))), "2011-06-30T11:30:00.000005");
+        assertNull(compiled.print(LocalDate.of(2011, 6, 30)));
+    }
+
+    public void test_compile_isoZonedDateTime() {
+        CompiledPrinter compiled = CompiledPrinter.compile(DateTimeFormatters.isoZonedDateTime().toPrinterParser(false));
+        assertNotNull(compiled);
+        ZonedDateTime dt = ZonedDateTime.of(LocalDateTime.of(2011, 6, 30, 11, 30), ZoneId.of("Europe/Paris"));
+        assertEquals(compiled.print(dt), "2011-06-30T11:30:00+02:00[Europe/Paris]");
+        assertNull(compiled.print(OffsetDateTime.of(2011, 6, 30, 11, 30, ZoneOffset.ofHours(2))));
+    }
+
+    public void test_compile_unsupportedPrinter() {
+        assertNull(CompiledPrinter.compile(DateTimeFormatters.isoWeekDate().toPrinterParser(false)));
+        assertNull(CompiledPrinter.compile(DateTimeFormatters.rfc1123().toPrinterParser(false)));
+    }
+
+    public void test_print_nonStandardSymbols() {
+        DateTimeFormatSymbols symbols = DateTimeFormatSymbols.STANDARD.withZeroDigit('A');
+        DateTimeFormatter f = DateTimeFormatters.isoLocalDate().withSymbols(symbols);
+        assertEquals(f.print(LocalDate.of(2011, 6, 30)), "CABB-AG-DA");
+        assertEquals(f.withSymbols(DateTimeFormatSymbols.STANDARD).print(LocalDate.of(2011, 6, 30)), "2011-06-30");
+    }
+
+    public void test_print_growsBuffer() {
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            literal.append((char) ('a' + i % 26));
+        }
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+            .appendLiteral(literal.toString())
+            .append(DateTimeFormatters.isoZonedDateTime())
+            .toFormatter();
+        ZonedDateTime dt = ZonedDateTime.of(LocalDateTime.of(2011, 6, 30, 11, 30), ZoneId.of("Europe/Paris"));
+        assertEquals(f.print(dt), literal + "2011-06-30T11:30:00+02:00[Europe/Paris]");
+        assertEquals(DateTimeFormatters.isoLocalDate().print(LocalDate.of(2011, 6, 30)), "2011-06-30");
+    }
+
+}
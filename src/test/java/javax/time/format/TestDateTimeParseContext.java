@@ -32,20 +32,35 @@
 package javax.time.format;
 
 import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_WEEK;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
 import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
 import static javax.time.calendrical.ISODateTimeRule.YEAR;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
+import java.text.ParsePosition;
 import java.util.List;
 import java.util.Locale;
 
+import javax.time.CalendricalException;
 import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+import javax.time.OffsetDateTime;
 import javax.time.ZoneId;
 import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
 import javax.time.calendrical.Calendrical;
+import javax.time.calendrical.CalendricalRule;
+import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -217,4 +232,201 @@ public class TestDateTimeParseContext {
         assertEquals(str.contains("+16:00"), true);
     }
 
+
+    //-----------------------------------------------------------------------
+    // resolveDirect()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="direct")
+    Object[][] data_direct() {
+        return new Object[][] {
+            {DateTimeFormatters.isoLocalDate(), "2011-06-30"},
+            {DateTimeFormatters.isoLocalDate(), "2012-02-29"},
+            {DateTimeFormatters.isoLocalDate(), "2011-02-29"},
+            {DateTimeFormatters.isoLocalDate(), "2011-04-31"},
+            {DateTimeFormatters.isoLocalDate(), "2011-13-01"},
+            {DateTimeFormatters.isoLocalDate(), "2011-00-01"},
+            {DateTimeFormatters.isoLocalDate(), "+999999999-12-31"},
+            {DateTimeFormatters.isoLocalDate(), "-999999999-01-01"},
+            {DateTimeFormatters.isoLocalDate(), "+1000000000-01-01"},
+            {DateTimeFormatters.isoDate(), "2011-06-30+01:00"},
+            {DateTimeFormatters.isoDate(), "2011-06-30+01:00[Europe/Paris]"},
+            {DateTimeFormatters.isoLocalDateTime(), "2011-06-30T11:30"},
+            {DateTimeFormatters.isoLocalDateTime(), "2011-06-30T11:30:45"},
+            {DateTimeFormatters.isoLocalDateTime(), "2011-06-30T11:30:45.123"},
+            {DateTimeFormatters.isoLocalDateTime(), "2011-06-30T24:00"},
+            {DateTimeFormatters.isoLocalDateTime(), "2011-06-30T23:60"},
+            {DateTimeFormatters.isoLocalDateTime(), "2011-06-30T23:59:60"},
+            {DateTimeFormatters.isoOffsetDateTime(), "2011-06-30T11:30:45.123456789+01:00"},
+            {DateTimeFormatters.isoOffsetDateTime(), "2011-06-30T11:30Z"},
+            {DateTimeFormatters.isoOffsetDateTime(), "-0001-06-30T11:30-18:00"},
+            {DateTimeFormatters.isoZonedDateTime(), "2011-06-30T11:30+02:00[Europe/Paris]"},
+            {DateTimeFormatters.isoZonedDateTime(), "2011-06-30T11:30+05:00[Europe/Paris]"},
+            {DateTimeFormatters.isoZonedDateTime(), "2011-03-27T02:30+01:00[Europe/Paris]"},
+            {DateTimeFormatters.isoZonedDateTime(), "2011-10-30T02:30+01:00[Europe/Paris]"},
+            {DateTimeFormatters.isoZonedDateTime(), "2011-10-30T02:30+02:00[Europe/Paris]"},
+            {DateTimeFormatters.isoZonedDateTime(), "2011-06-30T11:30+01:00[UTC+01:00]"},
+            {DateTimeFormatters.isoDateTime(), "2011-06-30T11:30+02:00"},
+            {DateTimeFormatters.isoDateTime(), "2011-06-30T11:30"},
+            {DateTimeFormatters.isoOrdinalDate(), "2011-181"},
+            {DateTimeFormatters.isoWeekDate(), "2011-W26-4"},
+        };
+    }
+
+    @Test(dataProvider="direct", groups={"implementation"})
+    public void test_resolveDirect_matchesEngine(DateTimeFormatter formatter, String text) {
+        CalendricalRule<?>[] rules = new CalendricalRule<?>[] {
+            LocalDate.rule(), LocalDateTime.rule(), OffsetDateTime.rule(), ZonedDateTime.rule(), LocalTime.rule(),
+        };
+        for (CalendricalRule<?> rule : rules) {
+            ParsePosition pos = new ParsePosition(0);
+            DateTimeParseContext parsed = formatter.parseToContext(text, pos);
+            assertEquals(pos.getIndex(), text.length());
+            Object direct = parsed.resolveDirect(rule);
+            Object expected;
+            try {
+                expected = parsed.toCalendricalEngine().deriveChecked(rule);
+            } catch (CalendricalException ex) {
+                expected = null;
+            }
+            if (direct != null) {
+                assertEquals(direct, expected, text + " " + rule);
+            }
+        }
+    }
+
+    @Test(groups={"implementation"})
+    public void test_resolveDirect_simple() {
+        context.setParsedField(YEAR, 2011);
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.setParsedField(DAY_OF_MONTH, 30);
+        assertEquals(context.resolveDirect(LocalDate.rule()), LocalDate.of(2011, 6, 30));
+        assertNull(context.resolveDirect(LocalDateTime.rule()));
+        context.setParsedField(HOUR_OF_DAY, 11);
+        context.setParsedField(MINUTE_OF_HOUR, 30);
+        assertEquals(context.resolveDirect(LocalDateTime.rule()), LocalDateTime.of(2011, 6, 30, 11, 30));
+        assertNull(context.resolveDirect(OffsetDateTime.rule()));
+        context.setParsed(ZoneOffset.ofHours(2));
+        assertEquals(context.resolveDirect(OffsetDateTime.rule()), OffsetDateTime.of(2011, 6, 30, 11, 30, ZoneOffset.ofHours(2)));
+        assertEquals(context.resolveDirect(ZonedDateTime.rule()),
+                ZonedDateTime.of(LocalDateTime.of(2011, 6, 30, 11, 30), ZoneId.of(ZoneOffset.ofHours(2))));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_resolveDirect_duplicateField() {
+        context.setParsedField(YEAR, 2011);
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.setParsedField(DAY_OF_MONTH, 30);
+        context.setParsedField(DAY_OF_MONTH, 30);
+        assertNull(context.resolveDirect(LocalDate.rule()));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_resolveDirect_otherField() {
+        context.setParsedField(YEAR, 2011);
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.setParsedField(DAY_OF_MONTH, 30);
+        context.setParsedField(DAY_OF_WEEK, 4);
+        assertNull(context.resolveDirect(LocalDate.rule()));
+    }
+
+
+    //-----------------------------------------------------------------------
+    // slots
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_getParsed_orderWithRepeatedField() {
+        context.setParsedField(YEAR, 2008);
+        context.setParsed(ZoneOffset.ofHours(1));
+        context.setParsedField(YEAR, 2009);
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        List<Calendrical> list = context.getParsed();
+        assertEquals(list.size(), 4);
+        assertEquals(list.get(0), YEAR.field(2008L));
+        assertEquals(list.get(1), ZoneOffset.ofHours(1));
+        assertEquals(list.get(2), YEAR.field(2009L));
+        assertEquals(list.get(3), MONTH_OF_YEAR.field(6L));
+        assertEquals(context.getParsed(YEAR), YEAR.field(2008L));
+        assertEquals(context.getParsed(DateTimeField.class), YEAR.field(2008L));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_setParsed_isoFieldStoredInSlot() {
+        context.setParsed(DAY_OF_MONTH.field(2));
+        assertEquals(context.getParsed(DAY_OF_MONTH), DAY_OF_MONTH.field(2));
+        assertEquals(context.getParsed().get(0), DAY_OF_MONTH.field(2));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_getParsed_modifyListMiddle() {
+        context.setParsedField(YEAR, 2008);
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.getParsed().add(1, ZoneOffset.ofHours(1));
+        context.getParsed().remove(0);
+        assertEquals(context.getParsed().size(), 2);
+        assertEquals(context.getParsed().get(0), ZoneOffset.ofHours(1));
+        assertEquals(context.getParsed().get(1), MONTH_OF_YEAR.field(6L));
+        assertNull(context.getParsed(YEAR));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_optional_restore() {
+        context.setParsedField(YEAR, 2008);
+        context.startOptional();
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.setParsedField(YEAR, 2009);
+        context.startOptional();
+        context.setParsed(ZoneOffset.ofHours(1));
+        context.setParsedField(DAY_OF_MONTH, 3);
+        context.endOptional(false);
+        assertEquals(context.getParsed().size(), 3);
+        assertNull(context.getParsed(DAY_OF_MONTH));
+        assertNull(context.getParsed(ZoneOffset.class));
+        context.endOptional(false);
+        assertEquals(context.getParsed().size(), 1);
+        assertNull(context.getParsed(MONTH_OF_YEAR));
+        assertEquals(context.getParsed(YEAR), YEAR.field(2008L));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_optional_keep() {
+        context.setParsedField(YEAR, 2008);
+        context.startOptional();
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.startOptional();
+        context.setParsedField(DAY_OF_MONTH, 3);
+        context.endOptional(true);
+        context.endOptional(true);
+        assertEquals(context.getParsed().size(), 3);
+        assertEquals(context.getParsed(DAY_OF_MONTH), DAY_OF_MONTH.field(3L));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_optional_deepNesting() {
+        for (int i = 0; i < 20; i++) {
+            context.startOptional();
+            context.setParsed(ZoneOffset.ofHours(1));
+        }
+        for (int i = 0; i < 20; i++) {
+            context.endOptional(i % 2 == 0);
+        }
+        assertEquals(context.getParsed().size(), 0);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_acquire_reusedAfterRelease() {
+        DateTimeParseContext first = DateTimeParseContext.acquire(Locale.GERMANY, symbols);
+        first.setParsedField(YEAR, 2008);
+        first.setStrict(false);
+        DateTimeParseContext nested = DateTimeParseContext.acquire(Locale.FRANCE, DateTimeFormatSymbols.STANDARD);
+        assertTrue(nested != first);
+        nested.release();
+        first.release();
+        DateTimeParseContext second = DateTimeParseContext.acquire(Locale.FRANCE, DateTimeFormatSymbols.STANDARD);
+        assertSame(second, first);
+        assertEquals(second.getLocale(), Locale.FRANCE);
+        assertEquals(second.isStrict(), true);
+        assertEquals(second.getParsed().size(), 0);
+        second.release();
+    }
+
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static javax.time.calendrical.ISODateTimeRule.AMPM_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_WEEK;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map.Entry;
+
+import javax.time.calendrical.DateTimeField;
+import javax.time.calendrical.DateTimeRule;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test TextTrie.
+ *
+ * @author Stephen Colebourne
+ */
+@Test(groups={"implementation"})
+public class TestTextTrie {
+
+    private static final DateTimeTextProvider PROVIDER = new SimpleDateTimeTextProvider();
+
+    private static List<Entry<String, DateTimeField>> entries(Object... pairs) {
+        List<Entry<String, DateTimeField>> list = new ArrayList<Entry<String, DateTimeField>>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            list.add(DateTimeTextProvider.createEntry((String) pairs[i], MONTH_OF_YEAR.field((Integer) pairs[i + 1])));
+        }
+        return list;
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_match_longest() {
+        TextTrie test = new TextTrie(entries("March", 3, "Mar", 13, "May", 5));
+        assertEquals(test.match("March 2011", 0, true).getValue(), MONTH_OF_YEAR.field(3));
+        assertEquals(test.match("Mar 2011", 0, true).getValue(), MONTH_OF_YEAR.field(13));
+        assertEquals(test.match("Marc", 0, true).getValue(), MONTH_OF_YEAR.field(13));
+        assertEquals(test.match("xMay", 1, true).getValue(), MONTH_OF_YEAR.field(5));
+        assertNull(test.match("Ma", 0, true));
+        assertNull(test.match("May", 3, true));
+    }
+
+    public void test_match_caseInsensitive() {
+        TextTrie test = new TextTrie(entries("March", 3, "MARCH", 13));
+        assertNull(test.match("march", 0, true));
+        assertEquals(test.match("MARCH", 0, true).getValue(), MONTH_OF_YEAR.field(13));
+        assertEquals(test.match("march", 0, false).getValue(), MONTH_OF_YEAR.field(3));
+        assertEquals(test.match("MARCH", 0, false).getValue(), MONTH_OF_YEAR.field(3));
+    }
+
+    public void test_match_firstEquivalentWins() {
+        List<Entry<String, DateTimeField>> entries = entries("May", 5, "May", 15);
+        TextTrie test = new TextTrie(entries);
+        assertSame(test.match("May", 0, true), entries.get(0));
+    }
+
+    public void test_match_empty() {
+        TextTrie test = new TextTrie(entries());
+        assertNull(test.match("May", 0, true));
+        assertNull(test.match("", 0, false));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_match_matchesLinearScan() {
+        DateTimeRule[] rules = {MONTH_OF_YEAR, DAY_OF_WEEK, AMPM_OF_DAY};
+        Locale[] locales = {Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN, new Locale("tr"), new Locale("el"), Locale.JAPANESE};
+        TextStyle[] styles = {TextStyle.FULL, TextStyle.SHORT, null};
+        for (DateTimeRule rule : rules) {
+            for (Locale locale : locales) {
+                for (TextStyle style : styles) {
+                    TextTrie trie = ((SimpleDateTimeTextProvider) PROVIDER).getTextTrie(rule, style, locale);
+                    List<String> inputs = new ArrayList<String>();
+                    for (Iterator<Entry<String, DateTimeField>> it = PROVIDER.getTextIterator(rule, style, locale); it.hasNext(); ) {
+                        String text = it.next().getKey();
+                        inputs.add(text);
+                        inputs.add(text + " 2011");
+                        inputs.add(text.toUpperCase(locale));
+                        inputs.add(text.toLowerCase(locale));
+                        inputs.add(text.substring(0, text.length() / 2));
+                    }
+                    for (String input : inputs) {
+                        for (boolean caseSensitive : new boolean[] {true, false}) {
+                            Entry<String, DateTimeField> expected = linearScan(rule, style, locale, input, caseSensitive);
+                            Entry<String, DateTimeField> actual = trie.match(input, 0, caseSensitive);
+                            assertEquals(actual == null ? null : actual.getKey().length(),
+                                    expected == null ? null : expected.getKey().length(), input);
+                            assertEquals(actual == null ? null : actual.getValue(),
+                                    expected == null ? null : expected.getValue(), input);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private Entry<String, DateTimeField> linearScan(
+            DateTimeRule rule, TextStyle style, Locale locale, String input, boolean caseSensitive) {
+        DateTimeParseContext context = new DateTimeParseContext(locale, DateTimeFormatSymbols.STANDARD);
+        context.setCaseSensitive(caseSensitive);
+        for (Iterator<Entry<String, DateTimeField>> it = PROVIDER.getTextIterator(rule, style, locale); it.hasNext(); ) {
+            Entry<String, DateTimeField> entry = it.next();
+            String text = entry.getKey();
+            if (context.subSequenceEquals(text, 0, input, 0, text.length())) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+}
@@ -34,6 +34,8 @@ package javax.time.format;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
 
 import javax.time.ZoneId;
@@ -126,6 +128,27 @@ public class TestZoneIdParser extends AbstractTestPrinterParser {
         assertParsed(expected);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_tree_longestMatch() {
+        Set<String> ids = new HashSet<String>(Arrays.asList("Etc/GMT", "Etc/GMT+1", "Etc/GMT+10", "Europe/Paris"));
+        ZoneIdPrinterParser.ZoneIdTree tree = new ZoneIdPrinterParser.ZoneIdTree(ids);
+        assertEquals(tree.size, 4);
+        assertEquals(tree.match("Etc/GMT+10", 0), "Etc/GMT+10");
+        assertEquals(tree.match("Etc/GMT+1X", 0), "Etc/GMT+1");
+        assertEquals(tree.match("Etc/GMT+2", 0), "Etc/GMT");
+        assertEquals(tree.match("XEurope/Paris", 1), "Europe/Paris");
+        assertEquals(tree.match("Etc/GM", 0), null);
+        assertEquals(tree.match("Europe/Pari", 0), null);
+        assertEquals(tree.match("", 0), null);
+    }
+
+    public void test_parse_longestMatchFallsBackToShorterId() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
+        int result = pp.parse(parseContext, "Etc/GMT+15", 0);
+        assertEquals(result, 9);
+        assertParsed(ZoneId.of("Etc/GMT+1"));
+    }
+
     //-----------------------------------------------------------------------
     public void test_parse_endStringMatch_utc() throws Exception {
         ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
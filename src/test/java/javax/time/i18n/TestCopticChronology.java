@@ -45,6 +45,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
+import javax.time.LocalDate;
+import javax.time.calendrical.Chronology;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 import javax.time.calendrical.DateTimeRuleRange;
@@ -151,6 +153,39 @@ public class TestCopticChronology {
         serialize(rule);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_toEpochDay_matchesCopticDate() {
+        for (int year = CopticDate.MIN_YEAR; year <= CopticDate.MAX_YEAR; year += 7) {
+            for (int month = 1; month <= 13; month++) {
+                CopticDate date = CopticDate.of(year, month, 5);
+                assertEquals(CopticChronology.INSTANCE.toEpochDay(year, month, 5), date.toLocalDate().toEpochDay());
+            }
+        }
+        assertEquals(CopticChronology.INSTANCE.toEpochDay(1, 1, 1), LocalDate.of(284, 8, 29).toEpochDay());
+    }
+
+    public void test_toPackedDate_matchesCopticDate() {
+        long start = CopticDate.of(1, 1, 1).toLocalDate().toEpochDay();
+        for (long epochDay = start; epochDay < start + 3652000; epochDay += 13) {
+            CopticDate date = CopticDate.of(LocalDate.ofEpochDay(epochDay));
+            long packed = CopticChronology.INSTANCE.toPackedDate(epochDay);
+            assertEquals(packed, Chronology.packDate(date.getYear(), date.getMonthOfYear(), date.getDayOfMonth()));
+        }
+    }
+
+    public void test_toPackedDate_roundTripBeforeEpoch() {
+        for (long epochDay = -1000000; epochDay < -600000; epochDay++) {
+            long packed = CopticChronology.INSTANCE.toPackedDate(epochDay);
+            int year = Chronology.unpackProlepticYear(packed);
+            int month = Chronology.unpackMonthOfYear(packed);
+            int day = Chronology.unpackDayOfMonth(packed);
+            assertTrue(month >= 1 && month <= 13);
+            assertTrue(day >= 1 && day <= (month == 13 ? 6 : 30));
+            assertEquals(CopticChronology.INSTANCE.toEpochDay(year, month, day), epochDay);
+        }
+        assertEquals(CopticChronology.INSTANCE.toPackedDate(LocalDate.of(284, 8, 28).toEpochDay()), Chronology.packDate(0, 13, 5));
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString() throws Exception {
         assertEquals(CopticChronology.INSTANCE.toString(), "Coptic");
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.i18n;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import javax.time.LocalDate;
+import javax.time.calendrical.Chronology;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test JulianChronology.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestJulianChronology {
+
+    //-----------------------------------------------------------------------
+    public void test_toEpochDay() {
+        assertEquals(JulianChronology.INSTANCE.toEpochDay(1970, 1, 1), 13);
+        assertEquals(JulianChronology.INSTANCE.toEpochDay(1582, 10, 4), LocalDate.of(1582, 10, 14).toEpochDay());
+        assertEquals(JulianChronology.INSTANCE.toEpochDay(1900, 2, 29), LocalDate.of(1900, 3, 13).toEpochDay());
+        assertEquals(JulianChronology.INSTANCE.toEpochDay(1, 1, 1), LocalDate.of(0, 12, 30).toEpochDay());
+        assertEquals(JulianChronology.INSTANCE.toEpochDay(0, 2, 29), LocalDate.of(0, 2, 27).toEpochDay());
+    }
+
+    public void test_toPackedDate() {
+        assertEquals(JulianChronology.INSTANCE.toPackedDate(13), Chronology.packDate(1970, 1, 1));
+        assertEquals(JulianChronology.INSTANCE.toPackedDate(LocalDate.of(1582, 10, 14).toEpochDay()), Chronology.packDate(1582, 10, 4));
+        assertEquals(JulianChronology.INSTANCE.toPackedDate(LocalDate.of(1900, 3, 13).toEpochDay()), Chronology.packDate(1900, 2, 29));
+        assertEquals(JulianChronology.INSTANCE.toPackedDate(LocalDate.of(1900, 3, 14).toEpochDay()), Chronology.packDate(1900, 3, 1));
+        assertEquals(JulianChronology.INSTANCE.toPackedDate(LocalDate.of(0, 12, 29).toEpochDay()), Chronology.packDate(0, 12, 31));
+    }
+
+    public void test_toPackedDate_roundTrip() {
+        int[] monthLengths = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+        for (long epochDay = -1000000; epochDay <= 1000000; epochDay++) {
+            long packed = JulianChronology.INSTANCE.toPackedDate(epochDay);
+            int year = Chronology.unpackProlepticYear(packed);
+            int month = Chronology.unpackMonthOfYear(packed);
+            int day = Chronology.unpackDayOfMonth(packed);
+            int monthLength = (month == 2 && JulianChronology.isLeapYear(year) == false ? 28 : monthLengths[month - 1]);
+            assertTrue(day >= 1 && day <= monthLength);
+            assertEquals(JulianChronology.INSTANCE.toEpochDay(year, month, day), epochDay);
+        }
+    }
+
+    public void test_toPackedDate_sequential() {
+        long packed = JulianChronology.INSTANCE.toPackedDate(LocalDate.of(-5, 12, 31).toEpochDay());
+        for (long epochDay = LocalDate.of(-4, 1, 1).toEpochDay(); epochDay < LocalDate.of(5, 1, 1).toEpochDay(); epochDay++) {
+            long next = JulianChronology.INSTANCE.toPackedDate(epochDay);
+            assertTrue(next > packed);
+            packed = next;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_historic_toEpochDay() {
+        HistoricChronology chrono = HistoricChronology.standardCutover();
+        assertEquals(chrono.toEpochDay(1582, 10, 4), LocalDate.of(1582, 10, 14).toEpochDay());
+        assertEquals(chrono.toEpochDay(1582, 10, 15), LocalDate.of(1582, 10, 15).toEpochDay());
+        assertEquals(chrono.toEpochDay(2011, 3, 15), LocalDate.of(2011, 3, 15).toEpochDay());
+        assertEquals(chrono.toEpochDay(1000, 2, 29), JulianChronology.INSTANCE.toEpochDay(1000, 2, 29));
+    }
+
+    public void test_historic_toPackedDate() {
+        HistoricChronology chrono = HistoricChronology.standardCutover();
+        assertEquals(chrono.toPackedDate(LocalDate.of(1582, 10, 14).toEpochDay()), Chronology.packDate(1582, 10, 4));
+        assertEquals(chrono.toPackedDate(LocalDate.of(1582, 10, 15).toEpochDay()), Chronology.packDate(1582, 10, 15));
+        assertEquals(chrono.toPackedDate(LocalDate.of(2011, 3, 15).toEpochDay()), Chronology.packDate(2011, 3, 15));
+    }
+
+}
@@ -32,11 +32,14 @@
 package javax.time.zone;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Arrays;
 
 import javax.time.Instant;
 import javax.time.LocalDateTime;
@@ -102,6 +105,50 @@ public class TestFixedZoneRules {
         assertEquals(test.previousTransition(INSTANT), null);
     }
 
+    @Test(groups={"implementation","tck"})
+    public void test_preloadTransitions() {
+        ZoneRules test = make(OFFSET_PONE);
+        test.preloadTransitions(1900, 2100);
+        assertEquals(test.getOffset(INSTANT), OFFSET_PONE);
+        assertEquals(test.nextTransition(INSTANT), null);
+    }
+
+    @Test(groups={"implementation","tck"})
+    public void test_getOffsets() {
+        ZoneRules test = make(OFFSET_PONE);
+        long[] epochSecs = new long[] {-86401, -3601, -1, 0, 1, INSTANT.getEpochSecond()};
+        int[] offsets = new int[epochSecs.length];
+        long[] days = new long[epochSecs.length];
+        long[] nanos = new long[epochSecs.length];
+        test.getOffsets(epochSecs, offsets, days, nanos);
+        for (int i = 0; i < epochSecs.length; i++) {
+            assertEquals(offsets[i], 3600);
+            LocalDateTime ldt = OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecs[i]), OFFSET_PONE).toLocalDateTime();
+            assertEquals(days[i], ldt.toLocalDate().toEpochDay());
+            assertEquals(nanos[i], ldt.toLocalTime().toNanoOfDay());
+        }
+        int[] offsetsOnly = new int[epochSecs.length];
+        test.getOffsets(epochSecs, offsetsOnly);
+        assertTrue(Arrays.equals(offsetsOnly, offsets));
+    }
+
+    @Test(groups={"implementation","tck"}, expectedExceptions=IllegalArgumentException.class)
+    public void test_getOffsets_outputTooShort() {
+        make(OFFSET_PONE).getOffsets(new long[2], new int[1]);
+    }
+
+    @Test(groups={"implementation","tck"})
+    public void test_getOffsets_localOutputTooShort_noOutputWritten() {
+        int[] offsets = new int[2];
+        try {
+            make(OFFSET_PONE).getOffsets(new long[2], offsets, new long[1], new long[2]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals(offsets[0], 0);
+            assertEquals(offsets[1], 0);
+        }
+    }
+
     @Test(groups="implementation")
     public void test_data_nullInput() {
         ZoneRules test = make(OFFSET_PONE);
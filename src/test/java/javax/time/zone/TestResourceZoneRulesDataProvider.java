@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2011, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.time.LocalDate;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test ResourceZoneRulesDataProvider.
+ *
+ * @author Stephen Colebourne
+ */
+@Test(groups="implementation")
+public class TestResourceZoneRulesDataProvider {
+
+    private URL url;
+    private File file;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        url = Thread.currentThread().getContextClassLoader().getResource("javax/time/calendar/zone/ZoneRules.dat");
+        file = File.createTempFile("ZoneRules", ".dat");
+        InputStream in = url.openStream();
+        try {
+            OutputStream out = new FileOutputStream(file);
+            try {
+                byte[] buf = new byte[4096];
+                int len;
+                while ((len = in.read(buf)) > 0) {
+                    out.write(buf, 0, len);
+                }
+            } finally {
+                out.close();
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    @AfterClass
+    public void tearDown() {
+        file.delete();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_map_matchesLoad() throws Exception {
+        ResourceZoneRulesDataProvider loaded = ResourceZoneRulesDataProvider.load(url);
+        ResourceZoneRulesDataProvider mapped = ResourceZoneRulesDataProvider.map(file);
+        assertEquals(mapped.getGroupID(), loaded.getGroupID());
+        assertTrue(mapped.getRegionIDs().equals(loaded.getRegionIDs()));
+        Map<String, ZoneRulesVersion> loadedVersions = new HashMap<String, ZoneRulesVersion>();
+        for (ZoneRulesVersion version : loaded.getVersions()) {
+            loadedVersions.put(version.getVersionID(), version);
+        }
+        assertEquals(mapped.getVersions().size(), loadedVersions.size());
+        for (ZoneRulesVersion version : mapped.getVersions()) {
+            ZoneRulesVersion expected = loadedVersions.get(version.getVersionID());
+            assertNotNull(expected);
+            assertTrue(version.getRegionIDs().equals(expected.getRegionIDs()));
+            for (String regionID : version.getRegionIDs()) {
+                assertEquals(version.getZoneRules(regionID), expected.getZoneRules(regionID));
+            }
+        }
+    }
+
+    public void test_map_decodedOnce() throws Exception {
+        ResourceZoneRulesDataProvider mapped = ResourceZoneRulesDataProvider.map(file);
+        ZoneRulesVersion version = mapped.getVersions().iterator().next();
+        ZoneRules rules = version.getZoneRules("Europe/London");
+        assertNotNull(rules);
+        assertSame(version.getZoneRules("Europe/London"), rules);
+    }
+
+    public void test_compactFormat_matchesOriginal() throws Exception {
+        ResourceZoneRulesDataProvider loaded = ResourceZoneRulesDataProvider.load(url);
+        Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
+        Set<String> allRegionIds = new TreeSet<String>();
+        Set<ZoneRules> allRules = new HashSet<ZoneRules>();
+        for (ZoneRulesVersion version : loaded.getVersions()) {
+            SortedMap<String, ZoneRules> builtZones = new TreeMap<String, ZoneRules>();
+            for (String regionID : version.getRegionIDs()) {
+                builtZones.put(regionID, version.getZoneRules(regionID));
+            }
+            allBuiltZones.put(version.getVersionID(), builtZones);
+            allRegionIds.addAll(builtZones.keySet());
+            allRules.addAll(builtZones.values());
+        }
+        File jar = File.createTempFile("jsr-310-TZDB", ".jar");
+        try {
+            TZDBZoneRulesCompiler.outputFile(jar, allBuiltZones, allRegionIds, allRules, new TreeMap<LocalDate, Byte>(), true);
+            URL compactUrl = new URL("jar:" + jar.toURI().toURL() + "!/javax/time/calendar/zone/ZoneRules.dat");
+            InputStream in = compactUrl.openStream();
+            try {
+                assertEquals(in.read(), 2);
+            } finally {
+                in.close();
+            }
+            ResourceZoneRulesDataProvider compact = ResourceZoneRulesDataProvider.load(compactUrl);
+            assertEquals(compact.getGroupID(), loaded.getGroupID());
+            assertEquals(compact.getVersions().size(), allBuiltZones.size());
+            for (ZoneRulesVersion version : compact.getVersions()) {
+                SortedMap<String, ZoneRules> expected = allBuiltZones.get(version.getVersionID());
+                assertTrue(version.getRegionIDs().equals(expected.keySet()));
+                for (String regionID : expected.keySet()) {
+                    assertEquals(version.getZoneRules(regionID), expected.get(regionID));
+                }
+            }
+        } finally {
+            jar.delete();
+        }
+    }
+
+    @Test(expectedExceptions=IOException.class)
+    public void test_map_truncated() throws Exception {
+        File truncated = File.createTempFile("ZoneRules", ".dat");
+        try {
+            OutputStream out = new FileOutputStream(truncated);
+            try {
+                out.write(new byte[] {1, 0});
+            } finally {
+                out.close();
+            }
+            ResourceZoneRulesDataProvider.map(truncated);
+        } finally {
+            truncated.delete();
+        }
+    }
+
+}
@@ -34,16 +34,22 @@ package javax.time.zone;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 import javax.time.DayOfWeek;
 import javax.time.Instant;
@@ -136,6 +142,39 @@ public class TestStandardZoneRules {
         assertEquals(result, test);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_compact_unusual() throws Exception {
+        ZoneRulesBuilder b = new ZoneRulesBuilder()
+            .addWindow(ZoneOffset.of("-17:49:23"), LocalDateTime.of(1980, 3, 1, 1, 34, 56), TimeDefinition.WALL)
+            .setFixedSavingsToWindow(Period.ofTimeFields(1, 34, 23))
+            .addWindowForever(ZoneOffset.of("+04:23"))
+            .setFixedSavingsToWindow(Period.ofTimeFields(13, 22, 9));
+        assertCompact((StandardZoneRules) b.toRules("Test"));
+    }
+
+    public void test_compact_loaded() throws Exception {
+        assertCompact(europeLondon(), europeParis(), americaNewYork());
+    }
+
+    private void assertCompact(StandardZoneRules... tests) throws Exception {
+        Map<ZoneOffset, Integer> offsetPool = new LinkedHashMap<ZoneOffset, Integer>();
+        Map<ZoneOffsetTransitionRule, Integer> rulePool = new LinkedHashMap<ZoneOffsetTransitionRule, Integer>();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        for (StandardZoneRules test : tests) {
+            test.writeCompact(out, offsetPool, rulePool);
+        }
+        out.close();
+        
+        ZoneOffset[] offsets = offsetPool.keySet().toArray(new ZoneOffset[offsetPool.size()]);
+        ZoneOffsetTransitionRule[] rules = rulePool.keySet().toArray(new ZoneOffsetTransitionRule[rulePool.size()]);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        for (StandardZoneRules test : tests) {
+            assertEquals(StandardZoneRules.readCompact(in, offsets, rules), test);
+        }
+        assertEquals(in.read(), -1);
+    }
+
     //-----------------------------------------------------------------------
     // Europe/London
     //-----------------------------------------------------------------------
@@ -511,6 +550,52 @@ public class TestStandardZoneRules {
         }
     }
 
+    //-----------------------------------------------------------------------
+    public void test_London_getOffset_rulesBased() {
+        StandardZoneRules test = europeLondon();
+        List<ZoneOffsetTransitionRule> rules = test.getTransitionRules();
+        
+        for (int year = 1998; year <= 2105; year++) {
+            ZoneOffsetTransition a = rules.get(0).createTransition(year);
+            ZoneOffsetTransition b = rules.get(1).createTransition(year);
+            
+            assertEquals(test.getOffset(a.getInstant().minusNanos(1)), OFFSET_ZERO);
+            assertEquals(test.getOffset(a.getInstant()), OFFSET_PONE);
+            assertEquals(test.getOffset(b.getInstant().minusNanos(1)), OFFSET_PONE);
+            assertEquals(test.getOffset(b.getInstant()), OFFSET_ZERO);
+        }
+    }
+
+    public void test_London_getOffset_lastCachedYearBoundary() {
+        StandardZoneRules test = europeLondon();
+        Instant endOfCache = OffsetDateTime.ofMidnight(2101, 1, 1, ZoneOffset.UTC).toInstant();
+        assertEquals(test.getOffset(endOfCache.minusNanos(1)), OFFSET_ZERO);
+        assertEquals(test.getOffset(endOfCache), OFFSET_ZERO);
+        assertEquals(test.getOffset(OffsetDateTime.ofMidnight(2100, 7, 1, ZoneOffset.UTC).toInstant()), OFFSET_PONE);
+        assertEquals(test.getOffset(OffsetDateTime.ofMidnight(2101, 7, 1, ZoneOffset.UTC).toInstant()), OFFSET_PONE);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_London_preloadTransitions() {
+        StandardZoneRules test = europeLondon();
+        test.preloadTransitions(1800, 3000);
+        List<ZoneOffsetTransitionRule> rules = test.getTransitionRules();
+        for (int year = 2010; year < 2110; year += 7) {
+            ZoneOffsetTransition a = rules.get(0).createTransition(year);
+            ZoneOffsetTransition b = rules.get(1).createTransition(year);
+            assertEquals(test.nextTransition(a.getInstant().minusNanos(1)), a);
+            assertEquals(test.nextTransition(a.getInstant()), b);
+            assertEquals(test.previousTransition(b.getInstant()), a);
+            assertEquals(test.getOffset(a.getInstant()), OFFSET_PONE);
+        }
+    }
+
+    public void test_London_preloadTransitions_emptyRange() {
+        StandardZoneRules test = europeLondon();
+        test.preloadTransitions(2050, 2040);
+        assertEquals(test.getOffset(OffsetDateTime.ofMidnight(2045, 7, 1, ZoneOffset.UTC).toInstant()), OFFSET_PONE);
+    }
+
     //-----------------------------------------------------------------------
     // Europe/Paris
     //-----------------------------------------------------------------------
@@ -959,6 +1044,122 @@ public class TestStandardZoneRules {
         assertEquals(test.nextTransition(last.getInstant()), null);
     }
 
+    //-----------------------------------------------------------------------
+    // getOffsets()
+    //-----------------------------------------------------------------------
+    public void test_getOffsets_sorted() {
+        long[] epochSecs = new long[20000];
+        long start = OffsetDateTime.ofMidnight(1800, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        for (int i = 0; i < epochSecs.length; i++) {
+            epochSecs[i] = start + i * 86400L * 7 + i;
+        }
+        assertGetOffsets(europeLondon(), epochSecs);
+        assertGetOffsets(europeParis(), epochSecs);
+        assertGetOffsets(americaNewYork(), epochSecs);
+        assertGetOffsets((StandardZoneRules) ZoneId.of("Asia/Kathmandu").getRules(), epochSecs);
+    }
+
+    public void test_getOffsets_unsorted() {
+        long[] epochSecs = new long[20000];
+        Random random = new Random(1234);
+        long start = OffsetDateTime.ofMidnight(1800, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        long end = OffsetDateTime.ofMidnight(2200, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        for (int i = 0; i < epochSecs.length; i++) {
+            epochSecs[i] = start + (long) (random.nextDouble() * (end - start));
+        }
+        assertGetOffsets(europeLondon(), epochSecs);
+        assertGetOffsets(americaNewYork(), epochSecs);
+    }
+
+    public void test_getOffsets_transitions() {
+        StandardZoneRules test = europeLondon();
+        List<ZoneOffsetTransitionRule> rules = test.getTransitionRules();
+        List<ZoneOffsetTransition> trans = test.getTransitions();
+        long[] epochSecs = new long[trans.size() * 3 + 6 * 3];
+        int i = 0;
+        for (ZoneOffsetTransition zot : trans) {
+            long epochSec = zot.getInstant().getEpochSecond();
+            epochSecs[i++] = epochSec - 1;
+            epochSecs[i++] = epochSec;
+            epochSecs[i++] = epochSec + 1;
+        }
+        for (int year = 2099; year <= 2101; year++) {
+            for (ZoneOffsetTransitionRule rule : rules) {
+                long epochSec = rule.createTransition(year).getInstant().getEpochSecond();
+                epochSecs[i++] = epochSec - 1;
+                epochSecs[i++] = epochSec;
+                epochSecs[i++] = epochSec + 1;
+            }
+        }
+        assertGetOffsets(test, epochSecs);
+    }
+
+    public void test_getOffsets_empty() {
+        StandardZoneRules test = europeLondon();
+        test.getOffsets(new long[0], new int[0]);
+        test.getOffsets(new long[0], new int[0], new long[0], new long[0]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getOffsets_nullInput() {
+        europeLondon().getOffsets(null, new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getOffsets_nullOutput() {
+        europeLondon().getOffsets(new long[1], null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_getOffsets_outputTooShort() {
+        europeLondon().getOffsets(new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_getOffsets_localOutputTooShort() {
+        europeLondon().getOffsets(new long[2], new int[2], new long[2], new long[1]);
+    }
+
+    public void test_getOffsets_localOutputTooShort_noOutputWritten() {
+        int[] offsets = new int[2];
+        try {
+            europeLondon().getOffsets(new long[2], offsets, new long[2], new long[1]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            assertEquals(offsets[0], 0);
+            assertEquals(offsets[1], 0);
+        }
+    }
+
+    public void test_getOffsets_localOutputNull_noOutputWritten() {
+        int[] offsets = new int[2];
+        try {
+            europeLondon().getOffsets(new long[2], offsets, null, new long[2]);
+            fail();
+        } catch (NullPointerException ex) {
+            assertEquals(offsets[0], 0);
+            assertEquals(offsets[1], 0);
+        }
+    }
+
+    private void assertGetOffsets(StandardZoneRules test, long[] epochSecs) {
+        int[] offsets = new int[epochSecs.length];
+        test.getOffsets(epochSecs, offsets);
+        long[] days = new long[epochSecs.length];
+        long[] nanos = new long[epochSecs.length];
+        int[] offsets2 = new int[epochSecs.length];
+        test.getOffsets(epochSecs, offsets2, days, nanos);
+        for (int i = 0; i < epochSecs.length; i++) {
+            Instant instant = Instant.ofEpochSecond(epochSecs[i]);
+            ZoneOffset offset = test.getOffset(instant);
+            assertEquals(offsets[i], offset.getTotalSeconds(), "" + instant);
+            assertEquals(offsets2[i], offset.getTotalSeconds(), "" + instant);
+            LocalDateTime ldt = OffsetDateTime.ofInstant(instant, offset).toLocalDateTime();
+            assertEquals(days[i], ldt.toLocalDate().toEpochDay(), "" + instant);
+            assertEquals(nanos[i], ldt.toLocalTime().toNanoOfDay(), "" + instant);
+        }
+    }
+
     //-------------------------------------------------------------------------
     @Test(expectedExceptions=UnsupportedOperationException.class)
     public void test_getTransitions_immutable() {
@@ -974,6 +1175,17 @@ public class TestStandardZoneRules {
 
     //-----------------------------------------------------------------------
     // equals() / hashCode()
+    //-----------------------------------------------------------------------
+    public void test_noTransitions_nextPreviousTransition() {
+        ZoneRules test = ZoneId.of("Etc/GMT+5").getRules();
+        assertEquals(test.getTransitions().size(), 0);
+        assertEquals(test.getTransitionRules().size(), 0);
+        Instant instant = OffsetDateTime.of(2008, 6, 30, 11, 30, ZoneOffset.UTC).toInstant();
+        assertEquals(test.getOffset(instant), ZoneOffset.ofHours(-5));
+        assertEquals(test.nextTransition(instant), null);
+        assertEquals(test.previousTransition(instant), null);
+    }
+
     //-----------------------------------------------------------------------
     public void test_equals() {
         StandardZoneRules test1 = europeLondon();
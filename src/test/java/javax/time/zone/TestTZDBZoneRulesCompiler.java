@@ -32,12 +32,18 @@
 package javax.time.zone;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.time.DayOfWeek;
 import javax.time.LocalDate;
@@ -440,6 +446,48 @@ public class TestTZDBZoneRulesCompiler {
         parseLeapSecondRule(test, "Leap\t2009 May\t1   23:59:60 - R");
     }
 
+    //-----------------------------------------------------------------------
+    // compile()
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_compile_parallelMatchesSerial() throws Exception {
+        File file = File.createTempFile("tzdb", ".txt");
+        File leapSecondsFile = File.createTempFile("leapseconds", ".txt");
+        try {
+            Writer out = new FileWriter(file);
+            try {
+                out.write("Rule\tEU\t1977\t1980\t-\tApr\tSun>=1\t 1:00u\t1:00\tS\n");
+                out.write("Rule\tEU\t1977\tonly\t-\tSep\tlastSun\t 1:00u\t0\t-\n");
+                out.write("Rule\tEU\t1978\tonly\t-\tOct\t 1\t 1:00u\t0\t-\n");
+                out.write("Rule\tEU\t1979\t1995\t-\tSep\tlastSun\t 1:00u\t0\t-\n");
+                out.write("Rule\tEU\t1981\tmax\t-\tMar\tlastSun\t 1:00u\t1:00\tS\n");
+                out.write("Rule\tEU\t1996\tmax\t-\tOct\tlastSun\t 1:00u\t0\t-\n");
+                for (int i = 0; i < 40; i++) {
+                    out.write("Zone\tTest/Zone" + i + "\t0:" + (10 + i) + ":00 -\tLMT\t1891 Mar 15  0:01\n");
+                    out.write("\t\t\t" + (i % 3) + ":00\tEU\tCE%sT\n");
+                }
+                out.write("Link\tTest/Zone1\tTest/Alias\n");
+            } finally {
+                out.close();
+            }
+            TZDBZoneRulesCompiler serial = new TZDBZoneRulesCompiler("2010c", Arrays.asList(file), leapSecondsFile, false);
+            serial.compile();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                TZDBZoneRulesCompiler parallel = new TZDBZoneRulesCompiler("2010c", Arrays.asList(file), leapSecondsFile, false);
+                parallel.setExecutor(executor);
+                parallel.compile();
+                assertEquals(parallel.getZones(), serial.getZones());
+                assertSame(parallel.getZones().get("Test/Alias"), parallel.getZones().get("Test/Zone1"));
+            } finally {
+                executor.shutdown();
+            }
+        } finally {
+            file.delete();
+            leapSecondsFile.delete();
+        }
+    }
+
     static final Method PARSE_LSR;
     static {
         try {
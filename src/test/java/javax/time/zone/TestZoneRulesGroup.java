@@ -32,6 +32,7 @@
 package javax.time.zone;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -41,6 +42,7 @@ import java.util.Set;
 
 import javax.time.CalendricalException;
 import javax.time.DayOfWeek;
+import javax.time.Instant;
 import javax.time.MonthOfYear;
 import javax.time.OffsetDateTime;
 import javax.time.TestZoneId;
@@ -177,6 +179,55 @@ public class TestZoneRulesGroup {
         }
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_registerProvider_generationInvalidatesLatestRules() {
+        ZoneRulesGroup.registerProvider(new MockGenerationProvider("1", "+01:00"));
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("GENMOCK");
+        int generation = group.getGeneration();
+        ZoneId zone = ZoneId.of("GENMOCK:Region");
+        assertEquals(zone.getRules().getOffset(Instant.EPOCH), ZoneOffset.of("+01:00"));
+        assertSame(zone.getRules(), zone.getRules());
+        assertEquals(group.getGeneration(), generation);
+        
+        ZoneRulesGroup.registerProvider(new MockGenerationProvider("2", "+02:00"));
+        assertEquals(group.getGeneration() == generation, false);
+        assertEquals(zone.getRules().getOffset(Instant.EPOCH), ZoneOffset.of("+02:00"));
+        assertEquals(ZoneId.of("GENMOCK:Region#1").getRules().getOffset(Instant.EPOCH), ZoneOffset.of("+01:00"));
+    }
+
+    static class MockGenerationProvider implements ZoneRulesDataProvider {
+        private final String versionID;
+        private final String offsetID;
+        MockGenerationProvider(String versionID, String offsetID) {
+            this.versionID = versionID;
+            this.offsetID = offsetID;
+        }
+        public String getGroupID() {
+            return "GENMOCK";
+        }
+        public Set<ZoneRulesVersion> getVersions() {
+            ZoneRulesVersion version = new ZoneRulesVersion() {
+                public String getVersionID() {
+                    return versionID;
+                }
+                public boolean isRegionID(String regionID) {
+                    return regionID.equals("Region");
+                }
+                public Set<String> getRegionIDs() {
+                    return new HashSet<String>(Arrays.asList("Region"));
+                }
+                public ZoneRules getZoneRules(String regionID) {
+                    return ZoneId.of(ZoneOffset.of(offsetID)).getRules();
+                }
+            };
+            return new HashSet<ZoneRulesVersion>(Arrays.asList(version));
+        }
+        public Set<String> getRegionIDs() {
+            return new HashSet<String>(Arrays.asList("Region"));
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Test(expectedExceptions=CalendricalException.class, groups={"tck"})
     public void test_registerProvider_invalidGroupID() {